@@ -0,0 +1,78 @@
+// ===========================================================================
+// CONTENT  : CLASS LoggerLookupBenchmark
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.0 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the cost of looking up loggers via {@link LoggerFactoryProvider}
+ * with a plain concurrent map read and with creating a new wrapper per call.
+ * <p>
+ * Run with: gradlew jmh
+ *
+ * @author Manfred Duchrow
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LoggerLookupBenchmark
+{
+  // =========================================================================
+  // INSTANCE VARIABLES
+  // =========================================================================
+  private final ConcurrentMap<String, Object> map = new ConcurrentHashMap<String, Object>();
+  private String loggerName = "org.pfsw.logging.benchmark.LookupTarget";
+
+  // =========================================================================
+  // PUBLIC INSTANCE METHODS
+  // =========================================================================
+  @Setup
+  public void setUp()
+  {
+    this.map.put(this.loggerName, new Object());
+    LoggerFactoryProvider.getLogger(this.loggerName);
+    LoggerFactoryProvider.getLogger2(this.loggerName);
+  }
+
+  @Benchmark
+  public Object mapRead()
+  {
+    return this.map.get(this.loggerName);
+  }
+
+  @Benchmark
+  public Logger getLogger()
+  {
+    return LoggerFactoryProvider.getLogger(this.loggerName);
+  }
+
+  @Benchmark
+  public Logger2 getLogger2()
+  {
+    return LoggerFactoryProvider.getLogger2(this.loggerName);
+  }
+
+  @Benchmark
+  public Logger2 newLogger2Logger()
+  {
+    return new Logger2Logger(LoggerFactoryProvider.getLoggerFactory().getLogger(this.loggerName));
+  }
+}
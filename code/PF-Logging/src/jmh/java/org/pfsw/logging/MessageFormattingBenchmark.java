@@ -0,0 +1,71 @@
+// ===========================================================================
+// CONTENT  : CLASS MessageFormattingBenchmark
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.0 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging;
+
+import java.text.MessageFormat;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.pfsw.logging.internal.MessageTemplate;
+import org.pfsw.logging.internal.PrintfTemplate;
+
+/**
+ * Compares the cached message templates with {@link String#format(String, Object...)}
+ * and {@link MessageFormat#format(String, Object...)}.
+ * <p>
+ * Run with: gradlew jmh
+ *
+ * @author Manfred Duchrow
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MessageFormattingBenchmark
+{
+  // =========================================================================
+  // INSTANCE VARIABLES
+  // =========================================================================
+  private String printfTemplate = "User %s logged in from %s after %d attempts (session %x)";
+  private String messageTemplate = "User {0} logged in from {1} after {2} attempts (session {3})";
+  private Object[] params = { "jdoe", "10.1.2.3", Integer.valueOf(3), Long.valueOf(0xCAFEL) };
+
+  // =========================================================================
+  // PUBLIC INSTANCE METHODS
+  // =========================================================================
+  @Benchmark
+  public String stringFormat()
+  {
+    return String.format(this.printfTemplate, this.params);
+  }
+
+  @Benchmark
+  public String printfTemplate()
+  {
+    return PrintfTemplate.compile(this.printfTemplate).format(this.params);
+  }
+
+  @Benchmark
+  public String messageFormat()
+  {
+    return MessageFormat.format(this.messageTemplate, this.params);
+  }
+
+  @Benchmark
+  public String messageTemplate()
+  {
+    return MessageTemplate.compile(this.messageTemplate).format(this.params);
+  }
+}
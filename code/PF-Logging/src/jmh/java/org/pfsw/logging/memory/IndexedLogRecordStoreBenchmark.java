@@ -0,0 +1,133 @@
+// ===========================================================================
+// CONTENT  : CLASS IndexedLogRecordStoreBenchmark
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.1 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//  18/10/2026  mdu  added   --> append to a store whose ring has wrapped
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging.memory;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.pfsw.logging.LogLevel;
+
+/**
+ * Compares a selective query answered by the indexes of an
+ * {@link IndexedLogRecordStore} with a scan over all records of the same
+ * store that checks each record with {@link LogRecordQuery#matches(LogRecord)}.
+ * It also measures adding records to a store whose ring has already wrapped
+ * several times, which is the normal state of a long running logger.
+ * <p>
+ * Run with: gradlew jmh
+ *
+ * @author Manfred Duchrow
+ * @version 1.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IndexedLogRecordStoreBenchmark
+{
+  // =========================================================================
+  // CONSTANTS
+  // =========================================================================
+  private static final LogLevel[] LEVELS = { LogLevel.ERROR, LogLevel.WARN, LogLevel.INFO, LogLevel.DEBUG };
+  private static final String[] WORDS = { "timeout", "connection", "user", "login", "failed", "started", "order" };
+  private static final int LOGGER_COUNT = 20;
+  private static final int RARE_WORD_INTERVAL = 1000;
+  private static final int APPEND_CAPACITY = 10000;
+  private static final int APPEND_RECORDS = 4 * APPEND_CAPACITY;
+
+  // =========================================================================
+  // INSTANCE VARIABLES
+  // =========================================================================
+  @Param({ "100000", "2000000" })
+  private int recordCount;
+
+  private IndexedLogRecordStore store;
+  private LogRecordQuery query;
+  private IndexedLogRecordStore appendStore;
+  private LogRecord[] appendRecords;
+  private int appendIndex = 0;
+
+  // =========================================================================
+  // PUBLIC INSTANCE METHODS
+  // =========================================================================
+  @Setup
+  public void setUp()
+  {
+    Random random = new Random(42L);
+    String message;
+
+    this.store = new IndexedLogRecordStore(this.recordCount);
+    for (int i = 0; i < this.recordCount; i++)
+    {
+      message = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " #" + i;
+      if ((i % RARE_WORD_INTERVAL) == 0)
+      {
+        message = message + " deadlock";
+      }
+      this.store.add(new LogRecord(LEVELS[random.nextInt(LEVELS.length)], message, null,
+          "logger" + random.nextInt(LOGGER_COUNT), 1000L + i));
+    }
+    this.query = new LogRecordQuery().levels(LogLevel.ERROR, LogLevel.WARN).tokens("deadlock");
+    this.appendStore = new IndexedLogRecordStore(APPEND_CAPACITY);
+    this.appendRecords = new LogRecord[APPEND_RECORDS];
+    for (int i = 0; i < APPEND_RECORDS; i++)
+    {
+      this.appendRecords[i] = new LogRecord(LEVELS[random.nextInt(LEVELS.length)], WORDS[random.nextInt(WORDS.length)] + " #" + i, null,
+          "logger" + random.nextInt(LOGGER_COUNT), 1000L + i);
+      this.appendStore.add(this.appendRecords[i]);
+    }
+  }
+
+  @Benchmark
+  public int addToWrappedRing()
+  {
+    this.appendStore.add(this.appendRecords[this.appendIndex]);
+    this.appendIndex = (this.appendIndex + 1) % APPEND_RECORDS;
+    return this.appendStore.size();
+  }
+
+  @Benchmark
+  public int indexedQuery()
+  {
+    int count = 0;
+
+    for (LogRecord record : this.store.find(this.query))
+    {
+      count += record.getMessage().length();
+    }
+    return count;
+  }
+
+  @Benchmark
+  public int fullScan()
+  {
+    List<LogRecord> records;
+    int count = 0;
+
+    records = this.store.getLogRecords();
+    for (LogRecord record : records)
+    {
+      if (this.query.matches(record))
+      {
+        count += record.getMessage().length();
+      }
+    }
+    return count;
+  }
+}
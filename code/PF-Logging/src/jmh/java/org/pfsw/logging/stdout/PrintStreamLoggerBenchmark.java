@@ -0,0 +1,95 @@
+// ===========================================================================
+// CONTENT  : CLASS PrintStreamLoggerBenchmark
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.0 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging.stdout;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.pfsw.logging.internal.MessageTemplate;
+
+/**
+ * Measures {@link PrintStreamLogger} with several threads writing to the
+ * same print stream. The method separatePrints() shows the former approach 
+ * of writing each part of a line with its own print() call for comparison.
+ * <p>
+ * Run with: gradlew jmh
+ *
+ * @author Manfred Duchrow
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class PrintStreamLoggerBenchmark
+{
+  // =========================================================================
+  // INSTANCE VARIABLES
+  // =========================================================================
+  private PrintStream printStream;
+  private PrintStreamLogger logger;
+  private Exception exception = new IllegalStateException("Benchmark");
+
+  // =========================================================================
+  // PUBLIC INSTANCE METHODS
+  // =========================================================================
+  @Setup
+  public void setUp()
+  {
+    this.printStream = new PrintStream(new OutputStream()
+    {
+      @Override
+      public void write(int b)
+      {
+        // Discard
+      }
+
+      @Override
+      public void write(byte[] b, int off, int len)
+      {
+        // Discard
+      }
+    });
+    this.logger = new PrintStreamLogger("org.pfsw.logging.benchmark.Target");
+    this.logger.setPrintStream(this.printStream);
+  }
+
+  @Benchmark
+  public void logInfo()
+  {
+    this.logger.logInfo("Processed {0} items in {1}", "order-4711", "12 ms");
+  }
+
+  @Benchmark
+  public void logErrorWithException()
+  {
+    this.logger.logError("Processing failed", this.exception);
+  }
+
+  @Benchmark
+  public void separatePrints()
+  {
+    this.printStream.print("I");
+    this.printStream.print(" ");
+    this.printStream.print(this.logger.getName());
+    this.printStream.print(" ");
+    this.printStream.print(MessageTemplate.compile("Processed {0} items in {1}").format(new Object[] { "order-4711", "12 ms" }));
+    this.printStream.print("\n");
+  }
+}
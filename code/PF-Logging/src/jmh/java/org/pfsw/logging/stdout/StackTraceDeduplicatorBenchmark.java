@@ -0,0 +1,98 @@
+// ===========================================================================
+// CONTENT  : CLASS StackTraceDeduplicatorBenchmark
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.0 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging.stdout;
+
+import java.io.PrintWriter;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.pfsw.logging.internal.StringBuilderWriter;
+
+/**
+ * Compares the cost of computing the fingerprint of an exception and of
+ * writing a repeated stack trace with a {@link StackTraceDeduplicator}
+ * with the cost of rendering the full stack trace.
+ * <p>
+ * Run with: gradlew jmh
+ *
+ * @author Manfred Duchrow
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StackTraceDeduplicatorBenchmark
+{
+  // =========================================================================
+  // INSTANCE VARIABLES
+  // =========================================================================
+  @Param({ "20", "150" })
+  private int depth;
+
+  private Exception exception;
+  private StackTraceDeduplicator deduplicator;
+  private StringBuilder buffer = new StringBuilder(16 * 1024);
+
+  // =========================================================================
+  // PUBLIC INSTANCE METHODS
+  // =========================================================================
+  @Setup
+  public void setUp()
+  {
+    this.exception = this.createException(this.depth);
+    this.deduplicator = new StackTraceDeduplicator();
+    this.deduplicator.appendStackTrace(new StringBuilder(), this.exception);
+  }
+
+  @Benchmark
+  public long fingerprint()
+  {
+    return this.deduplicator.fingerprint(this.exception);
+  }
+
+  @Benchmark
+  public int repeatedStackTrace()
+  {
+    this.buffer.setLength(0);
+    this.deduplicator.appendStackTrace(this.buffer, this.exception);
+    return this.buffer.length();
+  }
+
+  @Benchmark
+  public int fullStackTrace()
+  {
+    PrintWriter writer;
+
+    this.buffer.setLength(0);
+    writer = new PrintWriter(new StringBuilderWriter(this.buffer));
+    this.exception.printStackTrace(writer);
+    writer.flush();
+    return this.buffer.length();
+  }
+
+  // =========================================================================
+  // PRIVATE INSTANCE METHODS
+  // =========================================================================
+  private Exception createException(int remainingFrames)
+  {
+    if (remainingFrames > 0)
+    {
+      return this.createException(remainingFrames - 1);
+    }
+    return new IllegalStateException("Connection 4711 refused");
+  }
+}
@@ -0,0 +1,42 @@
+// ===========================================================================
+// CONTENT  : INTERFACE LogSupplier
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.0 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging;
+
+/**
+ * Supplies a value that is expensive to compute and therefore should only
+ * be computed if it really gets logged.
+ * <p>
+ * It can be used for whole messages (see for example {@link Logger2#debug(LogSupplier)})
+ * or as a parameter of any log method that replaces placeholders. 
+ * In the latter case the supplied value replaces the placeholder instead of 
+ * the supplier itself. 
+ * <p>
+ * Example:
+ * <pre>
+ * logger.debugf("Received %s", new LogSupplier&lt;String&gt;()
+ * {
+ *   public String get()
+ *   {
+ *     return payload.toXmlString();
+ *   }
+ * });
+ * </pre>
+ *
+ * @author Manfred Duchrow
+ * @version 1.0
+ */
+public interface LogSupplier<T>
+{
+  /**
+   * Returns the value to be logged. 
+   * It will be called only if the corresponding log level is enabled.
+   */
+  public T get();
+}
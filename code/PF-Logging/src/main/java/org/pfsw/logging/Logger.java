@@ -1,13 +1,14 @@
 // ===========================================================================
 // CONTENT  : INTERFACE Logger
 // AUTHOR   : Manfred Duchrow
-// VERSION  : 2.0 - 21/06/2014
+// VERSION  : 2.1 - 18/10/2026
 // HISTORY  :
 //  30/11/2001  duma  CREATED
 //	23/08/2006	mdu		added		-->	setLogLevel()
 //  21/06/2014  mdu   added   --> getName() and var-arg methods
+//  18/10/2026  mdu   added   --> fixed-arity log methods
 //
-// Copyright (c) 2001-2014, by Manfred Duchrow. All rights reserved.
+// Copyright (c) 2001-2026, by Manfred Duchrow. All rights reserved.
 // ===========================================================================
 package org.pfsw.logging;
 
@@ -20,9 +21,13 @@ import java.util.Properties;
  * that supports this interface.
  * So programming against this interface means, to stay independent 
  * of the underlying logging component.
+ * <p>
+ * For each log method with var-arg parameters there are also fixed-arity 
+ * variants for zero to three parameters. Calling them does not allocate
+ * a parameter array, so a call with disabled log level is free of garbage.
  *
  * @author Manfred Duchrow
- * @version 2.0
+ * @version 2.1
  */
 public interface Logger
 {
@@ -75,6 +80,44 @@ public interface Logger
    **/
   public void logDebug(String message, Object... params);
 
+  /**
+   * If the logging level is DEBUG the given message will be written to
+   * the log output device(s).
+   * 
+   * @param message The message to log (without placeholders).
+   **/
+  public void logDebug(String message);
+
+  /**
+   * If the logging level is DEBUG the given message will be written to
+   * the log output device(s).
+   * 
+   * @param message The message to log. It may contain the placeholder {0}.
+   * @param param1 The parameter to be used for replacing placeholder {0}.
+   **/
+  public void logDebug(String message, Object param1);
+
+  /**
+   * If the logging level is DEBUG the given message will be written to
+   * the log output device(s).
+   * 
+   * @param message The message to log. It may contain the placeholders {0} and {1}.
+   * @param param1 The parameter to be used for replacing placeholder {0}.
+   * @param param2 The parameter to be used for replacing placeholder {1}.
+   **/
+  public void logDebug(String message, Object param1, Object param2);
+
+  /**
+   * If the logging level is DEBUG the given message will be written to
+   * the log output device(s).
+   * 
+   * @param message The message to log. It may contain the placeholders {0}, {1} and {2}.
+   * @param param1 The parameter to be used for replacing placeholder {0}.
+   * @param param2 The parameter to be used for replacing placeholder {1}.
+   * @param param3 The parameter to be used for replacing placeholder {2}.
+   **/
+  public void logDebug(String message, Object param1, Object param2, Object param3);
+
   /**
    * If the logging level is INFO or DEBUG the given message will be 
    * written to the log output device(s).
@@ -84,6 +127,44 @@ public interface Logger
    **/
   public void logInfo(String message, Object... params);
 
+  /**
+   * If the logging level is INFO or DEBUG the given message will be 
+   * written to the log output device(s).
+   * 
+   * @param message The message to log (without placeholders).
+   **/
+  public void logInfo(String message);
+
+  /**
+   * If the logging level is INFO or DEBUG the given message will be 
+   * written to the log output device(s).
+   * 
+   * @param message The message to log. It may contain the placeholder {0}.
+   * @param param1 The parameter to be used for replacing placeholder {0}.
+   **/
+  public void logInfo(String message, Object param1);
+
+  /**
+   * If the logging level is INFO or DEBUG the given message will be 
+   * written to the log output device(s).
+   * 
+   * @param message The message to log. It may contain the placeholders {0} and {1}.
+   * @param param1 The parameter to be used for replacing placeholder {0}.
+   * @param param2 The parameter to be used for replacing placeholder {1}.
+   **/
+  public void logInfo(String message, Object param1, Object param2);
+
+  /**
+   * If the logging level is INFO or DEBUG the given message will be 
+   * written to the log output device(s).
+   * 
+   * @param message The message to log. It may contain the placeholders {0}, {1} and {2}.
+   * @param param1 The parameter to be used for replacing placeholder {0}.
+   * @param param2 The parameter to be used for replacing placeholder {1}.
+   * @param param3 The parameter to be used for replacing placeholder {2}.
+   **/
+  public void logInfo(String message, Object param1, Object param2, Object param3);
+
   /**
    * If the logging level is DEBUG, INFO or WARNING the given message will 
    * be written to the log output device(s).
@@ -93,6 +174,44 @@ public interface Logger
    **/
   public void logWarning(String message, Object... params);
 
+  /**
+   * If the logging level is DEBUG, INFO or WARNING the given message will 
+   * be written to the log output device(s).
+   * 
+   * @param message The message to log (without placeholders).
+   **/
+  public void logWarning(String message);
+
+  /**
+   * If the logging level is DEBUG, INFO or WARNING the given message will 
+   * be written to the log output device(s).
+   * 
+   * @param message The message to log. It may contain the placeholder {0}.
+   * @param param1 The parameter to be used for replacing placeholder {0}.
+   **/
+  public void logWarning(String message, Object param1);
+
+  /**
+   * If the logging level is DEBUG, INFO or WARNING the given message will 
+   * be written to the log output device(s).
+   * 
+   * @param message The message to log. It may contain the placeholders {0} and {1}.
+   * @param param1 The parameter to be used for replacing placeholder {0}.
+   * @param param2 The parameter to be used for replacing placeholder {1}.
+   **/
+  public void logWarning(String message, Object param1, Object param2);
+
+  /**
+   * If the logging level is DEBUG, INFO or WARNING the given message will 
+   * be written to the log output device(s).
+   * 
+   * @param message The message to log. It may contain the placeholders {0}, {1} and {2}.
+   * @param param1 The parameter to be used for replacing placeholder {0}.
+   * @param param2 The parameter to be used for replacing placeholder {1}.
+   * @param param3 The parameter to be used for replacing placeholder {2}.
+   **/
+  public void logWarning(String message, Object param1, Object param2, Object param3);
+
   /**
    * If the logging level is DEBUG, INFO, WARNING or ERROR the given message 
    * will be written to the log output device(s).
@@ -102,6 +221,44 @@ public interface Logger
    **/
   public void logError(String message, Object... params);
 
+  /**
+   * If the logging level is DEBUG, INFO, WARNING or ERROR the given message 
+   * will be written to the log output device(s).
+   * 
+   * @param message The message to log (without placeholders).
+   **/
+  public void logError(String message);
+
+  /**
+   * If the logging level is DEBUG, INFO, WARNING or ERROR the given message 
+   * will be written to the log output device(s).
+   * 
+   * @param message The message to log. It may contain the placeholder {0}.
+   * @param param1 The parameter to be used for replacing placeholder {0}.
+   **/
+  public void logError(String message, Object param1);
+
+  /**
+   * If the logging level is DEBUG, INFO, WARNING or ERROR the given message 
+   * will be written to the log output device(s).
+   * 
+   * @param message The message to log. It may contain the placeholders {0} and {1}.
+   * @param param1 The parameter to be used for replacing placeholder {0}.
+   * @param param2 The parameter to be used for replacing placeholder {1}.
+   **/
+  public void logError(String message, Object param1, Object param2);
+
+  /**
+   * If the logging level is DEBUG, INFO, WARNING or ERROR the given message 
+   * will be written to the log output device(s).
+   * 
+   * @param message The message to log. It may contain the placeholders {0}, {1} and {2}.
+   * @param param1 The parameter to be used for replacing placeholder {0}.
+   * @param param2 The parameter to be used for replacing placeholder {1}.
+   * @param param3 The parameter to be used for replacing placeholder {2}.
+   **/
+  public void logError(String message, Object param1, Object param2, Object param3);
+
   /**
    * If the logging level is DEBUG, INFO or WARNING the given message
    * and the exception will be written to the log output device(s).
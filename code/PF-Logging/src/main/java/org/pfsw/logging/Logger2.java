@@ -1,20 +1,30 @@
 // ===========================================================================
 // CONTENT  : INTERFACE Logger2
 // AUTHOR   : Manfred Duchrow
-// VERSION  : 1.0 - 05/01/2017
+// VERSION  : 1.1 - 18/10/2026
 // HISTORY  :
 //  05/01/2017  mdu  CREATED
+//  18/10/2026  mdu  added  --> fixed-arity log methods, log methods with LogSupplier
 //
-// Copyright (c) 2017, by MDCS. All rights reserved.
+// Copyright (c) 2017-2026, by MDCS. All rights reserved.
 // ===========================================================================
 package org.pfsw.logging ;
 
 /**
  * Another logger interface that is close to the JBoss logging API. 
  * It particularly specifies the formatting log methods. 
+ * <p>
+ * For each formatting log method with var-arg parameters there are also 
+ * fixed-arity variants for zero to three parameters. Calling them does not 
+ * allocate a parameter array, so a call with disabled log level is free of garbage.
+ * <p>
+ * Messages that are expensive to build can be provided by a {@link LogSupplier}.
+ * The supplier will only be called if the corresponding log level is enabled.
+ * The same applies to {@link LogSupplier} instances that are passed as 
+ * parameters to the formatting log methods.
  *
  * @author Manfred Duchrow
- * @version 1.0
+ * @version 1.1
  */
 public interface Logger2
 {   
@@ -39,6 +49,22 @@ public interface Logger2
    * will be replaced by the given (optional) parameters.
    */
   public void debugf(String msgTemplate, Object...params);
+  /**
+   * Same as {@link #debugf(String, Object...)} without any parameter.
+   */
+  public void debugf(String msgTemplate);
+  /**
+   * Same as {@link #debugf(String, Object...)} with one parameter.
+   */
+  public void debugf(String msgTemplate, Object param1);
+  /**
+   * Same as {@link #debugf(String, Object...)} with two parameters.
+   */
+  public void debugf(String msgTemplate, Object param1, Object param2);
+  /**
+   * Same as {@link #debugf(String, Object...)} with three parameters.
+   */
+  public void debugf(String msgTemplate, Object param1, Object param2, Object param3);
   /**
    * Writes the given message template to the log if log level DEBUG
    * is activated for this logger. Placeholders in the message template
@@ -48,6 +74,22 @@ public interface Logger2
    * It probably (depending on configuration) will be written as stacktrace.
    */
   public void debugf(Throwable t, String msgTemplate, Object...params);
+  /**
+   * Same as {@link #debugf(Throwable, String, Object...)} without any parameter.
+   */
+  public void debugf(Throwable t, String msgTemplate);
+  /**
+   * Same as {@link #debugf(Throwable, String, Object...)} with one parameter.
+   */
+  public void debugf(Throwable t, String msgTemplate, Object param1);
+  /**
+   * Same as {@link #debugf(Throwable, String, Object...)} with two parameters.
+   */
+  public void debugf(Throwable t, String msgTemplate, Object param1, Object param2);
+  /**
+   * Same as {@link #debugf(Throwable, String, Object...)} with three parameters.
+   */
+  public void debugf(Throwable t, String msgTemplate, Object param1, Object param2, Object param3);
 
   /**
    * Writes the given message template to the log if log level INFO
@@ -55,6 +97,22 @@ public interface Logger2
    * will be replaced by the given (optional) parameters.
    */
   public void infof(String msgTemplate, Object...params);
+  /**
+   * Same as {@link #infof(String, Object...)} without any parameter.
+   */
+  public void infof(String msgTemplate);
+  /**
+   * Same as {@link #infof(String, Object...)} with one parameter.
+   */
+  public void infof(String msgTemplate, Object param1);
+  /**
+   * Same as {@link #infof(String, Object...)} with two parameters.
+   */
+  public void infof(String msgTemplate, Object param1, Object param2);
+  /**
+   * Same as {@link #infof(String, Object...)} with three parameters.
+   */
+  public void infof(String msgTemplate, Object param1, Object param2, Object param3);
   /**
    * Writes the given message template to the log if log level INFO
    * is activated for this logger. Placeholders in the message template
@@ -64,6 +122,22 @@ public interface Logger2
    * It probably (depending on configuration) will be written as stacktrace.
    */
   public void infof(Throwable t, String msgTemplate, Object...params);
+  /**
+   * Same as {@link #infof(Throwable, String, Object...)} without any parameter.
+   */
+  public void infof(Throwable t, String msgTemplate);
+  /**
+   * Same as {@link #infof(Throwable, String, Object...)} with one parameter.
+   */
+  public void infof(Throwable t, String msgTemplate, Object param1);
+  /**
+   * Same as {@link #infof(Throwable, String, Object...)} with two parameters.
+   */
+  public void infof(Throwable t, String msgTemplate, Object param1, Object param2);
+  /**
+   * Same as {@link #infof(Throwable, String, Object...)} with three parameters.
+   */
+  public void infof(Throwable t, String msgTemplate, Object param1, Object param2, Object param3);
   
   /**
    * Writes the given message template to the log if log level WARNING
@@ -71,6 +145,22 @@ public interface Logger2
    * will be replaced by the given (optional) parameters.
    */
   public void warnf(String msgTemplate, Object...params);
+  /**
+   * Same as {@link #warnf(String, Object...)} without any parameter.
+   */
+  public void warnf(String msgTemplate);
+  /**
+   * Same as {@link #warnf(String, Object...)} with one parameter.
+   */
+  public void warnf(String msgTemplate, Object param1);
+  /**
+   * Same as {@link #warnf(String, Object...)} with two parameters.
+   */
+  public void warnf(String msgTemplate, Object param1, Object param2);
+  /**
+   * Same as {@link #warnf(String, Object...)} with three parameters.
+   */
+  public void warnf(String msgTemplate, Object param1, Object param2, Object param3);
   /**
    * Writes the given message template to the log if log level WARNING
    * is activated for this logger. Placeholders in the message template
@@ -80,6 +170,22 @@ public interface Logger2
    * It probably (depending on configuration) will be written as stacktrace.
    */
   public void warnf(Throwable t, String msgTemplate, Object...params);
+  /**
+   * Same as {@link #warnf(Throwable, String, Object...)} without any parameter.
+   */
+  public void warnf(Throwable t, String msgTemplate);
+  /**
+   * Same as {@link #warnf(Throwable, String, Object...)} with one parameter.
+   */
+  public void warnf(Throwable t, String msgTemplate, Object param1);
+  /**
+   * Same as {@link #warnf(Throwable, String, Object...)} with two parameters.
+   */
+  public void warnf(Throwable t, String msgTemplate, Object param1, Object param2);
+  /**
+   * Same as {@link #warnf(Throwable, String, Object...)} with three parameters.
+   */
+  public void warnf(Throwable t, String msgTemplate, Object param1, Object param2, Object param3);
   
   /**
    * Writes the given message template to the log if log level ERROR
@@ -87,6 +193,22 @@ public interface Logger2
    * will be replaced by the given (optional) parameters.
    */
   public void errorf(String msgTemplate, Object...params);
+  /**
+   * Same as {@link #errorf(String, Object...)} without any parameter.
+   */
+  public void errorf(String msgTemplate);
+  /**
+   * Same as {@link #errorf(String, Object...)} with one parameter.
+   */
+  public void errorf(String msgTemplate, Object param1);
+  /**
+   * Same as {@link #errorf(String, Object...)} with two parameters.
+   */
+  public void errorf(String msgTemplate, Object param1, Object param2);
+  /**
+   * Same as {@link #errorf(String, Object...)} with three parameters.
+   */
+  public void errorf(String msgTemplate, Object param1, Object param2, Object param3);
   /**
    * Writes the given message template to the log if log level ERROR
    * is activated for this logger. Placeholders in the message template
@@ -96,6 +218,22 @@ public interface Logger2
    * It probably (depending on configuration) will be written as stacktrace.
    */
   public void errorf(Throwable t, String msgTemplate, Object...params);
+  /**
+   * Same as {@link #errorf(Throwable, String, Object...)} without any parameter.
+   */
+  public void errorf(Throwable t, String msgTemplate);
+  /**
+   * Same as {@link #errorf(Throwable, String, Object...)} with one parameter.
+   */
+  public void errorf(Throwable t, String msgTemplate, Object param1);
+  /**
+   * Same as {@link #errorf(Throwable, String, Object...)} with two parameters.
+   */
+  public void errorf(Throwable t, String msgTemplate, Object param1, Object param2);
+  /**
+   * Same as {@link #errorf(Throwable, String, Object...)} with three parameters.
+   */
+  public void errorf(Throwable t, String msgTemplate, Object param1, Object param2, Object param3);
   
   /**
    * Writes the given message template to the log if the specified log level
@@ -103,6 +241,22 @@ public interface Logger2
    * will be replaced by the given (optional) parameters.
    */
   public void logf(LogLevel logLevel, String msgTemplate, Object...params);
+  /**
+   * Same as {@link #logf(LogLevel, String, Object...)} without any parameter.
+   */
+  public void logf(LogLevel logLevel, String msgTemplate);
+  /**
+   * Same as {@link #logf(LogLevel, String, Object...)} with one parameter.
+   */
+  public void logf(LogLevel logLevel, String msgTemplate, Object param1);
+  /**
+   * Same as {@link #logf(LogLevel, String, Object...)} with two parameters.
+   */
+  public void logf(LogLevel logLevel, String msgTemplate, Object param1, Object param2);
+  /**
+   * Same as {@link #logf(LogLevel, String, Object...)} with three parameters.
+   */
+  public void logf(LogLevel logLevel, String msgTemplate, Object param1, Object param2, Object param3);
   /**
    * Writes the given message template to the log if the specified log level
    * is activated for this logger. Placeholders in the message template
@@ -112,6 +266,92 @@ public interface Logger2
    * It probably (depending on configuration) will be written as stacktrace.
    */
   public void logf(LogLevel logLevel, Throwable t, String msgTemplate, Object...params);
+  /**
+   * Same as {@link #logf(LogLevel, Throwable, String, Object...)} without any parameter.
+   */
+  public void logf(LogLevel logLevel, Throwable t, String msgTemplate);
+  /**
+   * Same as {@link #logf(LogLevel, Throwable, String, Object...)} with one parameter.
+   */
+  public void logf(LogLevel logLevel, Throwable t, String msgTemplate, Object param1);
+  /**
+   * Same as {@link #logf(LogLevel, Throwable, String, Object...)} with two parameters.
+   */
+  public void logf(LogLevel logLevel, Throwable t, String msgTemplate, Object param1, Object param2);
+  /**
+   * Same as {@link #logf(LogLevel, Throwable, String, Object...)} with three parameters.
+   */
+  public void logf(LogLevel logLevel, Throwable t, String msgTemplate, Object param1, Object param2, Object param3);
+  
+  /**
+   * Writes the message provided by the given supplier to the log if log level DEBUG
+   * is activated for this logger. Otherwise the supplier will not be called.
+   */
+  public void debug(LogSupplier<String> messageSupplier);
+  /**
+   * Writes the message provided by the given supplier to the log if log level DEBUG
+   * is activated for this logger. Otherwise the supplier will not be called.
+   * <p>
+   * The provided throwable will also be sent to the log after the message.
+   * It probably (depending on configuration) will be written as stacktrace.
+   */
+  public void debug(Throwable t, LogSupplier<String> messageSupplier);
+
+  /**
+   * Writes the message provided by the given supplier to the log if log level INFO
+   * is activated for this logger. Otherwise the supplier will not be called.
+   */
+  public void info(LogSupplier<String> messageSupplier);
+  /**
+   * Writes the message provided by the given supplier to the log if log level INFO
+   * is activated for this logger. Otherwise the supplier will not be called.
+   * <p>
+   * The provided throwable will also be sent to the log after the message.
+   * It probably (depending on configuration) will be written as stacktrace.
+   */
+  public void info(Throwable t, LogSupplier<String> messageSupplier);
+
+  /**
+   * Writes the message provided by the given supplier to the log if log level WARNING
+   * is activated for this logger. Otherwise the supplier will not be called.
+   */
+  public void warn(LogSupplier<String> messageSupplier);
+  /**
+   * Writes the message provided by the given supplier to the log if log level WARNING
+   * is activated for this logger. Otherwise the supplier will not be called.
+   * <p>
+   * The provided throwable will also be sent to the log after the message.
+   * It probably (depending on configuration) will be written as stacktrace.
+   */
+  public void warn(Throwable t, LogSupplier<String> messageSupplier);
+
+  /**
+   * Writes the message provided by the given supplier to the log if log level ERROR
+   * is activated for this logger. Otherwise the supplier will not be called.
+   */
+  public void error(LogSupplier<String> messageSupplier);
+  /**
+   * Writes the message provided by the given supplier to the log if log level ERROR
+   * is activated for this logger. Otherwise the supplier will not be called.
+   * <p>
+   * The provided throwable will also be sent to the log after the message.
+   * It probably (depending on configuration) will be written as stacktrace.
+   */
+  public void error(Throwable t, LogSupplier<String> messageSupplier);
+
+  /**
+   * Writes the message provided by the given supplier to the log if the specified
+   * log level is activated for this logger. Otherwise the supplier will not be called.
+   */
+  public void log(LogLevel logLevel, LogSupplier<String> messageSupplier);
+  /**
+   * Writes the message provided by the given supplier to the log if the specified
+   * log level is activated for this logger. Otherwise the supplier will not be called.
+   * <p>
+   * The provided throwable will also be sent to the log after the message.
+   * It probably (depending on configuration) will be written as stacktrace.
+   */
+  public void log(LogLevel logLevel, Throwable t, LogSupplier<String> messageSupplier);
   
   /**
    * Returns true if this logger's log level allows logging on the given level.
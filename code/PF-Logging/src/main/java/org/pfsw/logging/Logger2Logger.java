@@ -1,11 +1,15 @@
 // ===========================================================================
 // CONTENT  : CLASS Logger2Logger
 // AUTHOR   : Manfred Duchrow
-// VERSION  : 1.0 - 05/01/2017
+// VERSION  : 1.2 - 18/10/2026
 // HISTORY  :
 //  05/01/2017  mdu  CREATED
+//  18/10/2026  mdu   changed --> log level derived from delegate logger
+//  18/10/2026  mdu   added   --> fixed-arity log methods, log methods with LogSupplier
+//  18/10/2026  mdu   changed --> getLogMessage() uses cached PrintfTemplate
+//  18/10/2026  mdu   added   --> pass on unformatted templates to a PrintfTemplateLogger
 //
-// Copyright (c) 2017, by MDCS. All rights reserved.
+// Copyright (c) 2017-2026, by MDCS. All rights reserved.
 // ===========================================================================
 package org.pfsw.logging;
 
@@ -14,21 +18,36 @@ package org.pfsw.logging;
 // ===========================================================================
 import java.util.Properties;
 
+import org.pfsw.logging.internal.LazyArguments;
+import org.pfsw.logging.internal.PrintfTemplate;
+import org.pfsw.logging.internal.PrintfTemplateLogger;
+
 /**
  * This class is a wrapper around a {@link Logger} implementation instance
  * that offers the {@link Logger2} interface on top of the {@link Logger}
  * interface.
+ * <p>
+ * The log level is not kept in this wrapper. It is always derived from 
+ * the delegate logger. So the {@link Logger} view and the {@link Logger2} view
+ * of the same logger share their log level state.
+ * <p>
+ * If the delegate logger is a {@link PrintfTemplateLogger} the printf style
+ * methods pass on the unformatted template and parameters to it.
  *
  * @author Manfred Duchrow
- * @version 1.0
+ * @version 1.2
  */
 public class Logger2Logger implements Logger, Logger2
 {
+  // =========================================================================
+  // CONSTANTS
+  // =========================================================================
+  private static final Object[] NO_PARAMS = new Object[0];
+
   // =========================================================================
   // INSTANCE VARIABLES
   // =========================================================================
   private final Logger delegateLogger;
-  private LogLevel logLevel = null;
 
   // =========================================================================
   // CONSTRUCTORS
@@ -118,6 +137,102 @@ public class Logger2Logger implements Logger, Logger2
     this.getDelegateLogger().logError(message, exception);
   }
 
+  @Override
+  public void logDebug(String message)
+  {
+    this.getDelegateLogger().logDebug(message);
+  }
+
+  @Override
+  public void logDebug(String message, Object param1)
+  {
+    this.getDelegateLogger().logDebug(message, param1);
+  }
+
+  @Override
+  public void logDebug(String message, Object param1, Object param2)
+  {
+    this.getDelegateLogger().logDebug(message, param1, param2);
+  }
+
+  @Override
+  public void logDebug(String message, Object param1, Object param2, Object param3)
+  {
+    this.getDelegateLogger().logDebug(message, param1, param2, param3);
+  }
+
+  @Override
+  public void logInfo(String message)
+  {
+    this.getDelegateLogger().logInfo(message);
+  }
+
+  @Override
+  public void logInfo(String message, Object param1)
+  {
+    this.getDelegateLogger().logInfo(message, param1);
+  }
+
+  @Override
+  public void logInfo(String message, Object param1, Object param2)
+  {
+    this.getDelegateLogger().logInfo(message, param1, param2);
+  }
+
+  @Override
+  public void logInfo(String message, Object param1, Object param2, Object param3)
+  {
+    this.getDelegateLogger().logInfo(message, param1, param2, param3);
+  }
+
+  @Override
+  public void logWarning(String message)
+  {
+    this.getDelegateLogger().logWarning(message);
+  }
+
+  @Override
+  public void logWarning(String message, Object param1)
+  {
+    this.getDelegateLogger().logWarning(message, param1);
+  }
+
+  @Override
+  public void logWarning(String message, Object param1, Object param2)
+  {
+    this.getDelegateLogger().logWarning(message, param1, param2);
+  }
+
+  @Override
+  public void logWarning(String message, Object param1, Object param2, Object param3)
+  {
+    this.getDelegateLogger().logWarning(message, param1, param2, param3);
+  }
+
+  @Override
+  public void logError(String message)
+  {
+    this.getDelegateLogger().logError(message);
+  }
+
+  @Override
+  public void logError(String message, Object param1)
+  {
+    this.getDelegateLogger().logError(message, param1);
+  }
+
+  @Override
+  public void logError(String message, Object param1, Object param2)
+  {
+    this.getDelegateLogger().logError(message, param1, param2);
+  }
+
+  @Override
+  public void logError(String message, Object param1, Object param2, Object param3)
+  {
+    this.getDelegateLogger().logError(message, param1, param2, param3);
+  }
+
   @Override
   public void logException(Throwable ex)
   {
@@ -147,16 +262,34 @@ public class Logger2Logger implements Logger, Logger2
     return this.getDelegateLogger().getName();
   }
 
+  /**
+   * Returns the most detailed log level that is enabled in the delegate logger.
+   */
   @Override
   public LogLevel getLogLevel()
   {
-    return this.logLevel;
+    if (this.isDebugEnabled())
+    {
+      return LogLevel.DEBUG;
+    }
+    if (this.isInfoEnabled())
+    {
+      return LogLevel.INFO;
+    }
+    if (this.isWarnEnabled())
+    {
+      return LogLevel.WARN;
+    }
+    if (this.isErrorEnabled())
+    {
+      return LogLevel.ERROR;
+    }
+    return LogLevel.NONE;
   }
 
   @Override
   public void setLogLevel(LogLevel level)
   {
-    this.logLevel = level;
     this.getDelegateLogger().setLogLevel(level.getPFLevel());
   }
 
@@ -231,7 +364,46 @@ public class Logger2Logger implements Logger, Logger2
   {
     if (this.isDebugEnabled())
     {
-      this.getDelegateLogger().logDebug(this.getLogMessage(msgTemplate, params));
+      if (!this.passOnTemplate(LogLevel.DEBUG, null, msgTemplate, params))
+      {
+        this.getDelegateLogger().logDebug(this.getLogMessage(msgTemplate, params));
+      }
+    }
+  }
+
+  @Override
+  public void debugf(String msgTemplate)
+  {
+    if (this.isDebugEnabled())
+    {
+      this.debugf(msgTemplate, NO_PARAMS);
+    }
+  }
+
+  @Override
+  public void debugf(String msgTemplate, Object param1)
+  {
+    if (this.isDebugEnabled())
+    {
+      this.debugf(msgTemplate, new Object[] { param1 });
+    }
+  }
+
+  @Override
+  public void debugf(String msgTemplate, Object param1, Object param2)
+  {
+    if (this.isDebugEnabled())
+    {
+      this.debugf(msgTemplate, new Object[] { param1, param2 });
+    }
+  }
+
+  @Override
+  public void debugf(String msgTemplate, Object param1, Object param2, Object param3)
+  {
+    if (this.isDebugEnabled())
+    {
+      this.debugf(msgTemplate, new Object[] { param1, param2, param3 });
     }
   }
 
@@ -248,8 +420,47 @@ public class Logger2Logger implements Logger, Logger2
   {
     if (this.isDebugEnabled())
     {
-      this.getDelegateLogger().logDebug(this.getLogMessage(msgTemplate, params));
-      this.getDelegateLogger().logException(t);
+      if (!this.passOnTemplate(LogLevel.DEBUG, t, msgTemplate, params))
+      {
+        this.getDelegateLogger().logDebug(this.getLogMessage(msgTemplate, params));
+        this.getDelegateLogger().logException(t);
+      }
+    }
+  }
+
+  @Override
+  public void debugf(Throwable t, String msgTemplate)
+  {
+    if (this.isDebugEnabled())
+    {
+      this.debugf(t, msgTemplate, NO_PARAMS);
+    }
+  }
+
+  @Override
+  public void debugf(Throwable t, String msgTemplate, Object param1)
+  {
+    if (this.isDebugEnabled())
+    {
+      this.debugf(t, msgTemplate, new Object[] { param1 });
+    }
+  }
+
+  @Override
+  public void debugf(Throwable t, String msgTemplate, Object param1, Object param2)
+  {
+    if (this.isDebugEnabled())
+    {
+      this.debugf(t, msgTemplate, new Object[] { param1, param2 });
+    }
+  }
+
+  @Override
+  public void debugf(Throwable t, String msgTemplate, Object param1, Object param2, Object param3)
+  {
+    if (this.isDebugEnabled())
+    {
+      this.debugf(t, msgTemplate, new Object[] { param1, param2, param3 });
     }
   }
 
@@ -263,7 +474,46 @@ public class Logger2Logger implements Logger, Logger2
   {
     if (this.isInfoEnabled())
     {
-      this.getDelegateLogger().logInfo(this.getLogMessage(msgTemplate, params));
+      if (!this.passOnTemplate(LogLevel.INFO, null, msgTemplate, params))
+      {
+        this.getDelegateLogger().logInfo(this.getLogMessage(msgTemplate, params));
+      }
+    }
+  }
+
+  @Override
+  public void infof(String msgTemplate)
+  {
+    if (this.isInfoEnabled())
+    {
+      this.infof(msgTemplate, NO_PARAMS);
+    }
+  }
+
+  @Override
+  public void infof(String msgTemplate, Object param1)
+  {
+    if (this.isInfoEnabled())
+    {
+      this.infof(msgTemplate, new Object[] { param1 });
+    }
+  }
+
+  @Override
+  public void infof(String msgTemplate, Object param1, Object param2)
+  {
+    if (this.isInfoEnabled())
+    {
+      this.infof(msgTemplate, new Object[] { param1, param2 });
+    }
+  }
+
+  @Override
+  public void infof(String msgTemplate, Object param1, Object param2, Object param3)
+  {
+    if (this.isInfoEnabled())
+    {
+      this.infof(msgTemplate, new Object[] { param1, param2, param3 });
     }
   }
 
@@ -280,8 +530,47 @@ public class Logger2Logger implements Logger, Logger2
   {
     if (this.isInfoEnabled())
     {
-      this.getDelegateLogger().logInfo(this.getLogMessage(msgTemplate, params));
-      this.getDelegateLogger().logException(t);
+      if (!this.passOnTemplate(LogLevel.INFO, t, msgTemplate, params))
+      {
+        this.getDelegateLogger().logInfo(this.getLogMessage(msgTemplate, params));
+        this.getDelegateLogger().logException(t);
+      }
+    }
+  }
+
+  @Override
+  public void infof(Throwable t, String msgTemplate)
+  {
+    if (this.isInfoEnabled())
+    {
+      this.infof(t, msgTemplate, NO_PARAMS);
+    }
+  }
+
+  @Override
+  public void infof(Throwable t, String msgTemplate, Object param1)
+  {
+    if (this.isInfoEnabled())
+    {
+      this.infof(t, msgTemplate, new Object[] { param1 });
+    }
+  }
+
+  @Override
+  public void infof(Throwable t, String msgTemplate, Object param1, Object param2)
+  {
+    if (this.isInfoEnabled())
+    {
+      this.infof(t, msgTemplate, new Object[] { param1, param2 });
+    }
+  }
+
+  @Override
+  public void infof(Throwable t, String msgTemplate, Object param1, Object param2, Object param3)
+  {
+    if (this.isInfoEnabled())
+    {
+      this.infof(t, msgTemplate, new Object[] { param1, param2, param3 });
     }
   }
 
@@ -295,7 +584,46 @@ public class Logger2Logger implements Logger, Logger2
   {
     if (this.isWarnEnabled())
     {
-      this.getDelegateLogger().logWarning(this.getLogMessage(msgTemplate, params));
+      if (!this.passOnTemplate(LogLevel.WARN, null, msgTemplate, params))
+      {
+        this.getDelegateLogger().logWarning(this.getLogMessage(msgTemplate, params));
+      }
+    }
+  }
+
+  @Override
+  public void warnf(String msgTemplate)
+  {
+    if (this.isWarnEnabled())
+    {
+      this.warnf(msgTemplate, NO_PARAMS);
+    }
+  }
+
+  @Override
+  public void warnf(String msgTemplate, Object param1)
+  {
+    if (this.isWarnEnabled())
+    {
+      this.warnf(msgTemplate, new Object[] { param1 });
+    }
+  }
+
+  @Override
+  public void warnf(String msgTemplate, Object param1, Object param2)
+  {
+    if (this.isWarnEnabled())
+    {
+      this.warnf(msgTemplate, new Object[] { param1, param2 });
+    }
+  }
+
+  @Override
+  public void warnf(String msgTemplate, Object param1, Object param2, Object param3)
+  {
+    if (this.isWarnEnabled())
+    {
+      this.warnf(msgTemplate, new Object[] { param1, param2, param3 });
     }
   }
 
@@ -312,7 +640,46 @@ public class Logger2Logger implements Logger, Logger2
   {
     if (this.isWarnEnabled())
     {
-      this.getDelegateLogger().logWarning(this.getLogMessage(msgTemplate, params), t);
+      if (!this.passOnTemplate(LogLevel.WARN, t, msgTemplate, params))
+      {
+        this.getDelegateLogger().logWarning(this.getLogMessage(msgTemplate, params), t);
+      }
+    }
+  }
+
+  @Override
+  public void warnf(Throwable t, String msgTemplate)
+  {
+    if (this.isWarnEnabled())
+    {
+      this.warnf(t, msgTemplate, NO_PARAMS);
+    }
+  }
+
+  @Override
+  public void warnf(Throwable t, String msgTemplate, Object param1)
+  {
+    if (this.isWarnEnabled())
+    {
+      this.warnf(t, msgTemplate, new Object[] { param1 });
+    }
+  }
+
+  @Override
+  public void warnf(Throwable t, String msgTemplate, Object param1, Object param2)
+  {
+    if (this.isWarnEnabled())
+    {
+      this.warnf(t, msgTemplate, new Object[] { param1, param2 });
+    }
+  }
+
+  @Override
+  public void warnf(Throwable t, String msgTemplate, Object param1, Object param2, Object param3)
+  {
+    if (this.isWarnEnabled())
+    {
+      this.warnf(t, msgTemplate, new Object[] { param1, param2, param3 });
     }
   }
 
@@ -326,7 +693,46 @@ public class Logger2Logger implements Logger, Logger2
   {
     if (this.isErrorEnabled())
     {
-      this.getDelegateLogger().logError(this.getLogMessage(msgTemplate, params));
+      if (!this.passOnTemplate(LogLevel.ERROR, null, msgTemplate, params))
+      {
+        this.getDelegateLogger().logError(this.getLogMessage(msgTemplate, params));
+      }
+    }
+  }
+
+  @Override
+  public void errorf(String msgTemplate)
+  {
+    if (this.isErrorEnabled())
+    {
+      this.errorf(msgTemplate, NO_PARAMS);
+    }
+  }
+
+  @Override
+  public void errorf(String msgTemplate, Object param1)
+  {
+    if (this.isErrorEnabled())
+    {
+      this.errorf(msgTemplate, new Object[] { param1 });
+    }
+  }
+
+  @Override
+  public void errorf(String msgTemplate, Object param1, Object param2)
+  {
+    if (this.isErrorEnabled())
+    {
+      this.errorf(msgTemplate, new Object[] { param1, param2 });
+    }
+  }
+
+  @Override
+  public void errorf(String msgTemplate, Object param1, Object param2, Object param3)
+  {
+    if (this.isErrorEnabled())
+    {
+      this.errorf(msgTemplate, new Object[] { param1, param2, param3 });
     }
   }
 
@@ -343,7 +749,46 @@ public class Logger2Logger implements Logger, Logger2
   {
     if (this.isErrorEnabled())
     {
-      this.getDelegateLogger().logError(this.getLogMessage(msgTemplate, params), t);
+      if (!this.passOnTemplate(LogLevel.ERROR, t, msgTemplate, params))
+      {
+        this.getDelegateLogger().logError(this.getLogMessage(msgTemplate, params), t);
+      }
+    }
+  }
+
+  @Override
+  public void errorf(Throwable t, String msgTemplate)
+  {
+    if (this.isErrorEnabled())
+    {
+      this.errorf(t, msgTemplate, NO_PARAMS);
+    }
+  }
+
+  @Override
+  public void errorf(Throwable t, String msgTemplate, Object param1)
+  {
+    if (this.isErrorEnabled())
+    {
+      this.errorf(t, msgTemplate, new Object[] { param1 });
+    }
+  }
+
+  @Override
+  public void errorf(Throwable t, String msgTemplate, Object param1, Object param2)
+  {
+    if (this.isErrorEnabled())
+    {
+      this.errorf(t, msgTemplate, new Object[] { param1, param2 });
+    }
+  }
+
+  @Override
+  public void errorf(Throwable t, String msgTemplate, Object param1, Object param2, Object param3)
+  {
+    if (this.isErrorEnabled())
+    {
+      this.errorf(t, msgTemplate, new Object[] { param1, param2, param3 });
     }
   }
 
@@ -378,6 +823,42 @@ public class Logger2Logger implements Logger, Logger2
     }
   }
 
+  @Override
+  public void logf(LogLevel level, String msgTemplate)
+  {
+    if (this.isEnabled(level))
+    {
+      this.logf(level, msgTemplate, NO_PARAMS);
+    }
+  }
+
+  @Override
+  public void logf(LogLevel level, String msgTemplate, Object param1)
+  {
+    if (this.isEnabled(level))
+    {
+      this.logf(level, msgTemplate, new Object[] { param1 });
+    }
+  }
+
+  @Override
+  public void logf(LogLevel level, String msgTemplate, Object param1, Object param2)
+  {
+    if (this.isEnabled(level))
+    {
+      this.logf(level, msgTemplate, new Object[] { param1, param2 });
+    }
+  }
+
+  @Override
+  public void logf(LogLevel level, String msgTemplate, Object param1, Object param2, Object param3)
+  {
+    if (this.isEnabled(level))
+    {
+      this.logf(level, msgTemplate, new Object[] { param1, param2, param3 });
+    }
+  }
+
   /**
    * Writes the given message template to the log if the specified log level
    * is activated for this logger. Placeholders in the message template
@@ -412,12 +893,196 @@ public class Logger2Logger implements Logger, Logger2
     }
   }
 
+  @Override
+  public void logf(LogLevel level, Throwable t, String msgTemplate)
+  {
+    if (this.isEnabled(level))
+    {
+      this.logf(level, t, msgTemplate, NO_PARAMS);
+    }
+  }
+
+  @Override
+  public void logf(LogLevel level, Throwable t, String msgTemplate, Object param1)
+  {
+    if (this.isEnabled(level))
+    {
+      this.logf(level, t, msgTemplate, new Object[] { param1 });
+    }
+  }
+
+  @Override
+  public void logf(LogLevel level, Throwable t, String msgTemplate, Object param1, Object param2)
+  {
+    if (this.isEnabled(level))
+    {
+      this.logf(level, t, msgTemplate, new Object[] { param1, param2 });
+    }
+  }
+
+  @Override
+  public void logf(LogLevel level, Throwable t, String msgTemplate, Object param1, Object param2, Object param3)
+  {
+    if (this.isEnabled(level))
+    {
+      this.logf(level, t, msgTemplate, new Object[] { param1, param2, param3 });
+    }
+  }
+
+  @Override
+  public void debug(LogSupplier<String> messageSupplier)
+  {
+    if (this.isDebugEnabled())
+    {
+      this.getDelegateLogger().logDebug(messageSupplier.get());
+    }
+  }
+
+  @Override
+  public void debug(Throwable t, LogSupplier<String> messageSupplier)
+  {
+    if (this.isDebugEnabled())
+    {
+      this.getDelegateLogger().logDebug(messageSupplier.get());
+      this.getDelegateLogger().logException(t);
+    }
+  }
+
+  @Override
+  public void info(LogSupplier<String> messageSupplier)
+  {
+    if (this.isInfoEnabled())
+    {
+      this.getDelegateLogger().logInfo(messageSupplier.get());
+    }
+  }
+
+  @Override
+  public void info(Throwable t, LogSupplier<String> messageSupplier)
+  {
+    if (this.isInfoEnabled())
+    {
+      this.getDelegateLogger().logInfo(messageSupplier.get());
+      this.getDelegateLogger().logException(t);
+    }
+  }
+
+  @Override
+  public void warn(LogSupplier<String> messageSupplier)
+  {
+    if (this.isWarnEnabled())
+    {
+      this.getDelegateLogger().logWarning(messageSupplier.get());
+    }
+  }
+
+  @Override
+  public void warn(Throwable t, LogSupplier<String> messageSupplier)
+  {
+    if (this.isWarnEnabled())
+    {
+      this.getDelegateLogger().logWarning(messageSupplier.get(), t);
+    }
+  }
+
+  @Override
+  public void error(LogSupplier<String> messageSupplier)
+  {
+    if (this.isErrorEnabled())
+    {
+      this.getDelegateLogger().logError(messageSupplier.get());
+    }
+  }
+
+  @Override
+  public void error(Throwable t, LogSupplier<String> messageSupplier)
+  {
+    if (this.isErrorEnabled())
+    {
+      this.getDelegateLogger().logError(messageSupplier.get(), t);
+    }
+  }
+
+  @Override
+  public void log(LogLevel level, LogSupplier<String> messageSupplier)
+  {
+    if (level == null)
+    {
+      return;
+    }
+    switch (level)
+    {
+      case DEBUG :
+        this.debug(messageSupplier);
+        break;
+      case INFO :
+        this.info(messageSupplier);
+        break;
+      case WARN :
+        this.warn(messageSupplier);
+        break;
+      case ERROR :
+        this.error(messageSupplier);
+        break;
+      default :
+        break;
+    }
+  }
+
+  @Override
+  public void log(LogLevel level, Throwable t, LogSupplier<String> messageSupplier)
+  {
+    if (level == null)
+    {
+      return;
+    }
+    switch (level)
+    {
+      case DEBUG :
+        this.debug(t, messageSupplier);
+        break;
+      case INFO :
+        this.info(t, messageSupplier);
+        break;
+      case WARN :
+        this.warn(t, messageSupplier);
+        break;
+      case ERROR :
+        this.error(t, messageSupplier);
+        break;
+      default :
+        break;
+    }
+  }
+
   // =========================================================================
   // PROTECTED INSTANCE METHODS
   // =========================================================================
+  /**
+   * Returns the message built from the given template and parameters.
+   * Parameters that are {@link LogSupplier} instances get replaced by their
+   * supplied value before.
+   * The result is the same as with {@link String#format(String, Object...)}.
+   */
   protected String getLogMessage(String template, Object... params)
   {
-    return String.format(template, params);
+    return PrintfTemplate.compile(template).format(LazyArguments.resolve(params));
+  }
+
+  /**
+   * Passes on the unformatted template and parameters if the delegate logger
+   * is a {@link PrintfTemplateLogger}.
+   * 
+   * @return false if the delegate logger does not accept templates.
+   */
+  protected boolean passOnTemplate(LogLevel level, Throwable t, String template, Object[] params)
+  {
+    if (this.getDelegateLogger() instanceof PrintfTemplateLogger)
+    {
+      ((PrintfTemplateLogger)this.getDelegateLogger()).logPrintf(level, t, template, params);
+      return true;
+    }
+    return false;
   }
 
   protected Logger getDelegateLogger()
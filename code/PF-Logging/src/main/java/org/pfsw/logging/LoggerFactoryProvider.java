@@ -1,20 +1,28 @@
 // ===========================================================================
 // CONTENT  : CLASS LoggerFactoryProvider
 // AUTHOR   : Manfred Duchrow
-// VERSION  : 2.2 - 04/03/2017
+// VERSION  : 2.5 - 18/10/2026
 // HISTORY  :
 //  21/06/2014  mdu  CREATED
 //  13/12/2015  mdu   changed -> using registry
 //  03/02/2017  mdu   added   -> initialization mechanism via LogBindingInitializer
 //  04/03/2017  mdu   added   -> getLogger(), getLogger2()
+//  18/10/2026  mdu   added   -> canonical logger cache, shared Logger2 wrappers
+//  18/10/2026  mdu   added   -> cached default logger factory
+//  18/10/2026  mdu   added   -> registration listeners
+//  18/10/2026  mdu   changed -> logger cache discarded only if the default factory changes
 //
-// Copyright (c) 2014-2017, by MDCS. All rights reserved.
+// Copyright (c) 2014-2026, by MDCS. All rights reserved.
 // ===========================================================================
 package org.pfsw.logging;
 
+import java.util.List;
 import java.util.ServiceLoader;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.pfsw.logging.deferred.DeferredInitializationLoggerFactory;
+import org.pfsw.logging.internal.CacheRetention;
+import org.pfsw.logging.internal.NamedInstanceCache;
 import org.pfsw.logging.jul.JavaUtilLoggerFactory;
 import org.pfsw.logging.nil.NilLoggerFactory;
 import org.pfsw.logging.stdout.PrintStreamLoggerFactory;
@@ -25,22 +33,54 @@ import org.pfsw.logging.stdout.PrintStreamLoggerFactory;
  * <p>
  * The name of the default factory binding can be set via the system property "org.pfsw.logging.binding".
  * If this property is not specified, the default factory will be "STDOUT".
+ * <p>
+ * The loggers returned by {@link #getLogger(String)} and {@link #getLogger(Class)}
+ * are cached per logger name. So repeated lookups of the same name return the
+ * same logger instance. The same applies to the {@link Logger2} wrappers returned by 
+ * {@link #getLogger2(String)} and {@link #getLogger2(Class)}. How long these loggers are kept in the cache can be
+ * controlled by the system properties "org.pfsw.logging.cache.retention" and
+ * "org.pfsw.logging.cache.maxsize".
+ * <p>
+ * The default logger factory is resolved only once and then kept until 
+ * the default factory name changes or a new factory gets registered.
  *
  * @author Manfred Duchrow
- * @version 2.2
+ * @version 2.5
  */
 public class LoggerFactoryProvider
 {
   // =========================================================================
   // CONSTANTS
   // =========================================================================
+  /**
+   * The system property that specifies how long the loggers returned by
+   * getLogger() are cached. The value must be one of the following strings:
+   * "WEAK" (default), "BOUNDED", "NONE".
+   * <p>"org.pfsw.logging.cache.retention"<p>
+   */
+  public static final String PROP_CACHE_RETENTION = "org.pfsw.logging.cache.retention";
+  /**
+   * The system property that specifies the maximum number of cached loggers
+   * if the cache retention is "BOUNDED".
+   * <p>"org.pfsw.logging.cache.maxsize"<p>
+   */
+  public static final String PROP_CACHE_MAX_SIZE = "org.pfsw.logging.cache.maxsize";
+
   private static final LoggerFactoryRegistry REGISTRY = new LoggerFactoryRegistry();
   private static final String DEFAULT_FACTORY_NAME = LoggerBindingNames.STDOUT;
+  private static final CacheRetention DEFAULT_CACHE_RETENTION = CacheRetention.WEAK;
+  private static final Object DEFAULT_FACTORY_LOCK = new Object();
+  private static final List<LoggerFactoryRegistrationListener> REGISTRATION_LISTENERS = new CopyOnWriteArrayList<LoggerFactoryRegistrationListener>();
 
   // =========================================================================
   // CLASS VARIABLES
   // =========================================================================
-  private static String defaultFactoryName = DEFAULT_FACTORY_NAME;
+  private static volatile String defaultFactoryName = DEFAULT_FACTORY_NAME;
+  private static volatile LoggerFactory defaultFactory = null;
+  private static CacheRetention loggerCacheRetention = DEFAULT_CACHE_RETENTION;
+  private static int loggerCacheMaxSize = NamedInstanceCache.DEFAULT_MAX_SIZE;
+  private static volatile NamedInstanceCache<Logger> loggerCache = null;
+  private static volatile NamedInstanceCache<Logger2> logger2Cache = null;
 
   // =========================================================================
   // CLASS METHODS
@@ -62,7 +102,16 @@ public class LoggerFactoryProvider
    */
   public static Logger getLogger(Class<?> clazz)
   {
-    return getLoggerFactory().getLogger(clazz);
+    NamedInstanceCache<Logger> cache;
+    Logger logger;
+
+    cache = getLoggerCache();
+    logger = cache.get(clazz.getName());
+    if (logger == null)
+    {
+      logger = cache.putIfAbsent(clazz.getName(), getLoggerFactory().getLogger(clazz));
+    }
+    return logger;
   }
 
   /**
@@ -74,7 +123,16 @@ public class LoggerFactoryProvider
    */
   public static Logger getLogger(String loggerName)
   {
-    return getLoggerFactory().getLogger(loggerName);
+    NamedInstanceCache<Logger> cache;
+    Logger logger;
+
+    cache = getLoggerCache();
+    logger = cache.get(loggerName);
+    if (logger == null)
+    {
+      logger = cache.putIfAbsent(loggerName, getLoggerFactory().getLogger(loggerName));
+    }
+    return logger;
   }
   
   /**
@@ -86,7 +144,16 @@ public class LoggerFactoryProvider
    */
   public static Logger2 getLogger2(Class<?> clazz)
   {
-    return new Logger2Logger(getLogger(clazz));
+    NamedInstanceCache<Logger2> cache;
+    Logger2 logger;
+
+    cache = getLogger2Cache();
+    logger = cache.get(clazz.getName());
+    if (logger == null)
+    {
+      logger = cache.putIfAbsent(clazz.getName(), new Logger2Logger(getLogger(clazz)));
+    }
+    return logger;
   }
   
   /**
@@ -98,7 +165,16 @@ public class LoggerFactoryProvider
    */
   public static Logger2 getLogger2(String loggerName)
   {
-    return new Logger2Logger(getLogger(loggerName));
+    NamedInstanceCache<Logger2> cache;
+    Logger2 logger;
+
+    cache = getLogger2Cache();
+    logger = cache.get(loggerName);
+    if (logger == null)
+    {
+      logger = cache.putIfAbsent(loggerName, new Logger2Logger(getLogger(loggerName)));
+    }
+    return logger;
   }
   
   /**
@@ -107,7 +183,14 @@ public class LoggerFactoryProvider
    */
   public static LoggerFactory getLoggerFactory()
   {
-    return getLoggerFactory(getDefaultFactoryName());
+    LoggerFactory factory;
+
+    factory = defaultFactory;
+    if (factory == null)
+    {
+      factory = resolveDefaultFactory();
+    }
+    return factory;
   }
 
   /**
@@ -140,12 +223,16 @@ public class LoggerFactoryProvider
   /**
    * Resets the default logger factory name to the value of system property
    * "org.pfsw.logging.binding" or to "STDOUT". 
+   * Also the logger cache settings get re-read from the system properties
+   * and all cached loggers are discarded.
    */
   public static void reset()
   {
     String name;
     LogBindingInitializer initializer;
 
+    initLoggerCacheSettings();
+
     name = System.getProperty(LoggerBindingNames.PROP_BINDING_NAME);
     if (name == null)
     {
@@ -156,6 +243,11 @@ public class LoggerFactoryProvider
       }
     }
     setDefaultFactoryName(name);
+    synchronized (DEFAULT_FACTORY_LOCK)
+    {
+      defaultFactory = null;
+      resetLoggerCache();
+    }
   }
 
   public static String getDefaultFactoryName()
@@ -165,22 +257,64 @@ public class LoggerFactoryProvider
 
   public static void setDefaultFactoryName(String name)
   {
-    if (name == null)
-    {
-      LoggerFactoryProvider.defaultFactoryName = DEFAULT_FACTORY_NAME;
-    }
-    else
+    String newName;
+
+    newName = (name == null) ? DEFAULT_FACTORY_NAME : name;
+    synchronized (DEFAULT_FACTORY_LOCK)
     {
-      LoggerFactoryProvider.defaultFactoryName = name;
+      if (newName.equals(LoggerFactoryProvider.defaultFactoryName))
+      {
+        return;
+      }
+      LoggerFactoryProvider.defaultFactoryName = newName;
+      defaultFactory = null;
+      resetLoggerCache();
     }
   }
 
   /**
    * Registers the given factory under its name (see {@link LoggerFactory#getName()}).
+   * All registered {@link LoggerFactoryRegistrationListener}s get notified 
+   * afterwards.
+   * <p>
+   * The cached loggers get discarded only if the given factory replaces 
+   * the default factory. 
    */
   public static void register(LoggerFactory factory)
   {
     getRegistry().register(factory);
+    if ((factory != null) && getDefaultFactoryName().equals(factory.getName()))
+    {
+      synchronized (DEFAULT_FACTORY_LOCK)
+      {
+        defaultFactory = null;
+        resetLoggerCache();
+      }
+    }
+    if (factory != null)
+    {
+      notifyRegistrationListeners(factory);
+    }
+  }
+
+  /**
+   * Adds the given listener that will be notified about all subsequent
+   * logger factory registrations.
+   */
+  public static void addRegistrationListener(LoggerFactoryRegistrationListener listener)
+  {
+    if (listener != null)
+    {
+      REGISTRATION_LISTENERS.add(listener);
+    }
+  }
+
+  /**
+   * Removes the given listener.
+   */
+  public static void removeRegistrationListener(LoggerFactoryRegistrationListener listener)
+  {
+    REGISTRATION_LISTENERS.remove(listener);
   }
 
   // -------------------------------------------------------------------------
@@ -214,6 +348,21 @@ public class LoggerFactoryProvider
     }
   }
 
+  private static void notifyRegistrationListeners(LoggerFactory factory)
+  {
+    for (LoggerFactoryRegistrationListener listener : REGISTRATION_LISTENERS)
+    {
+      try
+      {
+        listener.loggerFactoryRegistered(factory);
+      }
+      catch (RuntimeException ex)
+      {
+        ex.printStackTrace();
+      }
+    }
+  }
+
   private static LogBindingInitializer lookupInitializer()
   {
     LogBindingInitializer initializer = null;
@@ -287,6 +436,65 @@ public class LoggerFactoryProvider
   {
     return (string != null) && (string.trim().length() > 1);
   }
+
+  /**
+   * Looks up the logger factory for the current default name and keeps it
+   * until it gets invalidated by {@link #setDefaultFactoryName(String)} or
+   * {@link #register(LoggerFactory)}.
+   */
+  private static LoggerFactory resolveDefaultFactory()
+  {
+    synchronized (DEFAULT_FACTORY_LOCK)
+    {
+      if (defaultFactory == null)
+      {
+        defaultFactory = getLoggerFactory(getDefaultFactoryName());
+      }
+      return defaultFactory;
+    }
+  }
+
+  private static void initLoggerCacheSettings()
+  {
+    CacheRetention retention;
+    String value;
+
+    retention = CacheRetention.getByName(System.getProperty(PROP_CACHE_RETENTION));
+    loggerCacheRetention = (retention == null) ? DEFAULT_CACHE_RETENTION : retention;
+    loggerCacheMaxSize = NamedInstanceCache.DEFAULT_MAX_SIZE;
+    value = System.getProperty(PROP_CACHE_MAX_SIZE);
+    if (value != null)
+    {
+      try
+      {
+        loggerCacheMaxSize = Integer.parseInt(value.trim());
+      }
+      catch (NumberFormatException ex)
+      {
+        // Keep the default size
+      }
+    }
+  }
+
+  /**
+   * Discards all cached loggers. Must be called whenever the default 
+   * logger factory has changed.
+   */
+  private static void resetLoggerCache()
+  {
+    logger2Cache = new NamedInstanceCache<Logger2>(loggerCacheRetention, loggerCacheMaxSize);
+    loggerCache = new NamedInstanceCache<Logger>(loggerCacheRetention, loggerCacheMaxSize);
+  }
+
+  private static NamedInstanceCache<Logger> getLoggerCache()
+  {
+    return loggerCache;
+  }
+
+  private static NamedInstanceCache<Logger2> getLogger2Cache()
+  {
+    return logger2Cache;
+  }
   
   private static LoggerFactoryRegistry getRegistry()
   {
@@ -0,0 +1,27 @@
+// ===========================================================================
+// CONTENT  : INTERFACE LoggerFactoryRegistrationListener
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.0 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging;
+
+/**
+ * A listener that gets notified whenever a logger factory gets registered
+ * via {@link LoggerFactoryProvider#register(LoggerFactory)}.
+ *
+ * @author Manfred Duchrow
+ * @version 1.0
+ */
+public interface LoggerFactoryRegistrationListener
+{
+  /**
+   * Will be called after the given factory has been registered.
+   * 
+   * @param loggerFactory The newly registered factory (never null).
+   */
+  void loggerFactoryRegistered(LoggerFactory loggerFactory);
+}
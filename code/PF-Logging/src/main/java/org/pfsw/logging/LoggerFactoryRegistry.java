@@ -1,30 +1,37 @@
 // ===========================================================================
 // CONTENT  : CLASS LoggerFactoryRegistry
 // AUTHOR   : Manfred Duchrow
-// VERSION  : 1.0 - 13/12/2015
+// VERSION  : 1.2 - 18/10/2026
 // HISTORY  :
 //  13/12/2015  mdu  CREATED
+//  18/10/2026  mdu  changed -> immutable snapshots that get replaced on registration
+//  18/10/2026  mdu  removed -> unused snapshot version
 //
-// Copyright (c) 2015, by MDCS. All rights reserved.
+// Copyright (c) 2015-2026, by MDCS. All rights reserved.
 // ===========================================================================
 package org.pfsw.logging ;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
 /**
  * A registry for named logger factories. Allows to find factory instances by 
  * symbolic name rather than class name.
+ * <p>
+ * The registered factories are kept in an immutable snapshot that gets
+ * replaced by a new one on each registration. So lookups never lock
+ * and always see a consistent state. 
  *
  * @author Manfred Duchrow
- * @version 1.0
+ * @version 1.2
  */
 class LoggerFactoryRegistry
 {
   // =========================================================================
   // INSTANCE VARIABLES
   // =========================================================================
-  private final Map<String, LoggerFactory> factoriesMap = new HashMap<String, LoggerFactory>();
+  private volatile Map<String, LoggerFactory> factoriesMap = Collections.emptyMap();
 
   // =========================================================================
   // CONSTRUCTORS
@@ -37,11 +44,15 @@ class LoggerFactoryRegistry
   // =========================================================================
   // PUBLIC INSTANCE METHODS
   // =========================================================================
-  public void register(LoggerFactory loggerFactory) 
+  public synchronized void register(LoggerFactory loggerFactory) 
   {
+    Map<String, LoggerFactory> factories;
+
     if (loggerFactory != null)
     {
-      getFactoriesMap().put(loggerFactory.getName(), loggerFactory);
+      factories = new HashMap<String, LoggerFactory>(this.factoriesMap);
+      factories.put(loggerFactory.getName(), loggerFactory);
+      this.factoriesMap = Collections.unmodifiableMap(factories);
     }
   }
   
@@ -53,10 +64,13 @@ class LoggerFactoryRegistry
     }
     return getFactoriesMap().get(name);
   }
-  
+
   // =========================================================================
   // PROTECTED INSTANCE METHODS
   // =========================================================================
+  /**
+   * Returns an unmodifiable map of all currently registered factories.
+   */
   protected Map<String, LoggerFactory> getFactoriesMap()
   {
     return this.factoriesMap;
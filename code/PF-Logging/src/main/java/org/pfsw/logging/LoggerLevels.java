@@ -0,0 +1,233 @@
+// ===========================================================================
+// CONTENT  : CLASS LoggerLevels
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.0 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Provides a central hierarchical log level configuration based on 
+ * logger name prefixes. 
+ * <p>
+ * A level set for "com.acme.db" applies to all loggers with the name 
+ * "com.acme.db" or a name starting with "com.acme.db.", unless there is a 
+ * level for a more specific prefix (e.g. "com.acme.db.pool"). 
+ * The level for the empty prefix (root) applies to all loggers.
+ * <p>
+ * The bundled loggers consult this configuration unless they got an explicit
+ * level via {@link Logger#setLogLevel(String)}. They cache their effective 
+ * level and only look it up again after the configuration has changed 
+ * (see {@link #getGeneration()}).
+ * <p>
+ * Initially the levels are read from the system properties (see {@link #PROP_LEVEL_PREFIX}).
+ *
+ * @author Manfred Duchrow
+ * @version 1.0
+ */
+public class LoggerLevels
+{
+  // =========================================================================
+  // CONSTANTS
+  // =========================================================================
+  /**
+   * The prefix of properties that define a log level for a logger name prefix.
+   * The property "org.pfsw.logging.level" itself defines the root level,
+   * "org.pfsw.logging.level.com.acme.db" defines the level for all loggers
+   * under "com.acme.db". The values must be one of "NONE", "ERROR", "WARNING", "INFO", "DEBUG".
+   * <p>"org.pfsw.logging.level"<p>
+   */
+  public static final String PROP_LEVEL_PREFIX = "org.pfsw.logging.level";
+
+  private static final char SEPARATOR = '.';
+  private static final Object LOCK = new Object();
+  private static final Node ROOT = new Node();
+
+  // =========================================================================
+  // CLASS VARIABLES
+  // =========================================================================
+  private static volatile int generation = 0;
+
+  // =========================================================================
+  // CLASS METHODS
+  // =========================================================================
+  static
+  {
+    configure(System.getProperties());
+  }
+
+  // -------------------------------------------------------------------------
+
+  /**
+   * Sets the log level for all loggers whose name is the given prefix or
+   * starts with the given prefix followed by a dot.
+   * 
+   * @param namePrefix The logger name prefix (null or "" for the root).
+   * @param level The level to set or null to remove the level for the prefix.
+   */
+  public static void setLevel(String namePrefix, LogLevel level)
+  {
+    Node node;
+
+    synchronized (LOCK)
+    {
+      node = ROOT;
+      for (String segment : splitName(namePrefix))
+      {
+        node = node.getOrCreateChild(segment);
+      }
+      node.level = level;
+      generation++;
+    }
+  }
+
+  /**
+   * Removes the level that has been set for exactly the given prefix.
+   */
+  public static void removeLevel(String namePrefix)
+  {
+    setLevel(namePrefix, null);
+  }
+
+  /**
+   * Returns the level defined for the most specific prefix of the given 
+   * logger name or null if there is none.
+   */
+  public static LogLevel getLevel(String loggerName)
+  {
+    Node node;
+    LogLevel level;
+
+    synchronized (LOCK)
+    {
+      node = ROOT;
+      level = node.level;
+      for (String segment : splitName(loggerName))
+      {
+        node = node.getChild(segment);
+        if (node == null)
+        {
+          break;
+        }
+        if (node.level != null)
+        {
+          level = node.level;
+        }
+      }
+      return level;
+    }
+  }
+
+  /**
+   * Removes all level definitions.
+   */
+  public static void clear()
+  {
+    synchronized (LOCK)
+    {
+      ROOT.level = null;
+      ROOT.children.clear();
+      generation++;
+    }
+  }
+
+  /**
+   * Sets the levels from all properties that start with {@link #PROP_LEVEL_PREFIX}.
+   * Properties with an unknown level are ignored.
+   */
+  public static void configure(Properties properties)
+  {
+    LogLevel level;
+
+    if (properties == null)
+    {
+      return;
+    }
+    for (String key : properties.stringPropertyNames())
+    {
+      if (key.equals(PROP_LEVEL_PREFIX) || key.startsWith(PROP_LEVEL_PREFIX + SEPARATOR))
+      {
+        level = parseLevel(properties.getProperty(key));
+        if (level != null)
+        {
+          setLevel(key.substring(Math.min(key.length(), PROP_LEVEL_PREFIX.length() + 1)), level);
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns a number that changes whenever the level configuration changes.
+   */
+  public static int getGeneration()
+  {
+    return generation;
+  }
+
+  private static LogLevel parseLevel(String value)
+  {
+    if (value == null)
+    {
+      return null;
+    }
+    for (LogLevel logLevel : LogLevel.values())
+    {
+      if (logLevel.getPFLevel().equalsIgnoreCase(value.trim()) || logLevel.name().equalsIgnoreCase(value.trim()))
+      {
+        return logLevel;
+      }
+    }
+    return null;
+  }
+
+  private static String[] splitName(String name)
+  {
+    if ((name == null) || (name.length() == 0))
+    {
+      return new String[0];
+    }
+    return name.split("\\" + SEPARATOR);
+  }
+
+  // =========================================================================
+  // CONSTRUCTORS
+  // =========================================================================
+  private LoggerLevels()
+  {
+    super();
+  }
+
+  // =========================================================================
+  // INNER CLASSES
+  // =========================================================================
+  private static class Node
+  {
+    private final Map<String, Node> children = new HashMap<String, Node>();
+    private LogLevel level = null;
+
+    Node getChild(String segment)
+    {
+      return this.children.get(segment);
+    }
+
+    Node getOrCreateChild(String segment)
+    {
+      Node child;
+
+      child = this.children.get(segment);
+      if (child == null)
+      {
+        child = new Node();
+        this.children.put(segment, child);
+      }
+      return child;
+    }
+  }
+}
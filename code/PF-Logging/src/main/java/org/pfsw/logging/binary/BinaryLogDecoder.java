@@ -0,0 +1,544 @@
+// ===========================================================================
+// CONTENT  : CLASS BinaryLogDecoder
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.1 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//  18/10/2026  mdu  changed --> format with the log's locale and time zone instead of changing the defaults
+//  18/10/2026  mdu  added   --> inline records
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging.binary;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.Charset;
+import java.text.DateFormat;
+import java.text.Format;
+import java.text.MessageFormat;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Formatter;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.pfsw.logging.stdout.PrintStreamLogger;
+
+/**
+ * Converts a binary log written by {@link BinaryLogWriter} to exactly the 
+ * text a {@link PrintStreamLogger} would have written.
+ * <p>
+ * Numbers and dates are formatted with the locale and time zone of the process 
+ * that wrote the log, so they look the same. The default locale and time zone 
+ * of this JVM are not touched.
+ * <p>
+ * Usage: <code>java org.pfsw.logging.binary.BinaryLogDecoder [-t] &lt;file&gt;</code>
+ * <br>
+ * The option -t prefixes each record with its timestamp.
+ *
+ * @author Manfred Duchrow
+ * @version 1.1
+ */
+public class BinaryLogDecoder implements BinaryLogFormat
+{
+  // =========================================================================
+  // CONSTANTS
+  // =========================================================================
+  private static final Charset UTF8 = Charset.forName("UTF-8");
+  private static final String TIMESTAMP_PATTERN = "yyyy-MM-dd HH:mm:ss.SSS ";
+  private static final String DATE_TO_STRING_PATTERN = "EEE MMM dd HH:mm:ss zzz yyyy";
+  /**
+   * Matches a format specifier of java.util.Formatter.
+   */
+  private static final Pattern PRINTF_SPECIFIER = Pattern.compile("%(\\d+\\$)?([-#+ 0,(<]*)?(\\d+)?(\\.\\d+)?([tT])?([a-zA-Z%])");
+
+  // =========================================================================
+  // INSTANCE VARIABLES
+  // =========================================================================
+  private final PrintStream output;
+  private boolean showTimestamps = false;
+  private final Map<Integer, String> templates = new HashMap<Integer, String>();
+  private final Map<Integer, Byte> templateKinds = new HashMap<Integer, Byte>();
+  private final Map<Integer, RenderingLogger> loggers = new HashMap<Integer, RenderingLogger>();
+  private SimpleDateFormat timestampFormat = null;
+  private Locale locale = Locale.getDefault();
+  private TimeZone timeZone = TimeZone.getDefault();
+
+  // =========================================================================
+  // CLASS METHODS
+  // =========================================================================
+  public static void main(String[] args)
+  {
+    BinaryLogDecoder decoder;
+    InputStream input;
+    String filename = null;
+    boolean timestamps = false;
+
+    for (String arg : args)
+    {
+      if ("-t".equals(arg))
+      {
+        timestamps = true;
+      }
+      else
+      {
+        filename = arg;
+      }
+    }
+    if (filename == null)
+    {
+      System.err.println("Usage: java " + BinaryLogDecoder.class.getName() + " [-t] <file>");
+      System.exit(1);
+    }
+    decoder = new BinaryLogDecoder(System.out);
+    decoder.setShowTimestamps(timestamps);
+    try
+    {
+      input = new FileInputStream(filename);
+      try
+      {
+        decoder.decode(input);
+      }
+      finally
+      {
+        input.close();
+      }
+    }
+    catch (IOException ex)
+    {
+      System.err.println("Failed to decode " + filename + ": " + ex);
+      System.exit(2);
+    }
+    System.out.flush();
+  }
+
+  // =========================================================================
+  // CONSTRUCTORS
+  // =========================================================================
+  /**
+   * Creates a new decoder that writes the text to the given print stream.
+   */
+  public BinaryLogDecoder(PrintStream output)
+  {
+    super();
+    this.output = output;
+  }
+
+  // =========================================================================
+  // PUBLIC INSTANCE METHODS
+  // =========================================================================
+  /**
+   * Reads the binary log from the given stream and writes all records
+   * as text to the output. An incomplete last entry (e.g. after a crash) 
+   * gets ignored.
+   * 
+   * @return The number of decoded records.
+   * @throws IOException If the stream cannot be read or is not a binary log.
+   */
+  public int decode(InputStream inputStream) throws IOException
+  {
+    DataInputStream input = new DataInputStream(new BufferedInputStream(inputStream));
+    int count = 0;
+    int tag;
+
+    try
+    {
+      tag = input.read();
+      if (tag != TAG_HEADER)
+      {
+        throw new IOException("Not a binary log");
+      }
+      while (tag >= 0)
+      {
+        switch (tag)
+        {
+          case TAG_HEADER:
+            this.readHeader(input);
+            break;
+          case TAG_TEMPLATE:
+            this.readTemplate(input);
+            break;
+          case TAG_NAME:
+            this.readName(input);
+            break;
+          case TAG_RECORD:
+            this.readRecord(input);
+            count++;
+            break;
+          case TAG_INLINE_RECORD:
+            this.readInlineRecord(input);
+            count++;
+            break;
+          default:
+            throw new IOException("Unknown entry type " + tag);
+        }
+        tag = input.read();
+      }
+    }
+    catch (EOFException ex)
+    {
+      // Incomplete last entry
+    }
+    finally
+    {
+      this.output.flush();
+    }
+    return count;
+  }
+
+  public boolean getShowTimestamps()
+  {
+    return this.showTimestamps;
+  }
+
+  /**
+   * Defines whether or not each record gets prefixed by its timestamp
+   * (default is false).
+   */
+  public void setShowTimestamps(boolean showTimestamps)
+  {
+    this.showTimestamps = showTimestamps;
+  }
+
+  // =========================================================================
+  // PROTECTED INSTANCE METHODS
+  // =========================================================================
+  protected void readHeader(DataInputStream input) throws IOException
+  {
+    String locale;
+    String timeZone;
+
+    if (input.readInt() != MAGIC)
+    {
+      throw new IOException("Not a binary log");
+    }
+    if (input.readShort() > VERSION)
+    {
+      throw new IOException("Unsupported binary log version");
+    }
+    locale = this.readString(input);
+    timeZone = this.readString(input);
+    this.locale = this.toLocale(locale);
+    this.timeZone = TimeZone.getTimeZone(timeZone);
+    this.templates.clear();
+    this.templateKinds.clear();
+    this.loggers.clear();
+    this.timestampFormat = new SimpleDateFormat(TIMESTAMP_PATTERN, this.locale);
+    this.timestampFormat.setTimeZone(this.timeZone);
+  }
+
+  protected void readTemplate(DataInputStream input) throws IOException
+  {
+    Integer id = Integer.valueOf(input.readInt());
+
+    this.templateKinds.put(id, Byte.valueOf(input.readByte()));
+    this.templates.put(id, this.readString(input));
+  }
+
+  protected void readName(DataInputStream input) throws IOException
+  {
+    Integer id = Integer.valueOf(input.readInt());
+
+    this.loggers.put(id, new RenderingLogger(this.readString(input)));
+  }
+
+  protected void readRecord(DataInputStream input) throws IOException
+  {
+    Integer templateId = Integer.valueOf(input.readInt());
+    Integer nameId = Integer.valueOf(input.readInt());
+
+    this.readRecordData(input, nameId, templateId, (byte)0, null);
+  }
+
+  protected void readInlineRecord(DataInputStream input) throws IOException
+  {
+    byte kind = input.readByte();
+    String template = this.readString(input);
+    Integer nameId = Integer.valueOf(input.readInt());
+
+    this.readRecordData(input, nameId, null, kind, template);
+  }
+
+  /**
+   * Reads the data that follows the template and name of a record and 
+   * prints the record. The template is either given by its ID or inline.
+   */
+  protected void readRecordData(DataInputStream input, Integer nameId, Integer templateId, byte kind, String template) throws IOException
+  {
+    int level = input.readByte();
+    long timestamp = input.readLong();
+    Object[] args = new Object[input.readInt()];
+    String stackTrace = null;
+    RenderingLogger logger;
+    String text = null;
+
+    for (int i = 0; i < args.length; i++)
+    {
+      args[i] = this.readArgument(input);
+    }
+    if (input.readByte() != 0)
+    {
+      stackTrace = this.readString(input);
+    }
+    if (templateId == null)
+    {
+      text = this.render(kind, template, args);
+    }
+    else if (templateId.intValue() != 0)
+    {
+      text = this.render(templateId, args);
+    }
+    logger = this.loggers.get(nameId);
+    if (logger == null)
+    {
+      logger = new RenderingLogger("#" + nameId);
+    }
+    if (this.getShowTimestamps())
+    {
+      this.output.print(this.timestampFormat.format(new Date(timestamp)));
+    }
+    this.output.print(logger.render(level, text, stackTrace));
+  }
+
+  protected Object readArgument(DataInputStream input) throws IOException
+  {
+    byte type = input.readByte();
+
+    switch (type)
+    {
+      case TYPE_NULL:
+        return null;
+      case TYPE_STRING:
+        return this.readString(input);
+      case TYPE_INTEGER:
+        return Integer.valueOf(input.readInt());
+      case TYPE_LONG:
+        return Long.valueOf(input.readLong());
+      case TYPE_DOUBLE:
+        return Double.valueOf(input.readDouble());
+      case TYPE_FLOAT:
+        return Float.valueOf(input.readFloat());
+      case TYPE_SHORT:
+        return Short.valueOf(input.readShort());
+      case TYPE_BYTE:
+        return Byte.valueOf(input.readByte());
+      case TYPE_BOOLEAN:
+        return Boolean.valueOf(input.readBoolean());
+      case TYPE_CHARACTER:
+        return Character.valueOf(input.readChar());
+      case TYPE_DATE:
+        return new Date(input.readLong());
+      case TYPE_BIG_DECIMAL:
+        return new BigDecimal(this.readString(input));
+      case TYPE_BIG_INTEGER:
+        return new BigInteger(this.readString(input));
+      default:
+        throw new IOException("Unknown argument type " + type);
+    }
+  }
+
+  /**
+   * Returns the message of the given template formatted with the given arguments.
+   */
+  protected String render(Integer templateId, Object[] args)
+  {
+    String template = this.templates.get(templateId);
+    Byte kind = this.templateKinds.get(templateId);
+
+    if (template == null)
+    {
+      return "<unknown template #" + templateId + "> " + Arrays.asList(args);
+    }
+    return this.render(kind.byteValue(), template, args);
+  }
+
+  /**
+   * Returns the message of the given template formatted with the given 
+   * arguments in the locale and time zone of the log.
+   */
+  protected String render(byte kind, String template, Object[] args)
+  {
+    try
+    {
+      if (kind == KIND_PRINTF)
+      {
+        return this.formatPrintf(template, args);
+      }
+      return this.formatMessage(template, args);
+    }
+    catch (RuntimeException ex)
+    {
+      return template + " " + Arrays.asList(args) + " <" + ex + ">";
+    }
+  }
+
+  /**
+   * Formats the given template like {@link PrintStreamLogger} does, 
+   * but with the locale and time zone of the log.
+   */
+  protected String formatMessage(String template, Object[] args)
+  {
+    MessageFormat format;
+    Format[] formats;
+    DateFormat dateFormat;
+
+    if ((args.length == 0) || (template.indexOf('{') < 0))
+    {
+      return template;
+    }
+    format = new MessageFormat(template, this.locale);
+    formats = format.getFormatsByArgumentIndex();
+    for (int i = 0; i < Math.min(formats.length, args.length); i++)
+    {
+      dateFormat = null;
+      if (formats[i] instanceof DateFormat)
+      {
+        dateFormat = (DateFormat)formats[i].clone();
+      }
+      else if ((formats[i] == null) && (args[i] instanceof Date))
+      {
+        dateFormat = DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.SHORT, this.locale);
+      }
+      if (dateFormat != null)
+      {
+        dateFormat.setTimeZone(this.timeZone);
+        format.setFormatByArgumentIndex(i, dateFormat);
+      }
+    }
+    return format.format(args);
+  }
+
+  /**
+   * Formats the given printf template with the locale and time zone of the log.
+   */
+  protected String formatPrintf(String template, Object[] args)
+  {
+    Formatter formatter = new Formatter(new StringBuilder(), this.locale);
+
+    return formatter.format(template, this.convertPrintfDates(template, args)).toString();
+  }
+
+  /**
+   * Returns the arguments with each date replaced by an equivalent that 
+   * gets formatted in the time zone of the log: a calendar for date/time 
+   * conversions and the text Date.toString() would produce for all others.
+   */
+  protected Object[] convertPrintfDates(String template, Object[] args)
+  {
+    Object[] converted = null;
+    Matcher matcher;
+    Calendar calendar;
+    SimpleDateFormat toStringFormat;
+    int ordinaryIndex = 0;
+    int lastIndex = -1;
+    int index;
+
+    matcher = PRINTF_SPECIFIER.matcher(template);
+    while (matcher.find())
+    {
+      if ("%".equals(matcher.group(6)) || "n".equals(matcher.group(6)))
+      {
+        continue;
+      }
+      if (matcher.group(1) != null)
+      {
+        index = Integer.parseInt(matcher.group(1).substring(0, matcher.group(1).length() - 1)) - 1;
+      }
+      else if ((matcher.group(2) != null) && (matcher.group(2).indexOf('<') >= 0))
+      {
+        index = lastIndex;
+      }
+      else
+      {
+        index = ordinaryIndex++;
+      }
+      lastIndex = index;
+      if ((index < 0) || (index >= args.length) || !(args[index] instanceof Date))
+      {
+        continue;
+      }
+      if (converted == null)
+      {
+        converted = args.clone();
+      }
+      if (matcher.group(5) != null)
+      {
+        calendar = Calendar.getInstance(this.timeZone, this.locale);
+        calendar.setTime((Date)args[index]);
+        converted[index] = calendar;
+      }
+      else
+      {
+        toStringFormat = new SimpleDateFormat(DATE_TO_STRING_PATTERN, Locale.US);
+        toStringFormat.setTimeZone(this.timeZone);
+        converted[index] = toStringFormat.format((Date)args[index]);
+      }
+    }
+    return (converted == null) ? args : converted;
+  }
+
+  protected String readString(DataInputStream input) throws IOException
+  {
+    int length = input.readInt();
+    byte[] bytes;
+
+    if (length < 0)
+    {
+      return null;
+    }
+    bytes = new byte[length];
+    input.readFully(bytes);
+    return new String(bytes, UTF8);
+  }
+
+  protected Locale toLocale(String name)
+  {
+    String[] parts = name.split("_", 3);
+
+    return new Locale(parts[0], (parts.length > 1) ? parts[1] : "", (parts.length > 2) ? parts[2] : "");
+  }
+
+  // =========================================================================
+  // INNER CLASSES
+  // =========================================================================
+  /**
+   * Renders records exactly like a {@link PrintStreamLogger} with the same name.
+   */
+  private static class RenderingLogger extends PrintStreamLogger
+  {
+    RenderingLogger(String loggerName)
+    {
+      super(loggerName);
+    }
+
+    String render(int level, String text, String stackTrace)
+    {
+      StringBuilder buffer = new StringBuilder(128);
+
+      if (text != null)
+      {
+        this.appendMessageLine(buffer, level, text);
+      }
+      if (stackTrace != null)
+      {
+        this.appendLoggerNameIfSet(buffer);
+        buffer.append(stackTrace);
+      }
+      return buffer.toString();
+    }
+  }
+}
@@ -0,0 +1,83 @@
+// ===========================================================================
+// CONTENT  : INTERFACE BinaryLogFormat
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.1 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//  18/10/2026  mdu  added   --> INLINE_RECORD (format version 2)
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging.binary;
+
+/**
+ * Defines the constants of the binary log format written by {@link BinaryLogWriter}
+ * and read by {@link BinaryLogDecoder}.
+ * <p>
+ * A binary log is a sequence of entries. Each entry starts with a tag byte.
+ * All numbers are big-endian. Strings are written as int length (-1 for null) 
+ * followed by the UTF-8 bytes.
+ * <ul>
+ * <li>HEADER: tag, int magic, short version, string locale, string time zone ID.
+ *     Starts each session. All IDs defined before become invalid.</li>
+ * <li>TEMPLATE: tag, int ID, byte template kind, string template</li>
+ * <li>NAME: tag, int ID, string logger name</li>
+ * <li>RECORD: tag, int template ID (0 = no message), int name ID, byte level, 
+ *     long timestamp, int argument count, the arguments (each a type byte 
+ *     followed by the value), byte 1 followed by the string of an exception's 
+ *     stack trace or byte 0</li>
+ * <li>INLINE_RECORD: tag, byte template kind, string template, int name ID, 
+ *     followed by the same data as a RECORD starting with the level. Used for 
+ *     messages without arguments and if the number of template IDs is exhausted.</li>
+ * </ul>
+ * A template or name definition always precedes the first record that uses its ID.
+ *
+ * @author Manfred Duchrow
+ * @version 1.1
+ */
+public interface BinaryLogFormat
+{
+  /**
+   * "PFBL"
+   */
+  public static final int MAGIC = 0x5046424C;
+  public static final short VERSION = 2;
+
+  public static final byte TAG_HEADER = 'H';
+  public static final byte TAG_TEMPLATE = 'T';
+  public static final byte TAG_NAME = 'N';
+  public static final byte TAG_RECORD = 'R';
+  public static final byte TAG_INLINE_RECORD = 'L';
+
+  /**
+   * A template with placeholders like {0} (see java.text.MessageFormat).
+   */
+  public static final byte KIND_MESSAGE_FORMAT = 'M';
+  /**
+   * A template with printf style placeholders like %s (see java.util.Formatter).
+   */
+  public static final byte KIND_PRINTF = 'P';
+
+  public static final byte TYPE_NULL = 0;
+  public static final byte TYPE_STRING = 1;
+  public static final byte TYPE_INTEGER = 2;
+  public static final byte TYPE_LONG = 3;
+  public static final byte TYPE_DOUBLE = 4;
+  public static final byte TYPE_FLOAT = 5;
+  public static final byte TYPE_SHORT = 6;
+  public static final byte TYPE_BYTE = 7;
+  public static final byte TYPE_BOOLEAN = 8;
+  public static final byte TYPE_CHARACTER = 9;
+  /**
+   * A java.util.Date as long milliseconds.
+   */
+  public static final byte TYPE_DATE = 10;
+  /**
+   * A java.math.BigDecimal as string.
+   */
+  public static final byte TYPE_BIG_DECIMAL = 11;
+  /**
+   * A java.math.BigInteger as string.
+   */
+  public static final byte TYPE_BIG_INTEGER = 12;
+}
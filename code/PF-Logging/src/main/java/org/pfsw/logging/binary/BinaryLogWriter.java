@@ -0,0 +1,496 @@
+// ===========================================================================
+// CONTENT  : CLASS BinaryLogWriter
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.1 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//  18/10/2026  mdu  changed --> bounded template dictionary, inline records
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging.binary;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.Charset;
+import java.util.Date;
+import java.util.Formattable;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.pfsw.logging.internal.LazyArguments;
+import org.pfsw.logging.internal.PrintfTemplate;
+import org.pfsw.logging.stdout.BufferedFileSink;
+import org.pfsw.logging.stdout.PrintStreamLogger;
+
+/**
+ * Writes log records in the compact binary format defined by {@link BinaryLogFormat}
+ * to a {@link BufferedFileSink}.
+ * <p>
+ * Messages are not formatted. Instead each template and each logger name
+ * gets an ID on first use and each record contains only these IDs, the level, 
+ * the timestamp and the arguments in binary form. Arguments of types 
+ * that are not part of the format get converted to a string. 
+ * The text is created later by the {@link BinaryLogDecoder}.
+ * <p>
+ * Messages without arguments (typically built by concatenation) get written
+ * as inline records that contain the text itself instead of a template ID. 
+ * The number of template IDs is limited (see {@link #DEFAULT_MAX_TEMPLATES}). 
+ * When that limit is reached, records of new templates are written inline, too. 
+ * So the memory of the writer stays bounded in long running processes.
+ *
+ * @author Manfred Duchrow
+ * @version 1.1
+ */
+public class BinaryLogWriter implements BinaryLogFormat
+{
+  // =========================================================================
+  // CONSTANTS
+  // =========================================================================
+  /**
+   * The default maximum number of templates that get an ID.
+   */
+  public static final int DEFAULT_MAX_TEMPLATES = 4096;
+
+  private static final Charset UTF8 = Charset.forName("UTF-8");
+  private static final int RECORD_PREFIX_SIZE = 9;
+  private static final int MAX_RETAINED_BUFFER_SIZE = 16 * 1024;
+
+  // =========================================================================
+  // INSTANCE VARIABLES
+  // =========================================================================
+  private final BufferedFileSink sink;
+  private final int maxTemplates;
+  private final Map<String, Integer> messageFormatIds = new HashMap<String, Integer>();
+  private final Map<String, Integer> printfIds = new HashMap<String, Integer>();
+  private final Map<String, Integer> nameIds = new HashMap<String, Integer>();
+  private final RecordBuffer definitionBuffer = new RecordBuffer();
+  private int nextId = 1;
+  private final ThreadLocal<RecordBuffer> recordBuffers = new ThreadLocal<RecordBuffer>();
+
+  // =========================================================================
+  // CONSTRUCTORS
+  // =========================================================================
+  /**
+   * Creates a new writer and writes the header with the default locale
+   * and time zone to the given sink.
+   */
+  public BinaryLogWriter(BufferedFileSink sink)
+  {
+    this(sink, DEFAULT_MAX_TEMPLATES);
+  }
+
+  /**
+   * Creates a new writer that assigns IDs to at most the given number 
+   * of templates and writes the header with the default locale and 
+   * time zone to the given sink.
+   */
+  public BinaryLogWriter(BufferedFileSink sink, int maxTemplates)
+  {
+    super();
+    this.sink = sink;
+    this.maxTemplates = Math.max(0, maxTemplates);
+    this.writeHeader();
+  }
+
+  // =========================================================================
+  // PUBLIC INSTANCE METHODS
+  // =========================================================================
+  /**
+   * Writes one record.
+   * 
+   * @param level The level (one of the PrintStreamLogger.LEVEL_ constants).
+   * @param loggerName The name of the logger.
+   * @param kind The kind of the template ({@link #KIND_MESSAGE_FORMAT} or {@link #KIND_PRINTF}).
+   * @param template The message template (null for a record with only an exception).
+   * @param params The parameters for the template.
+   * @param exception An optional exception.
+   */
+  public void writeRecord(int level, String loggerName, byte kind, String template, Object[] params, Throwable exception)
+  {
+    RecordBuffer buffer;
+    Object[] args = LazyArguments.resolve(params);
+    String text = template;
+    byte templateKind = kind;
+    int templateId;
+
+    if ((kind == KIND_PRINTF) && (template != null) && this.containsFormattable(args))
+    {
+      text = PrintfTemplate.compile(template).format(args);
+      templateKind = KIND_MESSAGE_FORMAT;
+      args = new Object[0];
+    }
+    buffer = this.acquireBuffer();
+    try
+    {
+      buffer.writeZeros(RECORD_PREFIX_SIZE);
+      buffer.data.writeByte(level);
+      buffer.data.writeLong(System.currentTimeMillis());
+      buffer.data.writeInt(args.length);
+      for (Object arg : args)
+      {
+        this.writeArgument(buffer, arg, templateKind);
+      }
+      if (exception == null)
+      {
+        buffer.data.writeByte(0);
+      }
+      else
+      {
+        buffer.data.writeByte(1);
+        buffer.writeString(this.getStackTrace(exception));
+      }
+      synchronized (this)
+      {
+        templateId = (text == null) ? 0 : this.getTemplateId(templateKind, text, args.length > 0);
+        if (templateId < 0)
+        {
+          this.writeInlineRecord(level, templateKind, text, this.getNameId(loggerName), buffer);
+        }
+        else
+        {
+          buffer.setByte(0, TAG_RECORD);
+          buffer.setInt(1, templateId);
+          buffer.setInt(5, this.getNameId(loggerName));
+          this.sink.write(level, buffer.getBuffer(), 0, buffer.size());
+        }
+      }
+    }
+    catch (IOException ex)
+    {
+      // Cannot happen with an in-memory stream
+      throw new IllegalStateException(ex);
+    }
+    finally
+    {
+      this.releaseBuffer(buffer);
+    }
+  }
+
+  public void flush()
+  {
+    this.sink.flush();
+  }
+
+  public void close()
+  {
+    this.sink.close();
+  }
+
+  public BufferedFileSink getSink()
+  {
+    return this.sink;
+  }
+
+  public int getMaxTemplates()
+  {
+    return this.maxTemplates;
+  }
+
+  /**
+   * Returns the number of templates that got an ID so far.
+   */
+  public synchronized int getTemplateCount()
+  {
+    return this.messageFormatIds.size() + this.printfIds.size();
+  }
+
+  // =========================================================================
+  // PROTECTED INSTANCE METHODS
+  // =========================================================================
+  /**
+   * Returns the ID of the given template. A new ID gets defined in the log
+   * on first use, unless the template has no arguments or the maximum 
+   * number of templates is reached. Must be called while holding the lock 
+   * of this writer.
+   * 
+   * @return The ID or -1 if the record must be written inline.
+   */
+  protected int getTemplateId(byte kind, String template, boolean hasArguments) throws IOException
+  {
+    Map<String, Integer> ids = (kind == KIND_PRINTF) ? this.printfIds : this.messageFormatIds;
+    Integer id;
+
+    id = ids.get(template);
+    if (id == null)
+    {
+      if (!hasArguments || ((this.messageFormatIds.size() + this.printfIds.size()) >= this.maxTemplates))
+      {
+        return -1;
+      }
+      id = Integer.valueOf(this.nextId++);
+      ids.put(template, id);
+      this.definitionBuffer.reset();
+      this.definitionBuffer.data.writeByte(TAG_TEMPLATE);
+      this.definitionBuffer.data.writeInt(id.intValue());
+      this.definitionBuffer.data.writeByte(kind);
+      this.definitionBuffer.writeString(template);
+      this.writeDefinition();
+    }
+    return id.intValue();
+  }
+
+  /**
+   * Returns the ID of the given logger name. A new ID gets defined in the log
+   * on first use. Must be called while holding the lock of this writer.
+   */
+  protected int getNameId(String name) throws IOException
+  {
+    Integer id;
+
+    id = this.nameIds.get(name);
+    if (id == null)
+    {
+      id = Integer.valueOf(this.nextId++);
+      this.nameIds.put(name, id);
+      this.definitionBuffer.reset();
+      this.definitionBuffer.data.writeByte(TAG_NAME);
+      this.definitionBuffer.data.writeInt(id.intValue());
+      this.definitionBuffer.writeString(name);
+      this.writeDefinition();
+    }
+    return id.intValue();
+  }
+
+  protected synchronized void writeHeader()
+  {
+    try
+    {
+      this.definitionBuffer.reset();
+      this.definitionBuffer.data.writeByte(TAG_HEADER);
+      this.definitionBuffer.data.writeInt(MAGIC);
+      this.definitionBuffer.data.writeShort(VERSION);
+      this.definitionBuffer.writeString(Locale.getDefault().toString());
+      this.definitionBuffer.writeString(TimeZone.getDefault().getID());
+      this.writeDefinition();
+    }
+    catch (IOException ex)
+    {
+      throw new IllegalStateException(ex);
+    }
+  }
+
+  protected String getStackTrace(Throwable exception)
+  {
+    StringWriter writer = new StringWriter();
+
+    exception.printStackTrace(new PrintWriter(writer));
+    return writer.toString();
+  }
+
+  // =========================================================================
+  // PRIVATE INSTANCE METHODS
+  // =========================================================================
+  private void writeArgument(RecordBuffer buffer, Object arg, byte kind) throws IOException
+  {
+    boolean printf = (kind == KIND_PRINTF);
+
+    if (arg == null)
+    {
+      buffer.data.writeByte(TYPE_NULL);
+    }
+    else if (arg instanceof String)
+    {
+      buffer.data.writeByte(TYPE_STRING);
+      buffer.writeString((String)arg);
+    }
+    else if (arg instanceof Integer)
+    {
+      buffer.data.writeByte(TYPE_INTEGER);
+      buffer.data.writeInt(((Integer)arg).intValue());
+    }
+    else if ((arg instanceof Long) || (!printf && ((arg instanceof AtomicLong) || (arg instanceof AtomicInteger))))
+    {
+      buffer.data.writeByte(TYPE_LONG);
+      buffer.data.writeLong(((Number)arg).longValue());
+    }
+    else if (arg instanceof Double)
+    {
+      buffer.data.writeByte(TYPE_DOUBLE);
+      buffer.data.writeDouble(((Double)arg).doubleValue());
+    }
+    else if (arg instanceof Float)
+    {
+      buffer.data.writeByte(TYPE_FLOAT);
+      buffer.data.writeFloat(((Float)arg).floatValue());
+    }
+    else if (arg instanceof Short)
+    {
+      buffer.data.writeByte(TYPE_SHORT);
+      buffer.data.writeShort(((Short)arg).shortValue());
+    }
+    else if (arg instanceof Byte)
+    {
+      buffer.data.writeByte(TYPE_BYTE);
+      buffer.data.writeByte(((Byte)arg).byteValue());
+    }
+    else if (arg instanceof Boolean)
+    {
+      buffer.data.writeByte(TYPE_BOOLEAN);
+      buffer.data.writeBoolean(((Boolean)arg).booleanValue());
+    }
+    else if (arg instanceof Character)
+    {
+      buffer.data.writeByte(TYPE_CHARACTER);
+      buffer.data.writeChar(((Character)arg).charValue());
+    }
+    else if (arg instanceof BigDecimal)
+    {
+      buffer.data.writeByte(TYPE_BIG_DECIMAL);
+      buffer.writeString(arg.toString());
+    }
+    else if (arg instanceof BigInteger)
+    {
+      buffer.data.writeByte(TYPE_BIG_INTEGER);
+      buffer.writeString(arg.toString());
+    }
+    else if ((arg instanceof Date) && (!printf || (arg.getClass() == Date.class)))
+    {
+      buffer.data.writeByte(TYPE_DATE);
+      buffer.data.writeLong(((Date)arg).getTime());
+    }
+    else if (!printf && (arg instanceof Number))
+    {
+      buffer.data.writeByte(TYPE_DOUBLE);
+      buffer.data.writeDouble(((Number)arg).doubleValue());
+    }
+    else
+    {
+      buffer.data.writeByte(TYPE_STRING);
+      buffer.writeString(String.valueOf(arg));
+    }
+  }
+
+  /**
+   * Writes a record that contains the template itself instead of its ID,
+   * followed by the data of the given record buffer. 
+   * Must be called while holding the lock of this writer.
+   */
+  private void writeInlineRecord(int level, byte kind, String template, int nameId, RecordBuffer record) throws IOException
+  {
+    this.definitionBuffer.reset();
+    this.definitionBuffer.data.writeByte(TAG_INLINE_RECORD);
+    this.definitionBuffer.data.writeByte(kind);
+    this.definitionBuffer.writeString(template);
+    this.definitionBuffer.data.writeInt(nameId);
+    this.definitionBuffer.write(record.getBuffer(), RECORD_PREFIX_SIZE, record.size() - RECORD_PREFIX_SIZE);
+    this.sink.write(level, this.definitionBuffer.getBuffer(), 0, this.definitionBuffer.size());
+    if (this.definitionBuffer.getBuffer().length > MAX_RETAINED_BUFFER_SIZE)
+    {
+      this.definitionBuffer.shrink();
+    }
+  }
+
+  private void writeDefinition()
+  {
+    this.sink.write(PrintStreamLogger.LEVEL_DEBUG, this.definitionBuffer.getBuffer(), 0, this.definitionBuffer.size());
+  }
+
+  private boolean containsFormattable(Object[] args)
+  {
+    for (Object arg : args)
+    {
+      if (arg instanceof Formattable)
+      {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private RecordBuffer acquireBuffer()
+  {
+    RecordBuffer buffer;
+
+    buffer = this.recordBuffers.get();
+    if (buffer == null)
+    {
+      return new RecordBuffer();
+    }
+    this.recordBuffers.set(null);
+    buffer.reset();
+    return buffer;
+  }
+
+  private void releaseBuffer(RecordBuffer buffer)
+  {
+    if (buffer.getBuffer().length <= MAX_RETAINED_BUFFER_SIZE)
+    {
+      this.recordBuffers.set(buffer);
+    }
+  }
+
+  // =========================================================================
+  // INNER CLASSES
+  // =========================================================================
+  /**
+   * A growing byte array with data output methods.
+   */
+  private static class RecordBuffer extends ByteArrayOutputStream
+  {
+    private final DataOutputStream data = new DataOutputStream(this);
+
+    RecordBuffer()
+    {
+      super(256);
+    }
+
+    byte[] getBuffer()
+    {
+      return this.buf;
+    }
+
+    void writeString(String string) throws IOException
+    {
+      byte[] bytes;
+
+      if (string == null)
+      {
+        this.data.writeInt(-1);
+        return;
+      }
+      bytes = string.getBytes(UTF8);
+      this.data.writeInt(bytes.length);
+      this.data.write(bytes);
+    }
+
+    /**
+     * Replaces the internal array by a small one.
+     */
+    void shrink()
+    {
+      this.buf = new byte[256];
+      this.count = 0;
+    }
+
+    void writeZeros(int count)
+    {
+      for (int i = 0; i < count; i++)
+      {
+        this.write(0);
+      }
+    }
+
+    void setByte(int offset, byte value)
+    {
+      this.buf[offset] = value;
+    }
+
+    void setInt(int offset, int value)
+    {
+      this.buf[offset] = (byte)(value >>> 24);
+      this.buf[offset + 1] = (byte)(value >>> 16);
+      this.buf[offset + 2] = (byte)(value >>> 8);
+      this.buf[offset + 3] = (byte)value;
+    }
+  }
+}
@@ -0,0 +1,119 @@
+// ===========================================================================
+// CONTENT  : CLASS BinaryLogger
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.0 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging.binary;
+
+import org.pfsw.logging.LogLevel;
+import org.pfsw.logging.internal.LazyArguments;
+import org.pfsw.logging.internal.PrintfTemplate;
+import org.pfsw.logging.internal.PrintfTemplateLogger;
+import org.pfsw.logging.stdout.PrintStreamLogger;
+
+/**
+ * A logger that writes its records unformatted via a {@link BinaryLogWriter}.
+ * <p>
+ * Log levels are handled exactly like in {@link PrintStreamLogger}. 
+ * The {@link BinaryLogDecoder} produces the same text a {@link PrintStreamLogger} 
+ * with the same name would have written. 
+ * Printf style templates of {@link org.pfsw.logging.Logger2} are also written 
+ * unformatted.
+ * <p>
+ * Without a writer the records get written like by a {@link PrintStreamLogger}.
+ *
+ * @author Manfred Duchrow
+ * @version 1.0
+ */
+public class BinaryLogger extends PrintStreamLogger implements PrintfTemplateLogger
+{
+  // =========================================================================
+  // INSTANCE VARIABLES
+  // =========================================================================
+  private final BinaryLogWriter writer;
+
+  // =========================================================================
+  // CONSTRUCTORS
+  // =========================================================================
+  /**
+   * Creates a new logger.
+   * 
+   * @param loggerName The name of the logger.
+   * @param writer The writer of the binary log (might be null).
+   */
+  public BinaryLogger(String loggerName, BinaryLogWriter writer)
+  {
+    super(loggerName);
+    this.writer = writer;
+  }
+
+  // =========================================================================
+  // PUBLIC INSTANCE METHODS
+  // =========================================================================
+  @Override
+  public void logPrintf(LogLevel level, Throwable exception, String template, Object[] params)
+  {
+    int printLevel = toPrintLevel(level);
+
+    if (getWriter() == null)
+    {
+      printRecord(printLevel, getLogMessage(template, params), exception);
+      return;
+    }
+    getWriter().writeRecord(printLevel, getName(), BinaryLogFormat.KIND_PRINTF, template, params, exception);
+  }
+
+  public BinaryLogWriter getWriter()
+  {
+    return this.writer;
+  }
+
+  // =========================================================================
+  // PROTECTED INSTANCE METHODS
+  // =========================================================================
+  @Override
+  protected void println(int level, String text, Object... params)
+  {
+    if (getWriter() == null)
+    {
+      super.println(level, text, params);
+      return;
+    }
+    getWriter().writeRecord(level, getName(), BinaryLogFormat.KIND_MESSAGE_FORMAT, text, params, null);
+  }
+
+  @Override
+  protected void printRecord(int level, String message, Throwable exception)
+  {
+    if (getWriter() == null)
+    {
+      super.printRecord(level, message, exception);
+      return;
+    }
+    getWriter().writeRecord(level, getName(), BinaryLogFormat.KIND_MESSAGE_FORMAT, message, NO_PARAMS, exception);
+  }
+
+  protected String getLogMessage(String template, Object[] params)
+  {
+    return PrintfTemplate.compile(template).format(LazyArguments.resolve(params));
+  }
+
+  protected int toPrintLevel(LogLevel level)
+  {
+    switch (level)
+    {
+      case DEBUG:
+        return LEVEL_DEBUG;
+      case INFO:
+        return LEVEL_INFO;
+      case WARN:
+        return LEVEL_WARN;
+      default:
+        return LEVEL_ERROR;
+    }
+  }
+}
@@ -0,0 +1,131 @@
+// ===========================================================================
+// CONTENT  : CLASS BinaryLoggerFactory
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.0 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging.binary;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.pfsw.logging.Logger;
+import org.pfsw.logging.LoggerFactory;
+import org.pfsw.logging.stdout.BufferedFileSink;
+
+/**
+ * This factory produces {@link BinaryLogger} instances that all write to 
+ * the same binary log file. Use {@link BinaryLogDecoder} to convert it to text.
+ * <p>
+ * The file can be defined by the system properties {@link #PROP_FILE} 
+ * and {@link #PROP_APPEND}. It gets opened when the first logger is created. 
+ * If that fails, the loggers write text to stdout.
+ *
+ * @author Manfred Duchrow
+ * @version 1.0
+ */
+public class BinaryLoggerFactory implements LoggerFactory
+{
+  // =========================================================================
+  // CONSTANTS
+  // =========================================================================
+  public static final String LOGGER_TYPE = "BINARY";
+
+  /**
+   * The system property that defines the binary log file (default is "pf-logging.pfbl").
+   * <p>"org.pfsw.logging.binary.file"<p>
+   */
+  public static final String PROP_FILE = "org.pfsw.logging.binary.file";
+  /**
+   * The system property that defines whether the records get appended to
+   * an existing file (default is "false").
+   * <p>"org.pfsw.logging.binary.append"<p>
+   */
+  public static final String PROP_APPEND = "org.pfsw.logging.binary.append";
+
+  private static final String DEFAULT_FILE = "pf-logging.pfbl";
+
+  // =========================================================================
+  // INSTANCE VARIABLES
+  // =========================================================================
+  private final File file;
+  private final boolean append;
+  private BinaryLogWriter writer = null;
+  private boolean writerFailed = false;
+
+  // =========================================================================
+  // CONSTRUCTORS
+  // =========================================================================
+  /**
+   * Creates a new factory configured by the system properties.
+   */
+  public BinaryLoggerFactory()
+  {
+    this(new File(System.getProperty(PROP_FILE, DEFAULT_FILE)), Boolean.getBoolean(PROP_APPEND));
+  }
+
+  public BinaryLoggerFactory(File file, boolean append)
+  {
+    super();
+    this.file = file;
+    this.append = append;
+  }
+
+  // =========================================================================
+  // PUBLIC INSTANCE METHODS
+  // =========================================================================
+  @Override
+  public String getName()
+  {
+    return LOGGER_TYPE;
+  }
+
+  @Override
+  public Logger createLogger()
+  {
+    return getLogger(Logger.ANONYMOUS_LOGGER_NAME);
+  }
+
+  @Override
+  public Logger getLogger(Class<?> clazz)
+  {
+    return getLogger(clazz.getName());
+  }
+
+  @Override
+  public Logger getLogger(String loggerName)
+  {
+    return new BinaryLogger(loggerName, getWriter());
+  }
+
+  // =========================================================================
+  // PROTECTED INSTANCE METHODS
+  // =========================================================================
+  /**
+   * Returns the shared writer which gets opened on the first call.
+   * 
+   * @return The writer or null if the file cannot be opened.
+   */
+  protected synchronized BinaryLogWriter getWriter()
+  {
+    BufferedFileSink sink;
+
+    if ((this.writer == null) && !this.writerFailed)
+    {
+      try
+      {
+        sink = new BufferedFileSink(this.file, this.append, BufferedFileSink.DEFAULT_BUFFER_SIZE, BufferedFileSink.DEFAULT_FLUSH_INTERVAL, true);
+        this.writer = new BinaryLogWriter(sink);
+      }
+      catch (IOException ex)
+      {
+        this.writerFailed = true;
+        new BinaryLogger(getName(), null).logError("Failed to open binary log file " + this.file, ex);
+      }
+    }
+    return this.writer;
+  }
+}
@@ -0,0 +1,49 @@
+// ===========================================================================
+// CONTENT  : ENUM BufferOverflowPolicy
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.0 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging.deferred;
+
+/**
+ * Specifies what happens if a log record should be added to a full 
+ * {@link PreBindingBuffer}.
+ *
+ * @author Manfred Duchrow
+ * @version 1.0
+ */
+public enum BufferOverflowPolicy
+{
+  /**
+   * The oldest record in the buffer gets discarded to make room for the new one.
+   */
+  DROP_OLDEST,
+  /**
+   * The new record gets discarded.
+   */
+  DROP_NEWEST;
+
+  /**
+   * Returns the policy that matches the given name (case-insensitive)
+   * or null if no match found.
+   */
+  public static BufferOverflowPolicy getByName(String name)
+  {
+    if (name == null)
+    {
+      return null;
+    }
+    for (BufferOverflowPolicy policy : values())
+    {
+      if (policy.name().equalsIgnoreCase(name.trim()))
+      {
+        return policy;
+      }
+    }
+    return null;
+  }
+}
@@ -0,0 +1,69 @@
+// ===========================================================================
+// CONTENT  : CLASS BufferedLogRecord
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.0 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging.deferred;
+
+/**
+ * A log record that has been written before the desired logger binding
+ * was available. The message is already completely formatted.
+ *
+ * @author Manfred Duchrow
+ * @version 1.0
+ */
+class BufferedLogRecord
+{
+  // =========================================================================
+  // INSTANCE VARIABLES
+  // =========================================================================
+  private final BufferingLogger source;
+  private final int level;
+  private final String message;
+  private final Throwable exception;
+
+  // =========================================================================
+  // CONSTRUCTORS
+  // =========================================================================
+  /**
+   * @param source The logger that produced the record.
+   * @param level One of the PrintStreamLogger.LEVEL_ constants.
+   * @param message The formatted message or null for a plain exception.
+   * @param exception An optional exception.
+   */
+  BufferedLogRecord(BufferingLogger source, int level, String message, Throwable exception)
+  {
+    super();
+    this.source = source;
+    this.level = level;
+    this.message = message;
+    this.exception = exception;
+  }
+
+  // =========================================================================
+  // PUBLIC INSTANCE METHODS
+  // =========================================================================
+  public BufferingLogger getSource()
+  {
+    return this.source;
+  }
+
+  public int getLevel()
+  {
+    return this.level;
+  }
+
+  public String getMessage()
+  {
+    return this.message;
+  }
+
+  public Throwable getException()
+  {
+    return this.exception;
+  }
+}
@@ -0,0 +1,162 @@
+// ===========================================================================
+// CONTENT  : CLASS BufferingLogger
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.2 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//  18/10/2026  mdu  changed --> flush output after writing a record to the fallback
+//  18/10/2026  mdu  added   --> deliver() to a given target logger
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging.deferred;
+
+import org.pfsw.logging.Logger;
+import org.pfsw.logging.stdout.PrintStreamLogger;
+
+/**
+ * The substitute logger of a {@link DeferredInitializationLoggerAdapter}
+ * that keeps all log output in a {@link PreBindingBuffer} until the desired
+ * logger binding is available.
+ * <p>
+ * Log levels are handled exactly like in {@link PrintStreamLogger}, which
+ * is also used for the output if the buffer never gets replayed. 
+ *
+ * @author Manfred Duchrow
+ * @version 1.2
+ */
+class BufferingLogger extends PrintStreamLogger
+{
+  // =========================================================================
+  // INSTANCE VARIABLES
+  // =========================================================================
+  private final DeferredInitializationLoggerAdapter owner;
+  private final PreBindingBuffer buffer;
+
+  // =========================================================================
+  // CONSTRUCTORS
+  // =========================================================================
+  BufferingLogger(DeferredInitializationLoggerAdapter owner, PreBindingBuffer buffer)
+  {
+    super(owner.getLoggerName());
+    this.owner = owner;
+    this.buffer = buffer;
+  }
+
+  // =========================================================================
+  // PUBLIC INSTANCE METHODS
+  // =========================================================================
+  @Override
+  public void logException(Throwable ex)
+  {
+    this.add(new BufferedLogRecord(this, LEVEL_ERROR, null, ex));
+  }
+
+  @Override
+  public void logWarning(String message, Throwable exception)
+  {
+    if (isLoggingWarnings())
+    {
+      this.add(new BufferedLogRecord(this, LEVEL_WARN, message, exception));
+    }
+  }
+
+  @Override
+  public void logError(String message, Throwable exception)
+  {
+    if (isLoggingErrors())
+    {
+      this.add(new BufferedLogRecord(this, LEVEL_ERROR, message, exception));
+    }
+  }
+
+  // =========================================================================
+  // PROTECTED INSTANCE METHODS
+  // =========================================================================
+  @Override
+  protected void println(int level, String text, Object... params)
+  {
+    this.add(new BufferedLogRecord(this, level, replacePlaceholders(text, params), null));
+  }
+
+  protected void add(BufferedLogRecord record)
+  {
+    if (!this.getBuffer().add(record))
+    {
+      this.deliver(record);
+    }
+  }
+
+  /**
+   * Passes the given record to the logger the owner is currently bound to.
+   */
+  protected void deliver(BufferedLogRecord record)
+  {
+    this.deliver(record, this.getOwner().getTargetLogger());
+  }
+
+  /**
+   * Passes the given record to the given target logger.
+   */
+  protected void deliver(BufferedLogRecord record, Logger target)
+  {
+    if (target == this)
+    {
+      this.printToFallback(record);
+      return;
+    }
+    if (record.getMessage() == null)
+    {
+      target.logException(record.getException());
+      return;
+    }
+    switch (record.getLevel())
+    {
+      case LEVEL_DEBUG:
+        target.logDebug(record.getMessage());
+        break;
+      case LEVEL_INFO:
+        target.logInfo(record.getMessage());
+        break;
+      case LEVEL_WARN:
+        if (record.getException() == null)
+        {
+          target.logWarning(record.getMessage());
+        }
+        else
+        {
+          target.logWarning(record.getMessage(), record.getException());
+        }
+        break;
+      default:
+        if (record.getException() == null)
+        {
+          target.logError(record.getMessage());
+        }
+        else
+        {
+          target.logError(record.getMessage(), record.getException());
+        }
+        break;
+    }
+  }
+
+  /**
+   * Writes the given record to the print stream of this logger and flushes it.
+   */
+  protected void printToFallback(BufferedLogRecord record)
+  {
+    this.printRecord(record.getLevel(), record.getMessage(), record.getException());
+    this.flushOutput();
+  }
+
+  protected DeferredInitializationLoggerAdapter getOwner()
+  {
+    return this.owner;
+  }
+
+  protected PreBindingBuffer getBuffer()
+  {
+    return this.buffer;
+  }
+}
@@ -0,0 +1,270 @@
+// ===========================================================================
+// CONTENT  : CLASS DeferredBindingRegistry
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.1 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//  18/10/2026  mdu  changed --> replay buffer before the adapters switch their targets
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging.deferred;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.pfsw.logging.LoggerFactory;
+import org.pfsw.logging.LoggerFactoryProvider;
+import org.pfsw.logging.LoggerFactoryRegistrationListener;
+
+/**
+ * Keeps all {@link DeferredInitializationLoggerAdapter} instances that are 
+ * still waiting for their desired logger factory and binds them as soon as
+ * that factory gets registered.
+ * <p>
+ * The adapters are only weakly referenced, so waiting does not prevent 
+ * them from being garbage collected.
+ * <p>
+ * If buffering is enabled, it also provides one {@link PreBindingBuffer} per 
+ * desired logger type. Such a buffer gets replayed before the adapters 
+ * switch to their real loggers, so no new record can overtake a buffered one.
+ * Buffers get flushed to stdout at shutdown if they were never replayed.
+ *
+ * @author Manfred Duchrow
+ * @version 1.1
+ */
+class DeferredBindingRegistry implements LoggerFactoryRegistrationListener
+{
+  // =========================================================================
+  // CONSTANTS
+  // =========================================================================
+  /**
+   * The number of additions after which collected adapters get removed.
+   */
+  private static final int PURGE_INTERVAL = 1000;
+  private static final DeferredBindingRegistry INSTANCE = new DeferredBindingRegistry();
+
+  static
+  {
+    LoggerFactoryProvider.addRegistrationListener(INSTANCE);
+  }
+
+  // =========================================================================
+  // INSTANCE VARIABLES
+  // =========================================================================
+  private final ConcurrentMap<String, Queue<WeakReference<DeferredInitializationLoggerAdapter>>> pendingAdapters = new ConcurrentHashMap<String, Queue<WeakReference<DeferredInitializationLoggerAdapter>>>();
+  private final AtomicInteger additionCounter = new AtomicInteger();
+  private final ConcurrentMap<String, PreBindingBuffer> buffers = new ConcurrentHashMap<String, PreBindingBuffer>();
+  private boolean shutdownHookRegistered = false;
+
+  // =========================================================================
+  // CLASS METHODS
+  // =========================================================================
+  static DeferredBindingRegistry getInstance()
+  {
+    return INSTANCE;
+  }
+
+  // =========================================================================
+  // CONSTRUCTORS
+  // =========================================================================
+  private DeferredBindingRegistry()
+  {
+    super();
+  }
+
+  // =========================================================================
+  // PUBLIC INSTANCE METHODS
+  // =========================================================================
+  @Override
+  public void loggerFactoryRegistered(LoggerFactory loggerFactory)
+  {
+    Queue<WeakReference<DeferredInitializationLoggerAdapter>> adapters;
+    PreBindingBuffer buffer;
+
+    adapters = this.pendingAdapters.remove(loggerFactory.getName());
+    buffer = this.buffers.get(loggerFactory.getName());
+    if (buffer == null)
+    {
+      this.bindAll(adapters, loggerFactory);
+      return;
+    }
+    // Log calls of buffering loggers wait on the buffer until replay and binding are done
+    synchronized (buffer)
+    {
+      buffer.replay(loggerFactory);
+      this.bindAll(adapters, loggerFactory);
+    }
+  }
+
+  /**
+   * Returns the buffer for log records of loggers waiting for the given 
+   * logger type or null if buffering is not enabled.
+   * A new buffer gets created with the settings from the system properties
+   * {@link DeferredInitializationLoggerFactory#PROP_BUFFER_SIZE} and 
+   * {@link DeferredInitializationLoggerFactory#PROP_BUFFER_OVERFLOW}.
+   */
+  public PreBindingBuffer getBuffer(String loggerType)
+  {
+    PreBindingBuffer buffer;
+    PreBindingBuffer existing;
+    int size;
+
+    buffer = this.buffers.get(loggerType);
+    if (buffer == null)
+    {
+      size = this.getBufferSize();
+      if (size <= 0)
+      {
+        return null;
+      }
+      buffer = new PreBindingBuffer(size, BufferOverflowPolicy.getByName(System.getProperty(DeferredInitializationLoggerFactory.PROP_BUFFER_OVERFLOW)));
+      existing = this.buffers.putIfAbsent(loggerType, buffer);
+      if (existing != null)
+      {
+        return existing;
+      }
+      this.ensureShutdownHook();
+    }
+    return buffer;
+  }
+
+  /**
+   * Writes the content of all buffers that have not been replayed yet to
+   * the fallback output.
+   */
+  public void flushBuffers()
+  {
+    List<PreBindingBuffer> pending;
+
+    pending = new ArrayList<PreBindingBuffer>(this.buffers.values());
+    for (PreBindingBuffer buffer : pending)
+    {
+      buffer.flushToFallback();
+    }
+  }
+
+  /**
+   * Adds the given adapter to the adapters that are waiting for the 
+   * logger factory of their desired type.
+   */
+  public void add(DeferredInitializationLoggerAdapter adapter)
+  {
+    Queue<WeakReference<DeferredInitializationLoggerAdapter>> adapters;
+    Queue<WeakReference<DeferredInitializationLoggerAdapter>> existing;
+
+    adapters = this.pendingAdapters.get(adapter.getDesiredLoggerType());
+    if (adapters == null)
+    {
+      adapters = new ConcurrentLinkedQueue<WeakReference<DeferredInitializationLoggerAdapter>>();
+      existing = this.pendingAdapters.putIfAbsent(adapter.getDesiredLoggerType(), adapters);
+      if (existing != null)
+      {
+        adapters = existing;
+      }
+    }
+    adapters.add(new WeakReference<DeferredInitializationLoggerAdapter>(adapter));
+    if ((this.additionCounter.incrementAndGet() % PURGE_INTERVAL) == 0)
+    {
+      purge(adapters);
+    }
+  }
+
+  /**
+   * Returns the number of adapters waiting for the given logger type.
+   */
+  public int countPending(String loggerType)
+  {
+    Queue<WeakReference<DeferredInitializationLoggerAdapter>> adapters;
+
+    adapters = this.pendingAdapters.get(loggerType);
+    return (adapters == null) ? 0 : adapters.size();
+  }
+
+  // =========================================================================
+  // PROTECTED INSTANCE METHODS
+  // =========================================================================
+  protected int getBufferSize()
+  {
+    String value;
+
+    value = System.getProperty(DeferredInitializationLoggerFactory.PROP_BUFFER_SIZE);
+    if (value != null)
+    {
+      try
+      {
+        return Integer.parseInt(value.trim());
+      }
+      catch (NumberFormatException ex)
+      {
+        // No buffering then
+      }
+    }
+    return 0;
+  }
+
+  protected synchronized void ensureShutdownHook()
+  {
+    if (this.shutdownHookRegistered)
+    {
+      return;
+    }
+    try
+    {
+      Runtime.getRuntime().addShutdownHook(new Thread("pf-logging-deferred-flush")
+      {
+        @Override
+        public void run()
+        {
+          flushBuffers();
+        }
+      });
+      this.shutdownHookRegistered = true;
+    }
+    catch (IllegalStateException ex)
+    {
+      // Shutdown is already in progress
+    }
+  }
+
+  protected void bindAll(Queue<WeakReference<DeferredInitializationLoggerAdapter>> adapters, LoggerFactory loggerFactory)
+  {
+    DeferredInitializationLoggerAdapter adapter;
+
+    if (adapters != null)
+    {
+      for (WeakReference<DeferredInitializationLoggerAdapter> reference : adapters)
+      {
+        adapter = reference.get();
+        if (adapter != null)
+        {
+          adapter.bindTo(loggerFactory);
+        }
+      }
+    }
+  }
+
+  /**
+   * Removes the references to adapters that have been garbage collected.
+   */
+  protected void purge(Queue<WeakReference<DeferredInitializationLoggerAdapter>> adapters)
+  {
+    Iterator<WeakReference<DeferredInitializationLoggerAdapter>> iterator;
+
+    iterator = adapters.iterator();
+    while (iterator.hasNext())
+    {
+      if (iterator.next().get() == null)
+      {
+        iterator.remove();
+      }
+    }
+  }
+}
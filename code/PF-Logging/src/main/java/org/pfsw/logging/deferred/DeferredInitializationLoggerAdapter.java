@@ -1,11 +1,17 @@
 // ===========================================================================
 // CONTENT  : CLASS DeferredInitializationLoggerAdapter
 // AUTHOR   : Manfred Duchrow
-// VERSION  : 1.0 - 04/02/2017
+// VERSION  : 1.4 - 18/10/2026
 // HISTORY  :
 //  04/02/2017  mdu  CREATED
+//  18/10/2026  mdu  added  --> fixed-arity log methods
+//  18/10/2026  mdu  changed --> bind once on factory registration instead of checking on each call
+//  18/10/2026  mdu  added   --> optional pre-binding buffer
+//  18/10/2026  mdu  changed --> pass on only explicitly set log level
+//  18/10/2026  mdu  changed --> setLogLevel() synchronized with binding
+//  18/10/2026  mdu  added   --> prepareBinding()
 //
-// Copyright (c) 2017, by MDCS. All rights reserved.
+// Copyright (c) 2017-2026, by MDCS. All rights reserved.
 // ===========================================================================
 package org.pfsw.logging.deferred ;
 
@@ -23,17 +29,22 @@ import org.pfsw.logging.stdout.PrintStreamLogger;
  * This is a substitute logger that initially delegates all method calls to a
  * {@link PrintStreamLogger} instance.
  * <p>
- * However, with every method it checks the internal logger factory registry
- * for the actually desired logger factory type. If it finds it, it creates
- * a new logger with that factory and replaced the underlying logger to which 
- * it delegates all method calls.
+ * However, as soon as the actually desired logger factory type gets registered
+ * (see {@link LoggerFactoryProvider#register(LoggerFactory)}) it creates
+ * a new logger with that factory and replaces the underlying logger to which 
+ * it delegates all method calls. 
+ * Log calls do not check the registry. They just delegate to the current
+ * target logger.
+ * <p>
+ * Optionally the log records written before that switch can be buffered
+ * and replayed to the real logger (see {@link DeferredInitializationLoggerFactory#PROP_BUFFER_SIZE}). 
  * <p>
  * This approach allows static logger initialization even before the desired logger 
  * adapter has been registered. As soon as the desired logger adapter is available,
  * logging will be re-routed to this adapter. 
  *
  * @author Manfred Duchrow
- * @version 1.0
+ * @version 1.4
  */
 public class DeferredInitializationLoggerAdapter implements Logger
 {
@@ -42,8 +53,10 @@ public class DeferredInitializationLoggerAdapter implements Logger
   // =========================================================================
   private final String desiredLoggerType;
   private final String loggerName;
-  private Logger targetLogger;
-  private String ownLogLevel = Logger.LL_INFO;
+  private volatile Logger targetLogger;
+  private volatile String ownLogLevel = null;
+  private boolean bound = false;
+  private Logger preparedLogger = null;
 
   // =========================================================================
   // CONSTRUCTORS
@@ -64,6 +77,8 @@ public class DeferredInitializationLoggerAdapter implements Logger
     this.desiredLoggerType = desiredLoggerType;
     this.loggerName = loggerName;
     this.initTargetLogger();
+    DeferredBindingRegistry.getInstance().add(this);
+    this.checkTargetLogger();
   }
 
   // =========================================================================
@@ -78,92 +93,180 @@ public class DeferredInitializationLoggerAdapter implements Logger
   @Override
   public void initialize(Properties properties)
   {
-    this.checkTargetLogger();
     this.getTargetLogger().initialize(properties);
   }
 
   @Override
   public boolean isLoggingDebugs()
   {
-    this.checkTargetLogger();
     return this.getTargetLogger().isLoggingDebugs();
   }
 
   @Override
   public boolean isLoggingInfos()
   {
-    this.checkTargetLogger();
     return this.getTargetLogger().isLoggingInfos();
   }
 
   @Override
   public boolean isLoggingWarnings()
   {
-    this.checkTargetLogger();
     return this.getTargetLogger().isLoggingWarnings();
   }
 
   @Override
   public boolean isLoggingErrors()
   {
-    this.checkTargetLogger();
     return this.getTargetLogger().isLoggingErrors();
   }
 
   @Override
   public void logDebug(String message, Object... params)
   {
-    this.checkTargetLogger();
     this.getTargetLogger().logDebug(message, params);
   }
 
   @Override
   public void logInfo(String message, Object... params)
   {
-    this.checkTargetLogger();
     this.getTargetLogger().logInfo(message, params);
   }
 
   @Override
   public void logWarning(String message, Object... params)
   {
-    this.checkTargetLogger();
     this.getTargetLogger().logWarning(message, params);
   }
 
   @Override
   public void logWarning(String message, Throwable exception)
   {
-    this.checkTargetLogger();
     this.getTargetLogger().logWarning(message, exception);
   }
 
   @Override
   public void logError(String message, Object... params)
   {
-    this.checkTargetLogger();
     this.getTargetLogger().logError(message, params);
   }
 
   @Override
   public void logError(String message, Throwable exception)
   {
-    this.checkTargetLogger();
     this.getTargetLogger().logError(message, exception);
   }
 
+  @Override
+  public void logDebug(String message)
+  {
+    this.getTargetLogger().logDebug(message);
+  }
+
+  @Override
+  public void logDebug(String message, Object param1)
+  {
+    this.getTargetLogger().logDebug(message, param1);
+  }
+
+  @Override
+  public void logDebug(String message, Object param1, Object param2)
+  {
+    this.getTargetLogger().logDebug(message, param1, param2);
+  }
+
+  @Override
+  public void logDebug(String message, Object param1, Object param2, Object param3)
+  {
+    this.getTargetLogger().logDebug(message, param1, param2, param3);
+  }
+
+  @Override
+  public void logInfo(String message)
+  {
+    this.getTargetLogger().logInfo(message);
+  }
+
+  @Override
+  public void logInfo(String message, Object param1)
+  {
+    this.getTargetLogger().logInfo(message, param1);
+  }
+
+  @Override
+  public void logInfo(String message, Object param1, Object param2)
+  {
+    this.getTargetLogger().logInfo(message, param1, param2);
+  }
+
+  @Override
+  public void logInfo(String message, Object param1, Object param2, Object param3)
+  {
+    this.getTargetLogger().logInfo(message, param1, param2, param3);
+  }
+
+  @Override
+  public void logWarning(String message)
+  {
+    this.getTargetLogger().logWarning(message);
+  }
+
+  @Override
+  public void logWarning(String message, Object param1)
+  {
+    this.getTargetLogger().logWarning(message, param1);
+  }
+
+  @Override
+  public void logWarning(String message, Object param1, Object param2)
+  {
+    this.getTargetLogger().logWarning(message, param1, param2);
+  }
+
+  @Override
+  public void logWarning(String message, Object param1, Object param2, Object param3)
+  {
+    this.getTargetLogger().logWarning(message, param1, param2, param3);
+  }
+
+  @Override
+  public void logError(String message)
+  {
+    this.getTargetLogger().logError(message);
+  }
+
+  @Override
+  public void logError(String message, Object param1)
+  {
+    this.getTargetLogger().logError(message, param1);
+  }
+
+  @Override
+  public void logError(String message, Object param1, Object param2)
+  {
+    this.getTargetLogger().logError(message, param1, param2);
+  }
+
+  @Override
+  public void logError(String message, Object param1, Object param2, Object param3)
+  {
+    this.getTargetLogger().logError(message, param1, param2, param3);
+  }
+
   @Override
   public void logException(Throwable ex)
   {
-    this.checkTargetLogger();
     this.getTargetLogger().logException(ex);
   }
 
+  /**
+   * Sets the level on the current target logger and remembers it for the
+   * logger that replaces the target on binding. This is synchronized with
+   * the binding, so the level can never get lost in between.
+   */
   @Override
-  public boolean setLogLevel(String level)
+  public synchronized boolean setLogLevel(String level)
   {
     this.setOwnLogLevel(level);
-    this.checkTargetLogger();
     return this.getTargetLogger().setLogLevel(level);
   }
   
@@ -176,34 +279,85 @@ public class DeferredInitializationLoggerAdapter implements Logger
   }
   
   /**
-   * Checks if the current target logger is of the desired type.
-   * If not it tries to replace it by one that is of the desired type.
+   * Checks if the logger factory of the desired type is already registered.
+   * If so, the target logger gets replaced by one created by that factory.
    */
   protected void checkTargetLogger()
   {
     LoggerFactory loggerFactory;
-    Logger logger;
     
     if (this.isDesiredLoggerTypeStillNotAvailable())
     {
       loggerFactory = LoggerFactoryProvider.getLoggerFactory(this.getDesiredLoggerType());
       if (this.isDesiredLoggerType(loggerFactory.getName()))
       {
-        logger = loggerFactory.getLogger(this.getLoggerName());
+        this.bindTo(loggerFactory);
+      }
+    }
+  }
+
+  /**
+   * Replaces the target logger by a logger created by the given factory
+   * unless that has already been done before.
+   */
+  protected synchronized void bindTo(LoggerFactory loggerFactory)
+  {
+    Logger logger;
+
+    if (!this.bound)
+    {
+      logger = this.prepareBinding(loggerFactory);
+      if (this.getOwnLogLevel() != null)
+      {
         logger.setLogLevel(this.getOwnLogLevel());
-        this.setTargetLogger(logger);
       }
+      this.setTargetLogger(logger);
+      this.preparedLogger = null;
+      this.bound = true;
     }
   }
+
+  /**
+   * Returns the logger this adapter will be bound to by the given factory 
+   * without switching to it yet. That allows replaying buffered records 
+   * to it before any new record can reach it directly.
+   * If the adapter is already bound, the current target logger is returned.
+   */
+  protected synchronized Logger prepareBinding(LoggerFactory loggerFactory)
+  {
+    if (this.bound)
+    {
+      return this.getTargetLogger();
+    }
+    if (this.preparedLogger == null)
+    {
+      this.preparedLogger = loggerFactory.getLogger(this.getLoggerName());
+      if (this.getOwnLogLevel() != null)
+      {
+        this.preparedLogger.setLogLevel(this.getOwnLogLevel());
+      }
+    }
+    return this.preparedLogger;
+  }
   
   protected void initTargetLogger()
   {
-    this.setTargetLogger(new PrintStreamLogger(this.getLoggerName()));
+    PreBindingBuffer buffer;
+
+    buffer = DeferredBindingRegistry.getInstance().getBuffer(this.getDesiredLoggerType());
+    if (buffer == null)
+    {
+      this.setTargetLogger(new PrintStreamLogger(this.getLoggerName()));
+    }
+    else
+    {
+      this.setTargetLogger(new BufferingLogger(this, buffer));
+    }
   }
 
-  protected boolean isDesiredLoggerTypeStillNotAvailable()
+  protected synchronized boolean isDesiredLoggerTypeStillNotAvailable()
   {
-    return this.getTargetLogger() instanceof PrintStreamLogger;
+    return !this.bound;
   }
 
   protected boolean isDesiredLoggerType(String name)
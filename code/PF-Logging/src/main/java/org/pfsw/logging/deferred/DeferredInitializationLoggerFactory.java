@@ -1,11 +1,12 @@
 // ===========================================================================
 // CONTENT  : CLASS DeferredInitializationLoggerFactory
 // AUTHOR   : Manfred Duchrow
-// VERSION  : 1.0 - 04/02/2017
+// VERSION  : 1.1 - 18/10/2026
 // HISTORY  :
 //  04/02/2017  mdu  CREATED
+//  18/10/2026  mdu  added  --> properties for pre-binding buffer
 //
-// Copyright (c) 2017, by MDCS. All rights reserved.
+// Copyright (c) 2017-2026, by MDCS. All rights reserved.
 // ===========================================================================
 package org.pfsw.logging.deferred;
 
@@ -25,12 +26,36 @@ import org.pfsw.logging.LoggerFactory;
  * <br>
  * The loggers created by this factory are able to switch to the desired logger
  * types ass soon as the corresponding logger factory gets registered.
+ * <p>
+ * By default these loggers write to stdout until then. If the system property
+ * "org.pfsw.logging.deferred.buffer.size" is set to a positive number,
+ * they keep up to that many log records in memory instead and replay them 
+ * in their original order to the desired loggers as soon as they are available. 
+ * If the desired logger factory never gets registered, the buffered records 
+ * get written to stdout at shutdown.
  *
  * @author Manfred Duchrow
- * @version 1.0
+ * @version 1.1
  */
 public class DeferredInitializationLoggerFactory implements LoggerFactory
 {
+  // =========================================================================
+  // CONSTANTS
+  // =========================================================================
+  /**
+   * The system property that specifies the maximum number of log records 
+   * that are buffered per desired logger type until it gets registered.
+   * The default is 0, which means no buffering (i.e. direct output to stdout).
+   * <p>"org.pfsw.logging.deferred.buffer.size"<p>
+   */
+  public static final String PROP_BUFFER_SIZE = "org.pfsw.logging.deferred.buffer.size";
+  /**
+   * The system property that specifies what happens if the buffer is full.
+   * The value must be one of "DROP_OLDEST" (default) or "DROP_NEWEST".
+   * <p>"org.pfsw.logging.deferred.buffer.overflow"<p>
+   */
+  public static final String PROP_BUFFER_OVERFLOW = "org.pfsw.logging.deferred.buffer.overflow";
+
   // =========================================================================
   // INSTANCE VARIABLES
   // =========================================================================
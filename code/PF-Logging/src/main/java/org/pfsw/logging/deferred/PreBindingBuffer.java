@@ -0,0 +1,158 @@
+// ===========================================================================
+// CONTENT  : CLASS PreBindingBuffer
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.1 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//  18/10/2026  mdu  changed --> replay() to the loggers of a given factory while still locked
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging.deferred;
+
+import org.pfsw.logging.LoggerFactory;
+
+/**
+ * A bounded ring buffer that keeps the log records of all loggers waiting 
+ * for the same logger binding in the order they were written.
+ * <p>
+ * When the binding becomes available the buffer gets replayed to the 
+ * real loggers and closed. A closed buffer does not accept any more records.
+ *
+ * @author Manfred Duchrow
+ * @version 1.1
+ */
+class PreBindingBuffer
+{
+  // =========================================================================
+  // INSTANCE VARIABLES
+  // =========================================================================
+  private final BufferedLogRecord[] records;
+  private final BufferOverflowPolicy overflowPolicy;
+  private int first = 0;
+  private int count = 0;
+  private long droppedCount = 0L;
+  private boolean closed = false;
+
+  // =========================================================================
+  // CONSTRUCTORS
+  // =========================================================================
+  PreBindingBuffer(int capacity, BufferOverflowPolicy overflowPolicy)
+  {
+    super();
+    this.records = new BufferedLogRecord[capacity];
+    this.overflowPolicy = (overflowPolicy == null) ? BufferOverflowPolicy.DROP_OLDEST : overflowPolicy;
+  }
+
+  // =========================================================================
+  // PUBLIC INSTANCE METHODS
+  // =========================================================================
+  /**
+   * Adds the given record to the buffer, respecting the overflow policy if
+   * it is full.
+   * 
+   * @return false if the buffer is already closed, otherwise true (even if the record was dropped).
+   */
+  public synchronized boolean add(BufferedLogRecord record)
+  {
+    if (this.closed)
+    {
+      return false;
+    }
+    if (this.count == this.records.length)
+    {
+      this.droppedCount++;
+      if (this.overflowPolicy == BufferOverflowPolicy.DROP_NEWEST)
+      {
+        return true;
+      }
+      this.records[this.first] = null;
+      this.first = (this.first + 1) % this.records.length;
+      this.count--;
+    }
+    this.records[(this.first + this.count) % this.records.length] = record;
+    this.count++;
+    return true;
+  }
+
+  /**
+   * Closes the buffer and passes all records in their original order to 
+   * the logger their source logger gets bound to by the given factory.
+   * <p>
+   * The buffer stays locked until all records have been delivered, so 
+   * concurrent log calls of buffering loggers wait in {@link #add(BufferedLogRecord)}
+   * and get delivered afterwards. 
+   */
+  public synchronized void replay(LoggerFactory loggerFactory)
+  {
+    BufferingLogger source;
+
+    for (BufferedLogRecord record : close())
+    {
+      source = record.getSource();
+      source.deliver(record, source.getOwner().prepareBinding(loggerFactory));
+    }
+  }
+
+  /**
+   * Closes the buffer and writes all records to the fallback output of their
+   * source logger.
+   */
+  public void flushToFallback()
+  {
+    for (BufferedLogRecord record : close())
+    {
+      record.getSource().printToFallback(record);
+    }
+  }
+
+  public synchronized int size()
+  {
+    return this.count;
+  }
+
+  public int getCapacity()
+  {
+    return this.records.length;
+  }
+
+  public BufferOverflowPolicy getOverflowPolicy()
+  {
+    return this.overflowPolicy;
+  }
+
+  /**
+   * Returns the number of records that have been discarded due to overflow.
+   */
+  public synchronized long getDroppedCount()
+  {
+    return this.droppedCount;
+  }
+
+  public synchronized boolean isClosed()
+  {
+    return this.closed;
+  }
+
+  // =========================================================================
+  // PROTECTED INSTANCE METHODS
+  // =========================================================================
+  /**
+   * Closes the buffer and returns all records it contained in order.
+   */
+  protected synchronized BufferedLogRecord[] close()
+  {
+    BufferedLogRecord[] result;
+
+    result = new BufferedLogRecord[this.count];
+    for (int i = 0; i < this.count; i++)
+    {
+      result[i] = this.records[(this.first + i) % this.records.length];
+      this.records[(this.first + i) % this.records.length] = null;
+    }
+    this.first = 0;
+    this.count = 0;
+    this.closed = true;
+    return result;
+  }
+}
@@ -1,29 +1,46 @@
 // ===========================================================================
 // CONTENT  : ABSTRACT CLASS AbstractLogger
 // AUTHOR   : Manfred Duchrow
-// VERSION  : 1.0 - 04/02/2017
+// VERSION  : 1.2 - 18/10/2026
 // HISTORY  :
 //  04/02/2017  mdu  CREATED
+//  18/10/2026  mdu  added  --> fixed-arity log methods, lazy parameters
+//  18/10/2026  mdu  changed --> replacePlaceholders() uses cached MessageTemplate
+//  18/10/2026  mdu  added   --> effective log level based on LoggerLevels
 //
-// Copyright (c) 2017, by MDCS. All rights reserved.
+// Copyright (c) 2017-2026, by MDCS. All rights reserved.
 // ===========================================================================
 package org.pfsw.logging.internal;
 
-import java.text.MessageFormat;
+import org.pfsw.logging.LogLevel;
 import org.pfsw.logging.Logger;
+import org.pfsw.logging.LoggerLevels;
 
 /**
  * Common implementation for internal re-use in various logger implementations.
+ * <p>
+ * The fixed-arity log methods check the log level before they create the
+ * parameter array and delegate to the corresponding var-arg method.
+ * <p>
+ * The log level is INFO by default. It is overridden by the level configured 
+ * in {@link LoggerLevels} for the logger's name, which in turn is overridden 
+ * by a level that has been set explicitly on the logger instance.
  *
  * @author Manfred Duchrow
- * @version 1.0
+ * @version 1.2
  */
 public abstract class AbstractLogger implements Logger
 {
+  // =========================================================================
+  // CONSTANTS
+  // =========================================================================
+  protected static final Object[] NO_PARAMS = new Object[0];
+
   // =========================================================================
   // INSTANCE VARIABLES
   // =========================================================================
   private String loggerName = "";
+  private final EffectiveLogLevel effectiveLogLevel = new EffectiveLogLevel(this.loggerName, LogLevel.INFO);
 
   // =========================================================================
   // CONSTRUCTORS
@@ -48,14 +65,162 @@ public abstract class AbstractLogger implements Logger
     return this.loggerName;
   }
 
+  @Override
+  public void logDebug(String message)
+  {
+    if (isLoggingDebugs())
+    {
+      logDebug(message, NO_PARAMS);
+    }
+  }
+
+  @Override
+  public void logDebug(String message, Object param1)
+  {
+    if (isLoggingDebugs())
+    {
+      logDebug(message, new Object[] { param1 });
+    }
+  }
+
+  @Override
+  public void logDebug(String message, Object param1, Object param2)
+  {
+    if (isLoggingDebugs())
+    {
+      logDebug(message, new Object[] { param1, param2 });
+    }
+  }
+
+  @Override
+  public void logDebug(String message, Object param1, Object param2, Object param3)
+  {
+    if (isLoggingDebugs())
+    {
+      logDebug(message, new Object[] { param1, param2, param3 });
+    }
+  }
+
+  @Override
+  public void logInfo(String message)
+  {
+    if (isLoggingInfos())
+    {
+      logInfo(message, NO_PARAMS);
+    }
+  }
+
+  @Override
+  public void logInfo(String message, Object param1)
+  {
+    if (isLoggingInfos())
+    {
+      logInfo(message, new Object[] { param1 });
+    }
+  }
+
+  @Override
+  public void logInfo(String message, Object param1, Object param2)
+  {
+    if (isLoggingInfos())
+    {
+      logInfo(message, new Object[] { param1, param2 });
+    }
+  }
+
+  @Override
+  public void logInfo(String message, Object param1, Object param2, Object param3)
+  {
+    if (isLoggingInfos())
+    {
+      logInfo(message, new Object[] { param1, param2, param3 });
+    }
+  }
+
+  @Override
+  public void logWarning(String message)
+  {
+    if (isLoggingWarnings())
+    {
+      logWarning(message, NO_PARAMS);
+    }
+  }
+
+  @Override
+  public void logWarning(String message, Object param1)
+  {
+    if (isLoggingWarnings())
+    {
+      logWarning(message, new Object[] { param1 });
+    }
+  }
+
+  @Override
+  public void logWarning(String message, Object param1, Object param2)
+  {
+    if (isLoggingWarnings())
+    {
+      logWarning(message, new Object[] { param1, param2 });
+    }
+  }
+
+  @Override
+  public void logWarning(String message, Object param1, Object param2, Object param3)
+  {
+    if (isLoggingWarnings())
+    {
+      logWarning(message, new Object[] { param1, param2, param3 });
+    }
+  }
+
+  @Override
+  public void logError(String message)
+  {
+    if (isLoggingErrors())
+    {
+      logError(message, NO_PARAMS);
+    }
+  }
+
+  @Override
+  public void logError(String message, Object param1)
+  {
+    if (isLoggingErrors())
+    {
+      logError(message, new Object[] { param1 });
+    }
+  }
+
+  @Override
+  public void logError(String message, Object param1, Object param2)
+  {
+    if (isLoggingErrors())
+    {
+      logError(message, new Object[] { param1, param2 });
+    }
+  }
+
+  @Override
+  public void logError(String message, Object param1, Object param2, Object param3)
+  {
+    if (isLoggingErrors())
+    {
+      logError(message, new Object[] { param1, param2, param3 });
+    }
+  }
+
   // =========================================================================
   // PROTECTED INSTANCE METHODS
   // =========================================================================
+  /**
+   * Returns the given text with placeholders like {0}, {1} replaced by the
+   * given parameters. The result is the same as with java.text.MessageFormat.
+   */
   protected String replacePlaceholders(String text, Object... params)
   {
     if ((params.length > 0) && (text.indexOf('{') >= 0))
     {
-      return MessageFormat.format(text, params);
+      return MessageTemplate.compile(text).format(LazyArguments.resolve(params));
     }
     return text;
   }
@@ -68,6 +233,26 @@ public abstract class AbstractLogger implements Logger
   protected void setLoggerName(String loggerName)
   {
     this.loggerName = loggerName;
+    this.effectiveLogLevel.setLoggerName(loggerName);
+  }
+
+  /**
+   * Returns the log level that currently applies to this logger.
+   */
+  protected LogLevel getEffectiveLogLevel()
+  {
+    return this.effectiveLogLevel.get();
+  }
+
+  /**
+   * Sets the level of this logger explicitly. That overrides any level 
+   * configured in {@link LoggerLevels}.
+   * 
+   * @param level The level or null to follow the configuration in {@link LoggerLevels} again.
+   */
+  protected void setExplicitLogLevel(LogLevel level)
+  {
+    this.effectiveLogLevel.set(level);
   }
 
   protected boolean isNullOrEmpty(String string)
@@ -0,0 +1,52 @@
+// ===========================================================================
+// CONTENT  : ENUM CacheRetention
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.0 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging.internal;
+
+/**
+ * Specifies how long a {@link NamedInstanceCache} keeps its entries.
+ *
+ * @author Manfred Duchrow
+ * @version 1.0
+ */
+public enum CacheRetention
+{
+  /**
+   * Entries are kept as long as they are referenced from anywhere else.
+   */
+  WEAK,
+  /**
+   * Entries are kept strongly, but the number of entries is limited.
+   */
+  BOUNDED,
+  /**
+   * Nothing gets cached at all.
+   */
+  NONE;
+
+  /**
+   * Returns the retention that matches the given name (case-insensitive)
+   * or null if no match found.
+   */
+  public static CacheRetention getByName(String name)
+  {
+    if (name == null)
+    {
+      return null;
+    }
+    for (CacheRetention retention : values())
+    {
+      if (retention.name().equalsIgnoreCase(name.trim()))
+      {
+        return retention;
+      }
+    }
+    return null;
+  }
+}
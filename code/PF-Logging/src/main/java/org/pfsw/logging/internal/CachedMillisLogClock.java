@@ -0,0 +1,157 @@
+// ===========================================================================
+// CONTENT  : CLASS CachedMillisLogClock
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.1 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//  18/10/2026  mdu  added   --> shared instance, default tick is 10 ms
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging.internal;
+
+/**
+ * A coarse clock whose time is updated by a daemon ticker thread.
+ * Reading the time is just a volatile read, which is cheaper than any 
+ * system call. The price is a resolution of the tick interval and a 
+ * thread that wakes up in that interval.
+ * <p>
+ * The ticker thread runs until {@link #close()} is called.
+ * Components that do not need their own tick interval should use the
+ * {@link #getSharedInstance() shared instance}, so all of them together
+ * cost only one thread.
+ *
+ * @author Manfred Duchrow
+ * @version 1.1
+ */
+public class CachedMillisLogClock implements LogClock
+{
+  // =========================================================================
+  // CONSTANTS
+  // =========================================================================
+  public static final long DEFAULT_TICK_MILLIS = 10L;
+
+  private static final long NANOS_PER_MILLI = 1000000L;
+
+  // =========================================================================
+  // CLASS VARIABLES
+  // =========================================================================
+  private static CachedMillisLogClock sharedInstance = null;
+
+  // =========================================================================
+  // INSTANCE VARIABLES
+  // =========================================================================
+  private final long tickMillis;
+  private final Thread ticker;
+  private volatile long currentMillis = System.currentTimeMillis();
+  private volatile boolean running = true;
+  private boolean shared = false;
+
+  // =========================================================================
+  // CLASS METHODS
+  // =========================================================================
+  /**
+   * Returns the clock with the default tick interval that is shared by all
+   * callers. Its ticker thread gets started on the first call and runs 
+   * until the JVM ends. Calling {@link #close()} on it has no effect.
+   */
+  public static synchronized CachedMillisLogClock getSharedInstance()
+  {
+    if (sharedInstance == null)
+    {
+      sharedInstance = new CachedMillisLogClock(DEFAULT_TICK_MILLIS);
+      sharedInstance.shared = true;
+    }
+    return sharedInstance;
+  }
+
+  // =========================================================================
+  // CONSTRUCTORS
+  // =========================================================================
+  /**
+   * Creates a new clock with its own ticker thread that updates it 
+   * every {@link #DEFAULT_TICK_MILLIS} milliseconds.
+   */
+  public CachedMillisLogClock()
+  {
+    this(DEFAULT_TICK_MILLIS);
+  }
+
+  /**
+   * Creates a new clock and starts its ticker thread.
+   *
+   * @param tickMillis The interval in milliseconds in which the time gets updated (must be greater than 0).
+   */
+  public CachedMillisLogClock(long tickMillis)
+  {
+    super();
+    if (tickMillis <= 0)
+    {
+      throw new IllegalArgumentException("tickMillis must be greater than 0");
+    }
+    this.tickMillis = tickMillis;
+    this.ticker = new Thread("pf-logging-clock")
+    {
+      @Override
+      public void run()
+      {
+        tick();
+      }
+    };
+    this.ticker.setDaemon(true);
+    this.ticker.start();
+  }
+
+  // =========================================================================
+  // PUBLIC INSTANCE METHODS
+  // =========================================================================
+  @Override
+  public long currentTimeMillis()
+  {
+    return this.currentMillis;
+  }
+
+  @Override
+  public long currentTimeNanos()
+  {
+    return this.currentMillis * NANOS_PER_MILLI;
+  }
+
+  public long getTickMillis()
+  {
+    return this.tickMillis;
+  }
+
+  /**
+   * Stops the ticker thread. The clock keeps returning its last time afterwards.
+   * The shared instance does not get stopped.
+   */
+  public void close()
+  {
+    if (this.shared)
+    {
+      return;
+    }
+    this.running = false;
+    this.ticker.interrupt();
+  }
+
+  // =========================================================================
+  // PROTECTED INSTANCE METHODS
+  // =========================================================================
+  protected void tick()
+  {
+    while (this.running)
+    {
+      this.currentMillis = System.currentTimeMillis();
+      try
+      {
+        Thread.sleep(this.tickMillis);
+      }
+      catch (InterruptedException e)
+      {
+        // Stopped by close()
+      }
+    }
+  }
+}
@@ -0,0 +1,135 @@
+// ===========================================================================
+// CONTENT  : CLASS EffectiveLogLevel
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.0 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging.internal;
+
+import org.pfsw.logging.LogLevel;
+import org.pfsw.logging.LoggerLevels;
+
+/**
+ * Holds the effective log level of one logger. That is either a level that
+ * has been set explicitly, or the level configured in {@link LoggerLevels}
+ * for the logger's name, or a default level.
+ * <p>
+ * The level from {@link LoggerLevels} is cached and only looked up again
+ * after the configuration generation has changed. So {@link #get()} costs
+ * just two volatile reads in the normal case.
+ *
+ * @author Manfred Duchrow
+ * @version 1.0
+ */
+public class EffectiveLogLevel
+{
+  // =========================================================================
+  // INSTANCE VARIABLES
+  // =========================================================================
+  private final LogLevel defaultLevel;
+  private String loggerName;
+  private LogLevel explicitLevel = null;
+  private volatile Snapshot snapshot = null;
+
+  // =========================================================================
+  // CONSTRUCTORS
+  // =========================================================================
+  /**
+   * @param loggerName The name of the logger this level belongs to.
+   * @param defaultLevel The level to use if neither an explicit nor a configured level exists.
+   */
+  public EffectiveLogLevel(String loggerName, LogLevel defaultLevel)
+  {
+    super();
+    this.loggerName = loggerName;
+    this.defaultLevel = defaultLevel;
+  }
+
+  // =========================================================================
+  // PUBLIC INSTANCE METHODS
+  // =========================================================================
+  /**
+   * Returns the currently effective log level.
+   */
+  public LogLevel get()
+  {
+    Snapshot current;
+
+    current = this.snapshot;
+    if ((current == null) || (current.generation != LoggerLevels.getGeneration()))
+    {
+      current = this.refresh();
+    }
+    return current.level;
+  }
+
+  /**
+   * Sets an explicit level that overrides the level configuration.
+   * 
+   * @param level The level or null to follow the level configuration again.
+   */
+  public synchronized void set(LogLevel level)
+  {
+    this.explicitLevel = level;
+    this.snapshot = null;
+  }
+
+  /**
+   * Returns true if an explicit level has been set.
+   */
+  public synchronized boolean isExplicit()
+  {
+    return this.explicitLevel != null;
+  }
+
+  /**
+   * Changes the logger name under which the configured level is looked up.
+   */
+  public synchronized void setLoggerName(String loggerName)
+  {
+    this.loggerName = loggerName;
+    this.snapshot = null;
+  }
+
+  // =========================================================================
+  // PRIVATE INSTANCE METHODS
+  // =========================================================================
+  private synchronized Snapshot refresh()
+  {
+    Snapshot current;
+    LogLevel level;
+    int generation;
+
+    generation = LoggerLevels.getGeneration();
+    level = this.explicitLevel;
+    if (level == null)
+    {
+      level = LoggerLevels.getLevel(this.loggerName);
+    }
+    if (level == null)
+    {
+      level = this.defaultLevel;
+    }
+    current = new Snapshot(level, generation);
+    this.snapshot = current;
+    return current;
+  }
+
+  // =========================================================================
+  // INNER CLASSES
+  // =========================================================================
+  private static class Snapshot
+  {
+    private final LogLevel level;
+    private final int generation;
+
+    Snapshot(LogLevel level, int generation)
+    {
+      this.level = level;
+      this.generation = generation;
+    }
+  }
+}
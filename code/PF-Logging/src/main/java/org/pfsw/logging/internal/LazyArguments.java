@@ -0,0 +1,60 @@
+// ===========================================================================
+// CONTENT  : CLASS LazyArguments
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.0 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging.internal;
+
+import org.pfsw.logging.LogSupplier;
+
+/**
+ * Helper that evaluates {@link LogSupplier} instances in log message parameters.
+ *
+ * @author Manfred Duchrow
+ * @version 1.0
+ */
+public final class LazyArguments
+{
+  // =========================================================================
+  // CLASS METHODS
+  // =========================================================================
+  /**
+   * Returns the given parameters with all {@link LogSupplier} elements replaced 
+   * by their supplied values. The given array will not be modified. 
+   * If it does not contain any supplier it will be returned as it is.
+   */
+  public static Object[] resolve(Object[] params)
+  {
+    Object[] resolved;
+
+    if (params == null)
+    {
+      return null;
+    }
+    resolved = params;
+    for (int i = 0; i < params.length; i++)
+    {
+      if (params[i] instanceof LogSupplier)
+      {
+        if (resolved == params)
+        {
+          resolved = params.clone();
+        }
+        resolved[i] = ((LogSupplier<?>)params[i]).get();
+      }
+    }
+    return resolved;
+  }
+
+  // =========================================================================
+  // CONSTRUCTORS
+  // =========================================================================
+  private LazyArguments()
+  {
+    super();
+  }
+}
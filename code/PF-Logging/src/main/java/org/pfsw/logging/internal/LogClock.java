@@ -0,0 +1,38 @@
+// ===========================================================================
+// CONTENT  : INTERFACE LogClock
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.0 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging.internal;
+
+/**
+ * The source of the timestamps of log records.
+ * <p>
+ * Implementations differ in their cost per call and their precision:
+ * <ul>
+ * <li>{@link SystemLogClock} - System.currentTimeMillis() (the default)</li>
+ * <li>{@link CachedMillisLogClock} - reads a value that is updated by a background thread (cheapest)</li>
+ * <li>{@link NanoTimeLogClock} - System.nanoTime() anchored to the wall clock (most precise)</li>
+ * </ul>
+ * All implementations must be thread-safe.
+ *
+ * @author Manfred Duchrow
+ * @version 1.0
+ */
+public interface LogClock
+{
+  /**
+   * Returns the current time in milliseconds since 1970-01-01 UTC.
+   */
+  long currentTimeMillis();
+
+  /**
+   * Returns the current time in nanoseconds since 1970-01-01 UTC.
+   * The actual precision depends on the implementation.
+   */
+  long currentTimeNanos();
+}
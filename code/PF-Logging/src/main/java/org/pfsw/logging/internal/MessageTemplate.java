@@ -0,0 +1,300 @@
+// ===========================================================================
+// CONTENT  : CLASS MessageTemplate
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.0 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging.internal;
+
+import java.text.DateFormat;
+import java.text.MessageFormat;
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * A pre-parsed message template with placeholders like {0}, {1} etc.
+ * that produces exactly the same output as {@link MessageFormat#format(String, Object...)}.
+ * <p>
+ * Only simple placeholders (i.e. just an argument index) are handled by this 
+ * class itself. Templates with format types like {0,number,#} are delegated 
+ * to {@link MessageFormat}.
+ * <p>
+ * Compiled templates are kept in a bounded cache, so they must be parsed only 
+ * once.
+ *
+ * @author Manfred Duchrow
+ * @version 1.0
+ */
+public class MessageTemplate
+{
+  // =========================================================================
+  // CONSTANTS
+  // =========================================================================
+  private static final int CACHE_SIZE = 1000;
+  private static final int MAX_INDEX_DIGITS = 9;
+  private static final NamedInstanceCache<MessageTemplate> CACHE = new NamedInstanceCache<MessageTemplate>(CacheRetention.BOUNDED, CACHE_SIZE);
+  private static final ReusableStringBuilder BUFFERS = new ReusableStringBuilder();
+  private static final ThreadLocal<LocalizedNumberFormat> NUMBER_FORMATS = new ThreadLocal<LocalizedNumberFormat>();
+
+  // =========================================================================
+  // INSTANCE VARIABLES
+  // =========================================================================
+  private final String pattern;
+  /**
+   * The literal text parts. There is always one more than argument indexes.
+   * A null value means that the pattern must be handled by MessageFormat.
+   */
+  private final String[] literals;
+  private final int[] argumentIndexes;
+
+  // =========================================================================
+  // CLASS METHODS
+  // =========================================================================
+  /**
+   * Returns the compiled template for the given pattern.
+   * 
+   * @param pattern The message pattern (must not be null).
+   */
+  public static MessageTemplate compile(String pattern)
+  {
+    MessageTemplate template;
+
+    template = CACHE.get(pattern);
+    if (template == null)
+    {
+      template = CACHE.putIfAbsent(pattern, parse(pattern));
+    }
+    return template;
+  }
+
+  protected static MessageTemplate parse(String pattern)
+  {
+    List<String> literals = new ArrayList<String>();
+    List<Integer> indexes = new ArrayList<Integer>();
+    StringBuilder literal = new StringBuilder(pattern.length());
+    boolean inQuote = false;
+    int length = pattern.length();
+    int index;
+    int end;
+    char ch;
+
+    for (int i = 0; i < length; i++)
+    {
+      ch = pattern.charAt(i);
+      if (ch == '\'')
+      {
+        if ((i + 1 < length) && (pattern.charAt(i + 1) == '\''))
+        {
+          literal.append(ch);
+          i++;
+        }
+        else
+        {
+          inQuote = !inQuote;
+        }
+      }
+      else if ((ch == '{') && !inQuote)
+      {
+        end = pattern.indexOf('}', i + 1);
+        index = parseArgumentIndex(pattern, i + 1, end);
+        if (index < 0)
+        {
+          return new MessageTemplate(pattern, null, null);
+        }
+        literals.add(literal.toString());
+        literal.setLength(0);
+        indexes.add(Integer.valueOf(index));
+        i = end;
+      }
+      else
+      {
+        literal.append(ch);
+      }
+    }
+    literals.add(literal.toString());
+    return new MessageTemplate(pattern, literals.toArray(new String[literals.size()]), toIntArray(indexes));
+  }
+
+  /**
+   * Returns the argument index between start (inclusive) and end (exclusive)
+   * or -1 if it is not a simple non-negative decimal number.
+   */
+  private static int parseArgumentIndex(String pattern, int start, int end)
+  {
+    int index = 0;
+    char ch;
+
+    if ((end <= start) || ((end - start) > MAX_INDEX_DIGITS))
+    {
+      return -1;
+    }
+    for (int i = start; i < end; i++)
+    {
+      ch = pattern.charAt(i);
+      if ((ch < '0') || (ch > '9'))
+      {
+        return -1;
+      }
+      index = (index * 10) + (ch - '0');
+    }
+    return index;
+  }
+
+  private static int[] toIntArray(List<Integer> list)
+  {
+    int[] array = new int[list.size()];
+
+    for (int i = 0; i < array.length; i++)
+    {
+      array[i] = list.get(i).intValue();
+    }
+    return array;
+  }
+
+  // =========================================================================
+  // CONSTRUCTORS
+  // =========================================================================
+  protected MessageTemplate(String pattern, String[] literals, int[] argumentIndexes)
+  {
+    super();
+    this.pattern = pattern;
+    this.literals = literals;
+    this.argumentIndexes = argumentIndexes;
+  }
+
+  // =========================================================================
+  // PUBLIC INSTANCE METHODS
+  // =========================================================================
+  /**
+   * Returns the text of this template with all placeholders replaced by 
+   * the corresponding parameters.
+   */
+  public String format(Object[] params)
+  {
+    StringBuilder buffer;
+    String text;
+
+    if (isComplex())
+    {
+      return MessageFormat.format(getPattern(), params);
+    }
+    buffer = BUFFERS.acquire();
+    appendTo(buffer, params);
+    text = buffer.toString();
+    BUFFERS.release(buffer);
+    return text;
+  }
+
+  /**
+   * Appends the text of this template with all placeholders replaced by 
+   * the corresponding parameters to the given buffer.
+   */
+  public void appendTo(StringBuilder buffer, Object[] params)
+  {
+    if (isComplex())
+    {
+      buffer.append(MessageFormat.format(getPattern(), params));
+      return;
+    }
+    for (int i = 0; i < this.argumentIndexes.length; i++)
+    {
+      buffer.append(this.literals[i]);
+      appendArgument(buffer, this.argumentIndexes[i], params);
+    }
+    buffer.append(this.literals[this.literals.length - 1]);
+  }
+
+  public String getPattern()
+  {
+    return this.pattern;
+  }
+
+  /**
+   * Returns true if this template contains placeholders with format types
+   * and therefore gets formatted by {@link MessageFormat}.
+   */
+  public boolean isComplex()
+  {
+    return this.literals == null;
+  }
+
+  // =========================================================================
+  // PROTECTED INSTANCE METHODS
+  // =========================================================================
+  /**
+   * Appends the argument with the given index the same way as MessageFormat
+   * does it for placeholders without format type.
+   */
+  protected void appendArgument(StringBuilder buffer, int index, Object[] params)
+  {
+    Object arg;
+    String text;
+
+    if ((params == null) || (index >= params.length))
+    {
+      buffer.append('{').append(index).append('}');
+      return;
+    }
+    arg = params[index];
+    if (arg == null)
+    {
+      buffer.append("null");
+    }
+    else if (arg instanceof String)
+    {
+      buffer.append((String)arg);
+    }
+    else if (arg instanceof Number)
+    {
+      buffer.append(getNumberFormat().format(arg));
+    }
+    else if (arg instanceof Date)
+    {
+      buffer.append(DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.SHORT).format(arg));
+    }
+    else
+    {
+      text = arg.toString();
+      buffer.append((text == null) ? "null" : text);
+    }
+  }
+
+  /**
+   * Returns the number format of the current thread for the default locale.
+   */
+  protected NumberFormat getNumberFormat()
+  {
+    LocalizedNumberFormat numberFormat;
+    Locale locale;
+
+    locale = Locale.getDefault();
+    numberFormat = NUMBER_FORMATS.get();
+    if ((numberFormat == null) || (numberFormat.locale != locale))
+    {
+      numberFormat = new LocalizedNumberFormat(locale, NumberFormat.getInstance());
+      NUMBER_FORMATS.set(numberFormat);
+    }
+    return numberFormat.format;
+  }
+
+  // =========================================================================
+  // INNER CLASSES
+  // =========================================================================
+  private static class LocalizedNumberFormat
+  {
+    private final Locale locale;
+    private final NumberFormat format;
+
+    LocalizedNumberFormat(Locale locale, NumberFormat format)
+    {
+      this.locale = locale;
+      this.format = format;
+    }
+  }
+}
@@ -0,0 +1,225 @@
+// ===========================================================================
+// CONTENT  : CLASS NamedInstanceCache
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.0 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging.internal;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A thread-safe cache of canonical instances that are identified by a name.
+ * <p>
+ * Lookups never lock. Depending on the {@link CacheRetention} the instances
+ * are either held weakly (i.e. they vanish from the cache as soon as nobody
+ * else refers to them) or strongly up to a maximum number of entries.
+ *
+ * @author Manfred Duchrow
+ * @version 1.0
+ */
+public class NamedInstanceCache<T>
+{
+  // =========================================================================
+  // CONSTANTS
+  // =========================================================================
+  public static final int DEFAULT_MAX_SIZE = 10000;
+
+  // =========================================================================
+  // INSTANCE VARIABLES
+  // =========================================================================
+  private final ConcurrentMap<String, Object> entries = new ConcurrentHashMap<String, Object>();
+  private final ReferenceQueue<T> collectedInstances = new ReferenceQueue<T>();
+  private final CacheRetention retention;
+  private final int maxSize;
+
+  // =========================================================================
+  // CONSTRUCTORS
+  // =========================================================================
+  /**
+   * Creates a new cache with the given retention.
+   *
+   * @param retention The retention policy (null means {@link CacheRetention#NONE}).
+   * @param maxSize The maximum number of entries (only relevant for {@link CacheRetention#BOUNDED}).
+   */
+  public NamedInstanceCache(CacheRetention retention, int maxSize)
+  {
+    super();
+    this.retention = (retention == null) ? CacheRetention.NONE : retention;
+    this.maxSize = (maxSize > 0) ? maxSize : DEFAULT_MAX_SIZE;
+  }
+
+  // =========================================================================
+  // PUBLIC INSTANCE METHODS
+  // =========================================================================
+  /**
+   * Returns the instance cached under the given name or null if there is none.
+   */
+  public T get(String name)
+  {
+    if ((name == null) || (getRetention() == CacheRetention.NONE))
+    {
+      return null;
+    }
+    return unwrap(getEntries().get(name));
+  }
+
+  /**
+   * Puts the given instance under the given name into the cache unless
+   * there is already another instance.
+   *
+   * @return The canonical instance for the given name, which is either the given
+   * instance or the one that was already in the cache.
+   */
+  public T putIfAbsent(String name, T instance)
+  {
+    Object entry;
+    Object existing;
+    T existingInstance;
+
+    if ((name == null) || (instance == null) || (getRetention() == CacheRetention.NONE))
+    {
+      return instance;
+    }
+    expungeCollectedEntries();
+    entry = wrap(name, instance);
+    while (true)
+    {
+      existing = getEntries().putIfAbsent(name, entry);
+      if (existing == null)
+      {
+        trimToMaxSize(name);
+        return instance;
+      }
+      existingInstance = unwrap(existing);
+      if (existingInstance != null)
+      {
+        return existingInstance;
+      }
+      if (getEntries().replace(name, existing, entry))
+      {
+        return instance;
+      }
+    }
+  }
+
+  /**
+   * Removes all entries from the cache.
+   */
+  public void clear()
+  {
+    getEntries().clear();
+  }
+
+  /**
+   * Returns the number of entries currently in the cache.
+   * Weakly held entries that have been garbage collected might still be counted.
+   */
+  public int size()
+  {
+    return getEntries().size();
+  }
+
+  public CacheRetention getRetention()
+  {
+    return this.retention;
+  }
+
+  public int getMaxSize()
+  {
+    return this.maxSize;
+  }
+
+  // =========================================================================
+  // PROTECTED INSTANCE METHODS
+  // =========================================================================
+  protected Object wrap(String name, T instance)
+  {
+    if (getRetention() == CacheRetention.WEAK)
+    {
+      return new NamedReference<T>(name, instance, this.collectedInstances);
+    }
+    return instance;
+  }
+
+  @SuppressWarnings("unchecked")
+  protected T unwrap(Object entry)
+  {
+    if (entry instanceof NamedReference)
+    {
+      return ((NamedReference<T>)entry).get();
+    }
+    return (T)entry;
+  }
+
+  /**
+   * Removes all entries whose weakly referenced instance has been garbage collected.
+   */
+  protected void expungeCollectedEntries()
+  {
+    Reference<? extends T> reference;
+
+    reference = this.collectedInstances.poll();
+    while (reference != null)
+    {
+      getEntries().remove(((NamedReference<? extends T>)reference).getName(), reference);
+      reference = this.collectedInstances.poll();
+    }
+  }
+
+  /**
+   * Evicts arbitrary entries (except the one with the given name) until
+   * the cache is not bigger than its maximum size.
+   */
+  protected void trimToMaxSize(String keepName)
+  {
+    Iterator<String> iterator;
+    String name;
+
+    if (getRetention() != CacheRetention.BOUNDED)
+    {
+      return;
+    }
+    iterator = getEntries().keySet().iterator();
+    while ((getEntries().size() > getMaxSize()) && iterator.hasNext())
+    {
+      name = iterator.next();
+      if (!name.equals(keepName))
+      {
+        iterator.remove();
+      }
+    }
+  }
+
+  protected ConcurrentMap<String, Object> getEntries()
+  {
+    return this.entries;
+  }
+
+  // =========================================================================
+  // INNER CLASSES
+  // =========================================================================
+  private static class NamedReference<T> extends WeakReference<T>
+  {
+    private final String name;
+
+    NamedReference(String name, T referent, ReferenceQueue<? super T> queue)
+    {
+      super(referent, queue);
+      this.name = name;
+    }
+
+    String getName()
+    {
+      return this.name;
+    }
+  }
+}
@@ -0,0 +1,85 @@
+// ===========================================================================
+// CONTENT  : CLASS NanoTimeLogClock
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.0 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging.internal;
+
+/**
+ * A precise clock based on System.nanoTime() that is anchored to the wall 
+ * clock once at creation.
+ * <p>
+ * Its time is monotonic and has nanosecond resolution, so it is well suited
+ * to measure the latency between records. It does not follow later adjustments
+ * of the system clock, unless {@link #resynchronize()} is called.
+ *
+ * @author Manfred Duchrow
+ * @version 1.0
+ */
+public class NanoTimeLogClock implements LogClock
+{
+  // =========================================================================
+  // CONSTANTS
+  // =========================================================================
+  private static final long NANOS_PER_MILLI = 1000000L;
+
+  // =========================================================================
+  // INSTANCE VARIABLES
+  // =========================================================================
+  private volatile Anchor anchor;
+
+  // =========================================================================
+  // CONSTRUCTORS
+  // =========================================================================
+  public NanoTimeLogClock()
+  {
+    super();
+    this.resynchronize();
+  }
+
+  // =========================================================================
+  // PUBLIC INSTANCE METHODS
+  // =========================================================================
+  @Override
+  public long currentTimeMillis()
+  {
+    return this.currentTimeNanos() / NANOS_PER_MILLI;
+  }
+
+  @Override
+  public long currentTimeNanos()
+  {
+    Anchor current;
+
+    current = this.anchor;
+    return current.epochNanos + (System.nanoTime() - current.nanoTime);
+  }
+
+  /**
+   * Anchors this clock to the current time of the system clock again.
+   */
+  public void resynchronize()
+  {
+    this.anchor = new Anchor(System.currentTimeMillis() * NANOS_PER_MILLI, System.nanoTime());
+  }
+
+  // =========================================================================
+  // INNER CLASSES
+  // =========================================================================
+  private static class Anchor
+  {
+    private final long epochNanos;
+    private final long nanoTime;
+
+    private Anchor(long epochNanos, long nanoTime)
+    {
+      super();
+      this.epochNanos = epochNanos;
+      this.nanoTime = nanoTime;
+    }
+  }
+}
@@ -0,0 +1,511 @@
+// ===========================================================================
+// CONTENT  : CLASS PrintfTemplate
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.0 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging.internal;
+
+import java.text.DecimalFormatSymbols;
+import java.util.ArrayList;
+import java.util.Formattable;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * A pre-parsed printf-style template that produces exactly the same output
+ * as {@link String#format(String, Object...)}.
+ * <p>
+ * Supported are the conversions %s, %d, %x, %n and %% with an optional 
+ * width, the flags '-' and '0' (where {@link java.util.Formatter} allows them)
+ * and a precision for %s. 
+ * Templates with any other format specifier (e.g. %5.2f or %1$s) and 
+ * arguments that are not handled here (e.g. BigInteger for %d or 
+ * {@link Formattable} for %s) are delegated to {@link String#format(String, Object...)}.
+ * <p>
+ * Compiled templates are kept in a bounded cache, so they must be parsed only 
+ * once.
+ *
+ * @author Manfred Duchrow
+ * @version 1.0
+ */
+public class PrintfTemplate
+{
+  // =========================================================================
+  // CONSTANTS
+  // =========================================================================
+  private static final int CACHE_SIZE = 1000;
+  private static final int MAX_NUMBER_DIGITS = 6;
+  private static final int NONE = -1;
+  private static final String FLAG_CHARS = "-#+ 0,(<";
+  private static final String LINE_SEPARATOR = System.getProperty("line.separator");
+  private static final NamedInstanceCache<PrintfTemplate> CACHE = new NamedInstanceCache<PrintfTemplate>(CacheRetention.BOUNDED, CACHE_SIZE);
+  private static final ReusableStringBuilder BUFFERS = new ReusableStringBuilder();
+
+  private static volatile LocaleDigits localeDigits = new LocaleDigits(null, false);
+
+  // =========================================================================
+  // INSTANCE VARIABLES
+  // =========================================================================
+  private final String template;
+  /**
+   * The literal text parts. There is always one more than conversions.
+   * A null value means that the template must be handled by String.format().
+   */
+  private final String[] literals;
+  private final Conversion[] conversions;
+  private final boolean hasDecimals;
+
+  // =========================================================================
+  // CLASS METHODS
+  // =========================================================================
+  /**
+   * Returns the compiled template for the given printf format string.
+   * 
+   * @param template The format string (must not be null).
+   */
+  public static PrintfTemplate compile(String template)
+  {
+    PrintfTemplate printfTemplate;
+
+    printfTemplate = CACHE.get(template);
+    if (printfTemplate == null)
+    {
+      printfTemplate = CACHE.putIfAbsent(template, parse(template));
+    }
+    return printfTemplate;
+  }
+
+  protected static PrintfTemplate parse(String template)
+  {
+    List<String> literals = new ArrayList<String>();
+    List<Conversion> conversions = new ArrayList<Conversion>();
+    StringBuilder literal = new StringBuilder(template.length());
+    int length = template.length();
+    int start;
+    int pos;
+    Conversion conversion;
+    char ch;
+
+    pos = 0;
+    while (pos < length)
+    {
+      ch = template.charAt(pos);
+      if (ch != '%')
+      {
+        literal.append(ch);
+        pos++;
+        continue;
+      }
+      start = pos;
+      pos++;
+      if (pos >= length)
+      {
+        return new PrintfTemplate(template, null, null);
+      }
+      ch = template.charAt(pos);
+      if (ch == '%')
+      {
+        literal.append('%');
+        pos++;
+        continue;
+      }
+      if (ch == 'n')
+      {
+        literal.append(LINE_SEPARATOR);
+        pos++;
+        continue;
+      }
+      pos = skipSpecifier(template, pos);
+      conversion = (pos < 0) ? null : Conversion.parse(template.substring(start + 1, pos));
+      if (conversion == null)
+      {
+        return new PrintfTemplate(template, null, null);
+      }
+      literals.add(literal.toString());
+      literal.setLength(0);
+      conversions.add(conversion);
+    }
+    literals.add(literal.toString());
+    return new PrintfTemplate(template, literals.toArray(new String[literals.size()]), conversions.toArray(new Conversion[conversions.size()]));
+  }
+
+  /**
+   * Returns the position after the conversion character of the format 
+   * specifier starting at the given position or -1 if there is no complete 
+   * specifier.
+   */
+  private static int skipSpecifier(String template, int pos)
+  {
+    int length = template.length();
+
+    while ((pos < length) && (FLAG_CHARS.indexOf(template.charAt(pos)) >= 0))
+    {
+      pos++;
+    }
+    while ((pos < length) && (isDigit(template.charAt(pos)) || (template.charAt(pos) == '.') || (template.charAt(pos) == '$')))
+    {
+      pos++;
+    }
+    if ((pos < length) && Character.isLetter(template.charAt(pos)))
+    {
+      return pos + 1;
+    }
+    return -1;
+  }
+
+  private static boolean isDigit(char ch)
+  {
+    return (ch >= '0') && (ch <= '9');
+  }
+
+  /**
+   * Returns true if the current default locale uses the ASCII digits
+   * (which is what the decimal conversion here produces).
+   */
+  private static boolean isDefaultLocaleWithAsciiDigits()
+  {
+    LocaleDigits digits;
+    Locale locale;
+
+    locale = Locale.getDefault();
+    digits = localeDigits;
+    if (digits.locale != locale)
+    {
+      digits = new LocaleDigits(locale, DecimalFormatSymbols.getInstance(locale).getZeroDigit() == '0');
+      localeDigits = digits;
+    }
+    return digits.asciiDigits;
+  }
+
+  // =========================================================================
+  // CONSTRUCTORS
+  // =========================================================================
+  protected PrintfTemplate(String template, String[] literals, Conversion[] conversions)
+  {
+    super();
+    boolean decimals = false;
+
+    this.template = template;
+    this.literals = literals;
+    this.conversions = conversions;
+    if (conversions != null)
+    {
+      for (Conversion conversion : conversions)
+      {
+        decimals = decimals || (conversion.type == 'd');
+      }
+    }
+    this.hasDecimals = decimals;
+  }
+
+  // =========================================================================
+  // PUBLIC INSTANCE METHODS
+  // =========================================================================
+  /**
+   * Returns the text of this template with all format specifiers replaced
+   * by the corresponding arguments.
+   */
+  public String format(Object[] args)
+  {
+    StringBuilder buffer;
+    String text;
+
+    if (isComplex() || (this.hasDecimals && !isDefaultLocaleWithAsciiDigits()))
+    {
+      return String.format(getTemplate(), args);
+    }
+    buffer = BUFFERS.acquire();
+    if (appendTo(buffer, args))
+    {
+      text = buffer.toString();
+    }
+    else
+    {
+      text = String.format(getTemplate(), args);
+    }
+    BUFFERS.release(buffer);
+    return text;
+  }
+
+  public String getTemplate()
+  {
+    return this.template;
+  }
+
+  /**
+   * Returns true if this template contains format specifiers that are not
+   * supported here and therefore gets formatted by String.format().
+   */
+  public boolean isComplex()
+  {
+    return this.literals == null;
+  }
+
+  // =========================================================================
+  // PROTECTED INSTANCE METHODS
+  // =========================================================================
+  /**
+   * Appends the formatted text to the given buffer.
+   * 
+   * @return false if any argument cannot be handled here (the buffer content is undefined then).
+   */
+  protected boolean appendTo(StringBuilder buffer, Object[] args)
+  {
+    Object arg;
+
+    if ((args != null) && (args.length < this.conversions.length))
+    {
+      return false;
+    }
+    for (int i = 0; i < this.conversions.length; i++)
+    {
+      buffer.append(this.literals[i]);
+      arg = (args == null) ? null : args[i];
+      if (!this.conversions[i].appendTo(buffer, arg))
+      {
+        return false;
+      }
+    }
+    buffer.append(this.literals[this.literals.length - 1]);
+    return true;
+  }
+
+  // =========================================================================
+  // INNER CLASSES
+  // =========================================================================
+  /**
+   * One parsed format specifier of type s, d or x.
+   */
+  private static class Conversion
+  {
+    private final char type;
+    private final int width;
+    private final int precision;
+    private final boolean leftJustify;
+    private final boolean zeroPad;
+
+    Conversion(char type, int width, int precision, boolean leftJustify, boolean zeroPad)
+    {
+      this.type = type;
+      this.width = width;
+      this.precision = precision;
+      this.leftJustify = leftJustify;
+      this.zeroPad = zeroPad;
+    }
+
+    /**
+     * Parses a specifier like "-10s", "08x" or ".20s" (without the leading '%').
+     * Returns null if the specifier is not supported.
+     */
+    static Conversion parse(String spec)
+    {
+      char type = spec.charAt(spec.length() - 1);
+      boolean leftJustify = false;
+      boolean zeroPad = false;
+      int width = NONE;
+      int precision = NONE;
+      int pos = 0;
+      int dot;
+      String body;
+
+      if ((type != 's') && (type != 'd') && (type != 'x'))
+      {
+        return null;
+      }
+      body = spec.substring(0, spec.length() - 1);
+      if (body.indexOf('$') >= 0)
+      {
+        return null;
+      }
+      if (body.startsWith("-"))
+      {
+        leftJustify = true;
+        pos = 1;
+      }
+      else if (body.startsWith("0"))
+      {
+        zeroPad = true;
+        pos = 1;
+      }
+      body = body.substring(pos);
+      dot = body.indexOf('.');
+      if (dot >= 0)
+      {
+        precision = parseNumber(body.substring(dot + 1));
+        body = body.substring(0, dot);
+        if ((precision == NONE) || (type != 's'))
+        {
+          return null;
+        }
+      }
+      if (body.length() > 0)
+      {
+        width = parseNumber(body);
+        if ((width == NONE) || (body.charAt(0) == '0'))
+        {
+          return null;
+        }
+      }
+      if ((leftJustify || zeroPad) && (width == NONE))
+      {
+        return null;
+      }
+      if (zeroPad && (type == 's'))
+      {
+        return null;
+      }
+      return new Conversion(type, width, precision, leftJustify, zeroPad);
+    }
+
+    private static int parseNumber(String digits)
+    {
+      if ((digits.length() == 0) || (digits.length() > MAX_NUMBER_DIGITS))
+      {
+        return NONE;
+      }
+      for (int i = 0; i < digits.length(); i++)
+      {
+        if (!isDigit(digits.charAt(i)))
+        {
+          return NONE;
+        }
+      }
+      return Integer.parseInt(digits);
+    }
+
+    /**
+     * Appends the given argument formatted according to this specifier.
+     * Returns false if the argument type is not supported.
+     */
+    boolean appendTo(StringBuilder buffer, Object arg)
+    {
+      String text;
+
+      if (arg == null)
+      {
+        appendJustified(buffer, truncate("null"), false);
+        return true;
+      }
+      switch (this.type)
+      {
+        case 's':
+          if (arg instanceof Formattable)
+          {
+            return false;
+          }
+          text = arg.toString();
+          if (text == null)
+          {
+            return false;
+          }
+          appendJustified(buffer, truncate(text), false);
+          return true;
+        case 'd':
+          if ((arg instanceof Integer) || (arg instanceof Long) || (arg instanceof Short) || (arg instanceof Byte))
+          {
+            appendJustified(buffer, Long.toString(((Number)arg).longValue()), this.zeroPad);
+            return true;
+          }
+          return false;
+        default:
+          text = toHexString(arg);
+          if (text == null)
+          {
+            return false;
+          }
+          appendJustified(buffer, text, this.zeroPad);
+          return true;
+      }
+    }
+
+    private String toHexString(Object arg)
+    {
+      if (arg instanceof Integer)
+      {
+        return Integer.toHexString(((Integer)arg).intValue());
+      }
+      if (arg instanceof Long)
+      {
+        return Long.toHexString(((Long)arg).longValue());
+      }
+      if (arg instanceof Short)
+      {
+        return Integer.toHexString(((Short)arg).shortValue() & 0xFFFF);
+      }
+      if (arg instanceof Byte)
+      {
+        return Integer.toHexString(((Byte)arg).byteValue() & 0xFF);
+      }
+      return null;
+    }
+
+    private String truncate(String text)
+    {
+      if ((this.precision != NONE) && (this.precision < text.length()))
+      {
+        return text.substring(0, this.precision);
+      }
+      return text;
+    }
+
+    /**
+     * Appends the text padded to the width of this specifier.
+     * Zero padding is inserted after a leading minus sign.
+     */
+    private void appendJustified(StringBuilder buffer, String text, boolean padWithZeros)
+    {
+      int padding = this.width - text.length();
+      int start = 0;
+
+      if (padding <= 0)
+      {
+        buffer.append(text);
+        return;
+      }
+      if (padWithZeros)
+      {
+        if (text.charAt(0) == '-')
+        {
+          buffer.append('-');
+          start = 1;
+        }
+        appendChars(buffer, '0', padding);
+        buffer.append(text, start, text.length());
+      }
+      else if (this.leftJustify)
+      {
+        buffer.append(text);
+        appendChars(buffer, ' ', padding);
+      }
+      else
+      {
+        appendChars(buffer, ' ', padding);
+        buffer.append(text);
+      }
+    }
+
+    private void appendChars(StringBuilder buffer, char ch, int count)
+    {
+      for (int i = 0; i < count; i++)
+      {
+        buffer.append(ch);
+      }
+    }
+  }
+
+  private static class LocaleDigits
+  {
+    private final Locale locale;
+    private final boolean asciiDigits;
+
+    LocaleDigits(Locale locale, boolean asciiDigits)
+    {
+      this.locale = locale;
+      this.asciiDigits = asciiDigits;
+    }
+  }
+}
@@ -0,0 +1,38 @@
+// ===========================================================================
+// CONTENT  : INTERFACE PrintfTemplateLogger
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.0 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging.internal;
+
+import org.pfsw.logging.LogLevel;
+
+/**
+ * A logger that accepts printf style message templates and their parameters
+ * without having them formatted by the caller.
+ * <p>
+ * The printf methods of {@link org.pfsw.logging.Logger2Logger} pass on 
+ * template and parameters to a delegate logger that implements this interface. 
+ * The result must be the same as logging the formatted message 
+ * (see {@link PrintfTemplate}) followed by the exception.
+ *
+ * @author Manfred Duchrow
+ * @version 1.0
+ */
+public interface PrintfTemplateLogger
+{
+  /**
+   * Logs the given printf template with the given parameters. The log level
+   * has already been checked by the caller.
+   * 
+   * @param level The level of the record.
+   * @param exception An optional exception to be logged after the message (might be null).
+   * @param template The printf style message template.
+   * @param params The parameters for the template (might contain {@link org.pfsw.logging.LogSupplier}s).
+   */
+  void logPrintf(LogLevel level, Throwable exception, String template, Object[] params);
+}
@@ -0,0 +1,75 @@
+// ===========================================================================
+// CONTENT  : CLASS ReusableStringBuilder
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.0 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging.internal;
+
+/**
+ * Provides one StringBuilder per thread that can be re-used for building
+ * log output.
+ * <p>
+ * A builder must be given back via {@link #release(StringBuilder)} after usage.
+ * Nested usage in the same thread (e.g. a toString() method that does 
+ * logging itself) is safe, because it gets a new builder in that case.
+ *
+ * @author Manfred Duchrow
+ * @version 1.0
+ */
+public class ReusableStringBuilder
+{
+  // =========================================================================
+  // CONSTANTS
+  // =========================================================================
+  private static final int INITIAL_CAPACITY = 256;
+  private static final int MAX_RETAINED_CAPACITY = 16 * 1024;
+
+  // =========================================================================
+  // INSTANCE VARIABLES
+  // =========================================================================
+  private final ThreadLocal<StringBuilder> builders = new ThreadLocal<StringBuilder>();
+
+  // =========================================================================
+  // CONSTRUCTORS
+  // =========================================================================
+  public ReusableStringBuilder()
+  {
+    super();
+  }
+
+  // =========================================================================
+  // PUBLIC INSTANCE METHODS
+  // =========================================================================
+  /**
+   * Returns an empty StringBuilder for exclusive usage by the current thread.
+   */
+  public StringBuilder acquire()
+  {
+    StringBuilder builder;
+
+    builder = this.builders.get();
+    if (builder == null)
+    {
+      return new StringBuilder(INITIAL_CAPACITY);
+    }
+    this.builders.set(null);
+    builder.setLength(0);
+    return builder;
+  }
+
+  /**
+   * Gives back the given builder for later re-use in the current thread.
+   * Builders that have grown too big are not kept.
+   */
+  public void release(StringBuilder builder)
+  {
+    if ((builder != null) && (builder.capacity() <= MAX_RETAINED_CAPACITY))
+    {
+      this.builders.set(builder);
+    }
+  }
+}
@@ -0,0 +1,82 @@
+// ===========================================================================
+// CONTENT  : CLASS StringBuilderWriter
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.0 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging.internal;
+
+import java.io.Writer;
+
+/**
+ * A writer that appends everything to a given StringBuilder.
+ * Unlike java.io.StringWriter it is not synchronized and can write into
+ * a re-used buffer.
+ *
+ * @author Manfred Duchrow
+ * @version 1.0
+ */
+public class StringBuilderWriter extends Writer
+{
+  // =========================================================================
+  // INSTANCE VARIABLES
+  // =========================================================================
+  private final StringBuilder buffer;
+
+  // =========================================================================
+  // CONSTRUCTORS
+  // =========================================================================
+  public StringBuilderWriter(StringBuilder buffer)
+  {
+    super();
+    this.buffer = buffer;
+  }
+
+  // =========================================================================
+  // PUBLIC INSTANCE METHODS
+  // =========================================================================
+  @Override
+  public void write(int c)
+  {
+    this.buffer.append((char)c);
+  }
+
+  @Override
+  public void write(char[] cbuf, int off, int len)
+  {
+    this.buffer.append(cbuf, off, len);
+  }
+
+  @Override
+  public void write(String str, int off, int len)
+  {
+    this.buffer.append(str, off, off + len);
+  }
+
+  @Override
+  public Writer append(CharSequence csq)
+  {
+    this.buffer.append(csq);
+    return this;
+  }
+
+  @Override
+  public void flush()
+  {
+    // Nothing to flush
+  }
+
+  @Override
+  public void close()
+  {
+    // Nothing to close
+  }
+
+  public StringBuilder getBuffer()
+  {
+    return this.buffer;
+  }
+}
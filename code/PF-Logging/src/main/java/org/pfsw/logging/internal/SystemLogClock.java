@@ -0,0 +1,49 @@
+// ===========================================================================
+// CONTENT  : CLASS SystemLogClock
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.0 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging.internal;
+
+/**
+ * A clock that simply delegates to System.currentTimeMillis().
+ *
+ * @author Manfred Duchrow
+ * @version 1.0
+ */
+public class SystemLogClock implements LogClock
+{
+  // =========================================================================
+  // CONSTANTS
+  // =========================================================================
+  public static final SystemLogClock INSTANCE = new SystemLogClock();
+
+  private static final long NANOS_PER_MILLI = 1000000L;
+
+  // =========================================================================
+  // CONSTRUCTORS
+  // =========================================================================
+  public SystemLogClock()
+  {
+    super();
+  }
+
+  // =========================================================================
+  // PUBLIC INSTANCE METHODS
+  // =========================================================================
+  @Override
+  public long currentTimeMillis()
+  {
+    return System.currentTimeMillis();
+  }
+
+  @Override
+  public long currentTimeNanos()
+  {
+    return System.currentTimeMillis() * NANOS_PER_MILLI;
+  }
+}
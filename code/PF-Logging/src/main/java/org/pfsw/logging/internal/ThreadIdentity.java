@@ -0,0 +1,91 @@
+// ===========================================================================
+// CONTENT  : CLASS ThreadIdentity
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.0 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging.internal;
+
+/**
+ * The ID and name of a thread, captured once per thread.
+ * <p>
+ * Thread.getName() creates a new string on each call in older JVMs. 
+ * {@link #current()} instead returns the same instance for all records of
+ * a thread. If a thread gets renamed, it has to call {@link #refresh()} to
+ * make the new name visible.
+ *
+ * @author Manfred Duchrow
+ * @version 1.0
+ */
+public final class ThreadIdentity
+{
+  // =========================================================================
+  // CONSTANTS
+  // =========================================================================
+  private static final ThreadLocal<ThreadIdentity> CURRENT = new ThreadLocal<ThreadIdentity>()
+  {
+    @Override
+    protected ThreadIdentity initialValue()
+    {
+      return new ThreadIdentity(Thread.currentThread());
+    }
+  };
+
+  // =========================================================================
+  // INSTANCE VARIABLES
+  // =========================================================================
+  private final long id;
+  private final String name;
+
+  // =========================================================================
+  // CLASS METHODS
+  // =========================================================================
+  /**
+   * Returns the identity of the current thread.
+   */
+  public static ThreadIdentity current()
+  {
+    return CURRENT.get();
+  }
+
+  /**
+   * Captures the identity of the current thread again, e.g. after it has been renamed.
+   */
+  public static ThreadIdentity refresh()
+  {
+    CURRENT.remove();
+    return CURRENT.get();
+  }
+
+  // =========================================================================
+  // CONSTRUCTORS
+  // =========================================================================
+  public ThreadIdentity(Thread thread)
+  {
+    super();
+    this.id = thread.getId();
+    this.name = thread.getName();
+  }
+
+  // =========================================================================
+  // PUBLIC INSTANCE METHODS
+  // =========================================================================
+  public long getId()
+  {
+    return this.id;
+  }
+
+  public String getName()
+  {
+    return this.name;
+  }
+
+  @Override
+  public String toString()
+  {
+    return this.name + "#" + this.id;
+  }
+}
@@ -0,0 +1,173 @@
+// ===========================================================================
+// CONTENT  : CLASS Utf8Encoder
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.0 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging.internal;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * Encodes character sequences (typically the StringBuilder a log record
+ * was assembled in) to UTF-8 into a re-used byte buffer.
+ * No intermediate String or byte array gets created.
+ * <p>
+ * Pure ASCII text (the usual case for log records) is copied by a simple
+ * loop. Only from the first non-ASCII character on a re-used
+ * {@link CharsetEncoder} is involved. Invalid surrogates get replaced
+ * by '?' like in String.getBytes().
+ * <p>
+ * An instance must only be used by one thread at a time.
+ * Use {@link #current()} to get the instance of the current thread.
+ *
+ * @author Manfred Duchrow
+ * @version 1.0
+ */
+public class Utf8Encoder
+{
+  // =========================================================================
+  // CONSTANTS
+  // =========================================================================
+  public static final Charset UTF8 = Charset.forName("UTF-8");
+
+  private static final int INITIAL_CAPACITY = 512;
+  private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+  private static final int MAX_BYTES_PER_CHAR = 3;
+
+  private static final ThreadLocal<Utf8Encoder> ENCODERS = new ThreadLocal<Utf8Encoder>()
+  {
+    @Override
+    protected Utf8Encoder initialValue()
+    {
+      return new Utf8Encoder();
+    }
+  };
+
+  // =========================================================================
+  // INSTANCE VARIABLES
+  // =========================================================================
+  private final CharsetEncoder encoder;
+  private ByteBuffer byteBuffer;
+
+  // =========================================================================
+  // CLASS METHODS
+  // =========================================================================
+  /**
+   * Returns the encoder of the current thread.
+   */
+  public static Utf8Encoder current()
+  {
+    return ENCODERS.get();
+  }
+
+  // =========================================================================
+  // CONSTRUCTORS
+  // =========================================================================
+  public Utf8Encoder()
+  {
+    super();
+    this.encoder = UTF8.newEncoder();
+    this.encoder.onMalformedInput(CodingErrorAction.REPLACE);
+    this.encoder.onUnmappableCharacter(CodingErrorAction.REPLACE);
+    this.byteBuffer = ByteBuffer.allocate(INITIAL_CAPACITY);
+  }
+
+  // =========================================================================
+  // PUBLIC INSTANCE METHODS
+  // =========================================================================
+  /**
+   * Encodes the given characters. The result is available in the array
+   * returned by {@link #getBytes()} until the next call of this method.
+   *
+   * @param chars The characters to encode.
+   * @return The number of bytes the characters have been encoded to.
+   */
+  public int encode(CharSequence chars)
+  {
+    int length;
+    byte[] bytes;
+    char ch;
+
+    length = chars.length();
+    this.prepareBuffer(length);
+    bytes = this.byteBuffer.array();
+    for (int i = 0; i < length; i++)
+    {
+      ch = chars.charAt(i);
+      if (ch >= 0x80)
+      {
+        return this.encodeNonAscii(chars, i);
+      }
+      bytes[i] = (byte)ch;
+    }
+    return length;
+  }
+
+  /**
+   * Returns the array that contains the result of the last {@link #encode(CharSequence)}
+   * starting at index 0.
+   */
+  public byte[] getBytes()
+  {
+    return this.byteBuffer.array();
+  }
+
+  // =========================================================================
+  // PRIVATE INSTANCE METHODS
+  // =========================================================================
+  /**
+   * Encodes the characters from the given start index on with the charset
+   * encoder. All characters before are ASCII and already in the buffer.
+   */
+  private int encodeNonAscii(CharSequence chars, int start)
+  {
+    CharBuffer input;
+
+    this.ensureCapacity(start, start + (MAX_BYTES_PER_CHAR * (chars.length() - start)));
+    input = CharBuffer.wrap(chars, start, chars.length());
+    this.byteBuffer.clear();
+    this.byteBuffer.position(start);
+    this.encoder.reset();
+    // The buffer is big enough for the worst case, so no overflow can occur
+    this.encoder.encode(input, this.byteBuffer, true);
+    this.encoder.flush(this.byteBuffer);
+    return this.byteBuffer.position();
+  }
+
+  /**
+   * Makes sure the buffer can take the given number of bytes.
+   * A buffer that has grown too big for re-use gets replaced by a smaller one.
+   */
+  private void prepareBuffer(int size)
+  {
+    if ((this.byteBuffer.capacity() < size)
+        || ((this.byteBuffer.capacity() > MAX_RETAINED_CAPACITY) && (size <= INITIAL_CAPACITY)))
+    {
+      this.byteBuffer = ByteBuffer.allocate(Math.max(INITIAL_CAPACITY, size));
+    }
+  }
+
+  /**
+   * Enlarges the buffer if it cannot take the given number of bytes.
+   * The given number of already encoded bytes get kept.
+   */
+  private void ensureCapacity(int usedSize, int size)
+  {
+    ByteBuffer newBuffer;
+
+    if (this.byteBuffer.capacity() < size)
+    {
+      newBuffer = ByteBuffer.allocate(size);
+      System.arraycopy(this.byteBuffer.array(), 0, newBuffer.array(), 0, usedSize);
+      this.byteBuffer = newBuffer;
+    }
+  }
+}
@@ -1,12 +1,15 @@
 // ===========================================================================
 // CONTENT  : CLASS JavaUtilLoggerAdapter
 // AUTHOR   : Manfred Duchrow
-// VERSION  : 1.1 - 05/01/2017
+// VERSION  : 1.4 - 18/10/2026
 // HISTORY  :
 //  22/06/2014  mdu  CREATED
 //  05/01/2017  mdu   changed --> Refer to LogLevel enum
+//  18/10/2026  mdu   added   --> fixed-arity log methods
+//  18/10/2026  mdu   added   --> apply levels from LoggerLevels
+//  18/10/2026  mdu   changed --> LogSupplier parameters get resolved
 //
-// Copyright (c) 2014-2017, by MDCS. All rights reserved.
+// Copyright (c) 2014-2026, by MDCS. All rights reserved.
 // ===========================================================================
 package org.pfsw.logging.jul ;
 
@@ -18,6 +21,9 @@ import org.pfsw.logging.Logger;
 // IMPORTS
 // ===========================================================================
 import org.pfsw.logging.LogLevel;
+import org.pfsw.logging.LogSupplier;
+import org.pfsw.logging.LoggerLevels;
+import org.pfsw.logging.internal.LazyArguments;
 
 /**
  * This logger adapter maps to logger instances of the java.util.logging (JUL)
@@ -30,9 +36,12 @@ import org.pfsw.logging.LogLevel;
  * <li>DEBUG --> FINE</li>
  * <li>NONE --> OFF</li>
  * </ul>
+ * A level configured in {@link LoggerLevels} for the logger's name gets 
+ * set on the underlying JUL logger, unless a level has been set explicitly
+ * via {@link #setLogLevel(String)}.
  *
  * @author Manfred Duchrow
- * @version 1.1
+ * @version 1.4
  */
 class JavaUtilLoggerAdapter implements Logger
 {
@@ -45,6 +54,9 @@ class JavaUtilLoggerAdapter implements Logger
   // INSTANCE VARIABLES
   // =========================================================================
   private final java.util.logging.Logger julLogger;
+  private volatile int levelGeneration = -1;
+  private boolean explicitLevel = false;
+  private boolean configuredLevelApplied = false;
 
   // =========================================================================
   // CONSTRUCTORS
@@ -87,25 +99,145 @@ class JavaUtilLoggerAdapter implements Logger
   @Override
   public void logDebug(String message, Object... params)
   {
-    getJulLogger().log(DEBUG_LEVEL, message, params);
+    log(DEBUG_LEVEL, message, params);
   }
 
   @Override
   public void logInfo(String message, Object... params)
   {
-    getJulLogger().log(Level.INFO, message, params);
+    log(Level.INFO, message, params);
   }
 
   @Override
   public void logWarning(String message, Object... params)
   {
-    getJulLogger().log(Level.WARNING, message, params);
+    log(Level.WARNING, message, params);
   }
   
   @Override
   public void logError(String message, Object... params)
   {
-    getJulLogger().log(Level.SEVERE, message, params);    
+    log(Level.SEVERE, message, params);    
+  }
+
+  @Override
+  public void logDebug(String message)
+  {
+    getJulLogger().log(DEBUG_LEVEL, message);
+  }
+
+  @Override
+  public void logDebug(String message, Object param1)
+  {
+    log(DEBUG_LEVEL, message, param1);
+  }
+
+  @Override
+  public void logDebug(String message, Object param1, Object param2)
+  {
+    if (getJulLogger().isLoggable(DEBUG_LEVEL))
+    {
+      getJulLogger().log(DEBUG_LEVEL, message, LazyArguments.resolve(new Object[] { param1, param2 }));
+    }
+  }
+
+  @Override
+  public void logDebug(String message, Object param1, Object param2, Object param3)
+  {
+    if (getJulLogger().isLoggable(DEBUG_LEVEL))
+    {
+      getJulLogger().log(DEBUG_LEVEL, message, LazyArguments.resolve(new Object[] { param1, param2, param3 }));
+    }
+  }
+
+  @Override
+  public void logInfo(String message)
+  {
+    getJulLogger().log(Level.INFO, message);
+  }
+
+  @Override
+  public void logInfo(String message, Object param1)
+  {
+    log(Level.INFO, message, param1);
+  }
+
+  @Override
+  public void logInfo(String message, Object param1, Object param2)
+  {
+    if (getJulLogger().isLoggable(Level.INFO))
+    {
+      getJulLogger().log(Level.INFO, message, LazyArguments.resolve(new Object[] { param1, param2 }));
+    }
+  }
+
+  @Override
+  public void logInfo(String message, Object param1, Object param2, Object param3)
+  {
+    if (getJulLogger().isLoggable(Level.INFO))
+    {
+      getJulLogger().log(Level.INFO, message, LazyArguments.resolve(new Object[] { param1, param2, param3 }));
+    }
+  }
+
+  @Override
+  public void logWarning(String message)
+  {
+    getJulLogger().log(Level.WARNING, message);
+  }
+
+  @Override
+  public void logWarning(String message, Object param1)
+  {
+    log(Level.WARNING, message, param1);
+  }
+
+  @Override
+  public void logWarning(String message, Object param1, Object param2)
+  {
+    if (getJulLogger().isLoggable(Level.WARNING))
+    {
+      getJulLogger().log(Level.WARNING, message, LazyArguments.resolve(new Object[] { param1, param2 }));
+    }
+  }
+
+  @Override
+  public void logWarning(String message, Object param1, Object param2, Object param3)
+  {
+    if (getJulLogger().isLoggable(Level.WARNING))
+    {
+      getJulLogger().log(Level.WARNING, message, LazyArguments.resolve(new Object[] { param1, param2, param3 }));
+    }
+  }
+
+  @Override
+  public void logError(String message)
+  {
+    getJulLogger().log(Level.SEVERE, message);
+  }
+
+  @Override
+  public void logError(String message, Object param1)
+  {
+    log(Level.SEVERE, message, param1);
+  }
+
+  @Override
+  public void logError(String message, Object param1, Object param2)
+  {
+    if (getJulLogger().isLoggable(Level.SEVERE))
+    {
+      getJulLogger().log(Level.SEVERE, message, LazyArguments.resolve(new Object[] { param1, param2 }));
+    }
+  }
+
+  @Override
+  public void logError(String message, Object param1, Object param2, Object param3)
+  {
+    if (getJulLogger().isLoggable(Level.SEVERE))
+    {
+      getJulLogger().log(Level.SEVERE, message, LazyArguments.resolve(new Object[] { param1, param2, param3 }));
+    }
   }
 
   @Override
@@ -154,16 +286,75 @@ class JavaUtilLoggerAdapter implements Logger
     {
       return false;
     }
-    getJulLogger().setLevel(logLevel.getJULLevel());
+    synchronized (this)
+    {
+      this.explicitLevel = true;
+      getJulLogger().setLevel(logLevel.getJULLevel());
+    }
     return true;
   }
   
   // =========================================================================
   // PROTECTED INSTANCE METHODS
   // =========================================================================
+  /**
+   * Logs the given message with its parameters, after resolving all 
+   * {@link LogSupplier} parameters, if the level is enabled.
+   */
+  protected void log(Level level, String message, Object[] params)
+  {
+    if (getJulLogger().isLoggable(level))
+    {
+      getJulLogger().log(level, message, LazyArguments.resolve(params));
+    }
+  }
+
+  /**
+   * Logs the given message with one parameter, after resolving it if it 
+   * is a {@link LogSupplier}, if the level is enabled.
+   */
+  protected void log(Level level, String message, Object param)
+  {
+    if (getJulLogger().isLoggable(level))
+    {
+      getJulLogger().log(level, message, (param instanceof LogSupplier) ? ((LogSupplier<?>)param).get() : param);
+    }
+  }
+
   protected java.util.logging.Logger getJulLogger()
   {
+    if (this.levelGeneration != LoggerLevels.getGeneration())
+    {
+      applyConfiguredLevel();
+    }
     return julLogger;
   }
+
+  /**
+   * Sets the level configured in {@link LoggerLevels} on the JUL logger 
+   * unless an explicit level has been set.
+   */
+  protected synchronized void applyConfiguredLevel()
+  {
+    LogLevel level;
+    int generation;
+
+    generation = LoggerLevels.getGeneration();
+    if (!this.explicitLevel)
+    {
+      level = LoggerLevels.getLevel(julLogger.getName());
+      if (level != null)
+      {
+        julLogger.setLevel(level.getJULLevel());
+        this.configuredLevelApplied = true;
+      }
+      else if (this.configuredLevelApplied)
+      {
+        julLogger.setLevel(null);
+        this.configuredLevelApplied = false;
+      }
+    }
+    this.levelGeneration = generation;
+  }
   
 } 
@@ -0,0 +1,284 @@
+// ===========================================================================
+// CONTENT  : CLASS InMemoryLogRepository
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.2 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//  18/10/2026  mdu  changed --> merged view ordered by nanosecond timestamps
+//  18/10/2026  mdu  changed --> documented the order of the records of one logger
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging.memory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Holds exactly one {@link InMemoryLogger} per logger name and provides
+ * a central view on the records of all of them.
+ * <p>
+ * Each logger keeps its own records in its own {@link LogRecordStore}, so
+ * logging never contends across loggers. The merged view combines the
+ * records of all loggers in the order of their timestamps by a k-way merge
+ * of the per-logger records. It is evaluated lazily while iterating, so it
+ * needs no memory beyond the snapshots of the individual loggers and one
+ * entry per logger in a priority queue. Records with the same timestamp are
+ * delivered in the order the loggers were created.
+ * <p>
+ * The records of one logger always keep the order in which they were added.
+ * Threads that log concurrently through the same logger might add a record
+ * with a slightly older timestamp after a newer one. Such a record is 
+ * delivered after its predecessor, i.e. as if it had the predecessor's 
+ * timestamp. So the merged view is ordered by timestamp across loggers, 
+ * but within one logger it follows the append order.
+ *
+ * @author Manfred Duchrow
+ * @version 1.2
+ */
+public class InMemoryLogRepository
+{
+  // =========================================================================
+  // INSTANCE VARIABLES
+  // =========================================================================
+  private final ConcurrentMap<String, InMemoryLogger> loggers = new ConcurrentHashMap<String, InMemoryLogger>();
+  private final List<InMemoryLogger> loggersInCreationOrder = new CopyOnWriteArrayList<InMemoryLogger>();
+
+  // =========================================================================
+  // CONSTRUCTORS
+  // =========================================================================
+  public InMemoryLogRepository()
+  {
+    super();
+  }
+
+  // =========================================================================
+  // PUBLIC INSTANCE METHODS
+  // =========================================================================
+  /**
+   * Returns the logger with the given name. It gets created on first access
+   * and the same instance is returned for all later calls with that name.
+   */
+  public InMemoryLogger getLogger(String loggerName)
+  {
+    InMemoryLogger logger;
+    InMemoryLogger existing;
+
+    logger = this.loggers.get(loggerName);
+    if (logger == null)
+    {
+      logger = this.createLogger(loggerName);
+      existing = this.loggers.putIfAbsent(loggerName, logger);
+      if (existing == null)
+      {
+        this.loggersInCreationOrder.add(logger);
+      }
+      else
+      {
+        logger = existing;
+      }
+    }
+    return logger;
+  }
+
+  /**
+   * Returns the logger with the given name or null if it has not been created yet.
+   */
+  public InMemoryLogger findLogger(String loggerName)
+  {
+    return this.loggers.get(loggerName);
+  }
+
+  /**
+   * Returns all loggers of this repository in the order they were created.
+   */
+  public List<InMemoryLogger> getLoggers()
+  {
+    return new ArrayList<InMemoryLogger>(this.loggersInCreationOrder);
+  }
+
+  /**
+   * Returns the records of all loggers ordered by their timestamps
+   * (the records of each logger in the order they were added).
+   */
+  public Iterable<LogRecord> getMergedLogRecords()
+  {
+    return this.find(new LogRecordQuery());
+  }
+
+  /**
+   * Returns the records of all loggers that match the given query,
+   * ordered by their timestamps (the records of each logger in the order 
+   * they were added). If the query specifies a logger name,
+   * only that logger is searched.
+   */
+  public Iterable<LogRecord> find(LogRecordQuery query)
+  {
+    final List<Iterable<LogRecord>> sources;
+    InMemoryLogger logger;
+
+    if (query.getLoggerName() != null)
+    {
+      logger = this.findLogger(query.getLoggerName());
+      if (logger == null)
+      {
+        return Collections.emptyList();
+      }
+      return logger.find(query);
+    }
+    sources = new ArrayList<Iterable<LogRecord>>();
+    for (InMemoryLogger each : this.loggersInCreationOrder)
+    {
+      sources.add(each.find(query));
+    }
+    return new Iterable<LogRecord>()
+    {
+      @Override
+      public Iterator<LogRecord> iterator()
+      {
+        return new MergingIterator(sources);
+      }
+    };
+  }
+
+  /**
+   * Returns the number of records of all loggers.
+   */
+  public int size()
+  {
+    int size;
+
+    size = 0;
+    for (InMemoryLogger logger : this.loggersInCreationOrder)
+    {
+      size += logger.size();
+    }
+    return size;
+  }
+
+  /**
+   * Removes the records of all loggers. The loggers themselves remain.
+   */
+  public void clear()
+  {
+    for (InMemoryLogger logger : this.loggersInCreationOrder)
+    {
+      logger.clear();
+    }
+  }
+
+  // =========================================================================
+  // PROTECTED INSTANCE METHODS
+  // =========================================================================
+  protected InMemoryLogger createLogger(String loggerName)
+  {
+    return new InMemoryLogger(loggerName, this.createLogRecordStore());
+  }
+
+  /**
+   * Returns a new store for a logger. Subclasses may override this method
+   * to use another kind of store.
+   */
+  protected LogRecordStore createLogRecordStore()
+  {
+    return new ListLogRecordStore();
+  }
+
+  // =========================================================================
+  // INNER CLASSES
+  // =========================================================================
+  /**
+   * The next record of one source, ordered by timestamp and then by the
+   * position of the source. As a source delivers its records in append order,
+   * a record with an older timestamp than its predecessor gets compared 
+   * only after the predecessor has been delivered.
+   */
+  private static class Head implements Comparable<Head>
+  {
+    private final Iterator<LogRecord> source;
+    private final int sourceIndex;
+    private LogRecord record;
+
+    private Head(Iterator<LogRecord> source, int sourceIndex)
+    {
+      super();
+      this.source = source;
+      this.sourceIndex = sourceIndex;
+    }
+
+    private boolean advance()
+    {
+      this.record = this.source.hasNext() ? this.source.next() : null;
+      return this.record != null;
+    }
+
+    @Override
+    public int compareTo(Head other)
+    {
+      if (this.record.getTimestampNanos() != other.record.getTimestampNanos())
+      {
+        return (this.record.getTimestampNanos() < other.record.getTimestampNanos()) ? -1 : 1;
+      }
+      return this.sourceIndex - other.sourceIndex;
+    }
+  }
+
+  private static class MergingIterator implements Iterator<LogRecord>
+  {
+    private final PriorityQueue<Head> heads;
+
+    private MergingIterator(List<Iterable<LogRecord>> sources)
+    {
+      super();
+      Head head;
+
+      this.heads = new PriorityQueue<Head>(Math.max(1, sources.size()));
+      for (int i = 0; i < sources.size(); i++)
+      {
+        head = new Head(sources.get(i).iterator(), i);
+        if (head.advance())
+        {
+          this.heads.add(head);
+        }
+      }
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+      return !this.heads.isEmpty();
+    }
+
+    @Override
+    public LogRecord next()
+    {
+      Head head;
+      LogRecord record;
+
+      head = this.heads.poll();
+      if (head == null)
+      {
+        throw new NoSuchElementException();
+      }
+      record = head.record;
+      if (head.advance())
+      {
+        this.heads.add(head);
+      }
+      return record;
+    }
+
+    @Override
+    public void remove()
+    {
+      throw new UnsupportedOperationException("remove");
+    }
+  }
+}
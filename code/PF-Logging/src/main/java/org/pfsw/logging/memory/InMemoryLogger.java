@@ -1,44 +1,80 @@
 // ===========================================================================
 // CONTENT  : CLASS InMemoryLogger
 // AUTHOR   : Manfred Duchrow
-// VERSION  : 1.0 - 04/02/2017
+// VERSION  : 1.4 - 18/10/2026
 // HISTORY  :
 //  04/02/2017  mdu  CREATED
+//  18/10/2026  mdu  changed --> records kept in a thread-safe LogRecordStore
+//  18/10/2026  mdu  added   --> find(LogRecordQuery)
+//  18/10/2026  mdu  added   --> optional deferred rendering of messages
+//  18/10/2026  mdu  added   --> pluggable LogClock and thread identity in records
 //
-// Copyright (c) 2017, by MDCS. All rights reserved.
+// Copyright (c) 2017-2026, by MDCS. All rights reserved.
 // ===========================================================================
 package org.pfsw.logging.memory;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
 
 import org.pfsw.logging.LogLevel;
 import org.pfsw.logging.internal.AbstractLogger;
+import org.pfsw.logging.internal.LazyArguments;
+import org.pfsw.logging.internal.LogClock;
+import org.pfsw.logging.internal.MessageTemplate;
+import org.pfsw.logging.internal.SystemLogClock;
+import org.pfsw.logging.internal.ThreadIdentity;
 
 /**
- * This logger keeps all log output in an internal list on the heap.
+ * This logger keeps all log output in a {@link LogRecordStore} on the heap.
  * <p>
- * This of course is not reasonable for a production system, but could be
- * helpful for unit testing.
+ * By default that is an unbounded list, which of course is not reasonable
+ * for a production system, but could be helpful for unit testing.
+ * With a {@link RingBufferLogRecordStore} only the most recent records are 
+ * kept, which makes it usable as an always-on diagnostic buffer.
+ * An {@link IndexedLogRecordStore} additionally answers queries
+ * (see {@link #find(LogRecordQuery)}) from its indexes instead of scanning
+ * all records.
+ * <p>
+ * All reading methods work on a snapshot of the records and can be used 
+ * while other threads are logging.
+ * <p>
+ * With deferred rendering (see {@link #setDeferredRendering(boolean)}) a record
+ * keeps the message template and a copy of the arguments and the message gets
+ * rendered only when it is read. That applies only to records whose arguments
+ * are all immutable (see {@link #canDeferRendering(Object[])}), because 
+ * the message must not depend on the time it is read. An {@link IndexedLogRecordStore}
+ * renders each message anyway to index its tokens.
+ * <p>
+ * Each record contains the logger name, the identity of the logging thread
+ * and a timestamp from the logger's {@link LogClock} (see {@link #setLogClock(LogClock)}).
  *
  * @author Manfred Duchrow
- * @version 1.0
+ * @version 1.4
  */
 public class InMemoryLogger extends AbstractLogger
 {
   // =========================================================================
   // INSTANCE VARIABLES
   // =========================================================================
-  private final List<LogRecord> logEntries = new ArrayList<LogRecord>();
-  private LogLevel logLevel = LogLevel.INFO;
+  private final LogRecordStore logRecordStore;
+  private volatile boolean deferredRendering = false;
+  private volatile LogClock logClock = SystemLogClock.INSTANCE;
 
   // =========================================================================
   // CONSTRUCTORS
   // =========================================================================
   public InMemoryLogger(String loggerName)
+  {
+    this(loggerName, new ListLogRecordStore());
+  }
+
+  public InMemoryLogger(String loggerName, LogRecordStore logRecordStore)
   {
     super(loggerName);
+    this.logRecordStore = logRecordStore;
   }
 
   // =========================================================================
@@ -150,17 +186,17 @@ public class InMemoryLogger extends AbstractLogger
 
   public int size()
   {
-    return getLogEntries().size();
+    return getLogRecordStore().size();
   }
 
   public boolean isEmpty()
   {
-    return getLogEntries().isEmpty();
+    return getLogRecordStore().size() == 0;
   }
 
   public void clear()
   {
-    getLogEntries().clear();
+    getLogRecordStore().clear();
   }
 
   /**
@@ -185,36 +221,146 @@ public class InMemoryLogger extends AbstractLogger
     return result;
   }
 
+  /**
+   * Returns all log records that match the given query in the order they
+   * were logged. If the store is an {@link IndexedLogRecordStore} the result
+   * is looked up in its indexes while iterating, otherwise it is collected
+   * from a snapshot of all records.
+   * 
+   * @param query The criteria the records must match (must not be null).
+   * @return The found records (never null).
+   */
+  public Iterable<LogRecord> find(LogRecordQuery query)
+  {
+    List<LogRecord> result;
+
+    if (getLogRecordStore() instanceof IndexedLogRecordStore)
+    {
+      return ((IndexedLogRecordStore)getLogRecordStore()).find(query);
+    }
+    result = new ArrayList<LogRecord>();
+    for (LogRecord logRecord : getLogEntries())
+    {
+      if (query.matches(logRecord))
+      {
+        result.add(logRecord);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns a snapshot of all currently kept log records in the order 
+   * they were logged. 
+   */
   public List<LogRecord> getLogEntries()
   {
-    return logEntries;
+    return getLogRecordStore().getLogRecords();
+  }
+
+  public LogRecordStore getLogRecordStore()
+  {
+    return this.logRecordStore;
+  }
+
+  public boolean isDeferredRendering()
+  {
+    return this.deferredRendering;
+  }
+
+  /**
+   * Defines whether messages with immutable arguments get rendered only 
+   * when they are read.
+   */
+  public void setDeferredRendering(boolean deferredRendering)
+  {
+    this.deferredRendering = deferredRendering;
   }
+
+  public LogClock getLogClock()
+  {
+    return this.logClock;
+  }
+
+  /**
+   * Sets the source of the timestamps of all further records.
+   */
+  public void setLogClock(LogClock logClock)
+  {
+    this.logClock = (logClock == null) ? SystemLogClock.INSTANCE : logClock;
+  }
+
   // =========================================================================
   // PROTECTED INSTANCE METHODS
   // =========================================================================
-  protected synchronized void add(LogLevel level, String message, Object... params)
+  protected void add(LogLevel level, String message, Object... params)
   {
     add(level, null, message, params);
   }
 
-  protected synchronized void add(LogLevel level, Throwable exception, String message, Object... params)
+  protected void add(LogLevel level, Throwable exception, String message, Object... params)
   {
-    LogRecord record;
     String text;
+    Object[] arguments;
 
-    text = replacePlaceholders(message, params);
-    record = new LogRecord(level, text, exception);
-    getLogEntries().add(record);
+    text = message;
+    arguments = null;
+    if ((params.length > 0) && (message.indexOf('{') >= 0))
+    {
+      arguments = LazyArguments.resolve(params);
+      if (isDeferredRendering() && canDeferRendering(arguments))
+      {
+        // The caller might reuse its array, so the record gets a copy
+        arguments = (arguments == params) ? params.clone() : arguments;
+      }
+      else
+      {
+        text = MessageTemplate.compile(message).format(arguments);
+        arguments = null;
+      }
+    }
+    getLogRecordStore().add(new LogRecord(level, text, arguments, exception, getName(), ThreadIdentity.current(), getLogClock().currentTimeNanos()));
+  }
+
+  /**
+   * Returns true if the message with the given (already resolved) arguments
+   * can be rendered later without a different result. By default that is
+   * the case if all arguments are null or of an immutable type 
+   * (see {@link #isImmutable(Object)}). 
+   */
+  protected boolean canDeferRendering(Object[] arguments)
+  {
+    for (Object argument : arguments)
+    {
+      if ((argument != null) && !isImmutable(argument))
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns true if the given object is of a type whose instances never change.
+   * Subclasses may override this method to support more types.
+   */
+  protected boolean isImmutable(Object object)
+  {
+    return (object instanceof String) || (object instanceof Integer) || (object instanceof Long) 
+        || (object instanceof Boolean) || (object instanceof Enum) || (object instanceof Double) 
+        || (object instanceof Character) || (object instanceof Short) || (object instanceof Byte)
+        || (object instanceof Float) || (object instanceof Class)
+        || (object.getClass() == BigDecimal.class) || (object.getClass() == BigInteger.class);
   }
 
   protected LogLevel getLogLevel()
   {
-    return this.logLevel;
+    return getEffectiveLogLevel();
   }
 
   protected void setLogLevel(LogLevel logLevel)
   {
-    this.logLevel = logLevel;
+    setExplicitLogLevel(logLevel);
   }
 
 }
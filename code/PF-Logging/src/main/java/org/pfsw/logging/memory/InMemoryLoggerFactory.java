@@ -1,22 +1,45 @@
 // ===========================================================================
 // CONTENT  : CLASS InMemoryLoggerFactory
 // AUTHOR   : Manfred Duchrow
-// VERSION  : 1.0 - 04/02/2017
+// VERSION  : 1.7 - 18/10/2026
 // HISTORY  :
 //  04/02/2017  mdu  CREATED
+//  18/10/2026  mdu  added   --> optional ring buffer storage
+//  18/10/2026  mdu  added   --> optional indexed storage
+//  18/10/2026  mdu  changed --> loggers are canonical per name in an InMemoryLogRepository
+//  18/10/2026  mdu  added   --> optional deferred rendering
+//  18/10/2026  mdu  added   --> configurable LogClock
+//  18/10/2026  mdu  changed --> no deferred rendering for indexed storage
+//  18/10/2026  mdu  changed --> cached clock is shared by all factories
 //
-// Copyright (c) 2017, by MDCS. All rights reserved.
+// Copyright (c) 2017-2026, by MDCS. All rights reserved.
 // ===========================================================================
 package org.pfsw.logging.memory;
 
 import org.pfsw.logging.Logger;
 import org.pfsw.logging.LoggerFactory;
+import org.pfsw.logging.internal.CachedMillisLogClock;
+import org.pfsw.logging.internal.LogClock;
+import org.pfsw.logging.internal.NanoTimeLogClock;
+import org.pfsw.logging.internal.SystemLogClock;
 
 /**
  * This factory produces logger instances that keep all log output in memory. 
+ * <p>
+ * There is only one logger per name. All loggers are kept in the factory's
+ * {@link InMemoryLogRepository}, which allows to query the records of all
+ * loggers together.
+ * <p>
+ * If a capacity is defined (see {@link #PROP_CAPACITY}), each logger keeps
+ * only its most recent records in a {@link RingBufferLogRecordStore}.
+ * Otherwise it keeps all records.
+ * If indexing is switched on (see {@link #PROP_INDEXED}), each logger keeps
+ * its records in an {@link IndexedLogRecordStore} instead.
+ * Deferred rendering (see {@link #PROP_DEFERRED_RENDERING}) cannot be 
+ * combined with indexing, because the index needs the rendered messages.
  *
  * @author Manfred Duchrow
- * @version 1.0
+ * @version 1.7
  */
 public class InMemoryLoggerFactory implements LoggerFactory
 {
@@ -25,12 +48,129 @@ public class InMemoryLoggerFactory implements LoggerFactory
   // =========================================================================
   public static final String LOGGER_TYPE = "IN-MEM";
 
+  /**
+   * The system property that defines the maximum number of records each
+   * logger keeps. Without it all records are kept.
+   * <p>"org.pfsw.logging.memory.capacity"<p>
+   */
+  public static final String PROP_CAPACITY = "org.pfsw.logging.memory.capacity";
+  /**
+   * The system property that defines the maximum estimated size in bytes
+   * of the records each logger keeps. Only relevant together with {@link #PROP_CAPACITY}.
+   * <p>"org.pfsw.logging.memory.maxbytes"<p>
+   */
+  public static final String PROP_MAX_BYTES = "org.pfsw.logging.memory.maxbytes";
+  /**
+   * The system property that switches on indexed storage for fast queries.
+   * The capacity is then {@link #PROP_CAPACITY} or {@link IndexedLogRecordStore#DEFAULT_CAPACITY}.
+   * The maximum size in bytes is not supported by indexed storage.
+   * <p>"org.pfsw.logging.memory.indexed"<p>
+   */
+  public static final String PROP_INDEXED = "org.pfsw.logging.memory.indexed";
+  /**
+   * The system property that switches on deferred rendering of messages
+   * (see {@link InMemoryLogger#setDeferredRendering(boolean)}).
+   * It is ignored if indexed storage is switched on.
+   * <p>"org.pfsw.logging.memory.deferred"<p>
+   */
+  public static final String PROP_DEFERRED_RENDERING = "org.pfsw.logging.memory.deferred";
+  /**
+   * The system property that defines the clock for the timestamps of the records.
+   * Supported values are "system" (the default), "cached" (the shared 
+   * instance of {@link CachedMillisLogClock}) and "precise" (see {@link NanoTimeLogClock}).
+   * <p>"org.pfsw.logging.memory.clock"<p>
+   */
+  public static final String PROP_CLOCK = "org.pfsw.logging.memory.clock";
+
+  public static final String CLOCK_SYSTEM = "system";
+  public static final String CLOCK_CACHED = "cached";
+  public static final String CLOCK_PRECISE = "precise";
+
+  // =========================================================================
+  // INSTANCE VARIABLES
+  // =========================================================================
+  private final int capacity;
+  private final long maxBytes;
+  private final boolean indexed;
+  private final InMemoryLogRepository repository;
+  private volatile boolean deferredRendering = Boolean.getBoolean(PROP_DEFERRED_RENDERING);
+  private volatile LogClock logClock = createLogClock(System.getProperty(PROP_CLOCK));
+
+  // =========================================================================
+  // CLASS METHODS
+  // =========================================================================
+  /**
+   * Returns a clock of the given type (see {@link #PROP_CLOCK}).
+   * An unknown or null type results in the system clock.
+   * The cached clock is shared, so no factory starts a ticker thread of its own.
+   */
+  public static LogClock createLogClock(String type)
+  {
+    if (CLOCK_CACHED.equalsIgnoreCase(type))
+    {
+      return CachedMillisLogClock.getSharedInstance();
+    }
+    if (CLOCK_PRECISE.equalsIgnoreCase(type))
+    {
+      return new NanoTimeLogClock();
+    }
+    return SystemLogClock.INSTANCE;
+  }
+
   // =========================================================================
   // CONSTRUCTORS
   // =========================================================================
+  /**
+   * Creates a new factory configured by the system properties.
+   */
   public InMemoryLoggerFactory()
+  {
+    this(Integer.getInteger(PROP_CAPACITY, 0).intValue(), Long.getLong(PROP_MAX_BYTES, 0L).longValue(), Boolean.getBoolean(PROP_INDEXED));
+  }
+
+  /**
+   * Creates a new factory whose loggers keep only their most recent records.
+   *
+   * @param capacity The maximum number of records per logger (0 means all records are kept).
+   * @param maxBytes The maximum estimated size of the records per logger in bytes (0 means no limit).
+   */
+  public InMemoryLoggerFactory(int capacity, long maxBytes)
+  {
+    this(capacity, maxBytes, false);
+  }
+
+  /**
+   * Creates a new factory with the given storage settings.
+   *
+   * @param capacity The maximum number of records per logger (0 means all records are kept or the default capacity if indexed).
+   * @param maxBytes The maximum estimated size of the records per logger in bytes (0 means no limit).
+   * @param indexed If true the records are kept in an {@link IndexedLogRecordStore}.
+   */
+  public InMemoryLoggerFactory(int capacity, long maxBytes, boolean indexed)
   {
     super();
+    this.capacity = capacity;
+    this.maxBytes = maxBytes;
+    this.indexed = indexed;
+    this.repository = new InMemoryLogRepository()
+    {
+      @Override
+      protected InMemoryLogger createLogger(String loggerName)
+      {
+        InMemoryLogger logger;
+
+        logger = super.createLogger(loggerName);
+        logger.setDeferredRendering(isDeferredRendering());
+        logger.setLogClock(getLogClock());
+        return logger;
+      }
+
+      @Override
+      protected LogRecordStore createLogRecordStore()
+      {
+        return InMemoryLoggerFactory.this.createLogRecordStore();
+      }
+    };
   }
 
   // =========================================================================
@@ -54,9 +194,69 @@ public class InMemoryLoggerFactory implements LoggerFactory
     return getLogger(clazz.getName());
   }
 
+  /**
+   * Returns the logger with the given name from this factory's repository.
+   * So all calls with the same name return the same instance.
+   */
   @Override
   public Logger getLogger(String loggerName)
   {
-    return new InMemoryLogger(loggerName);
+    return getRepository().getLogger(loggerName);
+  }
+
+  /**
+   * Returns the repository that contains all loggers created by this factory.
+   */
+  public InMemoryLogRepository getRepository()
+  {
+    return this.repository;
+  }
+
+  /**
+   * Returns true if loggers created afterwards render their messages only
+   * when they are read. That is never the case for indexed storage.
+   */
+  public boolean isDeferredRendering()
+  {
+    return this.deferredRendering && !this.indexed;
+  }
+
+  /**
+   * Defines whether loggers created afterwards render their messages
+   * only when they are read. 
+   * For indexed storage this setting is ignored (see {@link #isDeferredRendering()}).
+   */
+  public void setDeferredRendering(boolean deferredRendering)
+  {
+    this.deferredRendering = deferredRendering;
+  }
+
+  public LogClock getLogClock()
+  {
+    return this.logClock;
+  }
+
+  /**
+   * Defines the clock of the loggers created afterwards.
+   */
+  public void setLogClock(LogClock logClock)
+  {
+    this.logClock = (logClock == null) ? SystemLogClock.INSTANCE : logClock;
+  }
+
+  // =========================================================================
+  // PROTECTED INSTANCE METHODS
+  // =========================================================================
+  protected LogRecordStore createLogRecordStore()
+  {
+    if (this.indexed)
+    {
+      return new IndexedLogRecordStore((this.capacity > 0) ? this.capacity : IndexedLogRecordStore.DEFAULT_CAPACITY);
+    }
+    if (this.capacity > 0)
+    {
+      return new RingBufferLogRecordStore(this.capacity, this.maxBytes);
+    }
+    return new ListLogRecordStore();
   }
 }
@@ -0,0 +1,565 @@
+// ===========================================================================
+// CONTENT  : CLASS IndexedLogRecordStore
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.2 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//  18/10/2026  mdu  changed --> ring grows on demand up to the capacity
+//  18/10/2026  mdu  changed --> clear() releases the records
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging.memory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.pfsw.logging.LogLevel;
+
+/**
+ * A bounded store that keeps the most recent records in a ring buffer and
+ * maintains indexes to find them by {@link LogRecordQuery} without scanning
+ * all records.
+ * <p>
+ * Each record gets an ascending sequence number. For every level, every
+ * logger name and every token of the messages (see {@link LogRecordQuery#tokenize(String)})
+ * the store keeps an ascending list of the sequence numbers of the
+ * matching records. A query intersects the lists of its criteria by
+ * leapfrogging over them. Time ranges are resolved by binary search over the
+ * records, because their timestamps are ascending in the order they were added
+ * (apart from small deviations between concurrent threads, which are tracked
+ * and compensated).
+ * <p>
+ * Adding is synchronized, because the indexes are updated along with the record.
+ * Queries never lock. The result of {@link #find(LogRecordQuery)} is evaluated
+ * lazily while iterating and covers the records that were stored when the iteration
+ * started. Records that get dropped meanwhile are skipped.
+ * <p>
+ * Indexing the tokens renders the message of each record when it gets added.
+ * So deferred rendering (see {@link InMemoryLogger#setDeferredRendering(boolean)})
+ * has no effect on records kept in this store.
+ * <p>
+ * The ring starts small and doubles on demand until it reaches the capacity.
+ * So a store costs little memory as long as only a few records are logged.
+ *
+ * @author Manfred Duchrow
+ * @version 1.2
+ */
+public class IndexedLogRecordStore implements LogRecordStore
+{
+  // =========================================================================
+  // CONSTANTS
+  // =========================================================================
+  /**
+   * The number of records kept if no capacity is specified.
+   */
+  public static final int DEFAULT_CAPACITY = 100000;
+
+  private static final int INITIAL_SLOTS = 64;
+  private static final long NONE = SequenceList.NONE;
+
+  // =========================================================================
+  // INSTANCE VARIABLES
+  // =========================================================================
+  private volatile AtomicReferenceArray<Slot> slots;
+  private final int capacity;
+  private final SequenceList[] levelIndex;
+  private final ConcurrentMap<String, SequenceList> loggerNameIndex = new ConcurrentHashMap<String, SequenceList>();
+  private final ConcurrentMap<String, SequenceList> tokenIndex = new ConcurrentHashMap<String, SequenceList>();
+  private volatile long nextSequence = 0L;
+  private volatile long oldestSequence = 0L;
+  private volatile long maxTimeSkew = 0L;
+  private long latestTimestamp = Long.MIN_VALUE;
+
+  // =========================================================================
+  // CONSTRUCTORS
+  // =========================================================================
+  /**
+   * Creates a new store that keeps up to {@link #DEFAULT_CAPACITY} records.
+   */
+  public IndexedLogRecordStore()
+  {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Creates a new store for the given maximum number of records.
+   */
+  public IndexedLogRecordStore(int capacity)
+  {
+    super();
+    if (capacity <= 0)
+    {
+      throw new IllegalArgumentException("capacity must be greater than 0");
+    }
+    this.capacity = capacity;
+    this.slots = new AtomicReferenceArray<Slot>(Math.min(capacity, INITIAL_SLOTS));
+    this.levelIndex = new SequenceList[LogLevel.values().length];
+    for (int i = 0; i < this.levelIndex.length; i++)
+    {
+      this.levelIndex[i] = new SequenceList();
+    }
+  }
+
+  // =========================================================================
+  // PUBLIC INSTANCE METHODS
+  // =========================================================================
+  @Override
+  public synchronized void add(LogRecord record)
+  {
+    long sequence;
+    long oldest;
+    long indexTime;
+
+    sequence = this.nextSequence;
+    oldest = Math.max(this.oldestSequence, sequence + 1 - this.capacity);
+    indexTime = this.indexTime(record.getTimestamp());
+    this.oldestSequence = oldest;
+    if ((sequence >= this.slots.length()) && (this.slots.length() < this.capacity))
+    {
+      this.growSlots();
+    }
+    this.slots.set(this.index(sequence), new Slot(sequence, record, indexTime));
+    if (record.getLogLevel() != null)
+    {
+      this.levelIndex[record.getLogLevel().ordinal()].append(sequence, oldest);
+    }
+    if (record.getLoggerName() != null)
+    {
+      this.postings(this.loggerNameIndex, record.getLoggerName()).append(sequence, oldest);
+    }
+    for (String token : LogRecordQuery.tokenize(record.getMessage()))
+    {
+      this.postings(this.tokenIndex, token).append(sequence, oldest);
+    }
+    this.nextSequence = sequence + 1;
+    if (((sequence + 1) % this.capacity) == 0)
+    {
+      this.removeUnusedPostings(oldest);
+    }
+  }
+
+  /**
+   * Returns all stored records that match the given query in the order
+   * they were added. The records are looked up while iterating. So even
+   * huge results need no additional memory.
+   */
+  public Iterable<LogRecord> find(final LogRecordQuery query)
+  {
+    return new Iterable<LogRecord>()
+    {
+      @Override
+      public Iterator<LogRecord> iterator()
+      {
+        return createIterator(query);
+      }
+    };
+  }
+
+  @Override
+  public List<LogRecord> getLogRecords()
+  {
+    List<LogRecord> result;
+    Slot slot;
+    long end;
+    long start;
+
+    end = this.nextSequence;
+    start = this.oldestSequence;
+    result = new ArrayList<LogRecord>((int)Math.max(0L, end - start));
+    for (long sequence = start; sequence < end; sequence++)
+    {
+      slot = this.slot(sequence);
+      if ((slot != null) && (slot.sequence == sequence))
+      {
+        result.add(slot.record);
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public int size()
+  {
+    return (int)Math.max(0L, this.nextSequence - this.oldestSequence);
+  }
+
+  @Override
+  public synchronized void clear()
+  {
+    long oldest;
+
+    oldest = Math.max(this.oldestSequence, this.nextSequence - this.slots.length());
+    this.oldestSequence = this.nextSequence;
+    for (long sequence = oldest; sequence < this.nextSequence; sequence++)
+    {
+      this.slots.set(this.index(sequence), null);
+    }
+    this.loggerNameIndex.clear();
+    this.tokenIndex.clear();
+  }
+
+  public int getCapacity()
+  {
+    return this.capacity;
+  }
+
+  /**
+   * Returns the number of distinct tokens currently in the index.
+   */
+  public int getTokenCount()
+  {
+    return this.tokenIndex.size();
+  }
+
+  // =========================================================================
+  // PROTECTED INSTANCE METHODS
+  // =========================================================================
+  protected Iterator<LogRecord> createIterator(LogRecordQuery query)
+  {
+    List<SequenceList.Seeker> seekers;
+    SequenceList postings;
+    long start;
+    long end;
+
+    end = this.nextSequence;
+    start = this.oldestSequence;
+    if (query.getFromTime() != Long.MIN_VALUE)
+    {
+      start = this.firstSequenceAfter(query.getFromTime() - 1, start, end);
+    }
+    if (query.getToTime() != Long.MAX_VALUE)
+    {
+      end = this.firstSequenceAfter(this.addSaturated(query.getToTime(), this.maxTimeSkew), start, end);
+    }
+    seekers = new ArrayList<SequenceList.Seeker>();
+    if (!query.getLevels().isEmpty())
+    {
+      seekers.add(this.levelSeeker(query.getLevels()));
+    }
+    if (query.getLoggerName() != null)
+    {
+      postings = this.loggerNameIndex.get(query.getLoggerName());
+      if (postings == null)
+      {
+        return Collections.<LogRecord> emptyList().iterator();
+      }
+      seekers.add(postings.seeker());
+    }
+    for (String token : query.getTokens())
+    {
+      postings = this.tokenIndex.get(token);
+      if (postings == null)
+      {
+        return Collections.<LogRecord> emptyList().iterator();
+      }
+      seekers.add(postings.seeker());
+    }
+    return new QueryIterator(query, seekers.toArray(new SequenceList.Seeker[seekers.size()]), start, end);
+  }
+
+  // =========================================================================
+  // PRIVATE INSTANCE METHODS
+  // =========================================================================
+  private int index(long sequence)
+  {
+    return (int)(sequence % this.capacity);
+  }
+
+  /**
+   * Returns the slot of the given sequence number or null if nothing
+   * has been stored there yet.
+   */
+  private Slot slot(long sequence)
+  {
+    AtomicReferenceArray<Slot> array;
+    int index;
+
+    array = this.slots;
+    index = this.index(sequence);
+    return (index < array.length()) ? array.get(index) : null;
+  }
+
+  /**
+   * Replaces the slots by an array of twice the size (at most the capacity).
+   * That is only necessary before the ring is used up the first time, 
+   * so all records are still at the positions of their sequence numbers.
+   * Must be called while holding the lock of this store.
+   */
+  private void growSlots()
+  {
+    AtomicReferenceArray<Slot> oldSlots;
+    AtomicReferenceArray<Slot> newSlots;
+
+    oldSlots = this.slots;
+    newSlots = new AtomicReferenceArray<Slot>((int)Math.min(this.capacity, 2L * oldSlots.length()));
+    for (int i = 0; i < oldSlots.length(); i++)
+    {
+      newSlots.set(i, oldSlots.get(i));
+    }
+    this.slots = newSlots;
+  }
+
+  /**
+   * Returns the time under which a record with the given timestamp gets
+   * indexed. That is never lower than the time of the previous record.
+   */
+  private long indexTime(long timestamp)
+  {
+    if (timestamp >= this.latestTimestamp)
+    {
+      this.latestTimestamp = timestamp;
+    }
+    else if ((this.latestTimestamp - timestamp) > this.maxTimeSkew)
+    {
+      this.maxTimeSkew = this.latestTimestamp - timestamp;
+    }
+    return this.latestTimestamp;
+  }
+
+  private long addSaturated(long time, long delta)
+  {
+    return (time > Long.MAX_VALUE - delta) ? Long.MAX_VALUE : time + delta;
+  }
+
+  /**
+   * Returns the lowest sequence number in the given range whose record
+   * is indexed under a time later than the given one.
+   */
+  private long firstSequenceAfter(long time, long start, long end)
+  {
+    Slot slot;
+    long low;
+    long high;
+    long middle;
+
+    low = start;
+    high = end;
+    while (low < high)
+    {
+      middle = (low + high) >>> 1;
+      slot = this.slot(middle);
+      // A slot that already holds a newer record belongs to a dropped and therefore older record
+      if ((slot == null) || (slot.sequence != middle) || (slot.indexTime <= time))
+      {
+        low = middle + 1;
+      }
+      else
+      {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  private SequenceList.Seeker levelSeeker(Iterable<LogLevel> levels)
+  {
+    List<SequenceList.Seeker> seekers;
+
+    seekers = new ArrayList<SequenceList.Seeker>();
+    for (LogLevel level : levels)
+    {
+      seekers.add(this.levelIndex[level.ordinal()].seeker());
+    }
+    if (seekers.size() == 1)
+    {
+      return seekers.get(0);
+    }
+    return new UnionSeeker(seekers.toArray(new SequenceList.Seeker[seekers.size()]));
+  }
+
+  private SequenceList postings(ConcurrentMap<String, SequenceList> index, String key)
+  {
+    SequenceList postings;
+
+    postings = index.get(key);
+    if (postings == null)
+    {
+      postings = new SequenceList();
+      index.put(key, postings);
+    }
+    return postings;
+  }
+
+  /**
+   * Removes the posting lists that refer only to dropped records.
+   */
+  private void removeUnusedPostings(long oldest)
+  {
+    this.removeUnusedPostings(this.loggerNameIndex, oldest);
+    this.removeUnusedPostings(this.tokenIndex, oldest);
+  }
+
+  private void removeUnusedPostings(ConcurrentMap<String, SequenceList> index, long oldest)
+  {
+    Iterator<Map.Entry<String, SequenceList>> iterator;
+
+    iterator = index.entrySet().iterator();
+    while (iterator.hasNext())
+    {
+      if (iterator.next().getValue().last() < oldest)
+      {
+        iterator.remove();
+      }
+    }
+  }
+
+  // =========================================================================
+  // INNER CLASSES
+  // =========================================================================
+  private static class Slot
+  {
+    private final long sequence;
+    private final LogRecord record;
+    private final long indexTime;
+
+    private Slot(long sequence, LogRecord record, long indexTime)
+    {
+      super();
+      this.sequence = sequence;
+      this.record = record;
+      this.indexTime = indexTime;
+    }
+  }
+
+  /**
+   * Delivers the sequence numbers contained in any of several lists.
+   */
+  private static class UnionSeeker implements SequenceList.Seeker
+  {
+    private final SequenceList.Seeker[] seekers;
+
+    private UnionSeeker(SequenceList.Seeker[] seekers)
+    {
+      super();
+      this.seekers = seekers;
+    }
+
+    @Override
+    public long seek(long target)
+    {
+      long result;
+
+      result = NONE;
+      for (SequenceList.Seeker seeker : this.seekers)
+      {
+        result = Math.min(result, seeker.seek(target));
+      }
+      return result;
+    }
+  }
+
+  /**
+   * Delivers the records whose sequence numbers are contained in all lists
+   * of the query's criteria.
+   */
+  private class QueryIterator implements Iterator<LogRecord>
+  {
+    private final LogRecordQuery query;
+    private final SequenceList.Seeker[] seekers;
+    private final long end;
+    private long candidate;
+    private LogRecord nextRecord;
+
+    private QueryIterator(LogRecordQuery query, SequenceList.Seeker[] seekers, long start, long end)
+    {
+      super();
+      this.query = query;
+      this.seekers = seekers;
+      this.candidate = start;
+      this.end = end;
+      this.nextRecord = this.findNext();
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+      return this.nextRecord != null;
+    }
+
+    @Override
+    public LogRecord next()
+    {
+      LogRecord record;
+
+      if (this.nextRecord == null)
+      {
+        throw new NoSuchElementException();
+      }
+      record = this.nextRecord;
+      this.nextRecord = this.findNext();
+      return record;
+    }
+
+    @Override
+    public void remove()
+    {
+      throw new UnsupportedOperationException("remove");
+    }
+
+    private LogRecord findNext()
+    {
+      Slot slot;
+      long sequence;
+
+      while (this.candidate < this.end)
+      {
+        sequence = this.align(this.candidate);
+        if (sequence >= this.end)
+        {
+          break;
+        }
+        this.candidate = sequence + 1;
+        slot = slot(sequence);
+        if ((slot != null) && (slot.sequence == sequence) && this.query.matchesTime(slot.record.getTimestamp()))
+        {
+          return slot.record;
+        }
+      }
+      this.candidate = this.end;
+      return null;
+    }
+
+    /**
+     * Returns the lowest sequence number not lower than the given target
+     * that is contained in all lists.
+     */
+    private long align(long target)
+    {
+      long current;
+      long value;
+      int agreeing;
+      int i;
+
+      current = target;
+      agreeing = 0;
+      i = 0;
+      while (agreeing < this.seekers.length)
+      {
+        value = this.seekers[i].seek(current);
+        if (value == NONE)
+        {
+          return NONE;
+        }
+        if (value == current)
+        {
+          agreeing++;
+        }
+        else
+        {
+          current = value;
+          agreeing = 1;
+        }
+        i = (i + 1) % this.seekers.length;
+      }
+      return current;
+    }
+  }
+}
@@ -0,0 +1,63 @@
+// ===========================================================================
+// CONTENT  : CLASS ListLogRecordStore
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.0 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging.memory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An unbounded store that keeps all records in a list.
+ * All access is synchronized. Readers get a copy of the list.
+ *
+ * @author Manfred Duchrow
+ * @version 1.0
+ */
+public class ListLogRecordStore implements LogRecordStore
+{
+  // =========================================================================
+  // INSTANCE VARIABLES
+  // =========================================================================
+  private final List<LogRecord> logRecords = new ArrayList<LogRecord>();
+
+  // =========================================================================
+  // CONSTRUCTORS
+  // =========================================================================
+  public ListLogRecordStore()
+  {
+    super();
+  }
+
+  // =========================================================================
+  // PUBLIC INSTANCE METHODS
+  // =========================================================================
+  @Override
+  public synchronized void add(LogRecord record)
+  {
+    this.logRecords.add(record);
+  }
+
+  @Override
+  public synchronized List<LogRecord> getLogRecords()
+  {
+    return new ArrayList<LogRecord>(this.logRecords);
+  }
+
+  @Override
+  public synchronized int size()
+  {
+    return this.logRecords.size();
+  }
+
+  @Override
+  public synchronized void clear()
+  {
+    this.logRecords.clear();
+  }
+}
@@ -1,30 +1,50 @@
 // ===========================================================================
 // CONTENT  : CLASS LogRecord
 // AUTHOR   : Manfred Duchrow
-// VERSION  : 1.0 - 04/02/2017
+// VERSION  : 1.3 - 18/10/2026
 // HISTORY  :
 //  04/02/2017  mdu  CREATED
+//  18/10/2026  mdu  added   --> logger name and timestamp
+//  18/10/2026  mdu  added   --> deferred rendering of the message
+//  18/10/2026  mdu  added   --> thread identity and timestamp in nanoseconds
 //
-// Copyright (c) 2017, by MDCS. All rights reserved.
+// Copyright (c) 2017-2026, by MDCS. All rights reserved.
 // ===========================================================================
 package org.pfsw.logging.memory;
 
 import org.pfsw.logging.LogLevel;
+import org.pfsw.logging.internal.MessageTemplate;
+import org.pfsw.logging.internal.ThreadIdentity;
 
 /**
  * Simple container for a single log output.
+ * <p>
+ * A record might contain the message template and its arguments instead of
+ * the final message. Then the message gets rendered on the first call of
+ * {@link #getMessage()} with the default locale of that time and is cached
+ * afterwards. So the arguments must not change after the record was created.
  *
  * @author Manfred Duchrow
- * @version 1.0
+ * @version 1.3
  */
 public class LogRecord
 {
+  // =========================================================================
+  // CONSTANTS
+  // =========================================================================
+  private static final long NANOS_PER_MILLI = 1000000L;
+
   // =========================================================================
   // INSTANCE VARIABLES
   // =========================================================================
   private final LogLevel logLevel;
-  private final String message;
+  private final String template;
+  private final Object[] arguments;
+  private volatile String message;
   private final Throwable exception;
+  private final String loggerName;
+  private final ThreadIdentity thread;
+  private final long timestampNanos;
 
   // =========================================================================
   // CONSTRUCTORS
@@ -34,12 +54,51 @@ public class LogRecord
     this(logLevel, message, null);
   }
 
+  /**
+   * Creates a record without logger name and with the current time as timestamp.
+   */
   public LogRecord(LogLevel logLevel, String message, Throwable exception)
+  {
+    this(logLevel, message, exception, null, System.currentTimeMillis());
+  }
+
+  public LogRecord(LogLevel logLevel, String message, Throwable exception, String loggerName, long timestamp)
+  {
+    this(logLevel, message, null, exception, loggerName, timestamp);
+  }
+
+  /**
+   * Creates a record whose message gets rendered from the given template
+   * and arguments when it is requested for the first time.
+   * 
+   * @param template The message template with placeholders like {0}.
+   * @param arguments The arguments for the placeholders (null means the template is the message).
+   */
+  public LogRecord(LogLevel logLevel, String template, Object[] arguments, Throwable exception, String loggerName, long timestamp)
+  {
+    this(logLevel, template, arguments, exception, loggerName, null, timestamp * NANOS_PER_MILLI);
+  }
+
+  /**
+   * Creates a record with all details.
+   * 
+   * @param template The message or message template with placeholders like {0}.
+   * @param arguments The arguments for the placeholders (null means the template is the message).
+   * @param thread The thread that created the record (might be null).
+   * @param timestampNanos The creation time in nanoseconds since 1970-01-01 UTC.
+   */
+  public LogRecord(LogLevel logLevel, String template, Object[] arguments, Throwable exception, String loggerName, ThreadIdentity thread,
+      long timestampNanos)
   {
     super();
     this.logLevel = logLevel;
-    this.message = message;
+    this.template = template;
+    this.arguments = arguments;
+    this.message = (arguments == null) ? template : null;
     this.exception = exception;
+    this.loggerName = loggerName;
+    this.thread = thread;
+    this.timestampNanos = timestampNanos;
   }
 
   // =========================================================================
@@ -50,13 +109,93 @@ public class LogRecord
     return this.logLevel;
   }
 
+  /**
+   * Returns the message, which gets rendered on the first call if the 
+   * record was created with a template and arguments.
+   */
   public String getMessage()
   {
-    return this.message;
+    String text;
+
+    text = this.message;
+    if ((text == null) && (this.template != null))
+    {
+      // Concurrent callers might render it twice, but always with the same result
+      text = MessageTemplate.compile(this.template).format(this.arguments);
+      this.message = text;
+    }
+    return text;
+  }
+
+  /**
+   * Returns the message template or the message itself if it was
+   * not created from a template.
+   */
+  public String getTemplate()
+  {
+    return this.template;
+  }
+
+  /**
+   * Returns the arguments of the template or null if the record was
+   * not created from a template. The returned array must not be modified.
+   */
+  public Object[] getArguments()
+  {
+    return this.arguments;
+  }
+
+  /**
+   * Returns true if the message has already been rendered (or did not need rendering).
+   */
+  public boolean isRendered()
+  {
+    return this.message != null;
   }
 
   public Throwable getException()
   {
     return this.exception;
   }
+
+  /**
+   * Returns the name of the logger that created this record (might be null).
+   */
+  public String getLoggerName()
+  {
+    return this.loggerName;
+  }
+
+  /**
+   * Returns the creation time of this record in milliseconds since 1970-01-01 UTC.
+   */
+  public long getTimestamp()
+  {
+    return this.timestampNanos / NANOS_PER_MILLI;
+  }
+
+  /**
+   * Returns the creation time of this record in nanoseconds since 1970-01-01 UTC.
+   * Its precision depends on the clock of the logger.
+   */
+  public long getTimestampNanos()
+  {
+    return this.timestampNanos;
+  }
+
+  /**
+   * Returns the ID of the thread that created this record or -1 if unknown.
+   */
+  public long getThreadId()
+  {
+    return (this.thread == null) ? -1L : this.thread.getId();
+  }
+
+  /**
+   * Returns the name of the thread that created this record (might be null).
+   */
+  public String getThreadName()
+  {
+    return (this.thread == null) ? null : this.thread.getName();
+  }
 }
@@ -0,0 +1,218 @@
+// ===========================================================================
+// CONTENT  : CLASS LogRecordQuery
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.0 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging.memory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import org.pfsw.logging.LogLevel;
+
+/**
+ * Describes which log records to find. All defined criteria must match.
+ * A query without any criteria matches all records.
+ * <p>
+ * Example:
+ * <pre>
+ * query = new LogRecordQuery().levels(LogLevel.ERROR, LogLevel.WARN).tokens("timeout").from(startTime);
+ * for (LogRecord record : logger.find(query)) ...
+ * </pre>
+ * Tokens are the words of a message, i.e. the maximal sequences of letters
+ * and digits, compared case-insensitive (see {@link #tokenize(String)}).
+ * So other than {@link InMemoryLogger#findEntriesContaining(String)} a
+ * token never matches only a part of a word.
+ *
+ * @author Manfred Duchrow
+ * @version 1.0
+ */
+public class LogRecordQuery
+{
+  // =========================================================================
+  // INSTANCE VARIABLES
+  // =========================================================================
+  private final Set<LogLevel> levels = EnumSet.noneOf(LogLevel.class);
+  private final List<String> tokens = new ArrayList<String>();
+  private String loggerName = null;
+  private long fromTime = Long.MIN_VALUE;
+  private long toTime = Long.MAX_VALUE;
+
+  // =========================================================================
+  // CLASS METHODS
+  // =========================================================================
+  /**
+   * Returns the distinct lower case tokens of the given text.
+   * A token is a maximal sequence of letters and digits.
+   */
+  public static Set<String> tokenize(String text)
+  {
+    Set<String> result;
+    int start;
+
+    if ((text == null) || (text.length() == 0))
+    {
+      return Collections.emptySet();
+    }
+    result = new HashSet<String>();
+    start = -1;
+    for (int i = 0; i <= text.length(); i++)
+    {
+      if ((i < text.length()) && Character.isLetterOrDigit(text.charAt(i)))
+      {
+        if (start < 0)
+        {
+          start = i;
+        }
+      }
+      else if (start >= 0)
+      {
+        result.add(text.substring(start, i).toLowerCase(Locale.ENGLISH));
+        start = -1;
+      }
+    }
+    return result;
+  }
+
+  // =========================================================================
+  // CONSTRUCTORS
+  // =========================================================================
+  public LogRecordQuery()
+  {
+    super();
+  }
+
+  // =========================================================================
+  // PUBLIC INSTANCE METHODS
+  // =========================================================================
+  /**
+   * Restricts the query to records with any of the given levels.
+   * Calling this method more than once adds more levels.
+   */
+  public LogRecordQuery levels(LogLevel... logLevels)
+  {
+    for (LogLevel level : logLevels)
+    {
+      this.levels.add(level);
+    }
+    return this;
+  }
+
+  /**
+   * Restricts the query to records of the logger with the given name.
+   */
+  public LogRecordQuery loggerName(String name)
+  {
+    this.loggerName = name;
+    return this;
+  }
+
+  /**
+   * Restricts the query to records with a timestamp not before the given time.
+   */
+  public LogRecordQuery from(long timestamp)
+  {
+    this.fromTime = timestamp;
+    return this;
+  }
+
+  /**
+   * Restricts the query to records with a timestamp not after the given time.
+   */
+  public LogRecordQuery to(long timestamp)
+  {
+    this.toTime = timestamp;
+    return this;
+  }
+
+  /**
+   * Restricts the query to records whose message contains all tokens of
+   * the given words. Calling this method more than once adds more tokens.
+   */
+  public LogRecordQuery tokens(String... words)
+  {
+    for (String word : words)
+    {
+      for (String token : tokenize(word))
+      {
+        if (!this.tokens.contains(token))
+        {
+          this.tokens.add(token);
+        }
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Returns true if the given record matches all criteria of this query.
+   * That is used to query stores without indexes.
+   */
+  public boolean matches(LogRecord record)
+  {
+    if (!this.levels.isEmpty() && !this.levels.contains(record.getLogLevel()))
+    {
+      return false;
+    }
+    if ((this.loggerName != null) && !this.loggerName.equals(record.getLoggerName()))
+    {
+      return false;
+    }
+    if (!this.matchesTime(record.getTimestamp()))
+    {
+      return false;
+    }
+    return this.tokens.isEmpty() || tokenize(record.getMessage()).containsAll(this.tokens);
+  }
+
+  /**
+   * Returns the levels to search for. An empty set means all levels.
+   */
+  public Set<LogLevel> getLevels()
+  {
+    return Collections.unmodifiableSet(this.levels);
+  }
+
+  /**
+   * Returns the logger name to search for or null for all loggers.
+   */
+  public String getLoggerName()
+  {
+    return this.loggerName;
+  }
+
+  public long getFromTime()
+  {
+    return this.fromTime;
+  }
+
+  public long getToTime()
+  {
+    return this.toTime;
+  }
+
+  /**
+   * Returns the normalized tokens that must all be contained in a matching message.
+   */
+  public List<String> getTokens()
+  {
+    return Collections.unmodifiableList(this.tokens);
+  }
+
+  // =========================================================================
+  // PROTECTED INSTANCE METHODS
+  // =========================================================================
+  protected boolean matchesTime(long timestamp)
+  {
+    return (timestamp >= this.fromTime) && (timestamp <= this.toTime);
+  }
+}
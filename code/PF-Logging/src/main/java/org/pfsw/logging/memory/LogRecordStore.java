@@ -0,0 +1,45 @@
+// ===========================================================================
+// CONTENT  : INTERFACE LogRecordStore
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.0 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging.memory;
+
+import java.util.List;
+
+/**
+ * The storage of the log records of an {@link InMemoryLogger}.
+ * <p>
+ * Implementations must be thread-safe. Reading must never fail because of
+ * concurrent writes.
+ *
+ * @author Manfred Duchrow
+ * @version 1.0
+ */
+public interface LogRecordStore
+{
+  /**
+   * Adds the given record.
+   */
+  void add(LogRecord record);
+
+  /**
+   * Returns a snapshot of all currently stored records in the order they
+   * were added. Later changes of the store are not reflected in the returned list.
+   */
+  List<LogRecord> getLogRecords();
+
+  /**
+   * Returns the number of currently stored records.
+   */
+  int size();
+
+  /**
+   * Removes all records.
+   */
+  void clear();
+}
@@ -0,0 +1,326 @@
+// ===========================================================================
+// CONTENT  : CLASS RingBufferLogRecordStore
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.2 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//  18/10/2026  mdu  changed --> evicted records are no longer referenced
+//  18/10/2026  mdu  changed --> size of records with deferred rendering estimated without rendering
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging.memory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded store that keeps only the most recent records in a ring buffer.
+ * The oldest records get dropped if the maximum number of records or the
+ * maximum (estimated) number of bytes would be exceeded.
+ * <p>
+ * Adding a record never locks. Each record gets a sequence number from an
+ * atomic counter that determines its slot in the ring. Readers never lock
+ * either. They collect the records of the current sequence range and skip
+ * all slots that have already been overwritten with a newer sequence number
+ * or not yet been written. So they always get the records in their original
+ * order and never see a ConcurrentModificationException.
+ * <p>
+ * Records dropped because of the byte limit or by {@link #clear()} are 
+ * removed from their slots immediately, so they can be garbage collected.
+ * <p>
+ * The size of a record is estimated by {@link #estimateSize(LogRecord)}.
+ * A record whose message has not been rendered yet keeps being unrendered.
+ *
+ * @author Manfred Duchrow
+ * @version 1.2
+ */
+public class RingBufferLogRecordStore implements LogRecordStore
+{
+  // =========================================================================
+  // CONSTANTS
+  // =========================================================================
+  /**
+   * The estimated number of bytes of a record without its message.
+   */
+  public static final long RECORD_OVERHEAD = 64L;
+  /**
+   * The estimated number of bytes a referenced exception adds to a record.
+   */
+  public static final long EXCEPTION_SIZE = 512L;
+  /**
+   * The estimated number of bytes an argument of a not yet rendered message adds to a record.
+   */
+  public static final long ARGUMENT_SIZE = 32L;
+
+  // =========================================================================
+  // INSTANCE VARIABLES
+  // =========================================================================
+  private final AtomicReferenceArray<Slot> slots;
+  private final int capacity;
+  private final long maxBytes;
+  private final AtomicLong nextSequence = new AtomicLong(0L);
+  private final AtomicLong oldestSequence = new AtomicLong(0L);
+  private final AtomicLong totalBytes = new AtomicLong(0L);
+
+  // =========================================================================
+  // CONSTRUCTORS
+  // =========================================================================
+  /**
+   * Creates a new store for the given maximum number of records.
+   */
+  public RingBufferLogRecordStore(int capacity)
+  {
+    this(capacity, 0L);
+  }
+
+  /**
+   * Creates a new store with the given limits.
+   *
+   * @param capacity The maximum number of records (must be greater than 0).
+   * @param maxBytes The maximum estimated size of all records in bytes (0 means no limit).
+   */
+  public RingBufferLogRecordStore(int capacity, long maxBytes)
+  {
+    super();
+    if (capacity <= 0)
+    {
+      throw new IllegalArgumentException("capacity must be greater than 0");
+    }
+    this.capacity = capacity;
+    this.maxBytes = maxBytes;
+    this.slots = new AtomicReferenceArray<Slot>(capacity);
+  }
+
+  // =========================================================================
+  // PUBLIC INSTANCE METHODS
+  // =========================================================================
+  @Override
+  public void add(LogRecord record)
+  {
+    Slot slot;
+    Slot replaced;
+    long sequence;
+    int index;
+
+    sequence = this.nextSequence.getAndIncrement();
+    slot = new Slot(sequence, record, this.estimateSize(record));
+    index = this.index(sequence);
+    do
+    {
+      replaced = this.slots.get(index);
+      if ((replaced != null) && (replaced.sequence > sequence))
+      {
+        // A writer that is a whole ring ahead was faster. So this record is already outdated.
+        return;
+      }
+    }
+    while (!this.slots.compareAndSet(index, replaced, slot));
+    this.totalBytes.addAndGet(slot.size);
+    if (replaced != null)
+    {
+      this.advanceOldestSequence(replaced.sequence + 1);
+      this.release(replaced);
+    }
+    if (sequence < this.oldestSequence.get())
+    {
+      // Evicted or cleared while being added
+      this.release(slot);
+      this.slots.compareAndSet(index, slot, null);
+    }
+    if (this.maxBytes > 0)
+    {
+      while ((this.totalBytes.get() > this.maxBytes) && this.evictOldest(sequence))
+      {
+        // Continue until the size fits
+      }
+    }
+  }
+
+  @Override
+  public List<LogRecord> getLogRecords()
+  {
+    List<LogRecord> result;
+    Slot slot;
+    long end;
+    long start;
+
+    end = this.nextSequence.get();
+    start = Math.max(this.oldestSequence.get(), end - this.capacity);
+    result = new ArrayList<LogRecord>((int)Math.max(0L, end - start));
+    for (long sequence = start; sequence < end; sequence++)
+    {
+      slot = this.slots.get(this.index(sequence));
+      if ((slot != null) && (slot.sequence == sequence))
+      {
+        result.add(slot.record);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns the number of currently stored records. While records are
+   * being added that might include some that are not yet visible.
+   */
+  @Override
+  public int size()
+  {
+    long end;
+
+    end = this.nextSequence.get();
+    return (int)Math.max(0L, end - Math.max(this.oldestSequence.get(), end - this.capacity));
+  }
+
+  @Override
+  public void clear()
+  {
+    long end;
+
+    end = this.nextSequence.get();
+    while (this.evictOldest(end))
+    {
+      // Continue until all are removed
+    }
+  }
+
+  public int getCapacity()
+  {
+    return this.capacity;
+  }
+
+  /**
+   * Returns the maximum estimated size of all records in bytes or 0 if
+   * there is no such limit.
+   */
+  public long getMaxBytes()
+  {
+    return this.maxBytes;
+  }
+
+  /**
+   * Returns the estimated size of all currently stored records in bytes.
+   */
+  public long getTotalBytes()
+  {
+    return this.totalBytes.get();
+  }
+
+  // =========================================================================
+  // PROTECTED INSTANCE METHODS
+  // =========================================================================
+  /**
+   * Returns the estimated number of bytes the given record occupies on the heap.
+   * A message that has not been rendered yet is estimated from its template
+   * and the number of its arguments, so it does not get rendered here.
+   */
+  protected long estimateSize(LogRecord record)
+  {
+    long size;
+
+    size = RECORD_OVERHEAD;
+    if (!record.isRendered() && (record.getTemplate() != null))
+    {
+      size += 2L * record.getTemplate().length();
+      if (record.getArguments() != null)
+      {
+        size += ARGUMENT_SIZE * record.getArguments().length;
+      }
+    }
+    else if (record.getMessage() != null)
+    {
+      size += 2L * record.getMessage().length();
+    }
+    if (record.getException() != null)
+    {
+      size += EXCEPTION_SIZE;
+    }
+    return size;
+  }
+
+  // =========================================================================
+  // PRIVATE INSTANCE METHODS
+  // =========================================================================
+  private int index(long sequence)
+  {
+    return (int)(sequence % this.capacity);
+  }
+
+  /**
+   * Drops the oldest record unless its sequence number is not lower than the given limit.
+   *
+   * @return false if nothing was dropped because of the limit.
+   */
+  private boolean evictOldest(long limit)
+  {
+    Slot slot;
+    long oldest;
+
+    oldest = this.oldestSequence.get();
+    if (oldest >= limit)
+    {
+      return false;
+    }
+    if (this.oldestSequence.compareAndSet(oldest, oldest + 1))
+    {
+      slot = this.slots.get(this.index(oldest));
+      if ((slot != null) && (slot.sequence == oldest))
+      {
+        this.release(slot);
+        this.slots.compareAndSet(this.index(oldest), slot, null);
+      }
+    }
+    return true;
+  }
+
+  private void advanceOldestSequence(long sequence)
+  {
+    long oldest;
+
+    do
+    {
+      oldest = this.oldestSequence.get();
+      if (oldest >= sequence)
+      {
+        return;
+      }
+    }
+    while (!this.oldestSequence.compareAndSet(oldest, sequence));
+  }
+
+  /**
+   * Subtracts the size of the given slot's record from the total size
+   * unless that has already been done before.
+   */
+  private void release(Slot slot)
+  {
+    if (Slot.RELEASED.compareAndSet(slot, 0, 1))
+    {
+      this.totalBytes.addAndGet(-slot.size);
+    }
+  }
+
+  // =========================================================================
+  // INNER CLASSES
+  // =========================================================================
+  private static class Slot
+  {
+    private static final AtomicIntegerFieldUpdater<Slot> RELEASED = AtomicIntegerFieldUpdater.newUpdater(Slot.class, "released");
+
+    private final long sequence;
+    private final LogRecord record;
+    private final long size;
+    private volatile int released = 0;
+
+    private Slot(long sequence, LogRecord record, long size)
+    {
+      super();
+      this.sequence = sequence;
+      this.record = record;
+      this.size = size;
+    }
+  }
+}
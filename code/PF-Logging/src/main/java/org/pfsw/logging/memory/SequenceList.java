@@ -0,0 +1,192 @@
+// ===========================================================================
+// CONTENT  : CLASS SequenceList
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.0 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging.memory;
+
+import java.util.Arrays;
+
+/**
+ * An ascending list of record sequence numbers (a posting list) of an
+ * {@link IndexedLogRecordStore}.
+ * <p>
+ * There must be only one writer at a time, but any number of concurrent readers.
+ * The numbers are kept in a chunk whose array elements below its size
+ * never change. If the array is full, a new chunk gets published that
+ * contains only the numbers that are not lower than the oldest sequence
+ * number still in the store. So readers work on a consistent chunk without
+ * copying or locking and evicted records are removed from the index in
+ * amortized constant time.
+ *
+ * @author Manfred Duchrow
+ * @version 1.0
+ */
+class SequenceList
+{
+  // =========================================================================
+  // CONSTANTS
+  // =========================================================================
+  /**
+   * The value returned by {@link Seeker#seek(long)} if there is no further sequence number.
+   */
+  static final long NONE = Long.MAX_VALUE;
+
+  private static final int INITIAL_CAPACITY = 8;
+
+  // =========================================================================
+  // INSTANCE VARIABLES
+  // =========================================================================
+  private volatile Chunk chunk = new Chunk(new long[INITIAL_CAPACITY], 0);
+
+  // =========================================================================
+  // CONSTRUCTORS
+  // =========================================================================
+  SequenceList()
+  {
+    super();
+  }
+
+  // =========================================================================
+  // INSTANCE METHODS
+  // =========================================================================
+  /**
+   * Appends the given sequence number, which must be higher than all others in this list.
+   *
+   * @param sequence The sequence number to append.
+   * @param oldestSequence All numbers lower than that may be dropped.
+   */
+  void append(long sequence, long oldestSequence)
+  {
+    Chunk current;
+    long[] values;
+    int size;
+    int live;
+
+    current = this.chunk;
+    size = current.size;
+    if (size < current.values.length)
+    {
+      current.values[size] = sequence;
+      current.size = size + 1;
+      return;
+    }
+    live = current.indexOf(0, size, oldestSequence);
+    values = new long[Math.max(INITIAL_CAPACITY, 2 * (size - live + 1))];
+    System.arraycopy(current.values, live, values, 0, size - live);
+    values[size - live] = sequence;
+    this.chunk = new Chunk(values, size - live + 1);
+  }
+
+  /**
+   * Returns the highest sequence number or -1 if the list is empty.
+   */
+  long last()
+  {
+    Chunk current;
+    int size;
+
+    current = this.chunk;
+    size = current.size;
+    return (size == 0) ? -1L : current.values[size - 1];
+  }
+
+  /**
+   * Returns a seeker over the current content of this list.
+   * Numbers appended later are not visible to it.
+   */
+  Seeker seeker()
+  {
+    Chunk current;
+
+    current = this.chunk;
+    return new ChunkSeeker(current.values, current.size);
+  }
+
+  // =========================================================================
+  // INNER CLASSES
+  // =========================================================================
+  /**
+   * Iterates forward over an ascending sequence of numbers.
+   */
+  interface Seeker
+  {
+    /**
+     * Returns the lowest number that is not lower than the given target
+     * or {@link SequenceList#NONE} if there is none.
+     * The target must never be lower than in a previous call.
+     */
+    long seek(long target);
+  }
+
+  private static class Chunk
+  {
+    private final long[] values;
+    private volatile int size;
+
+    private Chunk(long[] values, int size)
+    {
+      super();
+      this.values = values;
+      this.size = size;
+    }
+
+    /**
+     * Returns the index of the first value not lower than the given one.
+     */
+    private int indexOf(int from, int to, long value)
+    {
+      int index;
+
+      index = Arrays.binarySearch(this.values, from, to, value);
+      return (index >= 0) ? index : -(index + 1);
+    }
+  }
+
+  private static class ChunkSeeker implements Seeker
+  {
+    private final long[] values;
+    private final int size;
+    private int position = 0;
+
+    private ChunkSeeker(long[] values, int size)
+    {
+      super();
+      this.values = values;
+      this.size = size;
+    }
+
+    @Override
+    public long seek(long target)
+    {
+      int step;
+      int high;
+      int index;
+
+      if (this.position >= this.size)
+      {
+        return NONE;
+      }
+      if (this.values[this.position] >= target)
+      {
+        return this.values[this.position];
+      }
+      // Gallop forward to keep skipping cheap while intersecting with a much shorter list
+      step = 1;
+      high = this.position + 1;
+      while ((high < this.size) && (this.values[high] < target))
+      {
+        this.position = high;
+        step = step * 2;
+        high = this.position + step;
+      }
+      index = Arrays.binarySearch(this.values, this.position, Math.min(high, this.size), target);
+      this.position = (index >= 0) ? index : -(index + 1);
+      return (this.position < this.size) ? this.values[this.position] : NONE;
+    }
+  }
+}
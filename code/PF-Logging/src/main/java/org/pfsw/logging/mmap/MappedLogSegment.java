@@ -0,0 +1,339 @@
+// ===========================================================================
+// CONTENT  : CLASS MappedLogSegment
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.1 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//  18/10/2026  mdu  changed --> clear stale bytes behind the recovered write position
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging.mmap;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A pre-sized file that is mapped into memory and to which log records
+ * get appended. 
+ * <p>
+ * The file starts with a header of {@link #FILE_HEADER_SIZE} bytes. It is followed
+ * by the records, each consisting of a 4 byte length and the UTF-8 encoded
+ * text. Space for a record gets reserved by atomically advancing the write 
+ * cursor. So concurrent threads can write without locking. 
+ * The length is first written negated, then the text and finally the positive 
+ * length, which marks the record as complete. 
+ * <p>
+ * Since the data is written directly into the memory mapped file, it survives
+ * a crash of the process without any system call. When a segment gets opened,
+ * the records are scanned to find the end of the written data (see {@link #open(File, int)}).
+ * Everything behind that end gets cleared, so bytes of records that can not
+ * be recovered are never mistaken for records later.
+ *
+ * @author Manfred Duchrow
+ * @version 1.1
+ */
+public class MappedLogSegment
+{
+  // =========================================================================
+  // CONSTANTS
+  // =========================================================================
+  /**
+   * The value of the first 4 bytes of each segment file ("PFLG").
+   */
+  public static final int MAGIC = 0x50464C47;
+  public static final int FILE_HEADER_SIZE = 8;
+  public static final int RECORD_HEADER_SIZE = 4;
+
+  private static final int FORMAT_VERSION = 1;
+  private static final Charset UTF8 = Charset.forName("UTF-8");
+
+  // =========================================================================
+  // INSTANCE VARIABLES
+  // =========================================================================
+  private final File file;
+  private final MappedByteBuffer buffer;
+  private final AtomicInteger cursor;
+  private final int completeRecordCount;
+  private final int incompleteRecordCount;
+  private final int discardedByteCount;
+  private final ThreadLocal<ByteBuffer> views = new ThreadLocal<ByteBuffer>();
+
+  // =========================================================================
+  // CLASS METHODS
+  // =========================================================================
+  /**
+   * Opens the given segment file or creates it with the given size if it
+   * does not exist. For an existing file the records get scanned and 
+   * the write cursor is set behind the last record. The scan stops at the 
+   * first record whose length was not yet written at all. That happens if 
+   * the process crashed after the space for a record got reserved but before
+   * its length was written. As the size of that space is unknown, all records
+   * behind it are lost and their bytes get cleared.
+   * 
+   * @param file The segment file.
+   * @param size The size of a new segment file in bytes. An existing file keeps its size.
+   * @throws IOException If the file cannot be mapped or is not a log segment.
+   */
+  public static MappedLogSegment open(File file, int size) throws IOException
+  {
+    RandomAccessFile randomAccessFile;
+    MappedByteBuffer buffer;
+
+    randomAccessFile = new RandomAccessFile(file, "rw");
+    try
+    {
+      if (randomAccessFile.length() == 0)
+      {
+        randomAccessFile.setLength(Math.max(size, FILE_HEADER_SIZE + RECORD_HEADER_SIZE + 1));
+      }
+      buffer = randomAccessFile.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, randomAccessFile.length());
+    }
+    finally
+    {
+      randomAccessFile.close();
+    }
+    if (buffer.getInt(0) == 0)
+    {
+      buffer.putInt(4, FORMAT_VERSION);
+      buffer.putInt(0, MAGIC);
+    }
+    else if (buffer.getInt(0) != MAGIC)
+    {
+      throw new IOException("Not a log segment: " + file);
+    }
+    return new MappedLogSegment(file, buffer);
+  }
+
+  /**
+   * Sets all bytes from the given position up to the last non-zero byte of 
+   * the buffer to zero.
+   * 
+   * @return The number of cleared bytes.
+   */
+  private static int clear(ByteBuffer buffer, int from)
+  {
+    int end = buffer.capacity();
+
+    while ((end > from) && (buffer.get(end - 1) == 0))
+    {
+      end--;
+    }
+    for (int i = from; i < end; i++)
+    {
+      buffer.put(i, (byte)0);
+    }
+    return end - from;
+  }
+
+  // =========================================================================
+  // CONSTRUCTORS
+  // =========================================================================
+  private MappedLogSegment(File file, MappedByteBuffer buffer)
+  {
+    super();
+    int position = FILE_HEADER_SIZE;
+    int complete = 0;
+    int incomplete = 0;
+    int length;
+
+    this.file = file;
+    this.buffer = buffer;
+    while ((position + RECORD_HEADER_SIZE) <= buffer.capacity())
+    {
+      length = buffer.getInt(position);
+      if ((length == 0) || (Math.abs(length) > (buffer.capacity() - position - RECORD_HEADER_SIZE)))
+      {
+        break;
+      }
+      if (length > 0)
+      {
+        complete++;
+      }
+      else
+      {
+        incomplete++;
+      }
+      position += RECORD_HEADER_SIZE + Math.abs(length);
+    }
+    this.cursor = new AtomicInteger(position);
+    this.completeRecordCount = complete;
+    this.incompleteRecordCount = incomplete;
+    this.discardedByteCount = clear(buffer, position);
+  }
+
+  // =========================================================================
+  // PUBLIC INSTANCE METHODS
+  // =========================================================================
+  /**
+   * Appends the given bytes as one record. A record that is bigger than 
+   * the whole segment gets truncated.
+   * 
+   * @return false if there is not enough space left in this segment.
+   */
+  public boolean append(byte[] bytes, int length)
+  {
+    int size = Math.min(length, this.getMaxRecordSize());
+    int position;
+    ByteBuffer view;
+
+    if (size <= 0)
+    {
+      return true;
+    }
+    position = this.reserve(RECORD_HEADER_SIZE + size);
+    if (position < 0)
+    {
+      return false;
+    }
+    view = this.getView();
+    view.putInt(position, -size);
+    view.position(position + RECORD_HEADER_SIZE);
+    view.put(bytes, 0, size);
+    view.putInt(position, size);
+    return true;
+  }
+
+  /**
+   * Returns the texts of all complete records in this segment.
+   */
+  public List<String> readRecords()
+  {
+    List<String> records = new ArrayList<String>();
+    ByteBuffer view = this.buffer.duplicate();
+    int end = this.getWritePosition();
+    int position = FILE_HEADER_SIZE;
+    int length;
+    byte[] bytes;
+
+    while ((position + RECORD_HEADER_SIZE) <= end)
+    {
+      length = view.getInt(position);
+      if (length == 0)
+      {
+        break;
+      }
+      if (length > 0)
+      {
+        bytes = new byte[length];
+        view.position(position + RECORD_HEADER_SIZE);
+        view.get(bytes);
+        records.add(new String(bytes, UTF8));
+      }
+      position += RECORD_HEADER_SIZE + Math.abs(length);
+    }
+    return records;
+  }
+
+  /**
+   * Forces all written records to the storage device. 
+   * That is only necessary to protect them against an operating system crash. 
+   */
+  public void force()
+  {
+    this.buffer.force();
+  }
+
+  public File getFile()
+  {
+    return this.file;
+  }
+
+  public int getCapacity()
+  {
+    return this.buffer.capacity();
+  }
+
+  /**
+   * Returns the position at which the next record would be written.
+   */
+  public int getWritePosition()
+  {
+    return Math.min(this.cursor.get(), this.buffer.capacity());
+  }
+
+  /**
+   * Returns the maximum number of text bytes of a single record.
+   */
+  public int getMaxRecordSize()
+  {
+    return this.buffer.capacity() - FILE_HEADER_SIZE - RECORD_HEADER_SIZE;
+  }
+
+  /**
+   * Returns the number of complete records found when this segment was opened.
+   */
+  public int getRecoveredRecordCount()
+  {
+    return this.completeRecordCount;
+  }
+
+  /**
+   * Returns the number of incomplete records found when this segment was opened.
+   * These are records that were being written when the process crashed.
+   */
+  public int getIncompleteRecordCount()
+  {
+    return this.incompleteRecordCount;
+  }
+
+  /**
+   * Returns the number of bytes behind the recovered records that have been 
+   * cleared when this segment was opened. These are the remains of records 
+   * written after a record whose length was never written.
+   */
+  public int getDiscardedByteCount()
+  {
+    return this.discardedByteCount;
+  }
+
+  // =========================================================================
+  // PROTECTED INSTANCE METHODS
+  // =========================================================================
+  /**
+   * Reserves the given number of bytes by advancing the write cursor.
+   * 
+   * @return The start position of the reserved space or -1 if there is not enough space.
+   */
+  protected int reserve(int size)
+  {
+    int position;
+
+    while (true)
+    {
+      position = this.cursor.get();
+      if ((position + size) > this.buffer.capacity())
+      {
+        return -1;
+      }
+      if (this.cursor.compareAndSet(position, position + size))
+      {
+        return position;
+      }
+    }
+  }
+
+  /**
+   * Returns a view of the mapped buffer that is used only by the current thread.
+   */
+  protected ByteBuffer getView()
+  {
+    ByteBuffer view;
+
+    view = this.views.get();
+    if (view == null)
+    {
+      view = this.buffer.duplicate();
+      this.views.set(view);
+    }
+    return view;
+  }
+}
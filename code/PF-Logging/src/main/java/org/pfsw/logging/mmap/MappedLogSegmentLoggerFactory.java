@@ -0,0 +1,146 @@
+// ===========================================================================
+// CONTENT  : CLASS MappedLogSegmentLoggerFactory
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.0 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging.mmap;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.pfsw.logging.Logger;
+import org.pfsw.logging.LoggerFactory;
+import org.pfsw.logging.stdout.PrintStreamLogger;
+
+/**
+ * This factory produces {@link PrintStreamLogger} instances that write all 
+ * their records to a shared {@link MappedLogSegmentSink}.
+ * <p>
+ * The location of the segment files can be defined by the system properties
+ * {@link #PROP_DIRECTORY}, {@link #PROP_BASE_NAME} and {@link #PROP_SEGMENT_SIZE}. 
+ * The sink gets opened when the first logger is created. If that fails, 
+ * the loggers write to stdout.
+ *
+ * @author Manfred Duchrow
+ * @version 1.0
+ */
+public class MappedLogSegmentLoggerFactory implements LoggerFactory
+{
+  // =========================================================================
+  // CONSTANTS
+  // =========================================================================
+  public static final String LOGGER_TYPE = "MMAP";
+
+  /**
+   * The system property that defines the directory of the segment files
+   * (default is "logs").
+   * <p>"org.pfsw.logging.mmap.dir"<p>
+   */
+  public static final String PROP_DIRECTORY = "org.pfsw.logging.mmap.dir";
+  /**
+   * The system property that defines the first part of the segment file names 
+   * (default is "pf-logging").
+   * <p>"org.pfsw.logging.mmap.name"<p>
+   */
+  public static final String PROP_BASE_NAME = "org.pfsw.logging.mmap.name";
+  /**
+   * The system property that defines the size of each segment file in bytes
+   * (default is 64 MB).
+   * <p>"org.pfsw.logging.mmap.segment.size"<p>
+   */
+  public static final String PROP_SEGMENT_SIZE = "org.pfsw.logging.mmap.segment.size";
+
+  private static final String DEFAULT_DIRECTORY = "logs";
+  private static final String DEFAULT_BASE_NAME = "pf-logging";
+
+  // =========================================================================
+  // INSTANCE VARIABLES
+  // =========================================================================
+  private final File directory;
+  private final String baseName;
+  private final int segmentSize;
+  private MappedLogSegmentSink sink = null;
+  private boolean sinkFailed = false;
+
+  // =========================================================================
+  // CONSTRUCTORS
+  // =========================================================================
+  /**
+   * Creates a new factory configured by the system properties.
+   */
+  public MappedLogSegmentLoggerFactory()
+  {
+    this(new File(System.getProperty(PROP_DIRECTORY, DEFAULT_DIRECTORY)), 
+        System.getProperty(PROP_BASE_NAME, DEFAULT_BASE_NAME), 
+        Integer.getInteger(PROP_SEGMENT_SIZE, MappedLogSegmentSink.DEFAULT_SEGMENT_SIZE).intValue());
+  }
+
+  public MappedLogSegmentLoggerFactory(File directory, String baseName, int segmentSize)
+  {
+    super();
+    this.directory = directory;
+    this.baseName = baseName;
+    this.segmentSize = segmentSize;
+  }
+
+  // =========================================================================
+  // PUBLIC INSTANCE METHODS
+  // =========================================================================
+  @Override
+  public String getName()
+  {
+    return LOGGER_TYPE;
+  }
+
+  @Override
+  public Logger createLogger()
+  {
+    return getLogger(Logger.ANONYMOUS_LOGGER_NAME);
+  }
+
+  @Override
+  public Logger getLogger(Class<?> clazz)
+  {
+    return getLogger(clazz.getName());
+  }
+
+  @Override
+  public Logger getLogger(String loggerName)
+  {
+    PrintStreamLogger logger;
+
+    logger = new PrintStreamLogger(loggerName);
+    logger.setLogSink(getSink(logger));
+    return logger;
+  }
+
+  // =========================================================================
+  // PROTECTED INSTANCE METHODS
+  // =========================================================================
+  /**
+   * Returns the shared sink which gets opened on the first call.
+   * 
+   * @param logger The logger to report a failure to open the sink.
+   * @return The sink or null if it cannot be opened.
+   */
+  protected synchronized MappedLogSegmentSink getSink(Logger logger)
+  {
+    if ((this.sink == null) && !this.sinkFailed)
+    {
+      try
+      {
+        this.sink = new MappedLogSegmentSink(this.directory, this.baseName, this.segmentSize);
+      }
+      catch (IOException ex)
+      {
+        this.sinkFailed = true;
+        logger.logError("Failed to open log segment '" + this.baseName + "' in " + this.directory, ex);
+      }
+    }
+    return this.sink;
+  }
+}
@@ -0,0 +1,243 @@
+// ===========================================================================
+// CONTENT  : CLASS MappedLogSegmentSink
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.1 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//  18/10/2026  mdu  changed --> records get encoded by a re-used encoder
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging.mmap;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.pfsw.logging.internal.Utf8Encoder;
+import org.pfsw.logging.stdout.LogSink;
+
+/**
+ * A sink that appends all records to memory mapped {@link MappedLogSegment}s.
+ * <p>
+ * The segment files are named "&lt;baseName&gt;.&lt;n&gt;.mlog" (n with 6 digits) 
+ * and are all located in the same directory. When a segment is full, the next 
+ * one gets created. After a restart the records are appended to the segment 
+ * with the highest number.
+ * <p>
+ * Writing a record involves no lock and no system call, except when a new 
+ * segment must be created.
+ *
+ * @author Manfred Duchrow
+ * @version 1.1
+ */
+public class MappedLogSegmentSink implements LogSink
+{
+  // =========================================================================
+  // CONSTANTS
+  // =========================================================================
+  public static final String SEGMENT_SUFFIX = ".mlog";
+  public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+  // =========================================================================
+  // INSTANCE VARIABLES
+  // =========================================================================
+  private final File directory;
+  private final String baseName;
+  private final int segmentSize;
+  private volatile MappedLogSegment currentSegment;
+  private int segmentNumber;
+  private volatile boolean closed = false;
+
+  // =========================================================================
+  // CONSTRUCTORS
+  // =========================================================================
+  /**
+   * Creates a new sink and opens the most recent segment in the given directory.
+   * 
+   * @param directory The directory of the segment files (gets created if necessary).
+   * @param baseName The first part of the segment file names.
+   * @param segmentSize The size of each segment file in bytes (default is used if not positive).
+   * @throws IOException If the segment cannot be opened.
+   */
+  public MappedLogSegmentSink(File directory, String baseName, int segmentSize) throws IOException
+  {
+    super();
+    List<Integer> numbers;
+
+    this.directory = directory;
+    this.baseName = baseName;
+    this.segmentSize = (segmentSize > 0) ? segmentSize : DEFAULT_SEGMENT_SIZE;
+    if (!directory.isDirectory() && !directory.mkdirs())
+    {
+      throw new IOException("Cannot create directory " + directory);
+    }
+    numbers = this.getSegmentNumbers();
+    this.segmentNumber = numbers.isEmpty() ? 1 : numbers.get(numbers.size() - 1);
+    this.currentSegment = MappedLogSegment.open(this.getSegmentFile(this.segmentNumber), this.segmentSize);
+  }
+
+  // =========================================================================
+  // PUBLIC INSTANCE METHODS
+  // =========================================================================
+  @Override
+  public void write(int level, CharSequence record)
+  {
+    Utf8Encoder encoder;
+    int length;
+    MappedLogSegment segment;
+
+    if (this.closed)
+    {
+      return;
+    }
+    encoder = Utf8Encoder.current();
+    length = encoder.encode(record);
+    segment = this.currentSegment;
+    while (!segment.append(encoder.getBytes(), length))
+    {
+      segment = this.nextSegment(segment);
+      if (segment == null)
+      {
+        return;
+      }
+    }
+  }
+
+  /**
+   * Forces the records of the current segment to the storage device.
+   * This is not necessary to survive a crash of the process.
+   */
+  @Override
+  public void flush()
+  {
+    this.currentSegment.force();
+  }
+
+  /**
+   * Forces the current segment to the storage device. All records written 
+   * afterwards get ignored.
+   */
+  @Override
+  public void close()
+  {
+    this.closed = true;
+    this.flush();
+  }
+
+  public MappedLogSegment getCurrentSegment()
+  {
+    return this.currentSegment;
+  }
+
+  /**
+   * Returns all segment files of this sink in the order they were written.
+   */
+  public List<File> getSegmentFiles()
+  {
+    List<File> files = new ArrayList<File>();
+
+    for (Integer number : this.getSegmentNumbers())
+    {
+      files.add(this.getSegmentFile(number));
+    }
+    return files;
+  }
+
+  public File getDirectory()
+  {
+    return this.directory;
+  }
+
+  public String getBaseName()
+  {
+    return this.baseName;
+  }
+
+  public int getSegmentSize()
+  {
+    return this.segmentSize;
+  }
+
+  public boolean isClosed()
+  {
+    return this.closed;
+  }
+
+  // =========================================================================
+  // PROTECTED INSTANCE METHODS
+  // =========================================================================
+  /**
+   * Returns the segment that follows the given full segment. 
+   * It gets created, if no other thread has done that already.
+   * 
+   * @return The next segment or null if it cannot be created.
+   */
+  protected synchronized MappedLogSegment nextSegment(MappedLogSegment fullSegment)
+  {
+    MappedLogSegment segment;
+
+    if (this.currentSegment != fullSegment)
+    {
+      return this.currentSegment;
+    }
+    try
+    {
+      segment = MappedLogSegment.open(this.getSegmentFile(this.segmentNumber + 1), this.segmentSize);
+    }
+    catch (IOException ex)
+    {
+      ex.printStackTrace();
+      return null;
+    }
+    this.segmentNumber++;
+    this.currentSegment = segment;
+    return segment;
+  }
+
+  protected File getSegmentFile(int number)
+  {
+    String digits = Integer.toString(number);
+
+    while (digits.length() < 6)
+    {
+      digits = "0" + digits;
+    }
+    return new File(this.directory, this.baseName + "." + digits + SEGMENT_SUFFIX);
+  }
+
+  /**
+   * Returns the numbers of all existing segment files in ascending order.
+   */
+  protected List<Integer> getSegmentNumbers()
+  {
+    List<Integer> numbers = new ArrayList<Integer>();
+    String prefix = this.baseName + ".";
+    String[] names;
+    String name;
+
+    names = this.directory.list();
+    if (names != null)
+    {
+      for (String each : names)
+      {
+        if (each.startsWith(prefix) && each.endsWith(SEGMENT_SUFFIX))
+        {
+          name = each.substring(prefix.length(), each.length() - SEGMENT_SUFFIX.length());
+          try
+          {
+            numbers.add(Integer.valueOf(name));
+          }
+          catch (NumberFormatException ex)
+          {
+            // Not a segment of this sink
+          }
+        }
+      }
+    }
+    Collections.sort(numbers);
+    return numbers;
+  }
+}
@@ -1,13 +1,14 @@
 // ===========================================================================
 // CONTENT  : CLASS NilLogger
 // AUTHOR   : Manfred Duchrow
-// VERSION  : 1.2 - 21/06/2014
+// VERSION  : 1.3 - 18/10/2026
 // HISTORY  :
 //  30/11/2001  duma  CREATED
 //	23/08/2006	mdu		added		-->	setLogLevel()
 //  21/06/2014  mdu   added   --> getName() and var-arg methods
+//  18/10/2026  mdu   added   --> fixed-arity log methods
 //
-// Copyright (c) 2001-2014, by Manfred Duchrow. All rights reserved.
+// Copyright (c) 2001-2026, by Manfred Duchrow. All rights reserved.
 // ===========================================================================
 package org.pfsw.logging.nil;
 
@@ -23,7 +24,7 @@ import org.pfsw.logging.Logger;
  * available (in the classpath).
  *
  * @author Manfred Duchrow
- * @version 1.2
+ * @version 1.3
  */
 public class NilLogger implements Logger
 {
@@ -106,6 +107,102 @@ public class NilLogger implements Logger
     // Template method that can be overridden by subclasses
   }
 
+  @Override
+  public void logDebug(String message)
+  {
+    // Template method that can be overridden by subclasses
+  }
+
+  @Override
+  public void logDebug(String message, Object param1)
+  {
+    // Template method that can be overridden by subclasses
+  }
+
+  @Override
+  public void logDebug(String message, Object param1, Object param2)
+  {
+    // Template method that can be overridden by subclasses
+  }
+
+  @Override
+  public void logDebug(String message, Object param1, Object param2, Object param3)
+  {
+    // Template method that can be overridden by subclasses
+  }
+
+  @Override
+  public void logInfo(String message)
+  {
+    // Template method that can be overridden by subclasses
+  }
+
+  @Override
+  public void logInfo(String message, Object param1)
+  {
+    // Template method that can be overridden by subclasses
+  }
+
+  @Override
+  public void logInfo(String message, Object param1, Object param2)
+  {
+    // Template method that can be overridden by subclasses
+  }
+
+  @Override
+  public void logInfo(String message, Object param1, Object param2, Object param3)
+  {
+    // Template method that can be overridden by subclasses
+  }
+
+  @Override
+  public void logWarning(String message)
+  {
+    // Template method that can be overridden by subclasses
+  }
+
+  @Override
+  public void logWarning(String message, Object param1)
+  {
+    // Template method that can be overridden by subclasses
+  }
+
+  @Override
+  public void logWarning(String message, Object param1, Object param2)
+  {
+    // Template method that can be overridden by subclasses
+  }
+
+  @Override
+  public void logWarning(String message, Object param1, Object param2, Object param3)
+  {
+    // Template method that can be overridden by subclasses
+  }
+
+  @Override
+  public void logError(String message)
+  {
+    // Template method that can be overridden by subclasses
+  }
+
+  @Override
+  public void logError(String message, Object param1)
+  {
+    // Template method that can be overridden by subclasses
+  }
+
+  @Override
+  public void logError(String message, Object param1, Object param2)
+  {
+    // Template method that can be overridden by subclasses
+  }
+
+  @Override
+  public void logError(String message, Object param1, Object param2, Object param3)
+  {
+    // Template method that can be overridden by subclasses
+  }
+
   /**
    * If the logging level is DEBUG, INFO or WARNING the given message
    * and the exception will be written to the log output device(s).
@@ -0,0 +1,375 @@
+// ===========================================================================
+// CONTENT  : CLASS RateLimitingLogger
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.0 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging.ratelimit;
+
+import java.util.Properties;
+
+import org.pfsw.logging.LogLevel;
+import org.pfsw.logging.Logger;
+import org.pfsw.logging.internal.LazyArguments;
+import org.pfsw.logging.internal.PrintfTemplate;
+import org.pfsw.logging.internal.PrintfTemplateLogger;
+
+/**
+ * A logger that passes on all enabled log records to a delegate logger
+ * unless the {@link TemplateRateLimiter} suppresses them.
+ * The rate limit applies per message template, which is the message
+ * string given to the log methods (before any placeholder replacement).
+ * <p>
+ * The printf methods of a {@link org.pfsw.logging.Logger2Logger} wrapping
+ * this logger are limited by their unformatted printf template.
+ * <p>
+ * {@link #logException(Throwable)} is never limited, because there is no
+ * message template.
+ *
+ * @author Manfred Duchrow
+ * @version 1.0
+ */
+public class RateLimitingLogger implements Logger, PrintfTemplateLogger
+{
+  // =========================================================================
+  // INSTANCE VARIABLES
+  // =========================================================================
+  private final Logger delegateLogger;
+  private final TemplateRateLimiter rateLimiter;
+
+  // =========================================================================
+  // CONSTRUCTORS
+  // =========================================================================
+  public RateLimitingLogger(Logger delegateLogger, TemplateRateLimiter rateLimiter)
+  {
+    super();
+    this.delegateLogger = delegateLogger;
+    this.rateLimiter = rateLimiter;
+  }
+
+  // =========================================================================
+  // PUBLIC INSTANCE METHODS
+  // =========================================================================
+  @Override
+  public String getName()
+  {
+    return this.getDelegateLogger().getName();
+  }
+
+  @Override
+  public void initialize(Properties properties)
+  {
+    this.getDelegateLogger().initialize(properties);
+  }
+
+  @Override
+  public boolean isLoggingDebugs()
+  {
+    return this.getDelegateLogger().isLoggingDebugs();
+  }
+
+  @Override
+  public boolean isLoggingInfos()
+  {
+    return this.getDelegateLogger().isLoggingInfos();
+  }
+
+  @Override
+  public boolean isLoggingWarnings()
+  {
+    return this.getDelegateLogger().isLoggingWarnings();
+  }
+
+  @Override
+  public boolean isLoggingErrors()
+  {
+    return this.getDelegateLogger().isLoggingErrors();
+  }
+
+  @Override
+  public boolean setLogLevel(String level)
+  {
+    return this.getDelegateLogger().setLogLevel(level);
+  }
+
+  @Override
+  public void logException(Throwable ex)
+  {
+    this.getDelegateLogger().logException(ex);
+  }
+
+  @Override
+  public void logDebug(String message, Object... params)
+  {
+    if (this.isLoggingDebugs() && this.isPermitted(message))
+    {
+      this.getDelegateLogger().logDebug(message, params);
+    }
+  }
+
+  @Override
+  public void logDebug(String message)
+  {
+    if (this.isLoggingDebugs() && this.isPermitted(message))
+    {
+      this.getDelegateLogger().logDebug(message);
+    }
+  }
+
+  @Override
+  public void logDebug(String message, Object param1)
+  {
+    if (this.isLoggingDebugs() && this.isPermitted(message))
+    {
+      this.getDelegateLogger().logDebug(message, param1);
+    }
+  }
+
+  @Override
+  public void logDebug(String message, Object param1, Object param2)
+  {
+    if (this.isLoggingDebugs() && this.isPermitted(message))
+    {
+      this.getDelegateLogger().logDebug(message, param1, param2);
+    }
+  }
+
+  @Override
+  public void logDebug(String message, Object param1, Object param2, Object param3)
+  {
+    if (this.isLoggingDebugs() && this.isPermitted(message))
+    {
+      this.getDelegateLogger().logDebug(message, param1, param2, param3);
+    }
+  }
+
+  @Override
+  public void logInfo(String message, Object... params)
+  {
+    if (this.isLoggingInfos() && this.isPermitted(message))
+    {
+      this.getDelegateLogger().logInfo(message, params);
+    }
+  }
+
+  @Override
+  public void logInfo(String message)
+  {
+    if (this.isLoggingInfos() && this.isPermitted(message))
+    {
+      this.getDelegateLogger().logInfo(message);
+    }
+  }
+
+  @Override
+  public void logInfo(String message, Object param1)
+  {
+    if (this.isLoggingInfos() && this.isPermitted(message))
+    {
+      this.getDelegateLogger().logInfo(message, param1);
+    }
+  }
+
+  @Override
+  public void logInfo(String message, Object param1, Object param2)
+  {
+    if (this.isLoggingInfos() && this.isPermitted(message))
+    {
+      this.getDelegateLogger().logInfo(message, param1, param2);
+    }
+  }
+
+  @Override
+  public void logInfo(String message, Object param1, Object param2, Object param3)
+  {
+    if (this.isLoggingInfos() && this.isPermitted(message))
+    {
+      this.getDelegateLogger().logInfo(message, param1, param2, param3);
+    }
+  }
+
+  @Override
+  public void logWarning(String message, Object... params)
+  {
+    if (this.isLoggingWarnings() && this.isPermitted(message))
+    {
+      this.getDelegateLogger().logWarning(message, params);
+    }
+  }
+
+  @Override
+  public void logWarning(String message, Throwable exception)
+  {
+    if (this.isLoggingWarnings() && this.isPermitted(message))
+    {
+      this.getDelegateLogger().logWarning(message, exception);
+    }
+  }
+
+  @Override
+  public void logWarning(String message)
+  {
+    if (this.isLoggingWarnings() && this.isPermitted(message))
+    {
+      this.getDelegateLogger().logWarning(message);
+    }
+  }
+
+  @Override
+  public void logWarning(String message, Object param1)
+  {
+    if (this.isLoggingWarnings() && this.isPermitted(message))
+    {
+      this.getDelegateLogger().logWarning(message, param1);
+    }
+  }
+
+  @Override
+  public void logWarning(String message, Object param1, Object param2)
+  {
+    if (this.isLoggingWarnings() && this.isPermitted(message))
+    {
+      this.getDelegateLogger().logWarning(message, param1, param2);
+    }
+  }
+
+  @Override
+  public void logWarning(String message, Object param1, Object param2, Object param3)
+  {
+    if (this.isLoggingWarnings() && this.isPermitted(message))
+    {
+      this.getDelegateLogger().logWarning(message, param1, param2, param3);
+    }
+  }
+
+  @Override
+  public void logError(String message, Object... params)
+  {
+    if (this.isLoggingErrors() && this.isPermitted(message))
+    {
+      this.getDelegateLogger().logError(message, params);
+    }
+  }
+
+  @Override
+  public void logError(String message, Throwable exception)
+  {
+    if (this.isLoggingErrors() && this.isPermitted(message))
+    {
+      this.getDelegateLogger().logError(message, exception);
+    }
+  }
+
+  @Override
+  public void logError(String message)
+  {
+    if (this.isLoggingErrors() && this.isPermitted(message))
+    {
+      this.getDelegateLogger().logError(message);
+    }
+  }
+
+  @Override
+  public void logError(String message, Object param1)
+  {
+    if (this.isLoggingErrors() && this.isPermitted(message))
+    {
+      this.getDelegateLogger().logError(message, param1);
+    }
+  }
+
+  @Override
+  public void logError(String message, Object param1, Object param2)
+  {
+    if (this.isLoggingErrors() && this.isPermitted(message))
+    {
+      this.getDelegateLogger().logError(message, param1, param2);
+    }
+  }
+
+  @Override
+  public void logError(String message, Object param1, Object param2, Object param3)
+  {
+    if (this.isLoggingErrors() && this.isPermitted(message))
+    {
+      this.getDelegateLogger().logError(message, param1, param2, param3);
+    }
+  }
+
+  /**
+   * Passes on the printf template to the delegate logger if that supports
+   * it, otherwise the formatted message.
+   */
+  @Override
+  public void logPrintf(LogLevel level, Throwable exception, String template, Object[] params)
+  {
+    if (!this.isPermitted(template))
+    {
+      return;
+    }
+    if (this.getDelegateLogger() instanceof PrintfTemplateLogger)
+    {
+      ((PrintfTemplateLogger)this.getDelegateLogger()).logPrintf(level, exception, template, params);
+      return;
+    }
+    this.logFormatted(level, exception, PrintfTemplate.compile(template).format(LazyArguments.resolve(params)));
+  }
+
+  public TemplateRateLimiter getRateLimiter()
+  {
+    return this.rateLimiter;
+  }
+
+  // =========================================================================
+  // PROTECTED INSTANCE METHODS
+  // =========================================================================
+  protected boolean isPermitted(String template)
+  {
+    return this.getRateLimiter().tryAcquire(template, this.getDelegateLogger());
+  }
+
+  protected void logFormatted(LogLevel level, Throwable exception, String message)
+  {
+    switch (level)
+    {
+      case DEBUG:
+        this.getDelegateLogger().logDebug(message);
+        break;
+      case INFO:
+        this.getDelegateLogger().logInfo(message);
+        break;
+      case WARN:
+        if (exception == null)
+        {
+          this.getDelegateLogger().logWarning(message);
+        }
+        else
+        {
+          this.getDelegateLogger().logWarning(message, exception);
+        }
+        return;
+      default:
+        if (exception == null)
+        {
+          this.getDelegateLogger().logError(message);
+        }
+        else
+        {
+          this.getDelegateLogger().logError(message, exception);
+        }
+        return;
+    }
+    if (exception != null)
+    {
+      this.getDelegateLogger().logException(exception);
+    }
+  }
+
+  protected Logger getDelegateLogger()
+  {
+    return this.delegateLogger;
+  }
+}
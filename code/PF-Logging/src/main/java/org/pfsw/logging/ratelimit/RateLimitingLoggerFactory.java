@@ -0,0 +1,155 @@
+// ===========================================================================
+// CONTENT  : CLASS RateLimitingLoggerFactory
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.0 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging.ratelimit;
+
+import org.pfsw.logging.Logger;
+import org.pfsw.logging.LoggerFactory;
+
+/**
+ * This factory wraps all loggers of another factory in a {@link RateLimitingLogger}.
+ * All these loggers share the same {@link TemplateRateLimiter}.
+ * <p>
+ * It has the same name as the wrapped factory. So it can be registered
+ * instead of that one:
+ * <pre>
+ * LoggerFactoryProvider.register(new RateLimitingLoggerFactory(new PrintStreamLoggerFactory("STDOUT")));
+ * </pre>
+ * The limiter without explicit settings is configured by the system properties
+ * {@link #PROP_RATE}, {@link #PROP_BURST}, {@link #PROP_REPORT_INTERVAL} and
+ * {@link #PROP_MAX_TEMPLATES}.
+ *
+ * @author Manfred Duchrow
+ * @version 1.0
+ */
+public class RateLimitingLoggerFactory implements LoggerFactory
+{
+  // =========================================================================
+  // CONSTANTS
+  // =========================================================================
+  /**
+   * The system property that defines the allowed number of records per
+   * second and template (default is 10).
+   * <p>"org.pfsw.logging.ratelimit.rate"<p>
+   */
+  public static final String PROP_RATE = "org.pfsw.logging.ratelimit.rate";
+  /**
+   * The system property that defines the allowed number of records per
+   * template at once (default is 100).
+   * <p>"org.pfsw.logging.ratelimit.burst"<p>
+   */
+  public static final String PROP_BURST = "org.pfsw.logging.ratelimit.burst";
+  /**
+   * The system property that defines the interval in milliseconds in which
+   * the suppressed records get reported (default is 10000).
+   * <p>"org.pfsw.logging.ratelimit.report.interval"<p>
+   */
+  public static final String PROP_REPORT_INTERVAL = "org.pfsw.logging.ratelimit.report.interval";
+  /**
+   * The system property that defines the maximum number of templates that
+   * are limited at the same time (default is 10000).
+   * <p>"org.pfsw.logging.ratelimit.maxtemplates"<p>
+   */
+  public static final String PROP_MAX_TEMPLATES = "org.pfsw.logging.ratelimit.maxtemplates";
+
+  // =========================================================================
+  // INSTANCE VARIABLES
+  // =========================================================================
+  private final LoggerFactory delegateFactory;
+  private final TemplateRateLimiter rateLimiter;
+
+  // =========================================================================
+  // CONSTRUCTORS
+  // =========================================================================
+  /**
+   * Creates a new factory with a limiter configured by the system properties.
+   */
+  public RateLimitingLoggerFactory(LoggerFactory delegateFactory)
+  {
+    this(delegateFactory, new TemplateRateLimiter(
+        parseDouble(System.getProperty(PROP_RATE), TemplateRateLimiter.DEFAULT_PERMITS_PER_SECOND),
+        Integer.getInteger(PROP_BURST, TemplateRateLimiter.DEFAULT_BURST).intValue(),
+        Long.getLong(PROP_REPORT_INTERVAL, TemplateRateLimiter.DEFAULT_REPORT_INTERVAL).longValue(),
+        Integer.getInteger(PROP_MAX_TEMPLATES, TemplateRateLimiter.DEFAULT_MAX_TEMPLATES).intValue()));
+  }
+
+  public RateLimitingLoggerFactory(LoggerFactory delegateFactory, TemplateRateLimiter rateLimiter)
+  {
+    super();
+    this.delegateFactory = delegateFactory;
+    this.rateLimiter = rateLimiter;
+  }
+
+  // =========================================================================
+  // PUBLIC INSTANCE METHODS
+  // =========================================================================
+  /**
+   * Returns the name of the wrapped factory.
+   */
+  @Override
+  public String getName()
+  {
+    return this.getDelegateFactory().getName();
+  }
+
+  @Override
+  public Logger createLogger()
+  {
+    return this.wrap(this.getDelegateFactory().createLogger());
+  }
+
+  @Override
+  public Logger getLogger(String loggerName)
+  {
+    return this.wrap(this.getDelegateFactory().getLogger(loggerName));
+  }
+
+  @Override
+  public Logger getLogger(Class<?> clazz)
+  {
+    return this.getLogger(clazz.getName());
+  }
+
+  public TemplateRateLimiter getRateLimiter()
+  {
+    return this.rateLimiter;
+  }
+
+  // =========================================================================
+  // PROTECTED INSTANCE METHODS
+  // =========================================================================
+  protected Logger wrap(Logger logger)
+  {
+    return new RateLimitingLogger(logger, this.getRateLimiter());
+  }
+
+  protected LoggerFactory getDelegateFactory()
+  {
+    return this.delegateFactory;
+  }
+
+  // =========================================================================
+  // PRIVATE INSTANCE METHODS
+  // =========================================================================
+  private static double parseDouble(String value, double defaultValue)
+  {
+    if (value != null)
+    {
+      try
+      {
+        return Double.parseDouble(value.trim());
+      }
+      catch (NumberFormatException ex)
+      {
+        // Use the default
+      }
+    }
+    return defaultValue;
+  }
+}
@@ -0,0 +1,333 @@
+// ===========================================================================
+// CONTENT  : CLASS TemplateRateLimiter
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.0 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging.ratelimit;
+
+import java.util.Iterator;
+import java.util.Map.Entry;
+import java.util.Timer;
+import java.util.TimerTask;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.pfsw.logging.Logger;
+
+/**
+ * Limits the number of log records per message template by a token bucket
+ * for each template. Each bucket holds up to <em>burst</em> tokens and gets
+ * refilled with <em>permitsPerSecond</em> tokens per second. A record
+ * without a token gets suppressed and counted.
+ * <p>
+ * Periodically the suppressed records of each template get reported as
+ * one warning like
+ * <pre>
+ * Suppressed 12,345 messages like 'Connection {0} refused' in the last 10s
+ * </pre>
+ * to the logger that got the last suppressed record of that template.
+ * <p>
+ * A bucket is implemented as one atomic "theoretical arrival time" (GCRA),
+ * so {@link #tryAcquire(String, Logger)} needs no lock, only one map lookup and
+ * usually one compare-and-set.
+ * The buckets live in a concurrent map with a maximum number of templates.
+ * Buckets that are full again get removed at each report. If the map is
+ * full, records of further templates are not limited.
+ *
+ * @author Manfred Duchrow
+ * @version 1.0
+ */
+public class TemplateRateLimiter
+{
+  // =========================================================================
+  // CONSTANTS
+  // =========================================================================
+  public static final double DEFAULT_PERMITS_PER_SECOND = 10.0;
+  public static final int DEFAULT_BURST = 100;
+  public static final long DEFAULT_REPORT_INTERVAL = 10000L;
+  public static final int DEFAULT_MAX_TEMPLATES = 10000;
+
+  private static final String REPORT_TEMPLATE = "Suppressed {0} messages like ''{1}'' in the last {2}s";
+  private static final long NANOS_PER_SECOND = 1000000000L;
+  private static final long NANOS_PER_MILLI = 1000000L;
+
+  private static final Object TIMER_LOCK = new Object();
+  private static Timer reportTimer = null;
+
+  // =========================================================================
+  // INSTANCE VARIABLES
+  // =========================================================================
+  private final ConcurrentMap<String, TemplateBucket> buckets = new ConcurrentHashMap<String, TemplateBucket>();
+  private final long emissionInterval;
+  private final long burstTolerance;
+  private final int maxTemplates;
+  private final TimerTask reportTask;
+  private long lastReportTime;
+
+  // =========================================================================
+  // CONSTRUCTORS
+  // =========================================================================
+  /**
+   * Creates a new limiter with the default settings.
+   */
+  public TemplateRateLimiter()
+  {
+    this(DEFAULT_PERMITS_PER_SECOND, DEFAULT_BURST, DEFAULT_REPORT_INTERVAL, DEFAULT_MAX_TEMPLATES);
+  }
+
+  /**
+   * Creates a new limiter.
+   *
+   * @param permitsPerSecond The number of records per second and template that are allowed in the long run.
+   * @param burst The number of records per template that are allowed at once.
+   * @param reportIntervalMillis The interval in milliseconds in which suppressed records get reported (0 means only on {@link #close()}).
+   * @param maxTemplates The maximum number of templates that are limited at the same time.
+   */
+  public TemplateRateLimiter(double permitsPerSecond, int burst, long reportIntervalMillis, int maxTemplates)
+  {
+    super();
+    this.emissionInterval = Math.max(1L, (long)(NANOS_PER_SECOND / ((permitsPerSecond > 0.0) ? permitsPerSecond : DEFAULT_PERMITS_PER_SECOND)));
+    this.burstTolerance = this.emissionInterval * ((burst > 0) ? burst : DEFAULT_BURST);
+    this.maxTemplates = (maxTemplates > 0) ? maxTemplates : DEFAULT_MAX_TEMPLATES;
+    this.lastReportTime = this.nanoTime();
+    if (reportIntervalMillis > 0)
+    {
+      this.reportTask = new TimerTask()
+      {
+        @Override
+        public void run()
+        {
+          reportSuppressed();
+        }
+      };
+      getReportTimer().schedule(this.reportTask, reportIntervalMillis, reportIntervalMillis);
+    }
+    else
+    {
+      this.reportTask = null;
+    }
+  }
+
+  // =========================================================================
+  // PUBLIC INSTANCE METHODS
+  // =========================================================================
+  /**
+   * Takes a token from the bucket of the given template.
+   *
+   * @param template The message template of the record.
+   * @param reportLogger The logger to report suppressed records of this template to.
+   * @return true if the record may be logged, false if it must be suppressed.
+   */
+  public boolean tryAcquire(String template, Logger reportLogger)
+  {
+    TemplateBucket bucket;
+
+    if (template == null)
+    {
+      return true;
+    }
+    bucket = this.getBucket(template);
+    if (bucket == null)
+    {
+      return true;
+    }
+    if (bucket.tryAcquire(this.nanoTime(), this.emissionInterval, this.burstTolerance))
+    {
+      return true;
+    }
+    bucket.suppress(reportLogger);
+    return false;
+  }
+
+  /**
+   * Reports the number of suppressed records of each template since the
+   * last report and removes all buckets that are full again.
+   */
+  public void reportSuppressed()
+  {
+    Iterator<Entry<String, TemplateBucket>> iterator;
+    Entry<String, TemplateBucket> entry;
+    TemplateBucket bucket;
+    Logger logger;
+    long suppressed;
+    long now;
+    Double seconds;
+
+    now = this.nanoTime();
+    synchronized (this)
+    {
+      seconds = Double.valueOf(Math.round((now - this.lastReportTime) / (double)NANOS_PER_MILLI) / 1000.0);
+      this.lastReportTime = now;
+    }
+    iterator = this.getBuckets().entrySet().iterator();
+    while (iterator.hasNext())
+    {
+      entry = iterator.next();
+      bucket = entry.getValue();
+      logger = bucket.getReportLogger();
+      suppressed = bucket.takeSuppressedCount();
+      if ((suppressed > 0) && (logger != null))
+      {
+        logger.logWarning(REPORT_TEMPLATE, Long.valueOf(suppressed), entry.getKey(), seconds);
+      }
+      else if (bucket.isFull(now))
+      {
+        this.getBuckets().remove(entry.getKey(), bucket);
+      }
+    }
+  }
+
+  /**
+   * Stops the periodic reporting and reports the records suppressed so far.
+   */
+  public void close()
+  {
+    if (this.reportTask != null)
+    {
+      this.reportTask.cancel();
+    }
+    this.reportSuppressed();
+  }
+
+  /**
+   * Returns the number of templates that are currently limited.
+   */
+  public int size()
+  {
+    return this.getBuckets().size();
+  }
+
+  public int getMaxTemplates()
+  {
+    return this.maxTemplates;
+  }
+
+  // =========================================================================
+  // PROTECTED INSTANCE METHODS
+  // =========================================================================
+  /**
+   * Returns the bucket of the given template. A new one gets created unless
+   * the maximum number of templates is reached. In that case null is returned.
+   */
+  protected TemplateBucket getBucket(String template)
+  {
+    TemplateBucket bucket;
+    TemplateBucket existing;
+
+    bucket = this.getBuckets().get(template);
+    if ((bucket == null) && (this.getBuckets().size() < this.getMaxTemplates()))
+    {
+      bucket = new TemplateBucket();
+      existing = this.getBuckets().putIfAbsent(template, bucket);
+      if (existing != null)
+      {
+        bucket = existing;
+      }
+    }
+    return bucket;
+  }
+
+  /**
+   * Returns the current time in nanoseconds. Only differences are relevant.
+   */
+  protected long nanoTime()
+  {
+    return System.nanoTime();
+  }
+
+  protected ConcurrentMap<String, TemplateBucket> getBuckets()
+  {
+    return this.buckets;
+  }
+
+  // =========================================================================
+  // PRIVATE INSTANCE METHODS
+  // =========================================================================
+  /**
+   * Returns the daemon timer shared by all limiters for reporting.
+   */
+  private static Timer getReportTimer()
+  {
+    synchronized (TIMER_LOCK)
+    {
+      if (reportTimer == null)
+      {
+        reportTimer = new Timer("pf-logging-ratelimit", true);
+      }
+      return reportTimer;
+    }
+  }
+
+  // =========================================================================
+  // INNER CLASSES
+  // =========================================================================
+  protected static class TemplateBucket
+  {
+    private final AtomicLong theoreticalArrivalTime = new AtomicLong(Long.MIN_VALUE);
+    private final AtomicLong suppressedCount = new AtomicLong(0L);
+    private volatile Logger reportLogger = null;
+
+    protected TemplateBucket()
+    {
+      super();
+    }
+
+    /**
+     * Takes a token if the bucket is not empty. The bucket is empty if the
+     * theoretical arrival time of the next record is more than the burst
+     * tolerance ahead of now.
+     */
+    protected boolean tryAcquire(long now, long emissionInterval, long burstTolerance)
+    {
+      long arrivalTime;
+      long newArrivalTime;
+
+      do
+      {
+        arrivalTime = this.theoreticalArrivalTime.get();
+        newArrivalTime = ((arrivalTime == Long.MIN_VALUE) || (arrivalTime - now < 0L)) ? now + emissionInterval : arrivalTime + emissionInterval;
+        if (newArrivalTime - now > burstTolerance)
+        {
+          return false;
+        }
+      }
+      while (!this.theoreticalArrivalTime.compareAndSet(arrivalTime, newArrivalTime));
+      return true;
+    }
+
+    protected void suppress(Logger logger)
+    {
+      this.suppressedCount.incrementAndGet();
+      if (this.reportLogger != logger)
+      {
+        this.reportLogger = logger;
+      }
+    }
+
+    protected long takeSuppressedCount()
+    {
+      return this.suppressedCount.getAndSet(0L);
+    }
+
+    protected Logger getReportLogger()
+    {
+      return this.reportLogger;
+    }
+
+    /**
+     * Returns true if the bucket has all its tokens again at the given time.
+     */
+    protected boolean isFull(long now)
+    {
+      long arrivalTime;
+
+      arrivalTime = this.theoreticalArrivalTime.get();
+      return (arrivalTime == Long.MIN_VALUE) || (arrivalTime - now <= 0L);
+    }
+  }
+}
@@ -0,0 +1,442 @@
+// ===========================================================================
+// CONTENT  : CLASS AsyncLogSink
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.2 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//  18/10/2026  mdu  changed --> no records get lost or reordered while closing
+//  18/10/2026  mdu  added   --> getTarget()
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging.stdout;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * A sink that puts all records into a bounded queue from which a dedicated
+ * daemon thread writes them to the target sink. 
+ * So logging threads are not affected by slow output devices.
+ * <p>
+ * What happens if the queue is full is defined by an {@link AsyncOverflowPolicy}.
+ * The number of discarded records is counted per level.
+ * <p>
+ * On {@link #close()} and at JVM shutdown all queued records get written 
+ * before the writer thread stops and closes the target sink. Records written 
+ * after that go directly to the target sink once the writer thread has finished.
+ *
+ * @author Manfred Duchrow
+ * @version 1.2
+ */
+public class AsyncLogSink implements LogSink
+{
+  // =========================================================================
+  // CONSTANTS
+  // =========================================================================
+  public static final int DEFAULT_QUEUE_SIZE = 8192;
+  public static final AsyncOverflowPolicy DEFAULT_OVERFLOW_POLICY = AsyncOverflowPolicy.BLOCK;
+
+  private static final int LOW_LEVELS_THRESHOLD_PERCENT = 90;
+  private static final long WAIT_MILLIS = 100L;
+  private static final long CLOSE_TIMEOUT_MILLIS = 10000L;
+  private static final int MAX_BATCH_SIZE = 256;
+  private static final int LEVEL_COUNT = PrintStreamLogger.LEVEL_DEBUG + 1;
+
+  // =========================================================================
+  // INSTANCE VARIABLES
+  // =========================================================================
+  private final LogSink target;
+  private final BlockingQueue<Entry> queue;
+  private final AsyncOverflowPolicy overflowPolicy;
+  private final int lowLevelsThreshold;
+  private final AtomicLong[] droppedCounts = new AtomicLong[LEVEL_COUNT];
+  private final Thread writerThread;
+  private final Thread shutdownHook;
+  private final ReadWriteLock closeLock = new ReentrantReadWriteLock();
+  private volatile boolean closed = false;
+
+  // =========================================================================
+  // CONSTRUCTORS
+  // =========================================================================
+  /**
+   * Creates a new sink and starts its writer thread.
+   * 
+   * @param target The sink to which the writer thread writes the records (must not be null).
+   * @param queueSize The maximum number of queued records (default is used if not positive).
+   * @param overflowPolicy The policy if the queue is full (default is used if null).
+   */
+  public AsyncLogSink(LogSink target, int queueSize, AsyncOverflowPolicy overflowPolicy)
+  {
+    super();
+    int size = (queueSize > 0) ? queueSize : DEFAULT_QUEUE_SIZE;
+
+    this.target = target;
+    this.queue = new ArrayBlockingQueue<Entry>(size);
+    this.overflowPolicy = (overflowPolicy == null) ? DEFAULT_OVERFLOW_POLICY : overflowPolicy;
+    this.lowLevelsThreshold = Math.max(1, (size * LOW_LEVELS_THRESHOLD_PERCENT) / 100);
+    for (int i = 0; i < this.droppedCounts.length; i++)
+    {
+      this.droppedCounts[i] = new AtomicLong();
+    }
+    this.writerThread = new Thread("pf-logging-async-writer")
+    {
+      @Override
+      public void run()
+      {
+        writeQueuedRecords();
+        closeTarget();
+      }
+    };
+    this.writerThread.setDaemon(true);
+    this.writerThread.start();
+    this.shutdownHook = new Thread("pf-logging-async-shutdown")
+    {
+      @Override
+      public void run()
+      {
+        close();
+      }
+    };
+    try
+    {
+      Runtime.getRuntime().addShutdownHook(this.shutdownHook);
+    }
+    catch (IllegalStateException ex)
+    {
+      // Shutdown is already in progress
+    }
+  }
+
+  // =========================================================================
+  // PUBLIC INSTANCE METHODS
+  // =========================================================================
+  @Override
+  public void write(int level, CharSequence record)
+  {
+    Entry entry;
+
+    // Closing waits until no record is on its way into the queue anymore
+    this.closeLock.readLock().lock();
+    try
+    {
+      if (this.closed)
+      {
+        this.awaitWriterThread();
+        this.target.write(level, record);
+        return;
+      }
+      entry = new Entry(normalizeLevel(level), record.toString(), null);
+      if (!this.enqueue(entry))
+      {
+        this.droppedCounts[entry.level].incrementAndGet();
+      }
+    }
+    catch (InterruptedException ex)
+    {
+      this.droppedCounts[normalizeLevel(level)].incrementAndGet();
+      Thread.currentThread().interrupt();
+    }
+    finally
+    {
+      this.closeLock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Waits until all records queued so far have been written to the target
+   * sink and then flushes the target.
+   */
+  @Override
+  public void flush()
+  {
+    Entry marker;
+
+    marker = new Entry(PrintStreamLogger.LEVEL_ERROR, null, new CountDownLatch(1));
+    this.closeLock.readLock().lock();
+    try
+    {
+      if (this.closed)
+      {
+        this.awaitWriterThread();
+        this.target.flush();
+        return;
+      }
+      this.put(marker);
+    }
+    catch (InterruptedException ex)
+    {
+      Thread.currentThread().interrupt();
+      return;
+    }
+    finally
+    {
+      this.closeLock.readLock().unlock();
+    }
+    try
+    {
+      marker.done.await(CLOSE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+    }
+    catch (InterruptedException ex)
+    {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Stops accepting records and waits until the writer thread has written 
+   * all queued records and closed the target sink.
+   * If that takes too long, the writer thread finishes on its own.
+   */
+  @Override
+  public void close()
+  {
+    this.closeLock.writeLock().lock();
+    try
+    {
+      if (this.closed)
+      {
+        return;
+      }
+      this.closed = true;
+    }
+    finally
+    {
+      this.closeLock.writeLock().unlock();
+    }
+    this.awaitWriterThread();
+    if (Thread.currentThread() != this.shutdownHook)
+    {
+      try
+      {
+        Runtime.getRuntime().removeShutdownHook(this.shutdownHook);
+      }
+      catch (IllegalStateException ex)
+      {
+        // Shutdown is already in progress
+      }
+    }
+  }
+
+  /**
+   * Returns the total number of records discarded because the queue was full.
+   */
+  public long getDroppedCount()
+  {
+    long count = 0L;
+
+    for (AtomicLong droppedCount : this.droppedCounts)
+    {
+      count += droppedCount.get();
+    }
+    return count;
+  }
+
+  /**
+   * Returns the number of discarded records of the given level.
+   * 
+   * @param level One of the PrintStreamLogger.LEVEL_ constants.
+   */
+  public long getDroppedCount(int level)
+  {
+    return this.droppedCounts[normalizeLevel(level)].get();
+  }
+
+  /**
+   * Returns the sink to which the writer thread writes the records.
+   */
+  public LogSink getTarget()
+  {
+    return this.target;
+  }
+
+  public AsyncOverflowPolicy getOverflowPolicy()
+  {
+    return this.overflowPolicy;
+  }
+
+  public int getQueueSize()
+  {
+    return this.queue.size() + this.queue.remainingCapacity();
+  }
+
+  public boolean isClosed()
+  {
+    return this.closed;
+  }
+
+  // =========================================================================
+  // PRIVATE INSTANCE METHODS
+  // =========================================================================
+  /**
+   * Puts the given entry into the queue according to the overflow policy.
+   * 
+   * @return false if the entry was discarded.
+   */
+  private boolean enqueue(Entry entry) throws InterruptedException
+  {
+    Entry dropped;
+
+    switch (this.overflowPolicy)
+    {
+      case DROP_NEWEST:
+        return this.queue.offer(entry);
+      case DROP_OLDEST:
+        while (!this.queue.offer(entry))
+        {
+          dropped = this.queue.poll();
+          if ((dropped != null) && dropped.isRecord())
+          {
+            this.droppedCounts[dropped.level].incrementAndGet();
+          }
+          else if (dropped != null)
+          {
+            this.put(dropped);
+          }
+        }
+        return true;
+      case DROP_LOW_LEVELS:
+        if ((entry.level >= PrintStreamLogger.LEVEL_INFO) && (this.queue.size() >= this.lowLevelsThreshold))
+        {
+          return false;
+        }
+        this.put(entry);
+        return true;
+      default:
+        this.put(entry);
+        return true;
+    }
+  }
+
+  /**
+   * Waits until the entry can be put into the queue. The sink cannot get
+   * closed meanwhile, because the caller holds the read lock.
+   */
+  private void put(Entry entry) throws InterruptedException
+  {
+    this.queue.put(entry);
+  }
+
+  /**
+   * Waits until the writer thread has written all queued records, so 
+   * records written directly to the target after closing keep their order.
+   */
+  private void awaitWriterThread()
+  {
+    if (this.writerThread.isAlive() && (Thread.currentThread() != this.writerThread))
+    {
+      try
+      {
+        this.writerThread.join(CLOSE_TIMEOUT_MILLIS);
+      }
+      catch (InterruptedException ex)
+      {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  /**
+   * The loop of the writer thread. It ends after the sink has been closed 
+   * and the queue is empty. As nothing can be queued after closing, no 
+   * record remains in the queue.
+   */
+  private void writeQueuedRecords()
+  {
+    List<Entry> batch = new ArrayList<Entry>(MAX_BATCH_SIZE);
+    Entry entry;
+
+    while (true)
+    {
+      try
+      {
+        entry = this.queue.poll(WAIT_MILLIS, TimeUnit.MILLISECONDS);
+      }
+      catch (InterruptedException ex)
+      {
+        entry = null;
+      }
+      if (entry == null)
+      {
+        if (this.closed && this.queue.isEmpty())
+        {
+          return;
+        }
+        continue;
+      }
+      batch.add(entry);
+      this.queue.drainTo(batch, MAX_BATCH_SIZE - 1);
+      this.writeBatch(batch);
+      batch.clear();
+    }
+  }
+
+  private void closeTarget()
+  {
+    this.target.close();
+  }
+
+  private void writeBatch(List<Entry> batch)
+  {
+    for (Entry entry : batch)
+    {
+      try
+      {
+        if (entry.isRecord())
+        {
+          this.target.write(entry.level, entry.text);
+        }
+        else
+        {
+          this.target.flush();
+          entry.done.countDown();
+        }
+      }
+      catch (RuntimeException ex)
+      {
+        ex.printStackTrace();
+      }
+    }
+    if (this.queue.isEmpty())
+    {
+      this.target.flush();
+    }
+  }
+
+  private int normalizeLevel(int level)
+  {
+    return Math.max(0, Math.min(LEVEL_COUNT - 1, level));
+  }
+
+  // =========================================================================
+  // INNER CLASSES
+  // =========================================================================
+  /**
+   * A queued record or (if text is null) a flush marker.
+   */
+  private static class Entry
+  {
+    private final int level;
+    private final String text;
+    private final CountDownLatch done;
+
+    Entry(int level, String text, CountDownLatch done)
+    {
+      this.level = level;
+      this.text = text;
+      this.done = done;
+    }
+
+    boolean isRecord()
+    {
+      return this.text != null;
+    }
+  }
+}
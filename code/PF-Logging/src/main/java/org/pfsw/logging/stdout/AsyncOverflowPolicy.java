@@ -0,0 +1,58 @@
+// ===========================================================================
+// CONTENT  : ENUM AsyncOverflowPolicy
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.0 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging.stdout;
+
+/**
+ * Specifies what an {@link AsyncLogSink} does if its queue is full.
+ *
+ * @author Manfred Duchrow
+ * @version 1.0
+ */
+public enum AsyncOverflowPolicy
+{
+  /**
+   * The logging thread waits until there is room in the queue.
+   */
+  BLOCK,
+  /**
+   * DEBUG and INFO records get discarded as soon as the queue is nearly full,
+   * which leaves the remaining room for warnings and errors. 
+   * Warnings and errors wait if the queue is full.
+   */
+  DROP_LOW_LEVELS,
+  /**
+   * The new record gets discarded.
+   */
+  DROP_NEWEST,
+  /**
+   * The oldest queued record gets discarded to make room for the new one.
+   */
+  DROP_OLDEST;
+
+  /**
+   * Returns the policy that matches the given name (case-insensitive)
+   * or null if no match found.
+   */
+  public static AsyncOverflowPolicy getByName(String name)
+  {
+    if (name == null)
+    {
+      return null;
+    }
+    for (AsyncOverflowPolicy policy : values())
+    {
+      if (policy.name().equalsIgnoreCase(name.trim()))
+      {
+        return policy;
+      }
+    }
+    return null;
+  }
+}
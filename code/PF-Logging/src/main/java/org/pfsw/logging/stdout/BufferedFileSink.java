@@ -0,0 +1,356 @@
+// ===========================================================================
+// CONTENT  : CLASS BufferedFileSink
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.3 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//  18/10/2026  mdu  added   --> append mode, writeBytes() for subclasses
+//  18/10/2026  mdu  added   --> write() for already encoded records
+//  18/10/2026  mdu  changed --> records get encoded to UTF-8 by a re-used encoder
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging.stdout;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Timer;
+import java.util.TimerTask;
+
+import org.pfsw.logging.internal.Utf8Encoder;
+
+/**
+ * A sink that collects the records in a buffer and writes them to a file
+ * only if 
+ * <ul>
+ * <li>the buffer is full</li>
+ * <li>a record of level ERROR gets written (can be switched off)</li>
+ * <li>the flush interval has elapsed since the last flush (can be switched off)</li>
+ * <li>the JVM shuts down</li>
+ * </ul>
+ * So usually many records get written with one single write operation.
+ * <p>
+ * The records are always encoded in UTF-8. That happens directly from
+ * the given character sequence into a re-used per-thread buffer and 
+ * outside of the lock of the sink.
+ * <p>
+ * At shutdown the buffer gets flushed and all further records get written
+ * immediately.
+ *
+ * @author Manfred Duchrow
+ * @version 1.3
+ */
+public class BufferedFileSink implements LogSink
+{
+  // =========================================================================
+  // CONSTANTS
+  // =========================================================================
+  public static final int DEFAULT_BUFFER_SIZE = 8192;
+  public static final long DEFAULT_FLUSH_INTERVAL = 1000L;
+
+  private static final Object TIMER_LOCK = new Object();
+  private static Timer flushTimer = null;
+
+  // =========================================================================
+  // INSTANCE VARIABLES
+  // =========================================================================
+  private final File file;
+  private OutputStream outputStream;
+  private final byte[] buffer;
+  private int count = 0;
+  private final boolean flushOnError;
+  private final TimerTask flushTask;
+  private final Thread shutdownHook;
+  private boolean writeThrough = false;
+  private boolean closed = false;
+
+  // =========================================================================
+  // CONSTRUCTORS
+  // =========================================================================
+  /**
+   * Creates a new sink that writes to the given file. An existing file
+   * gets overwritten.
+   * 
+   * @param file The file to write to.
+   * @param bufferSize The buffer size in bytes (0 means each record is written immediately).
+   * @param flushIntervalMillis The maximum time in milliseconds records stay in the buffer (0 means no limit).
+   * @param flushOnError If true, the buffer gets flushed after each record of level ERROR.
+   * @throws IOException If the file cannot be opened.
+   */
+  public BufferedFileSink(File file, int bufferSize, long flushIntervalMillis, boolean flushOnError) throws IOException
+  {
+    this(file, false, bufferSize, flushIntervalMillis, flushOnError);
+  }
+
+  /**
+   * Creates a new sink that writes to the given file.
+   * 
+   * @param file The file to write to.
+   * @param append If true, the records get appended to an existing file, otherwise it gets overwritten.
+   * @param bufferSize The buffer size in bytes (0 means each record is written immediately).
+   * @param flushIntervalMillis The maximum time in milliseconds records stay in the buffer (0 means no limit).
+   * @param flushOnError If true, the buffer gets flushed after each record of level ERROR.
+   * @throws IOException If the file cannot be opened.
+   */
+  public BufferedFileSink(File file, boolean append, int bufferSize, long flushIntervalMillis, boolean flushOnError) throws IOException
+  {
+    this(file, new FileOutputStream(file, append), bufferSize, flushIntervalMillis, flushOnError);
+  }
+
+  /**
+   * Creates a new sink that writes to the given output stream.
+   */
+  protected BufferedFileSink(OutputStream outputStream, int bufferSize, long flushIntervalMillis, boolean flushOnError)
+  {
+    this(null, outputStream, bufferSize, flushIntervalMillis, flushOnError);
+  }
+
+  private BufferedFileSink(File file, OutputStream outputStream, int bufferSize, long flushIntervalMillis, boolean flushOnError)
+  {
+    super();
+    this.file = file;
+    this.outputStream = outputStream;
+    this.buffer = new byte[Math.max(0, bufferSize)];
+    this.flushOnError = flushOnError;
+    if ((flushIntervalMillis > 0) && (bufferSize > 0))
+    {
+      this.flushTask = new TimerTask()
+      {
+        @Override
+        public void run()
+        {
+          flush();
+        }
+      };
+      getFlushTimer().schedule(this.flushTask, flushIntervalMillis, flushIntervalMillis);
+    }
+    else
+    {
+      this.flushTask = null;
+    }
+    this.shutdownHook = new Thread("pf-logging-file-shutdown")
+    {
+      @Override
+      public void run()
+      {
+        shutdown();
+      }
+    };
+    try
+    {
+      Runtime.getRuntime().addShutdownHook(this.shutdownHook);
+    }
+    catch (IllegalStateException ex)
+    {
+      this.writeThrough = true;
+    }
+  }
+
+  // =========================================================================
+  // PUBLIC INSTANCE METHODS
+  // =========================================================================
+  @Override
+  public void write(int level, CharSequence record)
+  {
+    Utf8Encoder encoder;
+    int length;
+
+    encoder = Utf8Encoder.current();
+    length = encoder.encode(record);
+    this.write(level, encoder.getBytes(), 0, length);
+  }
+
+  /**
+   * Writes the given already encoded record.
+   * 
+   * @param level The level of the record (one of the PrintStreamLogger.LEVEL_ constants).
+   * @param bytes The array containing the record.
+   * @param offset The start of the record in the array.
+   * @param length The number of bytes of the record.
+   */
+  public synchronized void write(int level, byte[] bytes, int offset, int length)
+  {
+    if (this.closed)
+    {
+      return;
+    }
+    try
+    {
+      if (length > (this.buffer.length - this.count))
+      {
+        this.writeBuffer();
+      }
+      if (length >= this.buffer.length)
+      {
+        this.writeBytes(bytes, offset, length);
+      }
+      else
+      {
+        System.arraycopy(bytes, offset, this.buffer, this.count, length);
+        this.count += length;
+      }
+      if (this.writeThrough || (this.flushOnError && (level <= PrintStreamLogger.LEVEL_ERROR)))
+      {
+        this.writeBuffer();
+        this.outputStream.flush();
+      }
+    }
+    catch (IOException ex)
+    {
+      ex.printStackTrace();
+    }
+  }
+
+  /**
+   * Writes all buffered records to the file.
+   */
+  @Override
+  public synchronized void flush()
+  {
+    if (this.closed)
+    {
+      return;
+    }
+    try
+    {
+      this.writeBuffer();
+      this.outputStream.flush();
+    }
+    catch (IOException ex)
+    {
+      ex.printStackTrace();
+    }
+  }
+
+  /**
+   * Writes all buffered records and closes the file. All records written 
+   * afterwards get ignored.
+   */
+  @Override
+  public void close()
+  {
+    synchronized (this)
+    {
+      if (this.closed)
+      {
+        return;
+      }
+      this.flush();
+      this.closed = true;
+      try
+      {
+        this.outputStream.close();
+      }
+      catch (IOException ex)
+      {
+        ex.printStackTrace();
+      }
+    }
+    if (this.flushTask != null)
+    {
+      this.flushTask.cancel();
+    }
+    try
+    {
+      Runtime.getRuntime().removeShutdownHook(this.shutdownHook);
+    }
+    catch (IllegalStateException ex)
+    {
+      // Shutdown is already in progress
+    }
+  }
+
+  /**
+   * Returns the file this sink writes to or null if it writes to a stream.
+   */
+  public File getFile()
+  {
+    return this.file;
+  }
+
+  public int getBufferSize()
+  {
+    return this.buffer.length;
+  }
+
+  public boolean isFlushOnError()
+  {
+    return this.flushOnError;
+  }
+
+  public synchronized boolean isClosed()
+  {
+    return this.closed;
+  }
+
+  // =========================================================================
+  // PROTECTED INSTANCE METHODS
+  // =========================================================================
+  /**
+   * Flushes the buffer and makes sure that all records written afterwards
+   * (e.g. by other shutdown hooks) get written immediately.
+   */
+  protected synchronized void shutdown()
+  {
+    this.writeThrough = true;
+    this.flush();
+  }
+
+  /**
+   * Writes the given bytes to the output stream.
+   * This is always called while holding the lock of this sink.
+   */
+  protected void writeBytes(byte[] bytes, int offset, int length) throws IOException
+  {
+    this.outputStream.write(bytes, offset, length);
+  }
+
+  protected OutputStream getOutputStream()
+  {
+    return this.outputStream;
+  }
+
+  /**
+   * Replaces the output stream. This must only be called while holding 
+   * the lock of this sink.
+   * 
+   * @return The previous output stream, which is not closed.
+   */
+  protected OutputStream switchOutputStream(OutputStream newStream)
+  {
+    OutputStream oldStream;
+
+    oldStream = this.outputStream;
+    this.outputStream = newStream;
+    return oldStream;
+  }
+
+  // =========================================================================
+  // PRIVATE INSTANCE METHODS
+  // =========================================================================
+  private void writeBuffer() throws IOException
+  {
+    if (this.count > 0)
+    {
+      this.writeBytes(this.buffer, 0, this.count);
+      this.count = 0;
+    }
+  }
+
+  /**
+   * Returns the daemon timer shared by all sinks for interval flushing.
+   */
+  private static Timer getFlushTimer()
+  {
+    synchronized (TIMER_LOCK)
+    {
+      if (flushTimer == null)
+      {
+        flushTimer = new Timer("pf-logging-flush", true);
+      }
+      return flushTimer;
+    }
+  }
+}
@@ -0,0 +1,39 @@
+// ===========================================================================
+// CONTENT  : INTERFACE LogSink
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.0 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging.stdout;
+
+/**
+ * A destination for completely formatted log records of a {@link PrintStreamLogger}.
+ *
+ * @author Manfred Duchrow
+ * @version 1.0
+ */
+public interface LogSink
+{
+  /**
+   * Writes the given record.
+   * Implementations must not keep a reference to the given character sequence 
+   * after returning, because the caller might re-use it.
+   * 
+   * @param level The level of the record (one of the PrintStreamLogger.LEVEL_ constants).
+   * @param record The complete record text including the line end.
+   */
+  void write(int level, CharSequence record);
+
+  /**
+   * Makes sure all records written so far have been passed to the underlying device.
+   */
+  void flush();
+
+  /**
+   * Flushes and releases all resources. 
+   */
+  void close();
+}
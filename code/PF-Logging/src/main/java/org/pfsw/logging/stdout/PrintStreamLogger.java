@@ -1,37 +1,65 @@
 // ===========================================================================
 // CONTENT  : CLASS PrintStreamLogger
 // AUTHOR   : Manfred Duchrow
-// VERSION  : 1.3 - 21/06/2014
+// VERSION  : 1.7 - 18/10/2026
 // HISTORY  :
 //  30/11/2001  duma  CREATED
 //	17/10/2003	duma	changed	-->	log level constants and methods are now public
 //	06/11/2003	duma	changed	-->	Check properties == null in initialize()
 //	20/12/2003	duma	changed	-->	Visibility of setLogLevel() from protected to public
 //  21/06/2014  mdu   added   --> getName() and var-arg methods
+//  18/10/2026  mdu   changed --> log level based on LoggerLevels unless set explicitly
+//  18/10/2026  mdu   changed --> each record gets written with a single print() call
+//  18/10/2026  mdu   added   --> optional LogSink
+//  18/10/2026  mdu   changed --> buffered file output with flush policy
+//  18/10/2026  mdu   added   --> append mode and rolling of the output file
+//  18/10/2026  mdu   changed --> the output file is always encoded in UTF-8
+//  18/10/2026  mdu   added   --> optional StackTraceDeduplicator
+//  18/10/2026  mdu   changed --> file output stays asynchronous if an AsyncLogSink was set
+//  18/10/2026  mdu   removed --> print(String), print(int, String, Object...), println(), printLoggerNameIfSet()
 //
 // Copyright (c) 2001-2014, by Manfred Duchrow. All rights reserved.
 // ===========================================================================
 package org.pfsw.logging.stdout;
 
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.PrintStream;
+import java.io.PrintWriter;
 import java.util.Properties;
 
+import org.pfsw.logging.LogLevel;
 import org.pfsw.logging.internal.AbstractLogger;
+import org.pfsw.logging.internal.ReusableStringBuilder;
+import org.pfsw.logging.internal.StringBuilderWriter;
 
 /**
  * This logger supports simple output to a print stream. By default that
  * print stream is stdout. But it can changed by setting the property
  * 'logging.printstream.file' to a filename. Then it will open that file
  * at first access and appends all output to it.
+ * The file output is encoded in UTF-8, buffered (see {@link BufferedFileSink}) and 
+ * optionally rolled by size and/or time (see {@link RollingFileSink}). 
+ * If the logger writes asynchronously (i.e. an {@link AsyncLogSink} is set,
+ * for example by {@link PrintStreamLoggerFactory}), the file gets written 
+ * asynchronously, too.
  * <p>
- * The initial log level is ERROR. It can be changed via the property 
+ * The initial log level is INFO or the level configured in {@link org.pfsw.logging.LoggerLevels}
+ * for the logger's name. It can be changed via the property 
  * 'logging.level' (e.g. logging.level=WARNING). 
+ * <p>
+ * Each log record (including the stack trace of an exception) gets assembled
+ * completely in a re-used buffer and then written with one single print() call. 
+ * So records from concurrent threads never interleave.
+ * <p>
+ * If a {@link LogSink} is set, the records are written to that sink instead
+ * of the print stream.
+ * <p>
+ * If a {@link StackTraceDeduplicator} is set, repeated stack traces are
+ * written as a short reference to their first occurrence.
  *
  * @author Manfred Duchrow
- * @version 1.3
+ * @version 1.7
  */
 public class PrintStreamLogger extends AbstractLogger
 {
@@ -66,6 +94,60 @@ public class PrintStreamLogger extends AbstractLogger
    * <p>"logging.printstream.file"<p>
    */
   public static final String PROP_OUTPUT_FILE = "logging.printstream.file";
+  /**
+   * The property that specifies the size in bytes of the buffer for the
+   * file output (default is 8192). 0 means each record is written immediately.
+   * <p>"logging.printstream.file.buffersize"<p>
+   */
+  public static final String PROP_OUTPUT_BUFFER_SIZE = "logging.printstream.file.buffersize";
+  /**
+   * The property that specifies the interval in milliseconds in which the
+   * buffer for the file output gets flushed (default is 1000). 0 means no 
+   * periodic flushing.
+   * <p>"logging.printstream.file.flushinterval"<p>
+   */
+  public static final String PROP_OUTPUT_FLUSH_INTERVAL = "logging.printstream.file.flushinterval";
+  /**
+   * The property that specifies whether or not the buffer for the file
+   * output gets flushed after each error record (default is "true").
+   * <p>"logging.printstream.file.flushonerror"<p>
+   */
+  public static final String PROP_OUTPUT_FLUSH_ON_ERROR = "logging.printstream.file.flushonerror";
+  /**
+   * The property that specifies whether the output gets appended to an 
+   * existing file (default is "false", i.e. the file gets overwritten).
+   * <p>"logging.printstream.file.append"<p>
+   */
+  public static final String PROP_OUTPUT_APPEND = "logging.printstream.file.append";
+  /**
+   * The property that specifies the maximum size of the output file in bytes.
+   * A new file gets started before that size would be exceeded. 
+   * <p>"logging.printstream.file.rolling.maxsize"<p>
+   */
+  public static final String PROP_ROLLING_MAX_SIZE = "logging.printstream.file.rolling.maxsize";
+  /**
+   * The property that specifies the time window after which a new output 
+   * file gets started. The value must be one of "HOURLY", "DAILY".
+   * <p>"logging.printstream.file.rolling.period"<p>
+   */
+  public static final String PROP_ROLLING_PERIOD = "logging.printstream.file.rolling.period";
+  /**
+   * The property that specifies the maximum number of rolled files to keep.
+   * <p>"logging.printstream.file.rolling.maxfiles"<p>
+   */
+  public static final String PROP_ROLLING_MAX_FILES = "logging.printstream.file.rolling.maxfiles";
+  /**
+   * The property that specifies the maximum total size in bytes of all 
+   * rolled files to keep.
+   * <p>"logging.printstream.file.rolling.maxtotalsize"<p>
+   */
+  public static final String PROP_ROLLING_MAX_TOTAL_SIZE = "logging.printstream.file.rolling.maxtotalsize";
+  /**
+   * The property that specifies whether rolled files get compressed with
+   * gzip (default is "true").
+   * <p>"logging.printstream.file.rolling.compress"<p>
+   */
+  public static final String PROP_ROLLING_COMPRESS = "logging.printstream.file.rolling.compress";
   /**
    * The property to set the log level. The value must be one of the following 
    * strings: "NONE", "ERROR", "WARNING", "INFO", "DEBUG"
@@ -79,12 +161,15 @@ public class PrintStreamLogger extends AbstractLogger
   public static final String PROP_LOGGER_NAME = "logging.logger.name";
 
   private static final String[] LEVEL_INDICATOR = { "", "E", "W", "I", "D", "X" };
+  private static final LogLevel[] LEVELS = { LogLevel.NONE, LogLevel.ERROR, LogLevel.WARN, LogLevel.INFO, LogLevel.DEBUG };
+  private static final ReusableStringBuilder BUFFERS = new ReusableStringBuilder();
 
   // =========================================================================
   // INSTANCE VARIABLES
   // =========================================================================
-  private int logLevel = LEVEL_INFO;
   private PrintStream printStream = System.out;
+  private volatile LogSink logSink = null;
+  private volatile StackTraceDeduplicator stackTraceDeduplicator = null;
 
   // =========================================================================
   // CONSTRUCTORS
@@ -113,18 +198,30 @@ public class PrintStreamLogger extends AbstractLogger
    */
   public int getLogLevel()
   {
-    return logLevel;
+    switch (getEffectiveLogLevel())
+    {
+      case DEBUG:
+        return LEVEL_DEBUG;
+      case INFO:
+        return LEVEL_INFO;
+      case WARN:
+        return LEVEL_WARN;
+      case ERROR:
+        return LEVEL_ERROR;
+      default:
+        return LEVEL_NONE;
+    }
   }
 
   /**
    * Set the current log level of this logger.
    * <br>
-   * The default is LEVEL_ERROR.
+   * The default is LEVEL_INFO.
    * @param newLevel The new log level (i.e. one of the LEVEL_ constants of this class)
    */
   public void setLogLevel(int newLevel)
   {
-    logLevel = newLevel;
+    setExplicitLogLevel(LEVELS[Math.max(LEVEL_NONE, Math.min(LEVEL_DEBUG, newLevel))]);
   }
 
   /**
@@ -133,6 +230,24 @@ public class PrintStreamLogger extends AbstractLogger
    * <dl>
    * <dt>logging.printstream.file</dt>
    * <dd>The name of a file to which all logging should be redirected</dd>
+   * <dt>logging.printstream.file.buffersize</dt>
+   * <dd>The size of the buffer for the file output in bytes</dd>
+   * <dt>logging.printstream.file.flushinterval</dt>
+   * <dd>The interval in milliseconds in which the file output gets flushed</dd>
+   * <dt>logging.printstream.file.flushonerror</dt>
+   * <dd>"false" to not flush the file output after each error record</dd>
+   * <dt>logging.printstream.file.append</dt>
+   * <dd>"true" to append to an existing file instead of overwriting it</dd>
+   * <dt>logging.printstream.file.rolling.maxsize</dt>
+   * <dd>The maximum size of the file in bytes before a new one gets started</dd>
+   * <dt>logging.printstream.file.rolling.period</dt>
+   * <dd>"HOURLY" or "DAILY" to start a new file for each such time window</dd>
+   * <dt>logging.printstream.file.rolling.maxfiles</dt>
+   * <dd>The maximum number of rolled files to keep</dd>
+   * <dt>logging.printstream.file.rolling.maxtotalsize</dt>
+   * <dd>The maximum total size of all rolled files to keep in bytes</dd>
+   * <dt>logging.printstream.file.rolling.compress</dt>
+   * <dd>"false" to not compress rolled files with gzip</dd>
    * <dt>logging.level</dt>
    * <dd>The log level. Must be one of "NONE", "ERROR", "WARNING", "INFO", "DEBUG"</dd>
    * </dl>
@@ -147,7 +262,7 @@ public class PrintStreamLogger extends AbstractLogger
       value = properties.getProperty(PROP_OUTPUT_FILE);
       if (!isNullOrBlank(value))
       {
-        initPrintStream(value.trim());
+        initOutputFile(value.trim(), properties);
       }
 
       value = properties.getProperty(PROP_LOG_LEVEL);
@@ -171,7 +286,7 @@ public class PrintStreamLogger extends AbstractLogger
   @Override
   public void logException(Throwable ex)
   {
-    printException(ex);
+    printRecord(LEVEL_ERROR, null, ex);
   }
 
   /**
@@ -235,8 +350,7 @@ public class PrintStreamLogger extends AbstractLogger
   {
     if (isLoggingWarnings())
     {
-      println(LEVEL_WARN, message);
-      printException(exception);
+      printRecord(LEVEL_WARN, message, exception);
     }
   }
 
@@ -249,8 +363,7 @@ public class PrintStreamLogger extends AbstractLogger
   {
     if (isLoggingErrors())
     {
-      println(LEVEL_ERROR, message);
-      printException(exception);
+      printRecord(LEVEL_ERROR, message, exception);
     }
   }
 
@@ -302,53 +415,163 @@ public class PrintStreamLogger extends AbstractLogger
     return initLogLevel(logLevel);
   }
 
+  /**
+   * Returns the sink to which all records are written or null if they
+   * are written directly to the print stream.
+   */
+  public LogSink getLogSink()
+  {
+    return this.logSink;
+  }
+
+  /**
+   * Sets the sink to which all records will be written.
+   * 
+   * @param logSink The sink or null to write directly to the print stream again.
+   */
+  public void setLogSink(LogSink logSink)
+  {
+    this.logSink = logSink;
+  }
+
+  /**
+   * Returns the deduplicator for stack traces or null if each stack trace
+   * gets written completely.
+   */
+  public StackTraceDeduplicator getStackTraceDeduplicator()
+  {
+    return this.stackTraceDeduplicator;
+  }
+
+  /**
+   * Sets the deduplicator that decides whether a stack trace gets written
+   * completely or just as a reference to an identical one written before.
+   * The same deduplicator can be shared by many loggers.
+   * 
+   * @param stackTraceDeduplicator The deduplicator or null to always write complete stack traces.
+   */
+  public void setStackTraceDeduplicator(StackTraceDeduplicator stackTraceDeduplicator)
+  {
+    this.stackTraceDeduplicator = stackTraceDeduplicator;
+  }
+
   // =========================================================================
   // PROTECTED INSTANCE METHODS
   // =========================================================================
-  protected void print(String text)
+  protected void println(int level, String text, Object... params)
   {
-    getPrintStream().print(text);
+    StringBuilder buffer;
+
+    buffer = BUFFERS.acquire();
+    appendMessageLine(buffer, level, replacePlaceholders(text, params));
+    write(level, buffer);
+    BUFFERS.release(buffer);
   }
 
-  protected void print(int level, String message, Object... params)
+  /**
+   * Writes the given message (if not null) followed by the stack trace of 
+   * the given exception (if not null) with a single print() call.
+   */
+  protected void printRecord(int level, String message, Throwable exception)
   {
-    String text;
+    StringBuilder buffer;
 
-    text = replacePlaceholders(message, params);
+    buffer = BUFFERS.acquire();
+    if (message != null)
+    {
+      appendMessageLine(buffer, level, message);
+    }
+    if (exception != null)
+    {
+      appendException(buffer, exception);
+    }
+    write(level, buffer);
+    BUFFERS.release(buffer);
+  }
 
+  /**
+   * Appends a complete line with level indicator, logger name and the given text. 
+   */
+  protected void appendMessageLine(StringBuilder buffer, int level, String text)
+  {
     if (useLevelIndicators())
     {
-      print(getLevelIndicator(level));
-      print(" ");
+      buffer.append(getLevelIndicator(level)).append(' ');
     }
-    printLoggerNameIfSet();
-    print(text);
+    appendLoggerNameIfSet(buffer);
+    buffer.append(text).append('\n');
   }
 
-  protected void println(int level, String text, Object... params)
+  protected void appendLoggerNameIfSet(StringBuilder buffer)
   {
-    print(level, text, params);
-    println();
+    if (!isNullOrEmpty(getName()))
+    {
+      buffer.append(getName()).append(' ');
+    }
   }
 
-  protected void println()
+  /**
+   * Appends the logger name and the stack trace of the given exception.
+   * If a stack trace deduplicator is set, that decides how the stack trace
+   * gets rendered.
+   */
+  protected void appendException(StringBuilder buffer, Throwable ex)
   {
-    print("\n");
+    StackTraceDeduplicator deduplicator;
+    PrintWriter writer;
+
+    appendLoggerNameIfSet(buffer);
+    deduplicator = getStackTraceDeduplicator();
+    if (deduplicator != null)
+    {
+      deduplicator.appendStackTrace(buffer, ex);
+      return;
+    }
+    writer = new PrintWriter(new StringBuilderWriter(buffer));
+    ex.printStackTrace(writer);
+    writer.flush();
   }
 
-  protected void printLoggerNameIfSet()
+  /**
+   * Writes the given complete record to the log sink or if there is none
+   * to the print stream.
+   */
+  protected void write(int level, StringBuilder buffer)
   {
-    if (!isNullOrEmpty(getName()))
+    LogSink sink;
+
+    sink = getLogSink();
+    if (sink == null)
     {
-      print(getName());
-      print(" ");
+      getPrintStream().print(buffer.toString());
+    }
+    else
+    {
+      sink.write(level, buffer);
+    }
+  }
+
+  /**
+   * Makes sure all records written so far have been passed to the output device.
+   */
+  protected void flushOutput()
+  {
+    LogSink sink;
+
+    sink = getLogSink();
+    if (sink == null)
+    {
+      getPrintStream().flush();
+    }
+    else
+    {
+      sink.flush();
     }
   }
 
   protected void printException(Throwable ex)
   {
-    printLoggerNameIfSet();
-    ex.printStackTrace(getPrintStream());
+    printRecord(LEVEL_ERROR, null, ex);
   }
 
   protected String getLevelIndicator(int level)
@@ -365,27 +588,112 @@ public class PrintStreamLogger extends AbstractLogger
     return true;
   }
 
-  @SuppressWarnings("resource")
+  /**
+   * Redirects all output to the file with the given name using the default
+   * buffer settings.
+   */
   protected void initPrintStream(String filename)
   {
-    File file = null;
-    FileOutputStream os = null;
-    PrintStream ps = null;
+    initOutputFile(filename, null);
+  }
+
+  /**
+   * Redirects all output to a {@link BufferedFileSink} for the file with the 
+   * given name. If any rolling property is set, it will be a {@link RollingFileSink}.
+   * All settings are taken from the given properties. 
+   * If an {@link AsyncLogSink} is set, the file sink gets wrapped by a new
+   * AsyncLogSink with the same queue size and overflow policy.
+   * A file sink that was set before gets closed.
+   */
+  protected void initOutputFile(String filename, Properties properties)
+  {
+    Properties props = (properties == null) ? new Properties() : properties;
+    LogSink sink;
+    LogSink previousSink;
+    AsyncLogSink asyncSink;
+    RollingFileSink rollingSink;
+    File file;
+    int bufferSize;
+    long flushInterval;
+    boolean flushOnError;
+    boolean append;
+    long maxSize;
+    RollingPeriod period;
+
+    if (filename == null)
+    {
+      return;
+    }
+    file = new File(filename);
+    bufferSize = (int)parseLong(props.getProperty(PROP_OUTPUT_BUFFER_SIZE), BufferedFileSink.DEFAULT_BUFFER_SIZE);
+    flushInterval = parseLong(props.getProperty(PROP_OUTPUT_FLUSH_INTERVAL), BufferedFileSink.DEFAULT_FLUSH_INTERVAL);
+    flushOnError = parseBoolean(props.getProperty(PROP_OUTPUT_FLUSH_ON_ERROR), true);
+    append = parseBoolean(props.getProperty(PROP_OUTPUT_APPEND), false);
+    maxSize = parseLong(props.getProperty(PROP_ROLLING_MAX_SIZE), 0L);
+    period = RollingPeriod.getByName(props.getProperty(PROP_ROLLING_PERIOD));
+    try
+    {
+      if ((maxSize > 0) || (period != null))
+      {
+        rollingSink = new RollingFileSink(file, append, bufferSize, flushInterval, flushOnError);
+        rollingSink.setMaxFileSize(maxSize);
+        rollingSink.setRollingPeriod(period);
+        rollingSink.setMaxFiles((int)parseLong(props.getProperty(PROP_ROLLING_MAX_FILES), 0L));
+        rollingSink.setMaxTotalSize(parseLong(props.getProperty(PROP_ROLLING_MAX_TOTAL_SIZE), 0L));
+        rollingSink.setCompress(parseBoolean(props.getProperty(PROP_ROLLING_COMPRESS), true));
+        sink = rollingSink;
+      }
+      else
+      {
+        sink = new BufferedFileSink(file, append, bufferSize, flushInterval, flushOnError);
+      }
+    }
+    catch (IOException ex)
+    {
+      logError("Failed to create file '" + filename + "' for logging", ex);
+      return;
+    }
+    previousSink = getLogSink();
+    if (previousSink instanceof AsyncLogSink)
+    {
+      asyncSink = (AsyncLogSink)previousSink;
+      sink = new AsyncLogSink(sink, asyncSink.getQueueSize(), asyncSink.getOverflowPolicy());
+      if (asyncSink.getTarget() instanceof BufferedFileSink)
+      {
+        // Only this logger's own file output gets closed, not the shared stdout sink of a factory
+        asyncSink.close();
+      }
+    }
+    else if (previousSink instanceof BufferedFileSink)
+    {
+      previousSink.close();
+    }
+    setLogSink(sink);
+  }
+
+  protected boolean parseBoolean(String value, boolean defaultValue)
+  {
+    if (isNullOrBlank(value))
+    {
+      return defaultValue;
+    }
+    return Boolean.parseBoolean(value.trim());
+  }
 
-    if (filename != null)
+  protected long parseLong(String value, long defaultValue)
+  {
+    if (!isNullOrBlank(value))
     {
       try
       {
-        file = new File(filename);
-        os = new FileOutputStream(file);
-        ps = new PrintStream(os);
-        setPrintStream(ps);
+        return Long.parseLong(value.trim());
       }
-      catch (IOException ex)
+      catch (NumberFormatException ex)
       {
-        logError("Failed to create file '" + filename + "' for logging", ex);
+        // Use the default
       }
     }
+    return defaultValue;
   }
 
   protected boolean initLogLevel(String level)
@@ -432,8 +740,14 @@ public class PrintStreamLogger extends AbstractLogger
     return this.printStream;
   }
 
+  /**
+   * Sets the print stream for all output. That also removes a log sink
+   * that might have been set before.
+   */
   protected void setPrintStream(PrintStream newValue)
   {
     this.printStream = newValue;
+    this.logSink = null;
   }
+
 }
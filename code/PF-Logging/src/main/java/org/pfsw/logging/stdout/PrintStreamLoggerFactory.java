@@ -1,38 +1,90 @@
 // ===========================================================================
 // CONTENT  : CLASS PrintStreamLoggerFactory
 // AUTHOR   : Manfred Duchrow
-// VERSION  : 2.0 - 13/12/2015
+// VERSION  : 2.2 - 18/10/2026
 // HISTORY  :
 //  21/06/2014  mdu  CREATED
 //  13/12/2015  mdu   added ->  name with getter, getLogger(Class)
+//  18/10/2026  mdu   added ->  initialize() with asynchronous output
+//  18/10/2026  mdu   added ->  optional deduplication of stack traces
 //
-// Copyright (c) 2014-2015, by MDCS. All rights reserved.
+// Copyright (c) 2014-2026, by MDCS. All rights reserved.
 // ===========================================================================
 package org.pfsw.logging.stdout;
 
+import java.util.Properties;
+
 import org.pfsw.logging.Logger;
 import org.pfsw.logging.LoggerFactory;
 
 /**
  * This factory returns logger instances of class {@link PrintStreamLogger}.
+ * <p>
+ * Optionally all loggers created by this factory write their output 
+ * asynchronously via an {@link AsyncLogSink} to stdout. That can be enabled
+ * via {@link #initialize(Properties)} or with the same properties as system
+ * properties.
+ * <p>
+ * Optionally all loggers created by this factory share a {@link StackTraceDeduplicator},
+ * so that repeated stack traces get written completely only once.
  *
  * @author Manfred Duchrow
- * @version 2.0
+ * @version 2.2
  */
 public class PrintStreamLoggerFactory implements LoggerFactory
 {
+  // =========================================================================
+  // CONSTANTS
+  // =========================================================================
+  /**
+   * The property that enables asynchronous output if its value is "true".
+   * <p>"logging.printstream.async"<p>
+   */
+  public static final String PROP_ASYNC = "logging.printstream.async";
+  /**
+   * The property that defines the maximum number of queued records for
+   * asynchronous output (default is 8192).
+   * <p>"logging.printstream.async.queuesize"<p>
+   */
+  public static final String PROP_ASYNC_QUEUE_SIZE = "logging.printstream.async.queuesize";
+  /**
+   * The property that defines what happens if the queue for asynchronous
+   * output is full. The value must be one of "BLOCK" (default), "DROP_LOW_LEVELS", 
+   * "DROP_NEWEST", "DROP_OLDEST" (see {@link AsyncOverflowPolicy}).
+   * <p>"logging.printstream.async.overflow"<p>
+   */
+  public static final String PROP_ASYNC_OVERFLOW = "logging.printstream.async.overflow";
+  /**
+   * The property that enables the deduplication of stack traces if its
+   * value is "true".
+   * <p>"logging.printstream.stacktrace.dedup"<p>
+   */
+  public static final String PROP_STACK_TRACE_DEDUP = "logging.printstream.stacktrace.dedup";
+  /**
+   * The property that defines the maximum number of different stack traces
+   * that are remembered for deduplication (default is 1000).
+   * <p>"logging.printstream.stacktrace.dedup.cachesize"<p>
+   */
+  public static final String PROP_STACK_TRACE_DEDUP_CACHE_SIZE = "logging.printstream.stacktrace.dedup.cachesize";
+
   // =========================================================================
   // INSTANCE VARIABLES
   // =========================================================================
   private final String name;
+  private LogSink logSink = null;
+  private StackTraceDeduplicator stackTraceDeduplicator = null;
 
   // =========================================================================
   // CONSTRUCTORS
   // =========================================================================
+  /**
+   * Creates a new factory that gets initialized from the system properties.
+   */
   public PrintStreamLoggerFactory(String name)
   {
     super();
     this.name = name;
+    this.initialize(System.getProperties());
   }
 
   // =========================================================================
@@ -47,13 +99,13 @@ public class PrintStreamLoggerFactory implements LoggerFactory
   @Override
   public Logger createLogger()
   {
-    return new PrintStreamLogger();
+    return initLogger(new PrintStreamLogger());
   }
 
   @Override
   public Logger getLogger(String loggerName)
   {
-    return new PrintStreamLogger(loggerName);
+    return initLogger(new PrintStreamLogger(loggerName));
   }
 
   @Override
@@ -62,4 +114,110 @@ public class PrintStreamLoggerFactory implements LoggerFactory
     return getLogger(clazz.getName());
   }
 
+  /**
+   * Initializes the factory from the given properties. Currently the 
+   * following properties are supported:
+   * <dl>
+   * <dt>logging.printstream.async</dt>
+   * <dd>"true" enables asynchronous output, "false" disables it</dd>
+   * <dt>logging.printstream.async.queuesize</dt>
+   * <dd>The maximum number of queued records</dd>
+   * <dt>logging.printstream.async.overflow</dt>
+   * <dd>The policy if the queue is full. Must be one of "BLOCK", "DROP_LOW_LEVELS", "DROP_NEWEST", "DROP_OLDEST"</dd>
+   * <dt>logging.printstream.stacktrace.dedup</dt>
+   * <dd>"true" enables the deduplication of stack traces, "false" disables it</dd>
+   * <dt>logging.printstream.stacktrace.dedup.cachesize</dt>
+   * <dd>The maximum number of different stack traces to remember</dd>
+   * </dl>
+   * The settings apply to all loggers created afterwards by this factory.
+   */
+  public synchronized void initialize(Properties properties)
+  {
+    String value;
+
+    if (properties == null)
+    {
+      return;
+    }
+    value = properties.getProperty(PROP_ASYNC);
+    if (value != null)
+    {
+      if (Boolean.parseBoolean(value.trim()))
+      {
+        setLogSink(new AsyncLogSink(new PrintStreamSink(System.out), parseInt(properties.getProperty(PROP_ASYNC_QUEUE_SIZE)), AsyncOverflowPolicy.getByName(properties.getProperty(PROP_ASYNC_OVERFLOW))));
+      }
+      else
+      {
+        setLogSink(null);
+      }
+    }
+    value = properties.getProperty(PROP_STACK_TRACE_DEDUP);
+    if (value != null)
+    {
+      if (Boolean.parseBoolean(value.trim()))
+      {
+        this.stackTraceDeduplicator = new StackTraceDeduplicator(parseInt(properties.getProperty(PROP_STACK_TRACE_DEDUP_CACHE_SIZE)));
+      }
+      else
+      {
+        this.stackTraceDeduplicator = null;
+      }
+    }
+  }
+
+  /**
+   * Returns the sink that is set to all loggers created by this factory
+   * or null if they write directly to stdout.
+   */
+  public synchronized LogSink getLogSink()
+  {
+    return this.logSink;
+  }
+
+  /**
+   * Returns the stack trace deduplicator that is shared by all loggers created 
+   * by this factory or null if they write all stack traces completely.
+   */
+  public synchronized StackTraceDeduplicator getStackTraceDeduplicator()
+  {
+    return this.stackTraceDeduplicator;
+  }
+
+  // =========================================================================
+  // PROTECTED INSTANCE METHODS
+  // =========================================================================
+  protected PrintStreamLogger initLogger(PrintStreamLogger logger)
+  {
+    logger.setLogSink(getLogSink());
+    logger.setStackTraceDeduplicator(getStackTraceDeduplicator());
+    return logger;
+  }
+
+  /**
+   * Sets a new sink and closes the one that was set before.
+   */
+  protected synchronized void setLogSink(LogSink newSink)
+  {
+    if (this.logSink != null)
+    {
+      this.logSink.close();
+    }
+    this.logSink = newSink;
+  }
+
+  protected int parseInt(String value)
+  {
+    if (value != null)
+    {
+      try
+      {
+        return Integer.parseInt(value.trim());
+      }
+      catch (NumberFormatException ex)
+      {
+        // Use the default
+      }
+    }
+    return 0;
+  }
 }
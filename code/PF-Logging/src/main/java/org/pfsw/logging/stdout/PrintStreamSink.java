@@ -0,0 +1,65 @@
+// ===========================================================================
+// CONTENT  : CLASS PrintStreamSink
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.0 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging.stdout;
+
+import java.io.PrintStream;
+
+/**
+ * A sink that writes each record with a single print() call to a print stream.
+ *
+ * @author Manfred Duchrow
+ * @version 1.0
+ */
+public class PrintStreamSink implements LogSink
+{
+  // =========================================================================
+  // INSTANCE VARIABLES
+  // =========================================================================
+  private final PrintStream printStream;
+
+  // =========================================================================
+  // CONSTRUCTORS
+  // =========================================================================
+  public PrintStreamSink(PrintStream printStream)
+  {
+    super();
+    this.printStream = printStream;
+  }
+
+  // =========================================================================
+  // PUBLIC INSTANCE METHODS
+  // =========================================================================
+  @Override
+  public void write(int level, CharSequence record)
+  {
+    this.getPrintStream().print(record.toString());
+  }
+
+  @Override
+  public void flush()
+  {
+    this.getPrintStream().flush();
+  }
+
+  /**
+   * Flushes the print stream. It does not close it, because it is typically
+   * System.out or System.err.
+   */
+  @Override
+  public void close()
+  {
+    this.flush();
+  }
+
+  public PrintStream getPrintStream()
+  {
+    return this.printStream;
+  }
+}
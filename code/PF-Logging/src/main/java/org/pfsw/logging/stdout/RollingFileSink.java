@@ -0,0 +1,615 @@
+// ===========================================================================
+// CONTENT  : CLASS RollingFileSink
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.3 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//  18/10/2026  mdu  changed --> check the rolling time for already encoded records
+//  18/10/2026  mdu  changed --> retention only considers files named like rolled files
+//  18/10/2026  mdu  added   --> recovery of interrupted compressions
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging.stdout;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A buffered file sink that starts a new file if the current one would
+ * exceed a maximum size and/or if a new {@link RollingPeriod} begins.
+ * <p>
+ * The current file gets renamed to "&lt;name&gt;.&lt;date&gt;.&lt;n&gt;" and a new 
+ * file with the original name gets opened. On platforms that allow renaming 
+ * an open file that is nothing more than a rename and a swap of the file handle. 
+ * Closing the previous file, compressing it with gzip and deleting the oldest 
+ * rolled files (retention by number of files and/or total size) is done by 
+ * a background thread. So the logging threads never wait for that.
+ * <p>
+ * If the JVM ended while a rolled file was being compressed, the new sink
+ * deletes the incomplete "&lt;name&gt;.&lt;date&gt;.&lt;n&gt;.gz.tmp" file and 
+ * compresses the rolled file again in the background.
+ *
+ * @author Manfred Duchrow
+ * @version 1.3
+ */
+public class RollingFileSink extends BufferedFileSink
+{
+  // =========================================================================
+  // CONSTANTS
+  // =========================================================================
+  public static final String COMPRESSED_SUFFIX = ".gz";
+
+  private static final String TEMP_SUFFIX = ".tmp";
+  private static final String SIZE_ONLY_DATE_PATTERN = "yyyy-MM-dd";
+  private static final int COPY_BUFFER_SIZE = 8192;
+  /**
+   * Matches what follows "&lt;name&gt;" in the name of a rolled file: 
+   * ".&lt;date&gt;.&lt;n&gt;" optionally followed by ".gz".
+   */
+  private static final Pattern SEGMENT_SUFFIX = createSegmentSuffixPattern();
+  private static final Object EXECUTOR_LOCK = new Object();
+  private static ExecutorService backgroundExecutor = null;
+
+  // =========================================================================
+  // INSTANCE VARIABLES
+  // =========================================================================
+  private volatile long maxFileSize = 0L;
+  private volatile int maxFiles = 0;
+  private volatile long maxTotalSize = 0L;
+  private volatile boolean compress = true;
+  private RollingPeriod rollingPeriod = null;
+  private long periodStart = 0L;
+  private long nextRollTime = Long.MAX_VALUE;
+  private long currentSize;
+  private String segmentDate = null;
+  private int sequence = 0;
+
+  // =========================================================================
+  // CONSTRUCTORS
+  // =========================================================================
+  /**
+   * Creates a new sink that writes to the given file. Without further 
+   * settings it never rolls.
+   * 
+   * @param file The file to write to.
+   * @param append If true, the records get appended to an existing file, otherwise it gets overwritten.
+   * @param bufferSize The buffer size in bytes (0 means each record is written immediately).
+   * @param flushIntervalMillis The maximum time in milliseconds records stay in the buffer (0 means no limit).
+   * @param flushOnError If true, the buffer gets flushed after each record of level ERROR.
+   * @throws IOException If the file cannot be opened.
+   */
+  public RollingFileSink(File file, boolean append, int bufferSize, long flushIntervalMillis, boolean flushOnError) throws IOException
+  {
+    super(file, append, bufferSize, flushIntervalMillis, flushOnError);
+    this.currentSize = append ? file.length() : 0L;
+    if (!this.getInterruptedCompressions().isEmpty())
+    {
+      getBackgroundExecutor().execute(new RecoveryTask());
+    }
+  }
+
+  // =========================================================================
+  // PUBLIC INSTANCE METHODS
+  // =========================================================================
+  @Override
+  public synchronized void write(int level, byte[] bytes, int offset, int length)
+  {
+    if ((this.currentTimeMillis() >= this.nextRollTime) && !this.isClosed())
+    {
+      this.flush();
+      try
+      {
+        this.roll();
+      }
+      catch (IOException ex)
+      {
+        ex.printStackTrace();
+      }
+    }
+    super.write(level, bytes, offset, length);
+  }
+
+  /**
+   * Sets the time window after which a new file gets started.
+   * If the sink appends to an existing file that was last modified in an 
+   * earlier window, it gets rolled with the next record.
+   * 
+   * @param period The period or null for no time based rolling.
+   */
+  public synchronized void setRollingPeriod(RollingPeriod period)
+  {
+    long time;
+
+    this.rollingPeriod = period;
+    if (period == null)
+    {
+      this.nextRollTime = Long.MAX_VALUE;
+      return;
+    }
+    time = this.currentTimeMillis();
+    if (this.currentSize > 0)
+    {
+      time = Math.min(time, this.getFile().lastModified());
+    }
+    this.periodStart = period.getStartOf(time);
+    this.nextRollTime = period.getNextStart(time);
+  }
+
+  public synchronized RollingPeriod getRollingPeriod()
+  {
+    return this.rollingPeriod;
+  }
+
+  /**
+   * Sets the maximum size of a file in bytes. A new file gets started 
+   * before that size would be exceeded. 0 means no size based rolling.
+   */
+  public void setMaxFileSize(long maxFileSize)
+  {
+    this.maxFileSize = maxFileSize;
+  }
+
+  public long getMaxFileSize()
+  {
+    return this.maxFileSize;
+  }
+
+  /**
+   * Sets the maximum number of rolled files to keep. 0 means no limit.
+   */
+  public void setMaxFiles(int maxFiles)
+  {
+    this.maxFiles = maxFiles;
+  }
+
+  public int getMaxFiles()
+  {
+    return this.maxFiles;
+  }
+
+  /**
+   * Sets the maximum total size in bytes of all rolled files to keep. 
+   * 0 means no limit.
+   */
+  public void setMaxTotalSize(long maxTotalSize)
+  {
+    this.maxTotalSize = maxTotalSize;
+  }
+
+  public long getMaxTotalSize()
+  {
+    return this.maxTotalSize;
+  }
+
+  /**
+   * Defines whether or not rolled files get compressed with gzip (default is true).
+   */
+  public void setCompress(boolean compress)
+  {
+    this.compress = compress;
+  }
+
+  public boolean isCompress()
+  {
+    return this.compress;
+  }
+
+  // =========================================================================
+  // PROTECTED INSTANCE METHODS
+  // =========================================================================
+  @Override
+  protected void writeBytes(byte[] bytes, int offset, int length) throws IOException
+  {
+    long maxSize = this.getMaxFileSize();
+
+    if ((maxSize > 0) && (this.currentSize > 0) && ((this.currentSize + length) > maxSize))
+    {
+      this.roll();
+    }
+    super.writeBytes(bytes, offset, length);
+    this.currentSize += length;
+  }
+
+  /**
+   * Renames the current file, opens a new one and hands over the rest
+   * of the work to the background thread. 
+   * This is always called while holding the lock of this sink.
+   */
+  protected void roll() throws IOException
+  {
+    File file = this.getFile();
+    File segment;
+    OutputStream oldStream = null;
+    long now;
+
+    segment = this.nextSegmentFile();
+    if (file.renameTo(segment))
+    {
+      oldStream = this.switchOutputStream(new FileOutputStream(file, false));
+    }
+    else
+    {
+      // Some platforms do not allow to rename an open file
+      this.getOutputStream().close();
+      if (!file.renameTo(segment))
+      {
+        segment = null;
+      }
+      this.switchOutputStream(new FileOutputStream(file, segment == null));
+    }
+    this.currentSize = 0L;
+    if (this.rollingPeriod != null)
+    {
+      now = this.currentTimeMillis();
+      this.periodStart = this.rollingPeriod.getStartOf(now);
+      this.nextRollTime = this.rollingPeriod.getNextStart(now);
+    }
+    getBackgroundExecutor().execute(new RollTask(oldStream, segment));
+  }
+
+  /**
+   * Returns the current time in milliseconds.
+   */
+  protected long currentTimeMillis()
+  {
+    return System.currentTimeMillis();
+  }
+
+  /**
+   * Returns a not yet existing file name for the file that gets rolled now.
+   */
+  protected File nextSegmentFile()
+  {
+    String date;
+    File segment;
+
+    if (this.rollingPeriod == null)
+    {
+      date = new SimpleDateFormat(SIZE_ONLY_DATE_PATTERN).format(new Date(this.currentTimeMillis()));
+    }
+    else
+    {
+      date = new SimpleDateFormat(this.rollingPeriod.getDatePattern()).format(new Date(this.periodStart));
+    }
+    if (!date.equals(this.segmentDate))
+    {
+      this.segmentDate = date;
+      this.sequence = 0;
+    }
+    do
+    {
+      this.sequence++;
+      segment = new File(this.getFile().getParentFile(), this.getFile().getName() + "." + date + "." + this.sequence);
+    }
+    while (segment.exists() || new File(segment.getPath() + COMPRESSED_SUFFIX).exists());
+    return segment;
+  }
+
+  /**
+   * Compresses the given file to a file with the same name plus ".gz"
+   * and deletes the given file.
+   */
+  protected void compressFile(File file) throws IOException
+  {
+    File tempFile = new File(file.getPath() + COMPRESSED_SUFFIX + TEMP_SUFFIX);
+    byte[] buffer = new byte[COPY_BUFFER_SIZE];
+    InputStream input;
+    OutputStream output;
+    int count;
+
+    input = new FileInputStream(file);
+    try
+    {
+      output = new GZIPOutputStream(new FileOutputStream(tempFile));
+      try
+      {
+        while ((count = input.read(buffer)) > 0)
+        {
+          output.write(buffer, 0, count);
+        }
+      }
+      finally
+      {
+        output.close();
+      }
+    }
+    finally
+    {
+      input.close();
+    }
+    if (tempFile.renameTo(new File(file.getPath() + COMPRESSED_SUFFIX)))
+    {
+      file.delete();
+    }
+  }
+
+  /**
+   * Deletes the oldest rolled files until the retention limits are met.
+   */
+  protected void applyRetention()
+  {
+    List<File> segments;
+    long totalSize = 0L;
+    int max = this.getMaxFiles();
+    long maxSize = this.getMaxTotalSize();
+    File segment;
+
+    if ((max <= 0) && (maxSize <= 0))
+    {
+      return;
+    }
+    segments = this.getRolledFiles();
+    for (int i = 0; i < segments.size(); i++)
+    {
+      segment = segments.get(i);
+      totalSize += segment.length();
+      if (((max > 0) && (i >= max)) || ((maxSize > 0) && (totalSize > maxSize)))
+      {
+        segment.delete();
+      }
+    }
+  }
+
+  /**
+   * Returns all rolled files of this sink, the most recent first.
+   * Only files named "&lt;name&gt;.&lt;date&gt;.&lt;n&gt;" or "&lt;name&gt;.&lt;date&gt;.&lt;n&gt;.gz"
+   * are considered, so other files like "&lt;name&gt;.bak" are never touched.
+   */
+  protected List<File> getRolledFiles()
+  {
+    List<File> segments = new ArrayList<File>();
+    String prefix = this.getFile().getName();
+    String name;
+    File[] files;
+
+    files = this.getFile().getAbsoluteFile().getParentFile().listFiles();
+    if (files != null)
+    {
+      for (File file : files)
+      {
+        name = file.getName();
+        if (name.startsWith(prefix) && SEGMENT_SUFFIX.matcher(name.substring(prefix.length())).matches() && file.isFile())
+        {
+          segments.add(file);
+        }
+      }
+    }
+    Collections.sort(segments, new Comparator<File>()
+    {
+      @Override
+      public int compare(File file1, File file2)
+      {
+        long diff = file2.lastModified() - file1.lastModified();
+
+        if (diff != 0)
+        {
+          return (diff > 0) ? 1 : -1;
+        }
+        return getSequence(file2) - getSequence(file1);
+      }
+    });
+    return segments;
+  }
+
+  /**
+   * Returns the temporary files of compressions that have been interrupted,
+   * named "&lt;name&gt;.&lt;date&gt;.&lt;n&gt;.gz.tmp".
+   * As all compressions run one after the other in the background thread, 
+   * such a file is never in use when this gets called from there.
+   */
+  protected List<File> getInterruptedCompressions()
+  {
+    List<File> tempFiles = new ArrayList<File>();
+    String prefix = this.getFile().getName();
+    String suffix = COMPRESSED_SUFFIX + TEMP_SUFFIX;
+    String name;
+    File[] files;
+
+    files = this.getFile().getAbsoluteFile().getParentFile().listFiles();
+    if (files != null)
+    {
+      for (File file : files)
+      {
+        name = file.getName();
+        if (name.startsWith(prefix) && name.endsWith(suffix) && file.isFile()
+            && SEGMENT_SUFFIX.matcher(name.substring(prefix.length(), name.length() - suffix.length())).matches())
+        {
+          tempFiles.add(file);
+        }
+      }
+    }
+    return tempFiles;
+  }
+
+  /**
+   * Deletes the temporary files of interrupted compressions and compresses
+   * the corresponding rolled files again.
+   */
+  protected void recoverInterruptedCompressions() throws IOException
+  {
+    String path;
+    File segment;
+
+    for (File tempFile : this.getInterruptedCompressions())
+    {
+      path = tempFile.getPath();
+      segment = new File(path.substring(0, path.length() - COMPRESSED_SUFFIX.length() - TEMP_SUFFIX.length()));
+      tempFile.delete();
+      if (segment.isFile())
+      {
+        this.compressFile(segment);
+      }
+    }
+  }
+
+  // =========================================================================
+  // PRIVATE INSTANCE METHODS
+  // =========================================================================
+  /**
+   * Returns the sequence number contained in the name of the given rolled file.
+   */
+  private int getSequence(File file)
+  {
+    String name = file.getName();
+    int start;
+    int end;
+
+    if (name.endsWith(COMPRESSED_SUFFIX))
+    {
+      name = name.substring(0, name.length() - COMPRESSED_SUFFIX.length());
+    }
+    start = name.lastIndexOf('.') + 1;
+    end = name.length();
+    try
+    {
+      return Integer.parseInt(name.substring(start, end));
+    }
+    catch (NumberFormatException ex)
+    {
+      return 0;
+    }
+  }
+
+  /**
+   * Creates the pattern for the part of a rolled file's name after the 
+   * original name, accepting the dates of all rolling periods.
+   */
+  private static Pattern createSegmentSuffixPattern()
+  {
+    StringBuilder regex = new StringBuilder("\\.(");
+
+    regex.append(dateRegex(SIZE_ONLY_DATE_PATTERN));
+    for (RollingPeriod period : RollingPeriod.values())
+    {
+      regex.append('|').append(dateRegex(period.getDatePattern()));
+    }
+    regex.append(")\\.\\d+(").append(Pattern.quote(COMPRESSED_SUFFIX)).append(")?");
+    return Pattern.compile(regex.toString());
+  }
+
+  /**
+   * Converts a date pattern that consists of numeric fields and separators 
+   * to a regular expression.
+   */
+  private static String dateRegex(String datePattern)
+  {
+    StringBuilder regex = new StringBuilder();
+    char ch;
+
+    for (int i = 0; i < datePattern.length(); i++)
+    {
+      ch = datePattern.charAt(i);
+      if (Character.isLetter(ch))
+      {
+        regex.append("\\d");
+      }
+      else
+      {
+        regex.append(Pattern.quote(String.valueOf(ch)));
+      }
+    }
+    return regex.toString();
+  }
+
+  /**
+   * Returns the daemon thread executor shared by all sinks for the work 
+   * after rolling.
+   */
+  private static ExecutorService getBackgroundExecutor()
+  {
+    synchronized (EXECUTOR_LOCK)
+    {
+      if (backgroundExecutor == null)
+      {
+        backgroundExecutor = Executors.newSingleThreadExecutor(new ThreadFactory()
+        {
+          @Override
+          public Thread newThread(Runnable runnable)
+          {
+            Thread thread = new Thread(runnable, "pf-logging-roll");
+            thread.setDaemon(true);
+            return thread;
+          }
+        });
+      }
+      return backgroundExecutor;
+    }
+  }
+
+  // =========================================================================
+  // INNER CLASSES
+  // =========================================================================
+  /**
+   * Closes the stream of a rolled file, compresses that file and 
+   * applies the retention limits.
+   */
+  private class RollTask implements Runnable
+  {
+    private final OutputStream oldStream;
+    private final File segment;
+
+    RollTask(OutputStream oldStream, File segment)
+    {
+      this.oldStream = oldStream;
+      this.segment = segment;
+    }
+
+    @Override
+    public void run()
+    {
+      try
+      {
+        if (this.oldStream != null)
+        {
+          this.oldStream.close();
+        }
+        if ((this.segment != null) && isCompress())
+        {
+          compressFile(this.segment);
+        }
+        applyRetention();
+      }
+      catch (IOException ex)
+      {
+        ex.printStackTrace();
+      }
+    }
+  }
+
+  /**
+   * Cleans up after compressions that have been interrupted by the end of 
+   * the JVM and applies the retention limits.
+   */
+  private class RecoveryTask implements Runnable
+  {
+    @Override
+    public void run()
+    {
+      try
+      {
+        recoverInterruptedCompressions();
+        applyRetention();
+      }
+      catch (IOException ex)
+      {
+        ex.printStackTrace();
+      }
+    }
+  }
+}
@@ -0,0 +1,111 @@
+// ===========================================================================
+// CONTENT  : ENUM RollingPeriod
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.0 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging.stdout;
+
+import java.util.Calendar;
+
+/**
+ * Specifies the time window after which a {@link RollingFileSink} starts
+ * a new file. The windows are aligned to the local time.
+ *
+ * @author Manfred Duchrow
+ * @version 1.0
+ */
+public enum RollingPeriod
+{
+  /**
+   * A new file gets started at the beginning of each hour.
+   */
+  HOURLY("yyyy-MM-dd-HH", Calendar.HOUR_OF_DAY),
+  /**
+   * A new file gets started at midnight.
+   */
+  DAILY("yyyy-MM-dd", Calendar.DAY_OF_MONTH);
+
+  // =========================================================================
+  // INSTANCE VARIABLES
+  // =========================================================================
+  private final String datePattern;
+  private final int calendarField;
+
+  // =========================================================================
+  // CONSTRUCTORS
+  // =========================================================================
+  private RollingPeriod(String datePattern, int calendarField)
+  {
+    this.datePattern = datePattern;
+    this.calendarField = calendarField;
+  }
+
+  // =========================================================================
+  // PUBLIC CLASS METHODS
+  // =========================================================================
+  /**
+   * Returns the period that matches the given name (case-insensitive)
+   * or null if no match found.
+   */
+  public static RollingPeriod getByName(String name)
+  {
+    if (name == null)
+    {
+      return null;
+    }
+    for (RollingPeriod period : values())
+    {
+      if (period.name().equalsIgnoreCase(name.trim()))
+      {
+        return period;
+      }
+    }
+    return null;
+  }
+
+  // =========================================================================
+  // PUBLIC INSTANCE METHODS
+  // =========================================================================
+  /**
+   * Returns the start time of the window that contains the given time.
+   */
+  public long getStartOf(long time)
+  {
+    Calendar calendar = Calendar.getInstance();
+
+    calendar.setTimeInMillis(time);
+    if (this.calendarField == Calendar.DAY_OF_MONTH)
+    {
+      calendar.set(Calendar.HOUR_OF_DAY, 0);
+    }
+    calendar.set(Calendar.MINUTE, 0);
+    calendar.set(Calendar.SECOND, 0);
+    calendar.set(Calendar.MILLISECOND, 0);
+    return calendar.getTimeInMillis();
+  }
+
+  /**
+   * Returns the start time of the window following the one that contains 
+   * the given time.
+   */
+  public long getNextStart(long time)
+  {
+    Calendar calendar = Calendar.getInstance();
+
+    calendar.setTimeInMillis(this.getStartOf(time));
+    calendar.add(this.calendarField, 1);
+    return calendar.getTimeInMillis();
+  }
+
+  /**
+   * Returns the SimpleDateFormat pattern for the names of rolled files.
+   */
+  public String getDatePattern()
+  {
+    return this.datePattern;
+  }
+}
@@ -0,0 +1,227 @@
+// ===========================================================================
+// CONTENT  : CLASS StackTraceDeduplicator
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.0 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging.stdout;
+
+import java.io.PrintWriter;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.pfsw.logging.internal.CacheRetention;
+import org.pfsw.logging.internal.NamedInstanceCache;
+import org.pfsw.logging.internal.StringBuilderWriter;
+
+/**
+ * Renders the full stack trace of an exception only the first time it
+ * occurs. Subsequent occurrences of the same stack trace are rendered as
+ * one single line like
+ * <pre>
+ * java.lang.IllegalStateException: Connection 17 refused (same as #3, seen 42 times)
+ * </pre>
+ * where the full stack trace was rendered with the prefix "#3 ".
+ * <p>
+ * Two exceptions have the same stack trace if their fingerprints are equal.
+ * The fingerprint is a 64 bit hash of the exception's class, its message with
+ * all digits ignored and all its stack frames, including all causes.
+ * Computing it is much cheaper than rendering the stack trace
+ * (see the JMH benchmark StackTraceDeduplicatorBenchmark).
+ * <p>
+ * The known fingerprints are kept in a thread-safe cache of limited size.
+ * Evicted stack traces get rendered completely again with a new ID
+ * when they occur next time.
+ *
+ * @author Manfred Duchrow
+ * @version 1.0
+ */
+public class StackTraceDeduplicator
+{
+  // =========================================================================
+  // CONSTANTS
+  // =========================================================================
+  public static final int DEFAULT_MAX_SIZE = 1000;
+
+  private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+  private static final int MAX_CAUSE_DEPTH = 32;
+  private static final char DIGITS_MARKER = '#';
+
+  // =========================================================================
+  // INSTANCE VARIABLES
+  // =========================================================================
+  private final NamedInstanceCache<KnownStackTrace> knownStackTraces;
+  private final AtomicInteger idCounter = new AtomicInteger(0);
+
+  // =========================================================================
+  // CONSTRUCTORS
+  // =========================================================================
+  /**
+   * Creates a new instance that remembers up to {@link #DEFAULT_MAX_SIZE}
+   * different stack traces.
+   */
+  public StackTraceDeduplicator()
+  {
+    this(DEFAULT_MAX_SIZE);
+  }
+
+  /**
+   * Creates a new instance that remembers up to the given number of
+   * different stack traces.
+   */
+  public StackTraceDeduplicator(int maxSize)
+  {
+    super();
+    this.knownStackTraces = new NamedInstanceCache<KnownStackTrace>(CacheRetention.BOUNDED, (maxSize > 0) ? maxSize : DEFAULT_MAX_SIZE);
+  }
+
+  // =========================================================================
+  // PUBLIC INSTANCE METHODS
+  // =========================================================================
+  /**
+   * Appends either the full stack trace of the given exception prefixed
+   * with its ID or just a reference to the ID if the same stack trace has
+   * been appended before.
+   */
+  public void appendStackTrace(StringBuilder buffer, Throwable exception)
+  {
+    KnownStackTrace newStackTrace;
+    KnownStackTrace knownStackTrace;
+    PrintWriter writer;
+    String key;
+
+    key = Long.toHexString(this.fingerprint(exception));
+    knownStackTrace = this.getKnownStackTraces().get(key);
+    if (knownStackTrace == null)
+    {
+      newStackTrace = new KnownStackTrace(this.idCounter.incrementAndGet());
+      knownStackTrace = this.getKnownStackTraces().putIfAbsent(key, newStackTrace);
+      if (knownStackTrace == newStackTrace)
+      {
+        buffer.append('#').append(newStackTrace.getId()).append(' ');
+        writer = new PrintWriter(new StringBuilderWriter(buffer));
+        exception.printStackTrace(writer);
+        writer.flush();
+        return;
+      }
+    }
+    buffer.append(exception.toString());
+    buffer.append(" (same as #").append(knownStackTrace.getId());
+    buffer.append(", seen ").append(knownStackTrace.incrementCount()).append(" times)\n");
+  }
+
+  /**
+   * Returns the fingerprint of the given exception, which is based on
+   * its class, message (without digits) and stack frames plus the same of
+   * all its causes.
+   */
+  public long fingerprint(Throwable exception)
+  {
+    long hash = FNV_OFFSET;
+    Throwable current = exception;
+    int depth = 0;
+
+    while ((current != null) && (depth < MAX_CAUSE_DEPTH))
+    {
+      hash = this.mix(hash, current.getClass().getName().hashCode());
+      hash = this.mixMessageShape(hash, current.getMessage());
+      for (StackTraceElement frame : current.getStackTrace())
+      {
+        hash = this.mix(hash, frame.getClassName().hashCode());
+        hash = this.mix(hash, frame.getMethodName().hashCode());
+        hash = this.mix(hash, frame.getLineNumber());
+      }
+      if (current.getCause() == current)
+      {
+        break;
+      }
+      current = current.getCause();
+      depth++;
+    }
+    return hash;
+  }
+
+  /**
+   * Returns the number of different stack traces that are currently remembered.
+   */
+  public int size()
+  {
+    return this.getKnownStackTraces().size();
+  }
+
+  // =========================================================================
+  // PROTECTED INSTANCE METHODS
+  // =========================================================================
+  protected NamedInstanceCache<KnownStackTrace> getKnownStackTraces()
+  {
+    return this.knownStackTraces;
+  }
+
+  /**
+   * Mixes the given message into the hash. Each sequence of digits counts
+   * as one marker character. So messages that only differ in numbers
+   * (e.g. IDs, ports, sizes) result in the same hash.
+   */
+  protected long mixMessageShape(long hash, String message)
+  {
+    long result = hash;
+    boolean inDigits = false;
+    char ch;
+
+    if (message == null)
+    {
+      return this.mix(result, 0);
+    }
+    for (int i = 0; i < message.length(); i++)
+    {
+      ch = message.charAt(i);
+      if ((ch >= '0') && (ch <= '9'))
+      {
+        if (!inDigits)
+        {
+          result = this.mix(result, DIGITS_MARKER);
+          inDigits = true;
+        }
+      }
+      else
+      {
+        result = this.mix(result, ch);
+        inDigits = false;
+      }
+    }
+    return this.mix(result, 1);
+  }
+
+  protected long mix(long hash, int value)
+  {
+    return (hash ^ value) * FNV_PRIME;
+  }
+
+  // =========================================================================
+  // INNER CLASSES
+  // =========================================================================
+  protected static class KnownStackTrace
+  {
+    private final int id;
+    private final AtomicInteger count = new AtomicInteger(1);
+
+    protected KnownStackTrace(int id)
+    {
+      super();
+      this.id = id;
+    }
+
+    protected int getId()
+    {
+      return this.id;
+    }
+
+    protected int incrementCount()
+    {
+      return this.count.incrementAndGet();
+    }
+  }
+}
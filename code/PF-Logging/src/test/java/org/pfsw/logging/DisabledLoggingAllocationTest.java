@@ -0,0 +1,171 @@
+// ===========================================================================
+// CONTENT  : TEST CLASS DisabledLoggingAllocationTest
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.1 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//  18/10/2026  mdu  added   --> JUL and deferred adapters
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging;
+
+// ===========================================================================
+// IMPORTS
+// ===========================================================================
+import static org.junit.Assert.*;
+
+import java.lang.management.ManagementFactory;
+
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import org.pfsw.logging.deferred.DeferredInitializationLoggerAdapter;
+import org.pfsw.logging.jul.JavaUtilLoggerFactory;
+import org.pfsw.logging.memory.InMemoryLogger;
+import org.pfsw.logging.nil.NilLogger;
+import org.pfsw.logging.stdout.PrintStreamLogger;
+
+/**
+ * Verifies that calls of the fixed-arity log methods do not allocate
+ * any memory if the corresponding log level is disabled.
+ */
+public class DisabledLoggingAllocationTest
+{
+  // =========================================================================
+  // CONSTANTS
+  // =========================================================================
+  private static final int WARM_UP_ITERATIONS = 100;
+  private static final int ITERATIONS = 100000;
+  private static final long MAX_ALLOCATED_BYTES = 1024;
+
+  // =========================================================================
+  // INSTANCE VARIABLES
+  // =========================================================================
+  private com.sun.management.ThreadMXBean threadBean;
+  private final Object p1 = "alpha";
+  private final Object p2 = "beta";
+  private final Object p3 = "gamma";
+
+  // =========================================================================
+  // TEST METHODS
+  // =========================================================================
+  @Test
+  public void test_PrintStreamLogger()
+  {
+    PrintStreamLogger logger = new PrintStreamLogger("allocation.test");
+    
+    logger.setLogLevel(PrintStreamLogger.LEVEL_ERROR);
+    assertNoAllocation(logger);
+  }
+
+  @Test
+  public void test_InMemoryLogger()
+  {
+    InMemoryLogger logger = new InMemoryLogger("allocation.test");
+    
+    logger.setLogLevel(Logger.LL_NONE);
+    assertNoAllocation(logger);
+    assertTrue(logger.isEmpty());
+  }
+  
+  @Test
+  public void test_NilLogger()
+  {
+    assertNoAllocation(new NilLogger());
+  }
+  
+  @Test
+  public void test_JavaUtilLogger()
+  {
+    Logger logger = new JavaUtilLoggerFactory().getLogger("allocation.test.jul");
+
+    logger.setLogLevel(Logger.LL_ERROR);
+    assertNoAllocation(logger);
+  }
+
+  @Test
+  public void test_DeferredInitializationLoggerAdapter()
+  {
+    DeferredInitializationLoggerAdapter logger;
+
+    logger = new DeferredInitializationLoggerAdapter(LoggerBindingNames.STDOUT, "allocation.test.deferred");
+    logger.setLogLevel(Logger.LL_ERROR);
+    assertNoAllocation(logger);
+  }
+
+  @Test
+  public void test_Logger2Logger()
+  {
+    final Logger2Logger logger;
+    
+    logger = new Logger2Logger(new PrintStreamLogger("allocation.test"));
+    logger.setLogLevel(LogLevel.ERROR);
+    assertNoAllocation(logger);
+    assertNoAllocation(new Runnable()
+    {
+      @Override
+      public void run()
+      {
+        logger.debugf("debug %s", p1);
+        logger.infof("info %s %s", p1, p2);
+        logger.warnf("warn %s %s %s", p1, p2, p3);
+        logger.debugf("debug");
+        logger.logf(LogLevel.INFO, "info %s", p1);
+        logger.logf(LogLevel.DEBUG, "debug %s %s %s", p1, p2, p3);
+      }
+    });
+  }
+  
+  // =========================================================================
+  // PROTECTED INSTANCE METHODS
+  // =========================================================================
+  @Before
+  public void setUp()
+  {
+    Object bean = ManagementFactory.getThreadMXBean();
+
+    Assume.assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+    this.threadBean = (com.sun.management.ThreadMXBean)bean;
+    Assume.assumeTrue(this.threadBean.isThreadAllocatedMemorySupported());
+    this.threadBean.setThreadAllocatedMemoryEnabled(true);
+  }
+
+  protected void assertNoAllocation(final Logger logger)
+  {
+    assertNoAllocation(new Runnable()
+    {
+      @Override
+      public void run()
+      {
+        logger.logDebug("debug {0}", p1);
+        logger.logInfo("info {0} {1}", p1, p2);
+        logger.logWarning("warning {0} {1} {2}", p1, p2, p3);
+        logger.logDebug("debug");
+      }
+    });
+  }
+
+  protected void assertNoAllocation(Runnable logCalls)
+  {
+    long threadId = Thread.currentThread().getId();
+    long before;
+    long allocated;
+
+    // Just load all involved classes. A long warm-up would let escape analysis 
+    // of the JIT compiler hide var-arg array allocations.
+    runRepeatedly(logCalls, WARM_UP_ITERATIONS);
+    before = this.threadBean.getThreadAllocatedBytes(threadId);
+    runRepeatedly(logCalls, ITERATIONS);
+    allocated = this.threadBean.getThreadAllocatedBytes(threadId) - before;
+    assertTrue("Disabled log calls allocated " + allocated + " bytes", allocated < MAX_ALLOCATED_BYTES);
+  }
+
+  protected void runRepeatedly(Runnable logCalls, int iterations)
+  {
+    for (int i = 0; i < iterations; i++)
+    {
+      logCalls.run();
+    }
+  }
+}
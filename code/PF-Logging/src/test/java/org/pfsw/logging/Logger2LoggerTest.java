@@ -31,6 +31,18 @@ public class Logger2LoggerTest
     assertTrue(logger.isInfoEnabled());
   }
 
+  @Test
+  public void test_getLogLevel_derived_from_delegate()
+  {
+    UnitTestLogger utLogger = new UnitTestLogger(LogLevel.WARN);
+    Logger2 logger = new Logger2Logger(utLogger);
+    
+    assertEquals(LogLevel.WARN, logger.getLogLevel());
+    utLogger.setLogLevel(Logger.LL_DEBUG);
+    assertEquals(LogLevel.DEBUG, logger.getLogLevel());
+    assertEquals(LogLevel.NONE, new Logger2Logger(new UnitTestLogger()).getLogLevel());
+  }
+
   @Test
   public void test_debugf_disabled()
   {
@@ -258,4 +270,81 @@ public class Logger2LoggerTest
     assertTrue(utLogger.getThrowable() instanceof IllegalStateException);
   }
 
+  @Test
+  public void test_debug_supplier_disabled()
+  {
+    UnitTestLogger utLogger = new UnitTestLogger(LogLevel.INFO);
+    Logger2 logger = new Logger2Logger(utLogger);
+    CountingSupplier supplier = new CountingSupplier("expensive");
+    
+    logger.debug(supplier);
+    logger.debugf("value: %s", supplier);
+    logger.log(LogLevel.DEBUG, new IllegalStateException(), supplier);
+    assertEquals(0, supplier.getCalls());
+    assertNull(utLogger.getLogRecord());
+    assertNull(utLogger.getThrowable());
+  }
+  
+  @Test
+  public void test_info_supplier()
+  {
+    UnitTestLogger utLogger = new UnitTestLogger(LogLevel.INFO);
+    Logger2 logger = new Logger2Logger(utLogger);
+    CountingSupplier supplier = new CountingSupplier("expensive");
+    
+    logger.info(supplier);
+    assertEquals(1, supplier.getCalls());
+    assertEquals("expensive", utLogger.getLogRecord().getMessage());
+    assertEquals(LogLevel.INFO, utLogger.getLogRecord().getLogLevel());
+  }
+  
+  @Test
+  public void test_error_supplier_with_exception()
+  {
+    UnitTestLogger utLogger = new UnitTestLogger(LogLevel.WARN);
+    Logger2 logger = new Logger2Logger(utLogger);
+    
+    logger.log(LogLevel.ERROR, new IllegalArgumentException(), new CountingSupplier("failed"));
+    assertEquals("failed", utLogger.getLogRecord().getMessage());
+    assertEquals(LogLevel.ERROR, utLogger.getLogRecord().getLogLevel());
+    assertTrue(utLogger.getThrowable() instanceof IllegalArgumentException);
+  }
+  
+  @Test
+  public void test_warnf_lazy_parameter()
+  {
+    UnitTestLogger utLogger = new UnitTestLogger(LogLevel.WARN);
+    Logger2 logger = new Logger2Logger(utLogger);
+    CountingSupplier supplier = new CountingSupplier("beta");
+    Object[] params = new Object[] { "alpha", supplier };
+    
+    logger.warnf("%s and %s", params);
+    assertEquals(1, supplier.getCalls());
+    assertEquals("alpha and beta", utLogger.getLogRecord().getMessage());
+    assertSame(supplier, params[1]);
+  }
+  
+  // -----  helper classes ----
+  private static class CountingSupplier implements LogSupplier<String>
+  {
+    private final String value;
+    private int calls = 0;
+
+    CountingSupplier(String value)
+    {
+      this.value = value;
+    }
+    
+    @Override
+    public String get()
+    {
+      this.calls++;
+      return this.value;
+    }
+    
+    int getCalls()
+    {
+      return this.calls;
+    }
+  }
 }
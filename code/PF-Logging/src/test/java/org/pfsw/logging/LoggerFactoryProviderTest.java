@@ -18,6 +18,7 @@ import org.junit.Before;
 import org.junit.Test;
 import org.pfsw.logging.deferred.DeferredInitializationLoggerFactory;
 import org.pfsw.logging.jul.JavaUtilLoggerFactory;
+import org.pfsw.logging.nil.NilLogger;
 import org.pfsw.logging.nil.NilLoggerFactory;
 import org.pfsw.logging.stdout.PrintStreamLoggerFactory;
 import org.pfsw.logging.testhelper.Dummy1LoggerFactory;
@@ -100,6 +101,38 @@ public class LoggerFactoryProviderTest
     assertEquals(Dummy3LoggerFactory.class.getName(), factory.getClass().getName());
   }  
 
+  @Test
+  public void test_getLoggerFactory_default_is_cached()
+  {
+    LoggerFactory factory = LoggerFactoryProvider.getLoggerFactory();
+    
+    assertSame(factory, LoggerFactoryProvider.getLoggerFactory());
+    LoggerFactoryProvider.setDefaultFactoryName(LoggerBindingNames.NIL);
+    assertTrue(LoggerFactoryProvider.getLoggerFactory() instanceof NilLoggerFactory);
+  }  
+
+  @Test
+  public void test_getLoggerFactory_missing_default_binding()
+  {
+    LoggerFactory factory;
+    LoggerFactory registered;
+    
+    LoggerFactoryProvider.setDefaultFactoryName("UNITTEST.LATE");
+    factory = LoggerFactoryProvider.getLoggerFactory();
+    assertTrue(factory instanceof DeferredInitializationLoggerFactory);
+    assertSame(factory, LoggerFactoryProvider.getLoggerFactory());
+    registered = new NilLoggerFactory()
+    {
+      @Override
+      public String getName()
+      {
+        return "UNITTEST.LATE";
+      }
+    };
+    LoggerFactoryProvider.register(registered);
+    assertSame(registered, LoggerFactoryProvider.getLoggerFactory());
+  }  
+
   @Test
   public void test_getLoggerFactory()
   {
@@ -119,6 +152,55 @@ public class LoggerFactoryProviderTest
     assertNotNull(LoggerFactoryProvider.getLogger("unittest"));
   }
   
+  @Test
+  public void test_getLogger_returns_canonical_instance()
+  {
+    Logger logger = LoggerFactoryProvider.getLogger("unittest.canonical");
+    assertSame(logger, LoggerFactoryProvider.getLogger("unittest.canonical"));
+    assertNotSame(logger, LoggerFactoryProvider.getLogger("unittest.other"));
+    assertSame(LoggerFactoryProvider.getLogger(LoggerFactoryProviderTest.class), 
+        LoggerFactoryProvider.getLogger(LoggerFactoryProviderTest.class.getName()));
+  }
+
+  @Test
+  public void test_getLogger_cache_discarded_on_default_change()
+  {
+    Logger logger = LoggerFactoryProvider.getLogger("unittest.switch");
+    
+    LoggerFactoryProvider.setDefaultFactoryName(LoggerBindingNames.NIL);
+    assertNotSame(logger, LoggerFactoryProvider.getLogger("unittest.switch"));
+    assertTrue(LoggerFactoryProvider.getLogger("unittest.switch") instanceof NilLogger);
+  }
+
+  @Test
+  public void test_getLogger_cache_kept_on_unrelated_registration()
+  {
+    Logger logger = LoggerFactoryProvider.getLogger("unittest.kept");
+
+    LoggerFactoryProvider.register(new Dummy3LoggerFactory());
+    assertSame(logger, LoggerFactoryProvider.getLogger("unittest.kept"));
+    LoggerFactoryProvider.setDefaultFactoryName(LoggerFactoryProvider.getDefaultFactoryName());
+    assertSame(logger, LoggerFactoryProvider.getLogger("unittest.kept"));
+    LoggerFactoryProvider.register(LoggerFactoryProvider.getLoggerFactory());
+    assertNotSame(logger, LoggerFactoryProvider.getLogger("unittest.kept"));
+  }
+
+  @Test
+  public void test_getLogger_cache_retention_NONE()
+  {
+    System.setProperty(LoggerFactoryProvider.PROP_CACHE_RETENTION, "NONE");
+    try
+    {
+      LoggerFactoryProvider.reset();
+      assertNotSame(LoggerFactoryProvider.getLogger("unittest.none"), LoggerFactoryProvider.getLogger("unittest.none"));
+    }
+    finally
+    {
+      System.clearProperty(LoggerFactoryProvider.PROP_CACHE_RETENTION);
+      LoggerFactoryProvider.reset();
+    }
+  }
+
   @Test
   public void test_getLogger2_by_class()
   {
@@ -130,6 +212,29 @@ public class LoggerFactoryProviderTest
   {
     assertNotNull(LoggerFactoryProvider.getLogger2("unittest"));
   }
+
+  @Test
+  public void test_getLogger2_returns_shared_wrapper()
+  {
+    Logger2 logger = LoggerFactoryProvider.getLogger2("unittest.logger2");
+    assertSame(logger, LoggerFactoryProvider.getLogger2("unittest.logger2"));
+    assertSame(LoggerFactoryProvider.getLogger2(LoggerFactoryProviderTest.class), 
+        LoggerFactoryProvider.getLogger2(LoggerFactoryProviderTest.class.getName()));
+  }
+
+  @Test
+  public void test_getLogger2_shares_log_level_with_getLogger()
+  {
+    Logger logger = LoggerFactoryProvider.getLogger("unittest.shared.level");
+    Logger2 logger2 = LoggerFactoryProvider.getLogger2("unittest.shared.level");
+    
+    logger.setLogLevel(Logger.LL_DEBUG);
+    assertEquals(LogLevel.DEBUG, logger2.getLogLevel());
+    assertTrue(logger2.isDebugEnabled());
+    logger2.setLogLevel(LogLevel.ERROR);
+    assertFalse(logger.isLoggingWarnings());
+    assertEquals(LogLevel.ERROR, LoggerFactoryProvider.getLogger2("unittest.shared.level").getLogLevel());
+  }
   
   // =========================================================================
   // PROTECTED INSTANCE METHODS
@@ -0,0 +1,48 @@
+package org.pfsw.logging;
+
+import static org.junit.Assert.*;
+
+import java.util.Map;
+
+import org.junit.Test;
+import org.pfsw.logging.nil.NilLoggerFactory;
+import org.pfsw.logging.stdout.PrintStreamLoggerFactory;
+
+public class LoggerFactoryRegistryTest
+{
+  @Test
+  public void test_register()
+  {
+    LoggerFactoryRegistry registry = new LoggerFactoryRegistry();
+    LoggerFactory factory = new NilLoggerFactory();
+    
+    assertNull(registry.getLoggerFactory(LoggerBindingNames.NIL));
+    registry.register(factory);
+    assertSame(factory, registry.getLoggerFactory(LoggerBindingNames.NIL));
+    assertNull(registry.getLoggerFactory(null));
+    Map<String, LoggerFactory> before = registry.getFactoriesMap();
+    registry.register(null);
+    assertSame(before, registry.getFactoriesMap());
+  }
+
+  @Test
+  public void test_register_does_not_modify_previous_snapshot()
+  {
+    LoggerFactoryRegistry registry = new LoggerFactoryRegistry();
+    
+    registry.register(new NilLoggerFactory());
+    Map<String, LoggerFactory> before = registry.getFactoriesMap();
+    registry.register(new PrintStreamLoggerFactory(LoggerBindingNames.STDOUT));
+    assertEquals(1, before.size());
+    assertEquals(2, registry.getFactoriesMap().size());
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void test_snapshot_is_unmodifiable()
+  {
+    LoggerFactoryRegistry registry = new LoggerFactoryRegistry();
+    
+    registry.register(new NilLoggerFactory());
+    registry.getFactoriesMap().clear();
+  }
+}
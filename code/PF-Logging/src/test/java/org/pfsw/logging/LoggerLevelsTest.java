@@ -0,0 +1,107 @@
+package org.pfsw.logging;
+
+import static org.junit.Assert.*;
+
+import java.util.Properties;
+
+import org.junit.After;
+import org.junit.Test;
+import org.pfsw.logging.jul.JavaUtilLoggerFactory;
+import org.pfsw.logging.memory.InMemoryLogger;
+import org.pfsw.logging.stdout.PrintStreamLogger;
+
+public class LoggerLevelsTest
+{
+  @Test
+  public void test_getLevel_most_specific_prefix()
+  {
+    LoggerLevels.setLevel("com.acme", LogLevel.WARN);
+    LoggerLevels.setLevel("com.acme.db", LogLevel.DEBUG);
+    
+    assertNull(LoggerLevels.getLevel("org.other.Test"));
+    assertNull(LoggerLevels.getLevel("com.acmex"));
+    assertEquals(LogLevel.WARN, LoggerLevels.getLevel("com.acme"));
+    assertEquals(LogLevel.WARN, LoggerLevels.getLevel("com.acme.web.Servlet"));
+    assertEquals(LogLevel.DEBUG, LoggerLevels.getLevel("com.acme.db"));
+    assertEquals(LogLevel.DEBUG, LoggerLevels.getLevel("com.acme.db.pool.Pool"));
+    
+    LoggerLevels.setLevel(null, LogLevel.ERROR);
+    assertEquals(LogLevel.ERROR, LoggerLevels.getLevel("org.other.Test"));
+    assertEquals(LogLevel.ERROR, LoggerLevels.getLevel(null));
+    
+    LoggerLevels.removeLevel("com.acme.db");
+    assertEquals(LogLevel.WARN, LoggerLevels.getLevel("com.acme.db.pool.Pool"));
+  }
+
+  @Test
+  public void test_configure()
+  {
+    Properties properties = new Properties();
+    
+    properties.setProperty("org.pfsw.logging.level", "WARNING");
+    properties.setProperty("org.pfsw.logging.level.com.acme.db", "debug");
+    properties.setProperty("org.pfsw.logging.level.com.acme.web", "unknown");
+    properties.setProperty("org.pfsw.logging.levels", "NONE");
+    LoggerLevels.configure(properties);
+    
+    assertEquals(LogLevel.WARN, LoggerLevels.getLevel("com.acme.web"));
+    assertEquals(LogLevel.DEBUG, LoggerLevels.getLevel("com.acme.db.Test"));
+    assertEquals(LogLevel.WARN, LoggerLevels.getLevel("org"));
+  }
+
+  @Test
+  public void test_generation_changes()
+  {
+    int generation = LoggerLevels.getGeneration();
+    
+    LoggerLevels.setLevel("com.acme", LogLevel.WARN);
+    assertTrue(generation != LoggerLevels.getGeneration());
+  }
+
+  @Test
+  public void test_live_PrintStreamLogger()
+  {
+    PrintStreamLogger logger = new PrintStreamLogger("com.acme.db.Dao");
+    
+    assertFalse(logger.isLoggingDebugs());
+    LoggerLevels.setLevel("com.acme.db", LogLevel.DEBUG);
+    assertTrue(logger.isLoggingDebugs());
+    LoggerLevels.setLevel("com.acme", LogLevel.ERROR);
+    assertTrue(logger.isLoggingDebugs());
+    LoggerLevels.removeLevel("com.acme.db");
+    assertFalse(logger.isLoggingWarnings());
+    assertEquals(PrintStreamLogger.LEVEL_ERROR, logger.getLogLevel());
+  }
+
+  @Test
+  public void test_explicit_level_overrides_configuration()
+  {
+    InMemoryLogger logger = new InMemoryLogger("com.acme.db.Dao");
+    
+    LoggerLevels.setLevel("com.acme", LogLevel.DEBUG);
+    assertTrue(logger.isLoggingDebugs());
+    logger.setLogLevel(Logger.LL_ERROR);
+    assertFalse(logger.isLoggingWarnings());
+    LoggerLevels.setLevel("com.acme", LogLevel.INFO);
+    assertFalse(logger.isLoggingWarnings());
+  }
+
+  @Test
+  public void test_live_JUL_logger()
+  {
+    Logger logger = new JavaUtilLoggerFactory().getLogger("com.acme.jul.Test");
+    
+    LoggerLevels.setLevel("com.acme.jul", LogLevel.DEBUG);
+    assertTrue(logger.isLoggingDebugs());
+    LoggerLevels.setLevel("com.acme.jul", LogLevel.ERROR);
+    assertFalse(logger.isLoggingWarnings());
+    LoggerLevels.removeLevel("com.acme.jul");
+    assertTrue(logger.isLoggingInfos());
+  }
+
+  @After
+  public void tearDown()
+  {
+    LoggerLevels.clear();
+  }
+}
@@ -0,0 +1,359 @@
+// ===========================================================================
+// CONTENT  : TEST CLASS BinaryLogDecoderTest
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.1 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//  18/10/2026  mdu  added   --> tests for bounded templates and decoding in the log's locale
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging.binary;
+
+// ===========================================================================
+// IMPORTS
+// ===========================================================================
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.Formattable;
+import java.util.Formatter;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.pfsw.logging.LogSupplier;
+import org.pfsw.logging.Logger;
+import org.pfsw.logging.Logger2;
+import org.pfsw.logging.Logger2Logger;
+import org.pfsw.logging.stdout.BufferedFileSink;
+import org.pfsw.logging.stdout.LogSink;
+import org.pfsw.logging.stdout.PrintStreamLogger;
+import org.pfsw.logging.testhelper.InMemoryPrintStream;
+
+public class BinaryLogDecoderTest
+{
+  @Rule
+  public TemporaryFolder tempFolder = new TemporaryFolder();
+
+  // =========================================================================
+  // TEST METHODS
+  // =========================================================================
+  @Test
+  public void test_decoded_text_equals_PrintStreamLogger_output() throws Exception
+  {
+    File file = this.tempFolder.newFile();
+    BinaryLogWriter writer = createWriter(file, false);
+    TextSink expected = new TextSink();
+    PrintStreamLogger textLogger = new PrintStreamLogger("binary.test");
+    BinaryLogger binaryLogger = new BinaryLogger("binary.test", writer);
+
+    Exception[] exceptions = { new IllegalStateException("test"), new RuntimeException("outer", new IllegalStateException("inner")) };
+
+    textLogger.setLogSink(expected);
+    logSamples(textLogger, exceptions);
+    logSamples(binaryLogger, exceptions);
+    logPrintfSamples(new Logger2Logger(textLogger), exceptions);
+    logPrintfSamples(new Logger2Logger(binaryLogger), exceptions);
+    writer.close();
+    assertEquals(expected.toString(), decode(file));
+  }
+
+  @Test
+  public void test_anonymous_logger_and_exceptions_only() throws Exception
+  {
+    File file = this.tempFolder.newFile();
+    BinaryLogWriter writer = createWriter(file, false);
+    TextSink expected = new TextSink();
+    PrintStreamLogger textLogger = new PrintStreamLogger();
+    BinaryLogger binaryLogger = new BinaryLogger("", writer);
+    Exception exception = new IllegalArgumentException("bad");
+
+    textLogger.setLogSink(expected);
+    textLogger.logException(exception);
+    textLogger.logInfo("Done");
+    binaryLogger.logException(exception);
+    binaryLogger.logInfo("Done");
+    writer.close();
+    assertEquals(expected.toString(), decode(file));
+    assertTrue(expected.toString().startsWith("java.lang.IllegalArgumentException: bad\n"));
+  }
+
+  @Test
+  public void test_appended_sessions() throws Exception
+  {
+    File file = this.tempFolder.newFile();
+    BinaryLogWriter writer;
+
+    writer = createWriter(file, false);
+    new BinaryLogger("first", writer).logInfo("Value {0}", "one");
+    writer.close();
+    writer = createWriter(file, true);
+    new BinaryLogger("second", writer).logWarning("Value {0}", "two");
+    writer.close();
+    assertEquals("I first Value one\nW second Value two\n", decode(file));
+  }
+
+  @Test
+  public void test_template_written_only_once() throws Exception
+  {
+    File file = this.tempFolder.newFile();
+    BinaryLogWriter writer = createWriter(file, false);
+    BinaryLogger logger = new BinaryLogger("repeated", writer);
+    long sizeAfterFirst;
+    long sizeAfterSecond;
+
+    logger.logInfo("A rather long message template with a parameter {0} that gets repeated", 1);
+    writer.flush();
+    sizeAfterFirst = file.length();
+    logger.logInfo("A rather long message template with a parameter {0} that gets repeated", 2);
+    writer.flush();
+    sizeAfterSecond = file.length();
+    writer.close();
+    assertTrue((sizeAfterSecond - sizeAfterFirst) < 40);
+    assertTrue((sizeAfterSecond - sizeAfterFirst) < (sizeAfterFirst - 30));
+  }
+
+  @Test
+  public void test_number_of_templates_is_bounded() throws Exception
+  {
+    File file = this.tempFolder.newFile();
+    BinaryLogWriter writer = new BinaryLogWriter(new BufferedFileSink(file, false, BufferedFileSink.DEFAULT_BUFFER_SIZE, 0L, false), 2);
+    TextSink expected = new TextSink();
+    PrintStreamLogger textLogger = new PrintStreamLogger("bounded");
+    BinaryLogger binaryLogger = new BinaryLogger("bounded", writer);
+
+    textLogger.setLogSink(expected);
+    for (Logger logger : new Logger[] { textLogger, binaryLogger })
+    {
+      for (int i = 0; i < 5; i++)
+      {
+        logger.logInfo("Template " + i + " with {0}", i);
+        logger.logWarning("Failed to create file '" + i + ".txt'");
+      }
+      logger.logInfo("Template 0 with {0}", "again");
+      logger.logInfo("Template 4 with {0}", "again");
+    }
+    writer.close();
+    assertEquals(2, writer.getTemplateCount());
+    assertEquals(expected.toString(), decode(file));
+  }
+
+  @Test
+  public void test_decode_in_locale_of_log_without_changing_defaults() throws Exception
+  {
+    Locale defaultLocale = Locale.getDefault();
+    TimeZone defaultTimeZone = TimeZone.getDefault();
+    File file = this.tempFolder.newFile();
+    TextSink expected = new TextSink();
+    final Locale[] localeWhilePrinting = { null };
+    InMemoryPrintStream output = new InMemoryPrintStream();
+    BinaryLogWriter writer;
+    PrintStreamLogger textLogger;
+    BinaryLogger binaryLogger;
+    PrintStream printStream;
+    InputStream input;
+
+    try
+    {
+      Locale.setDefault(Locale.GERMANY);
+      TimeZone.setDefault(TimeZone.getTimeZone("Asia/Tokyo"));
+      writer = createWriter(file, false);
+      textLogger = new PrintStreamLogger("locale");
+      binaryLogger = new BinaryLogger("locale", writer);
+      textLogger.setLogSink(expected);
+      for (Logger logger : new Logger[] { textLogger, binaryLogger })
+      {
+        logger.logInfo("Date {0} amount {1} time {2,time,HH:mm}", new Date(1760000000000L), 1234.5, new Date(1760000000000L));
+        new Logger2Logger(logger).infof("Hour %tH at %s of %,.2f%n", new Date(1760000000000L), new Date(1760000000000L), 9876.5);
+      }
+      writer.close();
+
+      Locale.setDefault(Locale.US);
+      TimeZone.setDefault(TimeZone.getTimeZone("America/New_York"));
+      printStream = new PrintStream(output.getPrintStream())
+      {
+        @Override
+        public void print(String text)
+        {
+          localeWhilePrinting[0] = Locale.getDefault();
+          super.print(text);
+        }
+      };
+      input = new FileInputStream(file);
+      try
+      {
+        new BinaryLogDecoder(printStream).decode(input);
+      }
+      finally
+      {
+        input.close();
+      }
+      printStream.flush();
+      assertEquals(Locale.US, localeWhilePrinting[0]);
+      assertEquals(expected.toString(), output.getContent());
+      assertTrue(output.getContent().contains("1.234,5"));
+    }
+    finally
+    {
+      Locale.setDefault(defaultLocale);
+      TimeZone.setDefault(defaultTimeZone);
+    }
+  }
+
+  @Test
+  public void test_concurrent_loggers() throws Exception
+  {
+    File file = this.tempFolder.newFile();
+    final BinaryLogWriter writer = createWriter(file, false);
+    Thread[] threads = new Thread[4];
+    String[] lines;
+
+    for (int i = 0; i < threads.length; i++)
+    {
+      final BinaryLogger logger = new BinaryLogger("thread" + i, writer);
+      final String template = "Template of thread " + i + " line {0}";
+      threads[i] = new Thread()
+      {
+        @Override
+        public void run()
+        {
+          for (int j = 0; j < 500; j++)
+          {
+            logger.logInfo(template, "#" + j);
+          }
+        }
+      };
+      threads[i].start();
+    }
+    for (Thread thread : threads)
+    {
+      thread.join();
+    }
+    writer.close();
+    lines = decode(file).split("\n");
+    assertEquals(2000, lines.length);
+    for (String line : lines)
+    {
+      assertTrue(line, line.matches("I thread(\\d) Template of thread \\1 line #\\d+"));
+    }
+  }
+
+  @Test
+  public void test_factory() throws Exception
+  {
+    File file = this.tempFolder.newFile();
+    BinaryLoggerFactory factory = new BinaryLoggerFactory(file, false);
+    BinaryLogger logger;
+
+    assertEquals(BinaryLoggerFactory.LOGGER_TYPE, factory.getName());
+    logger = (BinaryLogger)factory.getLogger("factory.test");
+    assertSame(logger.getWriter(), ((BinaryLogger)factory.getLogger(BinaryLogDecoderTest.class)).getWriter());
+    logger.logError("Failed {0}", "badly");
+    logger.getWriter().close();
+    assertEquals("E factory.test Failed badly\n", decode(file));
+  }
+
+  // =========================================================================
+  // PRIVATE INSTANCE METHODS
+  // =========================================================================
+  private void logSamples(Logger logger, Exception[] exceptions)
+  {
+    Date date = new Date(1760000000000L);
+
+    logger.logInfo("Plain message without parameters {0}");
+    logger.logInfo("String {0}, int {1}, long {2}", "text", 1234567, 9876543210L);
+    logger.logWarning("double {0}, null {1}, date {2}", 3.14159, null, date);
+    logger.logError("Complex {0,number,#.##} and ''quoted {1}''", 2.71828, "x");
+    logger.logInfo("Big {0} and boolean {1} and char {2}", new BigDecimal("12345.678"), Boolean.TRUE, 'c');
+    logger.logDebug("Not logged {0}", "at all");
+    logger.logInfo("Lazy {0}", new LogSupplier<String>()
+    {
+      @Override
+      public String get()
+      {
+        return "supplied";
+      }
+    });
+    logger.logInfo("Other object {0}", new StringBuilder("builder"));
+    logger.logWarning("Warning with exception", exceptions[0]);
+    logger.logError("Error with exception", exceptions[1]);
+  }
+
+  private void logPrintfSamples(Logger2 logger, Exception[] exceptions)
+  {
+    logger.infof("printf %s has %d items of %5.2f (0x%x)%n", "list", 42, 1.5, 255);
+    logger.warnf(exceptions[0], "printf warning %s", "with exception");
+    logger.infof(exceptions[1], "printf info %-6s|", "exc");
+    logger.debugf("Not logged %s", "at all");
+    logger.errorf("Formattable %s", new Formattable()
+    {
+      @Override
+      public void formatTo(Formatter formatter, int flags, int width, int precision)
+      {
+        formatter.format("formatted");
+      }
+    });
+  }
+
+  private BinaryLogWriter createWriter(File file, boolean append) throws IOException
+  {
+    return new BinaryLogWriter(new BufferedFileSink(file, append, BufferedFileSink.DEFAULT_BUFFER_SIZE, 0L, false));
+  }
+
+  private String decode(File file) throws IOException
+  {
+    InMemoryPrintStream output = new InMemoryPrintStream();
+    InputStream input = new FileInputStream(file);
+
+    try
+    {
+      new BinaryLogDecoder(output.getPrintStream()).decode(input);
+    }
+    finally
+    {
+      input.close();
+    }
+    return output.getContent();
+  }
+
+  // =========================================================================
+  // INNER CLASSES
+  // =========================================================================
+  private static class TextSink implements LogSink
+  {
+    private final StringBuilder text = new StringBuilder();
+
+    @Override
+    public void write(int level, CharSequence record)
+    {
+      this.text.append(record);
+    }
+
+    @Override
+    public void flush()
+    {
+      // Nothing to do
+    }
+
+    @Override
+    public void close()
+    {
+      // Nothing to do
+    }
+
+    @Override
+    public String toString()
+    {
+      return this.text.toString();
+    }
+  }
+}
@@ -3,13 +3,17 @@ package org.pfsw.logging.deferred;
 import static org.junit.Assert.*;
 
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Test;
 import org.pfsw.logging.LogLevel;
+import org.pfsw.logging.LoggerBindingNames;
 import org.pfsw.logging.Logger;
 import org.pfsw.logging.LoggerFactory;
 import org.pfsw.logging.LoggerFactoryProvider;
 import org.pfsw.logging.memory.InMemoryLogger;
+import org.pfsw.logging.nil.NilLogger;
 import org.pfsw.logging.memory.InMemoryLoggerFactory;
 import org.pfsw.logging.memory.LogRecord;
 import org.pfsw.logging.stdout.PrintStreamLogger;
@@ -54,6 +58,109 @@ public class DeferredInitializationLoggerAdapterTest
     assertContains(memLogger, LogLevel.ERROR, "Sample13");
   }
   
+  @Test
+  public void test_binding_on_registration_without_log_call()
+  {
+    DeferredInitializationLoggerAdapter loggerAdapter;
+    
+    loggerAdapter = (DeferredInitializationLoggerAdapter)LoggerFactoryProvider.getLoggerFactory("UNITTEST.DEFERRED").getLogger("dummy2");
+    loggerAdapter.setLogLevel(Logger.LL_WARNING);
+    assertTrue(loggerAdapter.getTargetLogger() instanceof PrintStreamLogger);
+    assertEquals(1, DeferredBindingRegistry.getInstance().countPending("UNITTEST.DEFERRED"));
+    
+    LoggerFactoryProvider.register(new InMemoryLoggerFactory()
+    {
+      @Override
+      public String getName()
+      {
+        return "UNITTEST.DEFERRED";
+      }
+    });
+    
+    assertTrue(loggerAdapter.getTargetLogger() instanceof InMemoryLogger);
+    assertEquals(0, DeferredBindingRegistry.getInstance().countPending("UNITTEST.DEFERRED"));
+    assertTrue(loggerAdapter.isLoggingWarnings());
+    assertFalse(loggerAdapter.isLoggingInfos());
+  }
+  
+  @Test
+  public void test_binding_to_already_registered_factory()
+  {
+    DeferredInitializationLoggerAdapter loggerAdapter;
+    
+    loggerAdapter = new DeferredInitializationLoggerAdapter(LoggerBindingNames.NIL, "dummy3");
+    assertTrue(loggerAdapter.getTargetLogger() instanceof NilLogger);
+  }
+  
+  @Test
+  public void test_setLogLevel_during_binding_is_not_lost() throws Exception
+  {
+    final DeferredInitializationLoggerAdapter loggerAdapter;
+    final CountDownLatch entered = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    final LoggerFactory factory;
+    Thread binder;
+    Thread levelSetter;
+
+    loggerAdapter = new DeferredInitializationLoggerAdapter("UNITTEST.SLOW", "dummy4")
+    {
+      @Override
+      protected void setTargetLogger(Logger targetLogger)
+      {
+        if (targetLogger instanceof InMemoryLogger)
+        {
+          // Pause between reading the own log level and switching the target
+          entered.countDown();
+          try
+          {
+            release.await(5, TimeUnit.SECONDS);
+          }
+          catch (InterruptedException e)
+          {
+            Thread.currentThread().interrupt();
+          }
+        }
+        super.setTargetLogger(targetLogger);
+      }
+    };
+    factory = new InMemoryLoggerFactory()
+    {
+      @Override
+      public String getName()
+      {
+        return "UNITTEST.SLOW";
+      }
+    };
+    binder = new Thread()
+    {
+      @Override
+      public void run()
+      {
+        loggerAdapter.bindTo(factory);
+      }
+    };
+    levelSetter = new Thread()
+    {
+      @Override
+      public void run()
+      {
+        loggerAdapter.setLogLevel(Logger.LL_DEBUG);
+      }
+    };
+    binder.start();
+    assertTrue(entered.await(5, TimeUnit.SECONDS));
+    levelSetter.start();
+    while ((levelSetter.getState() != Thread.State.BLOCKED) && levelSetter.isAlive())
+    {
+      Thread.sleep(1);
+    }
+    release.countDown();
+    binder.join();
+    levelSetter.join();
+    assertTrue(loggerAdapter.getTargetLogger() instanceof InMemoryLogger);
+    assertTrue(loggerAdapter.isLoggingDebugs());
+  }
+  
   // -----  helper methods ----
   protected void assertContains(InMemoryLogger logger, LogLevel expectedLevel, String containedText) 
   {
@@ -0,0 +1,232 @@
+package org.pfsw.logging.deferred;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.pfsw.logging.LogLevel;
+import org.pfsw.logging.Logger;
+import org.pfsw.logging.LoggerFactoryProvider;
+import org.pfsw.logging.memory.InMemoryLogger;
+import org.pfsw.logging.memory.InMemoryLoggerFactory;
+import org.pfsw.logging.memory.LogRecord;
+import org.pfsw.logging.stdout.PrintStreamLogger;
+
+public class PreBindingBufferTest
+{
+  @Rule
+  public TemporaryFolder tempFolder = new TemporaryFolder();
+
+  @Test
+  public void test_replay_in_original_order()
+  {
+    Logger logger1;
+    Logger logger2;
+    InMemoryLogger memLogger;
+    List<LogRecord> records;
+    
+    System.setProperty(DeferredInitializationLoggerFactory.PROP_BUFFER_SIZE, "10");
+    logger1 = LoggerFactoryProvider.getLoggerFactory("UNITTEST.BUFFERED").getLogger("buffered1");
+    logger2 = LoggerFactoryProvider.getLoggerFactory("UNITTEST.BUFFERED").getLogger("buffered2");
+    logger1.logInfo("First {0}", "one");
+    logger2.logWarning("Second");
+    logger1.logDebug("Not logged");
+    logger2.logError("Third", new IllegalStateException("test"));
+    assertTrue(((DeferredInitializationLoggerAdapter)logger1).getTargetLogger() instanceof BufferingLogger);
+    assertEquals(3, DeferredBindingRegistry.getInstance().getBuffer("UNITTEST.BUFFERED").size());
+
+    LoggerFactoryProvider.register(new InMemoryLoggerFactory()
+    {
+      @Override
+      public String getName()
+      {
+        return "UNITTEST.BUFFERED";
+      }
+    });
+
+    assertTrue(DeferredBindingRegistry.getInstance().getBuffer("UNITTEST.BUFFERED").isClosed());
+    memLogger = (InMemoryLogger)((DeferredInitializationLoggerAdapter)logger1).getTargetLogger();
+    records = memLogger.getLogEntries();
+    assertEquals(1, records.size());
+    assertEquals(LogLevel.INFO, records.get(0).getLogLevel());
+    assertEquals("First one", records.get(0).getMessage());
+    memLogger = (InMemoryLogger)((DeferredInitializationLoggerAdapter)logger2).getTargetLogger();
+    records = memLogger.getLogEntries();
+    assertEquals(2, records.size());
+    assertEquals(LogLevel.WARN, records.get(0).getLogLevel());
+    assertEquals(LogLevel.ERROR, records.get(1).getLogLevel());
+    assertNotNull(records.get(1).getException());
+  }
+
+  @Test
+  public void test_new_records_do_not_overtake_replay() throws Exception
+  {
+    final Logger logger1;
+    Logger logger2;
+    final CountDownLatch entered = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    Thread registrar;
+    Thread writer;
+    List<LogRecord> records;
+
+    System.setProperty(DeferredInitializationLoggerFactory.PROP_BUFFER_SIZE, "10");
+    logger1 = LoggerFactoryProvider.getLoggerFactory("UNITTEST.ORDERED").getLogger("ordered1");
+    logger2 = LoggerFactoryProvider.getLoggerFactory("UNITTEST.ORDERED").getLogger("ordered2");
+    logger1.logInfo("old");
+    logger2.logInfo("other");
+    registrar = new Thread()
+    {
+      @Override
+      public void run()
+      {
+        LoggerFactoryProvider.register(new InMemoryLoggerFactory()
+        {
+          @Override
+          public String getName()
+          {
+            return "UNITTEST.ORDERED";
+          }
+
+          @Override
+          public Logger getLogger(String loggerName)
+          {
+            if ("ordered2".equals(loggerName) && (entered.getCount() > 0))
+            {
+              entered.countDown();
+              try
+              {
+                release.await(5, TimeUnit.SECONDS);
+              }
+              catch (InterruptedException e)
+              {
+                Thread.currentThread().interrupt();
+              }
+            }
+            return super.getLogger(loggerName);
+          }
+        });
+      }
+    };
+    writer = new Thread()
+    {
+      @Override
+      public void run()
+      {
+        logger1.logInfo("new");
+      }
+    };
+    registrar.start();
+    assertTrue(entered.await(5, TimeUnit.SECONDS));
+    writer.start();
+    while ((writer.getState() != Thread.State.BLOCKED) && writer.isAlive())
+    {
+      Thread.sleep(1);
+    }
+    release.countDown();
+    registrar.join();
+    writer.join();
+    records = ((InMemoryLogger)((DeferredInitializationLoggerAdapter)logger1).getTargetLogger()).getLogEntries();
+    assertEquals(2, records.size());
+    assertEquals("old", records.get(0).getMessage());
+    assertEquals("new", records.get(1).getMessage());
+    assertTrue(((DeferredInitializationLoggerAdapter)logger2).getTargetLogger() instanceof InMemoryLogger);
+  }
+
+  @Test
+  public void test_DROP_OLDEST()
+  {
+    PreBindingBuffer buffer = new PreBindingBuffer(2, BufferOverflowPolicy.DROP_OLDEST);
+    BufferingLogger logger = createLogger(buffer);
+
+    logger.logInfo("1");
+    logger.logInfo("2");
+    logger.logInfo("3");
+    assertEquals(2, buffer.size());
+    assertEquals(1L, buffer.getDroppedCount());
+    assertEquals("I test 2\nI test 3\n", flush(buffer, logger));
+  }
+
+  @Test
+  public void test_DROP_NEWEST()
+  {
+    PreBindingBuffer buffer = new PreBindingBuffer(2, BufferOverflowPolicy.DROP_NEWEST);
+    BufferingLogger logger = createLogger(buffer);
+
+    logger.logInfo("1");
+    logger.logInfo("2");
+    logger.logInfo("3");
+    assertEquals(2, buffer.size());
+    assertEquals(1L, buffer.getDroppedCount());
+    assertEquals("I test 1\nI test 2\n", flush(buffer, logger));
+  }
+
+  @Test
+  public void test_closed_buffer_writes_to_fallback()
+  {
+    PreBindingBuffer buffer = new PreBindingBuffer(2, null);
+    BufferingLogger logger = createLogger(buffer);
+    
+    assertEquals(BufferOverflowPolicy.DROP_OLDEST, buffer.getOverflowPolicy());
+    assertEquals("", flush(buffer, logger));
+    logger.logInfo("late");
+    assertEquals(0, buffer.size());
+  }
+
+  @After
+  public void tearDown()
+  {
+    System.clearProperty(DeferredInitializationLoggerFactory.PROP_BUFFER_SIZE);
+  }
+
+  // -----  helper methods ----
+  private BufferingLogger createLogger(PreBindingBuffer buffer)
+  {
+    return new BufferingLogger(new DeferredInitializationLoggerAdapter("UNITTEST.NEVER", "test"), buffer);
+  }
+
+  private String flush(PreBindingBuffer buffer, BufferingLogger logger)
+  {
+    Properties properties = new Properties();
+    ByteArrayOutputStream content = new ByteArrayOutputStream();
+    InputStream input;
+    File file;
+    int ch;
+    
+    try
+    {
+      file = this.tempFolder.newFile();
+      properties.setProperty(PrintStreamLogger.PROP_OUTPUT_FILE, file.getPath());
+      logger.initialize(properties);
+      buffer.flushToFallback();
+      input = new FileInputStream(file);
+      try
+      {
+        while ((ch = input.read()) >= 0)
+        {
+          content.write(ch);
+        }
+      }
+      finally
+      {
+        input.close();
+      }
+      return content.toString();
+    }
+    catch (IOException ex)
+    {
+      throw new IllegalStateException(ex);
+    }
+  }
+}
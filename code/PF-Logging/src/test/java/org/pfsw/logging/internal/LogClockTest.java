@@ -0,0 +1,105 @@
+package org.pfsw.logging.internal;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public class LogClockTest
+{
+  @Test
+  public void test_system_clock()
+  {
+    long before = System.currentTimeMillis();
+    long nanos = SystemLogClock.INSTANCE.currentTimeNanos();
+
+    assertTrue(nanos / 1000000L >= before);
+    assertTrue(SystemLogClock.INSTANCE.currentTimeMillis() <= System.currentTimeMillis());
+  }
+
+  @Test
+  public void test_nano_time_clock() throws Exception
+  {
+    NanoTimeLogClock clock = new NanoTimeLogClock();
+    long first;
+    long second;
+
+    first = clock.currentTimeNanos();
+    second = clock.currentTimeNanos();
+    assertTrue(second >= first);
+    assertTrue(Math.abs(clock.currentTimeMillis() - System.currentTimeMillis()) < 1000L);
+    Thread.sleep(5L);
+    assertTrue(clock.currentTimeNanos() - first >= 5000000L);
+    clock.resynchronize();
+    assertTrue(Math.abs(clock.currentTimeMillis() - System.currentTimeMillis()) < 1000L);
+  }
+
+  @Test
+  public void test_cached_millis_clock() throws Exception
+  {
+    CachedMillisLogClock clock = new CachedMillisLogClock(1L);
+    long start;
+
+    try
+    {
+      start = clock.currentTimeMillis();
+      assertTrue(Math.abs(start - System.currentTimeMillis()) < 1000L);
+      Thread.sleep(50L);
+      assertTrue(clock.currentTimeMillis() > start);
+      assertEquals(clock.currentTimeMillis() * 1000000L, clock.currentTimeNanos(), 1000000L);
+    }
+    finally
+    {
+      clock.close();
+    }
+  }
+
+  @Test
+  public void test_shared_cached_millis_clock() throws Exception
+  {
+    CachedMillisLogClock clock = CachedMillisLogClock.getSharedInstance();
+    long start;
+
+    assertSame(clock, CachedMillisLogClock.getSharedInstance());
+    assertEquals(CachedMillisLogClock.DEFAULT_TICK_MILLIS, clock.getTickMillis());
+    clock.close();
+    start = clock.currentTimeMillis();
+    Thread.sleep(50L);
+    assertTrue(clock.currentTimeMillis() > start);
+  }
+
+  @Test
+  public void test_thread_identity() throws Exception
+  {
+    final ThreadIdentity[] other = new ThreadIdentity[1];
+    Thread thread;
+    String originalName;
+
+    assertSame(ThreadIdentity.current(), ThreadIdentity.current());
+    assertEquals(Thread.currentThread().getName(), ThreadIdentity.current().getName());
+    assertEquals(Thread.currentThread().getId(), ThreadIdentity.current().getId());
+    thread = new Thread("identity-test")
+    {
+      @Override
+      public void run()
+      {
+        other[0] = ThreadIdentity.current();
+      }
+    };
+    thread.start();
+    thread.join();
+    assertEquals("identity-test", other[0].getName());
+    assertEquals(thread.getId(), other[0].getId());
+
+    originalName = Thread.currentThread().getName();
+    try
+    {
+      Thread.currentThread().setName("renamed");
+      assertEquals("renamed", ThreadIdentity.refresh().getName());
+    }
+    finally
+    {
+      Thread.currentThread().setName(originalName);
+      ThreadIdentity.refresh();
+    }
+  }
+}
@@ -0,0 +1,69 @@
+package org.pfsw.logging.internal;
+
+import static org.junit.Assert.*;
+
+import java.math.BigDecimal;
+import java.text.MessageFormat;
+import java.util.Date;
+
+import org.junit.Test;
+
+public class MessageTemplateTest
+{
+  private static final Object[] PARAMS = { "one", Integer.valueOf(12345), null, Double.valueOf(1.5), new Date(0L), new BigDecimal("12345.678"), Boolean.TRUE };
+
+  @Test
+  public void test_same_result_as_MessageFormat()
+  {
+    String[] patterns = { 
+        "No placeholders", 
+        "{0}", 
+        "A {0} B {1} C {2} D {3} E {4} F {5} G {6}", 
+        "Missing {7} and {10}", 
+        "Repeated {1}{1}{0}",
+        "Leading zero {01}",
+        "It''s {0}", 
+        "Quoted '{0}' is literal", 
+        "Quote '' in {0} and 'x''y'",
+        "Unterminated quote '{0}", 
+        "Closing brace } and {0}", 
+        "Typed {1,number,#} and {0}", 
+        "Date {4,date,yyyy}", 
+        "Choice {1,choice,0#none|1#some}",
+    };
+
+    for (String pattern : patterns)
+    {
+      assertEquals(pattern, MessageFormat.format(pattern, PARAMS), MessageTemplate.compile(pattern).format(PARAMS));
+    }
+  }
+
+  @Test
+  public void test_complex_patterns()
+  {
+    assertFalse(MessageTemplate.compile("Simple {0} and {1}").isComplex());
+    assertTrue(MessageTemplate.compile("Typed {0,number,#}").isComplex());
+    assertTrue(MessageTemplate.compile("Nested {0{}").isComplex());
+  }
+
+  @Test
+  public void test_compile_is_cached()
+  {
+    assertSame(MessageTemplate.compile("Cached {0}"), MessageTemplate.compile(new String("Cached {0}")));
+  }
+
+  @Test
+  public void test_appendTo()
+  {
+    StringBuilder buffer = new StringBuilder("> ");
+
+    MessageTemplate.compile("{0}={1}").appendTo(buffer, new Object[] { "a", "b" });
+    assertEquals("> a=b", buffer.toString());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void test_unmatched_braces()
+  {
+    MessageTemplate.compile("Unmatched {0").format(PARAMS);
+  }
+}
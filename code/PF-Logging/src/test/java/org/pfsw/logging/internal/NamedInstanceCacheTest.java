@@ -0,0 +1,76 @@
+package org.pfsw.logging.internal;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public class NamedInstanceCacheTest
+{
+  @Test
+  public void test_putIfAbsent_returns_canonical_instance()
+  {
+    NamedInstanceCache<String> cache = new NamedInstanceCache<String>(CacheRetention.WEAK, 0);
+    String first = new String("first");
+    
+    assertSame(first, cache.putIfAbsent("a", first));
+    assertSame(first, cache.putIfAbsent("a", new String("second")));
+    assertSame(first, cache.get("a"));
+    assertNull(cache.get("b"));
+  }
+
+  @Test
+  public void test_null_values()
+  {
+    NamedInstanceCache<String> cache = new NamedInstanceCache<String>(CacheRetention.BOUNDED, 10);
+    
+    assertNull(cache.putIfAbsent("a", null));
+    assertNull(cache.get("a"));
+    assertNull(cache.get(null));
+    assertEquals(0, cache.size());
+  }
+  
+  @Test
+  public void test_BOUNDED_keeps_max_size()
+  {
+    NamedInstanceCache<String> cache = new NamedInstanceCache<String>(CacheRetention.BOUNDED, 3);
+    
+    for (int i = 1; i <= 10; i++)
+    {
+      cache.putIfAbsent("name" + i, "value" + i);
+    }
+    assertEquals(3, cache.size());
+    assertEquals("value10", cache.get("name10"));
+  }
+  
+  @Test
+  public void test_NONE_caches_nothing()
+  {
+    NamedInstanceCache<String> cache = new NamedInstanceCache<String>(CacheRetention.NONE, 3);
+    
+    assertEquals("v1", cache.putIfAbsent("a", "v1"));
+    assertEquals("v2", cache.putIfAbsent("a", "v2"));
+    assertNull(cache.get("a"));
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void test_clear()
+  {
+    NamedInstanceCache<String> cache = new NamedInstanceCache<String>(null, 0);
+    
+    assertEquals(CacheRetention.NONE, cache.getRetention());
+    cache = new NamedInstanceCache<String>(CacheRetention.WEAK, 0);
+    cache.putIfAbsent("a", "v1");
+    cache.clear();
+    assertNull(cache.get("a"));
+  }
+
+  @Test
+  public void test_CacheRetention_getByName()
+  {
+    assertSame(CacheRetention.WEAK, CacheRetention.getByName("weak"));
+    assertSame(CacheRetention.BOUNDED, CacheRetention.getByName(" BOUNDED "));
+    assertNull(CacheRetention.getByName("unknown"));
+    assertNull(CacheRetention.getByName(null));
+  }
+}
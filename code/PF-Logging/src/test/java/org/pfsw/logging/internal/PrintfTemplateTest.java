@@ -0,0 +1,86 @@
+package org.pfsw.logging.internal;
+
+import static org.junit.Assert.*;
+
+import java.math.BigInteger;
+import java.util.Formattable;
+import java.util.Formatter;
+import java.util.MissingFormatArgumentException;
+
+import org.junit.Test;
+
+public class PrintfTemplateTest
+{
+  private static final Object[] PARAMS = { "text", Integer.valueOf(-42), Long.valueOf(Long.MIN_VALUE), null, Byte.valueOf((byte)-1), Short.valueOf((short)-2) };
+
+  @Test
+  public void test_same_result_as_String_format()
+  {
+    Object[] nulls = { null, null, null, null, null, null };
+
+    assertFormat("No specifiers", PARAMS);
+    assertFormat("100%% done%n", PARAMS);
+    assertFormat("%s|%d|%d|%s|%d|%d", PARAMS);
+    assertFormat("%s|%d|%d|%s|%d|%d", nulls);
+    assertFormat("%s|%x|%x|%s|%x|%x", PARAMS);
+    assertFormat("[%8s][%-8s][%.2s][%10.3s][%-6.1s]", "text", Integer.valueOf(-42), "abc", null, Boolean.TRUE);
+    assertFormat("[%6d][%-6d][%06d][%08x][%-4x]", Integer.valueOf(-42), Long.valueOf(7), Short.valueOf((short)-300), Integer.valueOf(-1), Byte.valueOf((byte)10));
+    assertFormat("[%6d][%-6d][%06d][%08x][%-4x]", nulls);
+    assertFormat("[%2d][%03d][%1x]", Long.valueOf(Long.MAX_VALUE), Integer.valueOf(12345), Long.valueOf(255));
+    assertFormat("%s %s", "extra", "arguments", "are", "ignored");
+    assertFormat("%s", (Object[])null);
+  }
+
+  @Test
+  public void test_complex_templates()
+  {
+    assertFalse(PrintfTemplate.compile("%s %d %x %% %n %-5s %05d %.3s").isComplex());
+    assertTrue(PrintfTemplate.compile("%5.2f").isComplex());
+    assertTrue(PrintfTemplate.compile("%1$s").isComplex());
+    assertTrue(PrintfTemplate.compile("%,d").isComplex());
+    assertTrue(PrintfTemplate.compile("%S").isComplex());
+    assertTrue(PrintfTemplate.compile("%.3d").isComplex());
+    assertTrue(PrintfTemplate.compile("%-s").isComplex());
+    assertTrue(PrintfTemplate.compile("%05s").isComplex());
+    assertTrue(PrintfTemplate.compile("50%").isComplex());
+  }
+
+  @Test
+  public void test_unsupported_arguments()
+  {
+    Formattable formattable = new Formattable()
+    {
+      @Override
+      public void formatTo(Formatter formatter, int flags, int width, int precision)
+      {
+        formatter.format("formatted");
+      }
+    };
+
+    assertFormat("%s/%d", formattable, new BigInteger("123456789012345678901234567890"));
+    assertFormat("%x", new BigInteger("255"));
+  }
+
+  @Test
+  public void test_compile_is_cached()
+  {
+    assertSame(PrintfTemplate.compile("Cached %s"), PrintfTemplate.compile(new String("Cached %s")));
+  }
+
+  @Test(expected = MissingFormatArgumentException.class)
+  public void test_missing_argument()
+  {
+    PrintfTemplate.compile("%s and %s").format(new Object[] { "one" });
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void test_wrong_argument_type()
+  {
+    PrintfTemplate.compile("%d").format(new Object[] { "one" });
+  }
+
+  private void assertFormat(String template, Object... params)
+  {
+    assertEquals(template, String.format(template, params), PrintfTemplate.compile(template).format(params));
+  }
+}
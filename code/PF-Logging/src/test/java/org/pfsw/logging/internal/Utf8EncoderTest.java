@@ -0,0 +1,81 @@
+package org.pfsw.logging.internal;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+public class Utf8EncoderTest
+{
+  @Test
+  public void test_encode_ascii()
+  {
+    assertEncoded(new StringBuilder("I some.logger Simple ASCII text\n"));
+  }
+
+  @Test
+  public void test_encode_empty()
+  {
+    assertEquals(0, new Utf8Encoder().encode(""));
+  }
+
+  @Test
+  public void test_encode_non_ascii()
+  {
+    assertEncoded(new StringBuilder("W Gr\u00f6\u00dfe \u20ac 100 \ud83d\ude00 end\n"));
+    assertEncoded("\u00e4");
+  }
+
+  @Test
+  public void test_invalid_surrogates_get_replaced()
+  {
+    Utf8Encoder encoder = new Utf8Encoder();
+    int length;
+
+    length = encoder.encode("a\ud83d b \ude00");
+    assertEquals("a? b ?", new String(encoder.getBytes(), 0, length, Utf8Encoder.UTF8));
+  }
+
+  @Test
+  public void test_encode_large_records_and_reuse()
+  {
+    Utf8Encoder encoder = new Utf8Encoder();
+    StringBuilder builder = new StringBuilder();
+
+    for (int i = 0; i < 50000; i++)
+    {
+      builder.append((i % 10 == 0) ? '\u00fc' : 'x');
+    }
+    assertEncoded(encoder, builder);
+    assertEncoded(encoder, "short \u00fc");
+    builder.setCharAt(0, 'a');
+    assertEncoded(encoder, builder.toString() + "\u4e2d");
+    assertEncoded(encoder, "short");
+  }
+
+  @Test
+  public void test_current_is_per_thread()
+  {
+    assertSame(Utf8Encoder.current(), Utf8Encoder.current());
+  }
+
+  // =========================================================================
+  // PRIVATE INSTANCE METHODS
+  // =========================================================================
+  private void assertEncoded(CharSequence chars)
+  {
+    assertEncoded(new Utf8Encoder(), chars);
+  }
+
+  private void assertEncoded(Utf8Encoder encoder, CharSequence chars)
+  {
+    byte[] expected;
+    int length;
+
+    expected = chars.toString().getBytes(Utf8Encoder.UTF8);
+    length = encoder.encode(chars);
+    assertEquals(expected.length, length);
+    assertTrue(Arrays.equals(expected, Arrays.copyOf(encoder.getBytes(), length)));
+  }
+}
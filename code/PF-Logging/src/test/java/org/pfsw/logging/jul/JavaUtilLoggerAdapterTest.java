@@ -14,10 +14,15 @@ package org.pfsw.logging.jul;
 // ===========================================================================
 import static org.junit.Assert.*;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Handler;
 import java.util.logging.Level;
+import java.util.logging.LogRecord;
 
 import org.junit.Test;
 import org.pfsw.logging.LogLevel;
+import org.pfsw.logging.LogSupplier;
 import org.pfsw.logging.Logger;
 import org.pfsw.logging.LoggerBindingNames;
 import org.pfsw.logging.LoggerFactory;
@@ -89,4 +94,54 @@ public class JavaUtilLoggerAdapterTest
     assertFalse(logger.setLogLevel(null));
     assertNull(logger.getJulLogger().getLevel());    
   } 
-}
\ No newline at end of file
+  @Test
+  public void test_suppliers_get_resolved()
+  {
+    JavaUtilLoggerAdapter logger = new JavaUtilLoggerAdapter("jul-unittest-supplier");
+    final List<LogRecord> records = new ArrayList<LogRecord>();
+    final int[] calls = { 0 };
+    LogSupplier<String> supplier = new LogSupplier<String>()
+    {
+      @Override
+      public String get()
+      {
+        calls[0]++;
+        return "supplied";
+      }
+    };
+
+    logger.getJulLogger().setUseParentHandlers(false);
+    logger.getJulLogger().addHandler(new Handler()
+    {
+      @Override
+      public void publish(LogRecord record)
+      {
+        records.add(record);
+      }
+
+      @Override
+      public void flush()
+      {
+        // Nothing to do
+      }
+
+      @Override
+      public void close()
+      {
+        // Nothing to do
+      }
+    });
+    logger.setLogLevel(Logger.LL_INFO);
+    logger.logDebug("Debug {0}", supplier);
+    logger.logDebug("Debug {0} {1}", supplier, "two");
+    assertEquals(0, calls[0]);
+    logger.logInfo("Info {0}", supplier);
+    logger.logWarning("Warning {0} {1}", "one", supplier);
+    logger.logError("Error {0} {1} {2} {3}", "one", "two", "three", supplier);
+    assertEquals(3, records.size());
+    assertEquals("supplied", records.get(0).getParameters()[0]);
+    assertEquals("supplied", records.get(1).getParameters()[1]);
+    assertEquals("supplied", records.get(2).getParameters()[3]);
+    assertEquals(3, calls[0]);
+  } 
+}
@@ -0,0 +1,139 @@
+// ===========================================================================
+// CONTENT  : TEST CLASS InMemoryLogRepositoryTest
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.2 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//  18/10/2026  mdu  added   --> test_merged_view_within_same_millisecond
+//  18/10/2026  mdu  added   --> test_merged_view_keeps_append_order_per_logger
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging.memory;
+
+// ===========================================================================
+// IMPORTS
+// ===========================================================================
+import static org.junit.Assert.*;
+
+import java.util.Iterator;
+
+import org.junit.Test;
+import org.pfsw.logging.LogLevel;
+
+public class InMemoryLogRepositoryTest
+{
+  // =========================================================================
+  // TEST METHODS
+  // =========================================================================
+  @Test
+  public void test_loggers_are_canonical()
+  {
+    InMemoryLoggerFactory factory = new InMemoryLoggerFactory();
+    InMemoryLogger logger = (InMemoryLogger)factory.getLogger("com.acme.Shop");
+
+    assertSame(logger, factory.getLogger("com.acme.Shop"));
+    assertNotSame(logger, factory.getLogger("com.acme.Cart"));
+    factory.getLogger("com.acme.Shop").logError("Out of stock");
+    assertEquals(1, logger.size());
+    assertSame(logger, factory.getRepository().findLogger("com.acme.Shop"));
+    assertNull(factory.getRepository().findLogger("com.acme.Unknown"));
+    assertEquals(2, factory.getRepository().getLoggers().size());
+    assertEquals("com.acme.Shop", factory.getRepository().getLoggers().get(0).getName());
+  }
+
+  @Test
+  public void test_merged_view()
+  {
+    InMemoryLogRepository repository = new InMemoryLogRepository();
+
+    add(repository, "a", LogLevel.INFO, 10L, "a1");
+    add(repository, "b", LogLevel.INFO, 5L, "b1");
+    add(repository, "c", LogLevel.ERROR, 10L, "c1");
+    add(repository, "a", LogLevel.ERROR, 20L, "a2");
+    add(repository, "b", LogLevel.INFO, 10L, "b2");
+    add(repository, "b", LogLevel.ERROR, 30L, "b3");
+    repository.getLogger("empty");
+
+    assertEquals(6, repository.size());
+    assertEquals("[b1, a1, b2, c1, a2, b3]", messages(repository.getMergedLogRecords()));
+    assertEquals("[c1, a2, b3]", messages(repository.find(new LogRecordQuery().levels(LogLevel.ERROR))));
+    assertEquals("[a1, b2, c1, a2]", messages(repository.find(new LogRecordQuery().from(10L).to(20L))));
+    assertEquals("[b1, b2, b3]", messages(repository.find(new LogRecordQuery().loggerName("b"))));
+    assertEquals("[]", messages(repository.find(new LogRecordQuery().loggerName("x"))));
+    repository.clear();
+    assertEquals(0, repository.size());
+    assertFalse(repository.getMergedLogRecords().iterator().hasNext());
+  }
+
+  @Test
+  public void test_merged_view_of_indexed_stores()
+  {
+    InMemoryLoggerFactory factory = new InMemoryLoggerFactory(100, 0L, true);
+    InMemoryLogRepository repository = factory.getRepository();
+    Iterator<LogRecord> iterator;
+
+    add(repository, "x", LogLevel.WARN, 3L, "Disk almost full");
+    add(repository, "y", LogLevel.WARN, 1L, "Disk slow");
+    add(repository, "x", LogLevel.INFO, 2L, "Disk mounted");
+    assertTrue(repository.getLogger("x").getLogRecordStore() instanceof IndexedLogRecordStore);
+    iterator = repository.find(new LogRecordQuery().tokens("disk").levels(LogLevel.WARN)).iterator();
+    assertEquals("Disk slow", iterator.next().getMessage());
+    assertEquals("Disk almost full", iterator.next().getMessage());
+    assertFalse(iterator.hasNext());
+  }
+
+  @Test
+  public void test_merged_view_within_same_millisecond()
+  {
+    InMemoryLogRepository repository = new InMemoryLogRepository();
+
+    addNanos(repository, "first", 7000900L, "late");
+    addNanos(repository, "second", 7000100L, "early");
+    addNanos(repository, "second", 7000500L, "middle");
+    assertEquals(repository.getLogger("first").getLogEntries().get(0).getTimestamp(),
+        repository.getLogger("second").getLogEntries().get(0).getTimestamp());
+    assertEquals("[early, middle, late]", messages(repository.getMergedLogRecords()));
+  }
+
+  @Test
+  public void test_merged_view_keeps_append_order_per_logger()
+  {
+    InMemoryLogRepository repository = new InMemoryLogRepository();
+
+    // The second record of "a" was created before the one of "b", but added later
+    addNanos(repository, "a", 3000L, "a1");
+    addNanos(repository, "a", 1000L, "a2");
+    addNanos(repository, "b", 2000L, "b1");
+    addNanos(repository, "b", 4000L, "b2");
+    assertEquals("[b1, a1, a2, b2]", messages(repository.getMergedLogRecords()));
+  }
+
+  // =========================================================================
+  // PRIVATE INSTANCE METHODS
+  // =========================================================================
+  private void add(InMemoryLogRepository repository, String loggerName, LogLevel level, long timestamp, String message)
+  {
+    repository.getLogger(loggerName).getLogRecordStore().add(new LogRecord(level, message, null, loggerName, timestamp));
+  }
+
+  private void addNanos(InMemoryLogRepository repository, String loggerName, long timestampNanos, String message)
+  {
+    repository.getLogger(loggerName).getLogRecordStore().add(new LogRecord(LogLevel.INFO, message, null, null, loggerName, null, timestampNanos));
+  }
+
+  private String messages(Iterable<LogRecord> records)
+  {
+    StringBuilder buffer = new StringBuilder("[");
+
+    for (LogRecord record : records)
+    {
+      if (buffer.length() > 1)
+      {
+        buffer.append(", ");
+      }
+      buffer.append(record.getMessage());
+    }
+    return buffer.append(']').toString();
+  }
+}
@@ -0,0 +1,200 @@
+// ===========================================================================
+// CONTENT  : TEST CLASS InMemoryLoggerTest
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.1 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//  18/10/2026  mdu  added   --> test_deferred_rendering_with_ring_buffer, test_no_deferred_rendering_if_indexed
+//  18/10/2026  mdu  changed --> test_factory_clock
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging.memory;
+
+// ===========================================================================
+// IMPORTS
+// ===========================================================================
+import static org.junit.Assert.*;
+
+import java.util.Locale;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.pfsw.logging.LogLevel;
+import org.pfsw.logging.LogSupplier;
+import org.pfsw.logging.internal.CachedMillisLogClock;
+import org.pfsw.logging.internal.LogClock;
+import org.pfsw.logging.internal.NanoTimeLogClock;
+import org.pfsw.logging.internal.SystemLogClock;
+
+public class InMemoryLoggerTest
+{
+  private Locale defaultLocale;
+
+  @Before
+  public void setUp()
+  {
+    this.defaultLocale = Locale.getDefault();
+    Locale.setDefault(Locale.US);
+  }
+
+  @After
+  public void tearDown()
+  {
+    Locale.setDefault(this.defaultLocale);
+  }
+
+  // =========================================================================
+  // TEST METHODS
+  // =========================================================================
+  @Test
+  public void test_deferred_rendering()
+  {
+    InMemoryLogger logger = new InMemoryLogger("deferred");
+    Object[] params = { "order", Integer.valueOf(4711), LogLevel.WARN };
+    LogRecord record;
+
+    logger.setDeferredRendering(true);
+    logger.logInfo("Processing {0} {1} at {2}", params);
+    params[1] = Integer.valueOf(1);
+    record = logger.getLogEntries().get(0);
+    assertFalse(record.isRendered());
+    assertEquals("Processing {0} {1} at {2}", record.getTemplate());
+    assertEquals(3, record.getArguments().length);
+    assertEquals("Processing order 4,711 at WARN", record.getMessage());
+    assertTrue(record.isRendered());
+    assertSame(record.getMessage(), record.getMessage());
+  }
+
+  @Test
+  public void test_mutable_arguments_are_rendered_eagerly()
+  {
+    InMemoryLogger logger = new InMemoryLogger("deferred");
+    StringBuilder state = new StringBuilder("open");
+    LogRecord record;
+
+    logger.setDeferredRendering(true);
+    logger.logWarning("State is {0}", state);
+    state.replace(0, state.length(), "closed");
+    record = logger.getLogEntries().get(0);
+    assertTrue(record.isRendered());
+    assertNull(record.getArguments());
+    assertEquals("State is open", record.getMessage());
+  }
+
+  @Test
+  public void test_suppliers_are_evaluated_when_logging()
+  {
+    InMemoryLogger logger = new InMemoryLogger("deferred");
+    final int[] calls = { 0 };
+    LogRecord record;
+
+    logger.setDeferredRendering(true);
+    logger.logError("Value {0}", new LogSupplier<String>()
+    {
+      @Override
+      public String get()
+      {
+        calls[0]++;
+        return "v" + calls[0];
+      }
+    });
+    record = logger.getLogEntries().get(0);
+    assertEquals(1, calls[0]);
+    assertFalse(record.isRendered());
+    assertEquals("Value v1", record.getMessage());
+    assertEquals(1, calls[0]);
+  }
+
+  @Test
+  public void test_eager_rendering_by_default()
+  {
+    InMemoryLoggerFactory factory = new InMemoryLoggerFactory();
+    InMemoryLogger logger = (InMemoryLogger)factory.getLogger("eager");
+
+    logger.logInfo("Count {0}", Integer.valueOf(3));
+    assertTrue(logger.getLogEntries().get(0).isRendered());
+    assertEquals("Count 3", logger.getLogEntries().get(0).getMessage());
+    factory.setDeferredRendering(true);
+    logger = (InMemoryLogger)factory.getLogger("deferred");
+    logger.logInfo("Count {0}", Integer.valueOf(4));
+    assertFalse(logger.getLogEntries().get(0).isRendered());
+    assertEquals(1, logger.findEntriesContaining("Count 4").size());
+  }
+
+  @Test
+  public void test_deferred_rendering_with_ring_buffer()
+  {
+    InMemoryLoggerFactory factory = new InMemoryLoggerFactory(10, 100000L);
+    InMemoryLogger logger;
+    RingBufferLogRecordStore store;
+    LogRecord record;
+
+    factory.setDeferredRendering(true);
+    logger = (InMemoryLogger)factory.getLogger("ring");
+    store = (RingBufferLogRecordStore)logger.getLogRecordStore();
+    logger.logInfo("Order {0} shipped to {1}", Integer.valueOf(4711), "Berlin");
+    record = logger.getLogEntries().get(0);
+    assertFalse(record.isRendered());
+    assertEquals(RingBufferLogRecordStore.RECORD_OVERHEAD + 2L * record.getTemplate().length() + 2L * RingBufferLogRecordStore.ARGUMENT_SIZE,
+        store.getTotalBytes());
+    assertEquals("Order 4,711 shipped to Berlin", record.getMessage());
+  }
+
+  @Test
+  public void test_no_deferred_rendering_if_indexed()
+  {
+    InMemoryLoggerFactory factory = new InMemoryLoggerFactory(100, 0L, true);
+    InMemoryLogger logger;
+
+    factory.setDeferredRendering(true);
+    assertFalse(factory.isDeferredRendering());
+    logger = (InMemoryLogger)factory.getLogger("indexed");
+    assertFalse(logger.isDeferredRendering());
+    logger.logInfo("Count {0}", Integer.valueOf(5));
+    assertTrue(logger.getLogEntries().get(0).isRendered());
+  }
+
+  @Test
+  public void test_clock_and_thread()
+  {
+    InMemoryLogger logger = new InMemoryLogger("timed");
+    LogRecord record;
+
+    logger.setLogClock(new LogClock()
+    {
+      @Override
+      public long currentTimeMillis()
+      {
+        return 1234L;
+      }
+
+      @Override
+      public long currentTimeNanos()
+      {
+        return 1234567890L;
+      }
+    });
+    logger.logInfo("Timed");
+    record = logger.getLogEntries().get(0);
+    assertEquals(1234567890L, record.getTimestampNanos());
+    assertEquals(1234L, record.getTimestamp());
+    assertEquals("timed", record.getLoggerName());
+    assertEquals(Thread.currentThread().getName(), record.getThreadName());
+    assertEquals(Thread.currentThread().getId(), record.getThreadId());
+    assertEquals(-1L, new LogRecord(LogLevel.INFO, "none").getThreadId());
+  }
+
+  @Test
+  public void test_factory_clock()
+  {
+    InMemoryLoggerFactory factory = new InMemoryLoggerFactory();
+
+    assertTrue(InMemoryLoggerFactory.createLogClock(null) instanceof SystemLogClock);
+    assertTrue(InMemoryLoggerFactory.createLogClock("PRECISE") instanceof NanoTimeLogClock);
+    assertSame(CachedMillisLogClock.getSharedInstance(), InMemoryLoggerFactory.createLogClock(InMemoryLoggerFactory.CLOCK_CACHED));
+    factory.setLogClock(InMemoryLoggerFactory.createLogClock(InMemoryLoggerFactory.CLOCK_PRECISE));
+    assertSame(factory.getLogClock(), ((InMemoryLogger)factory.getLogger("precise")).getLogClock());
+  }
+}
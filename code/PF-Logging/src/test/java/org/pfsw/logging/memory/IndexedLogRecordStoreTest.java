@@ -0,0 +1,262 @@
+// ===========================================================================
+// CONTENT  : TEST CLASS IndexedLogRecordStoreTest
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.1 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//  18/10/2026  mdu  added   --> test_ring_wraps_many_times, test_cleared_records_get_collectable
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging.memory;
+
+// ===========================================================================
+// IMPORTS
+// ===========================================================================
+import static org.junit.Assert.*;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+import org.pfsw.logging.LogLevel;
+
+public class IndexedLogRecordStoreTest
+{
+  private static final LogLevel[] LEVELS = { LogLevel.ERROR, LogLevel.WARN, LogLevel.INFO, LogLevel.DEBUG };
+  private static final String[] NAMES = { "db", "web", "cache" };
+  private static final String[] WORDS = { "timeout", "connection", "user", "login", "failed", "started", "Order" };
+
+  // =========================================================================
+  // TEST METHODS
+  // =========================================================================
+  @Test
+  public void test_tokenize()
+  {
+    assertEquals(4, LogRecordQuery.tokenize("Order #4711 failed: order-timeout").size());
+    assertTrue(LogRecordQuery.tokenize("Order #4711 failed: order-timeout").contains("4711"));
+    assertTrue(LogRecordQuery.tokenize("Order #4711 failed: order-timeout").contains("order"));
+    assertTrue(LogRecordQuery.tokenize(" -- ").isEmpty());
+    assertTrue(LogRecordQuery.tokenize(null).isEmpty());
+  }
+
+  @Test
+  public void test_single_criteria()
+  {
+    IndexedLogRecordStore store = new IndexedLogRecordStore(100);
+
+    store.add(record(LogLevel.INFO, "db", 100L, "Connection started"));
+    store.add(record(LogLevel.ERROR, "web", 200L, "Login failed for user admin"));
+    store.add(record(LogLevel.WARN, "db", 300L, "Connection timeout"));
+    store.add(record(LogLevel.ERROR, "db", 400L, "Connection failed"));
+
+    assertEquals("[Login failed for user admin, Connection failed]", messages(store.find(new LogRecordQuery().levels(LogLevel.ERROR))));
+    assertEquals("[Connection started, Connection timeout, Connection failed]", messages(store.find(new LogRecordQuery().loggerName("db"))));
+    assertEquals("[Login failed for user admin, Connection failed]", messages(store.find(new LogRecordQuery().tokens("FAILED"))));
+    assertEquals("[Login failed for user admin, Connection timeout]", messages(store.find(new LogRecordQuery().from(200L).to(300L))));
+    assertEquals("[Connection timeout, Connection failed]", messages(store.find(new LogRecordQuery().levels(LogLevel.ERROR, LogLevel.WARN).loggerName("db"))));
+    assertEquals("[Connection failed]", messages(store.find(new LogRecordQuery().tokens("connection failed"))));
+    assertEquals("[]", messages(store.find(new LogRecordQuery().tokens("fail"))));
+    assertEquals("[]", messages(store.find(new LogRecordQuery().loggerName("unknown"))));
+    assertEquals(4, store.getLogRecords().size());
+    assertEquals(4, count(store.find(new LogRecordQuery())));
+  }
+
+  @Test
+  public void test_same_results_as_scan()
+  {
+    IndexedLogRecordStore store = new IndexedLogRecordStore(5000);
+    Random random = new Random(42L);
+    List<LogRecord> all = new ArrayList<LogRecord>();
+    List<LogRecord> expected;
+    LogRecordQuery query;
+    LogRecord record;
+    long time = 1000L;
+
+    for (int i = 0; i < 8000; i++)
+    {
+      time += random.nextInt(3);
+      // Concurrent loggers might deliver slightly older timestamps
+      record = record(LEVELS[random.nextInt(LEVELS.length)], NAMES[random.nextInt(NAMES.length)], time - random.nextInt(5),
+          WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " #" + i);
+      all.add(record);
+      store.add(record);
+    }
+    all = all.subList(all.size() - 5000, all.size());
+    for (int i = 0; i < 300; i++)
+    {
+      query = new LogRecordQuery();
+      if (random.nextBoolean())
+      {
+        query.levels(LEVELS[random.nextInt(LEVELS.length)], LEVELS[random.nextInt(LEVELS.length)]);
+      }
+      if (random.nextBoolean())
+      {
+        query.loggerName(NAMES[random.nextInt(NAMES.length)]);
+      }
+      if (random.nextBoolean())
+      {
+        query.tokens(WORDS[random.nextInt(WORDS.length)]);
+      }
+      if (random.nextBoolean())
+      {
+        query.from(1000L + random.nextInt(8000)).to(1000L + 8000L + random.nextInt(8000));
+      }
+      expected = new ArrayList<LogRecord>();
+      for (LogRecord each : all)
+      {
+        if (query.matches(each))
+        {
+          expected.add(each);
+        }
+      }
+      assertEquals(expected, list(store.find(query)));
+    }
+  }
+
+  @Test
+  public void test_dropped_records_are_not_found()
+  {
+    IndexedLogRecordStore store = new IndexedLogRecordStore(10);
+
+    for (int i = 0; i < 25; i++)
+    {
+      store.add(record(LogLevel.INFO, "loop", i, "Value v" + i));
+    }
+    assertEquals(10, store.size());
+    assertEquals("[]", messages(store.find(new LogRecordQuery().tokens("v14"))));
+    assertEquals("[Value v15]", messages(store.find(new LogRecordQuery().tokens("v15"))));
+    assertEquals(10, count(store.find(new LogRecordQuery().levels(LogLevel.INFO))));
+    assertEquals(3, count(store.find(new LogRecordQuery().from(22L))));
+    // The tokens of dropped records got removed from the index
+    assertTrue(store.getTokenCount() <= 21);
+    store.clear();
+    assertEquals(0, store.size());
+    assertEquals(0, count(store.find(new LogRecordQuery().levels(LogLevel.INFO))));
+    store.add(record(LogLevel.INFO, "loop", 30L, "Value v30"));
+    assertEquals("[Value v30]", messages(store.find(new LogRecordQuery().loggerName("loop"))));
+  }
+
+  @Test
+  public void test_ring_wraps_many_times()
+  {
+    IndexedLogRecordStore store = new IndexedLogRecordStore(100);
+    List<LogRecord> records;
+
+    for (int i = 0; i < 1000; i++)
+    {
+      store.add(record(LEVELS[i % LEVELS.length], NAMES[i % NAMES.length], i, "Value v" + i));
+    }
+    assertEquals(100, store.size());
+    records = store.getLogRecords();
+    assertEquals(100, records.size());
+    assertEquals("Value v900", records.get(0).getMessage());
+    assertEquals("Value v999", records.get(99).getMessage());
+    assertEquals("[Value v950]", messages(store.find(new LogRecordQuery().tokens("v950"))));
+    assertEquals("[]", messages(store.find(new LogRecordQuery().tokens("v899"))));
+    assertEquals(25, count(store.find(new LogRecordQuery().levels(LogLevel.ERROR))));
+    assertEquals(10, count(store.find(new LogRecordQuery().from(990L))));
+  }
+
+  @Test
+  public void test_cleared_records_get_collectable() throws Exception
+  {
+    IndexedLogRecordStore store = new IndexedLogRecordStore(100);
+    WeakReference<LogRecord> cleared;
+    LogRecord record;
+
+    record = record(LogLevel.INFO, "app", 1L, "first");
+    cleared = new WeakReference<LogRecord>(record);
+    store.add(record);
+    store.add(record(LogLevel.INFO, "app", 2L, "second"));
+    store.clear();
+    record = null;
+    for (int i = 0; (i < 20) && (cleared.get() != null); i++)
+    {
+      System.gc();
+      Thread.sleep(10L);
+    }
+    assertNull(cleared.get());
+    assertEquals(0, store.size());
+    store.add(record(LogLevel.INFO, "app", 3L, "third"));
+    assertEquals("[third]", messages(store.find(new LogRecordQuery().loggerName("app"))));
+  }
+
+  @Test
+  public void test_result_is_streamed()
+  {
+    IndexedLogRecordStore store = new IndexedLogRecordStore(100);
+    Iterable<LogRecord> result;
+    Iterator<LogRecord> iterator;
+
+    store.add(record(LogLevel.ERROR, "app", 1L, "first error"));
+    result = store.find(new LogRecordQuery().levels(LogLevel.ERROR));
+    iterator = result.iterator();
+    store.add(record(LogLevel.ERROR, "app", 2L, "second error"));
+    assertEquals("first error", iterator.next().getMessage());
+    assertFalse(iterator.hasNext());
+    assertEquals("[first error, second error]", messages(result));
+  }
+
+  @Test
+  public void test_logger_find()
+  {
+    InMemoryLoggerFactory factory = new InMemoryLoggerFactory(0, 0L, true);
+    InMemoryLogger logger = (InMemoryLogger)factory.getLogger("orders");
+    InMemoryLogger listLogger = new InMemoryLogger("orders");
+    LogRecordQuery query = new LogRecordQuery().levels(LogLevel.ERROR).loggerName("orders").tokens("4711");
+
+    assertTrue(logger.getLogRecordStore() instanceof IndexedLogRecordStore);
+    assertEquals(IndexedLogRecordStore.DEFAULT_CAPACITY, ((IndexedLogRecordStore)logger.getLogRecordStore()).getCapacity());
+    for (InMemoryLogger each : new InMemoryLogger[] { logger, listLogger })
+    {
+      each.logError("Order {0} failed", "4711");
+      each.logError("Order {0} failed", "4712");
+      each.logWarning("Order {0} delayed", "4711");
+      assertEquals("[Order 4711 failed]", messages(each.find(query)));
+      assertEquals("orders", each.getLogEntries().get(0).getLoggerName());
+    }
+  }
+
+  // =========================================================================
+  // PRIVATE INSTANCE METHODS
+  // =========================================================================
+  private LogRecord record(LogLevel level, String loggerName, long timestamp, String message)
+  {
+    return new LogRecord(level, message, null, loggerName, timestamp);
+  }
+
+  private List<LogRecord> list(Iterable<LogRecord> records)
+  {
+    List<LogRecord> result = new ArrayList<LogRecord>();
+
+    for (LogRecord record : records)
+    {
+      result.add(record);
+    }
+    return result;
+  }
+
+  private int count(Iterable<LogRecord> records)
+  {
+    return list(records).size();
+  }
+
+  private String messages(Iterable<LogRecord> records)
+  {
+    StringBuilder buffer = new StringBuilder("[");
+
+    for (LogRecord record : records)
+    {
+      if (buffer.length() > 1)
+      {
+        buffer.append(", ");
+      }
+      buffer.append(record.getMessage());
+    }
+    return buffer.append(']').toString();
+  }
+}
@@ -0,0 +1,188 @@
+// ===========================================================================
+// CONTENT  : TEST CLASS RingBufferLogRecordStoreTest
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.1 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//  18/10/2026  mdu  added   --> test_evicted_records_get_collectable
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging.memory;
+
+// ===========================================================================
+// IMPORTS
+// ===========================================================================
+import static org.junit.Assert.*;
+
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+import org.pfsw.logging.LogLevel;
+
+public class RingBufferLogRecordStoreTest
+{
+  // =========================================================================
+  // TEST METHODS
+  // =========================================================================
+  @Test
+  public void test_keeps_most_recent_records()
+  {
+    RingBufferLogRecordStore store = new RingBufferLogRecordStore(3);
+
+    assertEquals(0, store.size());
+    for (int i = 1; i <= 5; i++)
+    {
+      store.add(new LogRecord(LogLevel.INFO, "record " + i));
+    }
+    assertEquals(3, store.size());
+    assertEquals("[record 3, record 4, record 5]", messages(store.getLogRecords()));
+    assertEquals(3 * (RingBufferLogRecordStore.RECORD_OVERHEAD + 16), store.getTotalBytes());
+  }
+
+  @Test
+  public void test_byte_limit()
+  {
+    long recordSize = RingBufferLogRecordStore.RECORD_OVERHEAD + 2 * 10;
+    RingBufferLogRecordStore store = new RingBufferLogRecordStore(100, 3 * recordSize);
+
+    for (int i = 0; i < 5; i++)
+    {
+      store.add(new LogRecord(LogLevel.INFO, "record #" + i + "/"));
+    }
+    assertEquals("[record #2/, record #3/, record #4/]", messages(store.getLogRecords()));
+    assertEquals(3 * recordSize, store.getTotalBytes());
+    store.add(new LogRecord(LogLevel.ERROR, "failed", new IllegalStateException()));
+    assertEquals("[failed]", messages(store.getLogRecords()));
+  }
+
+  @Test
+  public void test_clear()
+  {
+    RingBufferLogRecordStore store = new RingBufferLogRecordStore(3);
+
+    store.add(new LogRecord(LogLevel.INFO, "one"));
+    store.add(new LogRecord(LogLevel.INFO, "two"));
+    store.clear();
+    assertEquals(0, store.size());
+    assertEquals(0L, store.getTotalBytes());
+    assertTrue(store.getLogRecords().isEmpty());
+    store.add(new LogRecord(LogLevel.INFO, "three"));
+    assertEquals("[three]", messages(store.getLogRecords()));
+  }
+
+  @Test
+  public void test_evicted_records_get_collectable() throws Exception
+  {
+    long recordSize = RingBufferLogRecordStore.RECORD_OVERHEAD + 2 * 5;
+    RingBufferLogRecordStore store = new RingBufferLogRecordStore(100, recordSize);
+    WeakReference<LogRecord> evicted;
+    WeakReference<LogRecord> cleared;
+    LogRecord record;
+
+    record = new LogRecord(LogLevel.INFO, "first");
+    evicted = new WeakReference<LogRecord>(record);
+    store.add(record);
+    store.add(new LogRecord(LogLevel.INFO, "other"));
+    record = new LogRecord(LogLevel.INFO, "third");
+    cleared = new WeakReference<LogRecord>(record);
+    store.add(record);
+    assertEquals("[third]", messages(store.getLogRecords()));
+    store.clear();
+    record = null;
+    for (int i = 0; (i < 20) && ((evicted.get() != null) || (cleared.get() != null)); i++)
+    {
+      System.gc();
+      Thread.sleep(10L);
+    }
+    assertNull(evicted.get());
+    assertNull(cleared.get());
+  }
+
+  @Test
+  public void test_concurrent_writers_and_reader() throws Exception
+  {
+    final RingBufferLogRecordStore store = new RingBufferLogRecordStore(64, 64 * 100);
+    final AtomicBoolean running = new AtomicBoolean(true);
+    Thread[] writers = new Thread[4];
+    int[] lastNumbers;
+    String[] parts;
+    int thread;
+    int number;
+
+    for (int i = 0; i < writers.length; i++)
+    {
+      final int threadNumber = i;
+      writers[i] = new Thread()
+      {
+        @Override
+        public void run()
+        {
+          for (int j = 0; j < 20000; j++)
+          {
+            store.add(new LogRecord(LogLevel.INFO, threadNumber + ":" + j));
+          }
+        }
+      };
+      writers[i].start();
+    }
+    while (running.get())
+    {
+      lastNumbers = new int[] { -1, -1, -1, -1 };
+      for (LogRecord record : store.getLogRecords())
+      {
+        parts = record.getMessage().split(":");
+        thread = Integer.parseInt(parts[0]);
+        number = Integer.parseInt(parts[1]);
+        assertTrue(record.getMessage(), number > lastNumbers[thread]);
+        lastNumbers[thread] = number;
+      }
+      running.set(false);
+      for (Thread writer : writers)
+      {
+        if (writer.isAlive())
+        {
+          running.set(true);
+        }
+      }
+    }
+    assertEquals(64, store.getLogRecords().size());
+    assertTrue(store.getTotalBytes() <= 64 * 100);
+  }
+
+  @Test
+  public void test_factory_with_capacity()
+  {
+    InMemoryLoggerFactory factory = new InMemoryLoggerFactory(2, 0L);
+    InMemoryLogger logger = (InMemoryLogger)factory.getLogger("ring");
+
+    assertTrue(logger.getLogRecordStore() instanceof RingBufferLogRecordStore);
+    logger.logError("first");
+    logger.logError("second {0}", "error");
+    logger.logError("third");
+    assertEquals(2, logger.size());
+    assertEquals("[second error, third]", messages(logger.getLogEntries()));
+    assertEquals(1, logger.findEntriesContaining("second").size());
+    assertTrue(((InMemoryLogger)new InMemoryLoggerFactory().getLogger("list")).getLogRecordStore() instanceof ListLogRecordStore);
+  }
+
+  // =========================================================================
+  // PRIVATE INSTANCE METHODS
+  // =========================================================================
+  private String messages(List<LogRecord> records)
+  {
+    StringBuilder buffer = new StringBuilder("[");
+
+    for (LogRecord record : records)
+    {
+      if (buffer.length() > 1)
+      {
+        buffer.append(", ");
+      }
+      buffer.append(record.getMessage());
+    }
+    return buffer.append(']').toString();
+  }
+}
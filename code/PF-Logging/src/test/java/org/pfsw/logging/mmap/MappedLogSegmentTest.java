@@ -0,0 +1,218 @@
+// ===========================================================================
+// CONTENT  : TEST CLASS MappedLogSegmentTest
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.1 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//  18/10/2026  mdu  added   --> test_recovery_after_crash_with_reserved_slot
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging.mmap;
+
+// ===========================================================================
+// IMPORTS
+// ===========================================================================
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.pfsw.logging.Logger;
+import org.pfsw.logging.stdout.PrintStreamLogger;
+
+public class MappedLogSegmentTest
+{
+  @Rule
+  public TemporaryFolder tempFolder = new TemporaryFolder();
+
+  // =========================================================================
+  // TEST METHODS
+  // =========================================================================
+  @Test
+  public void test_append_and_readRecords() throws Exception
+  {
+    MappedLogSegment segment = MappedLogSegment.open(new File(this.tempFolder.getRoot(), "test.mlog"), 1024);
+
+    assertTrue(segment.append("I first\n".getBytes("UTF-8"), 8));
+    assertTrue(segment.append("I zweite Gr\u00f6\u00dfe\n".getBytes("UTF-8"), "I zweite Gr\u00f6\u00dfe\n".getBytes("UTF-8").length));
+    assertEquals(1024, segment.getCapacity());
+    assertEquals("[I first\n, I zweite Gr\u00f6\u00dfe\n]", segment.readRecords().toString());
+  }
+
+  @Test
+  public void test_segment_full() throws Exception
+  {
+    MappedLogSegment segment = MappedLogSegment.open(new File(this.tempFolder.getRoot(), "full.mlog"), 32);
+    byte[] bytes = "0123456789".getBytes("UTF-8");
+
+    assertTrue(segment.append(bytes, 10));
+    assertFalse(segment.append(bytes, 10));
+    assertTrue(segment.append(bytes, 2));
+    assertEquals(28, segment.getWritePosition());
+  }
+
+  @Test
+  public void test_too_large_record_gets_truncated() throws Exception
+  {
+    MappedLogSegment segment = MappedLogSegment.open(new File(this.tempFolder.getRoot(), "large.mlog"), 20);
+
+    assertTrue(segment.append("0123456789ABCDEF".getBytes("UTF-8"), 16));
+    assertEquals("[01234567]", segment.readRecords().toString());
+  }
+
+  @Test
+  public void test_recovery_after_crash() throws Exception
+  {
+    File file = new File(this.tempFolder.getRoot(), "crash.mlog");
+    MappedLogSegment segment = MappedLogSegment.open(file, 1024);
+    RandomAccessFile randomAccessFile;
+    int position;
+
+    segment.append("I complete\n".getBytes("UTF-8"), 11);
+    position = segment.getWritePosition();
+    segment.append("I interrupted\n".getBytes("UTF-8"), 14);
+    segment.append("I also complete\n".getBytes("UTF-8"), 16);
+    segment.force();
+    // Simulate a crash before the length of the second record got committed
+    randomAccessFile = new RandomAccessFile(file, "rw");
+    randomAccessFile.seek(position);
+    randomAccessFile.writeInt(-14);
+    randomAccessFile.close();
+
+    segment = MappedLogSegment.open(file, 1024);
+    assertEquals(2, segment.getRecoveredRecordCount());
+    assertEquals(1, segment.getIncompleteRecordCount());
+    assertEquals("[I complete\n, I also complete\n]", segment.readRecords().toString());
+    segment.append("I after restart\n".getBytes("UTF-8"), 16);
+    assertEquals("[I complete\n, I also complete\n, I after restart\n]", segment.readRecords().toString());
+  }
+
+  @Test
+  public void test_recovery_after_crash_with_reserved_slot() throws Exception
+  {
+    File file = new File(this.tempFolder.getRoot(), "reserved.mlog");
+    MappedLogSegment segment = MappedLogSegment.open(file, 1024);
+    RandomAccessFile randomAccessFile;
+    int position;
+
+    segment.append("I complete\n".getBytes("UTF-8"), 11);
+    position = segment.getWritePosition();
+    segment.append("I reserved \n".getBytes("UTF-8"), 12);
+    segment.append("I complete but behind the gap\n".getBytes("UTF-8"), 30);
+    segment.force();
+    // Simulate a crash after the space of the second record was reserved but nothing written
+    randomAccessFile = new RandomAccessFile(file, "rw");
+    randomAccessFile.seek(position);
+    randomAccessFile.write(new byte[MappedLogSegment.RECORD_HEADER_SIZE + 12]);
+    randomAccessFile.close();
+
+    segment = MappedLogSegment.open(file, 1024);
+    assertEquals(1, segment.getRecoveredRecordCount());
+    assertEquals(0, segment.getIncompleteRecordCount());
+    assertEquals(position, segment.getWritePosition());
+    assertEquals(MappedLogSegment.RECORD_HEADER_SIZE + 12 + MappedLogSegment.RECORD_HEADER_SIZE + 30, segment.getDiscardedByteCount());
+    // The new record ends exactly where the stale record started
+    segment.append("I restarted\n".getBytes("UTF-8"), 12);
+    segment.force();
+
+    segment = MappedLogSegment.open(file, 1024);
+    assertEquals(2, segment.getRecoveredRecordCount());
+    assertEquals(0, segment.getDiscardedByteCount());
+    assertEquals("[I complete\n, I restarted\n]", segment.readRecords().toString());
+  }
+
+  @Test(expected = java.io.IOException.class)
+  public void test_open_foreign_file() throws Exception
+  {
+    File file = this.tempFolder.newFile();
+    RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+
+    randomAccessFile.writeInt(4711);
+    randomAccessFile.close();
+    MappedLogSegment.open(file, 1024);
+  }
+
+  @Test
+  public void test_sink_rolls_over_to_next_segment() throws Exception
+  {
+    MappedLogSegmentSink sink = new MappedLogSegmentSink(this.tempFolder.getRoot(), "roll", 64);
+    List<String> records = new ArrayList<String>();
+
+    for (int i = 0; i < 10; i++)
+    {
+      sink.write(PrintStreamLogger.LEVEL_INFO, "I record " + i + "\n");
+    }
+    sink.close();
+    assertEquals(4, sink.getSegmentFiles().size());
+    assertEquals("roll.000001.mlog", sink.getSegmentFiles().get(0).getName());
+    for (File file : sink.getSegmentFiles())
+    {
+      records.addAll(MappedLogSegment.open(file, 64).readRecords());
+    }
+    assertEquals(10, records.size());
+    assertEquals("I record 0\n", records.get(0));
+    assertEquals("I record 9\n", records.get(9));
+
+    sink = new MappedLogSegmentSink(this.tempFolder.getRoot(), "roll", 64);
+    assertEquals("roll.000004.mlog", sink.getCurrentSegment().getFile().getName());
+  }
+
+  @Test
+  public void test_concurrent_writes() throws Exception
+  {
+    final MappedLogSegmentSink sink = new MappedLogSegmentSink(this.tempFolder.getRoot(), "concurrent", 4096);
+    Thread[] threads = new Thread[4];
+    int count = 0;
+
+    for (int i = 0; i < threads.length; i++)
+    {
+      final String threadName = "thread" + i;
+      threads[i] = new Thread()
+      {
+        @Override
+        public void run()
+        {
+          for (int j = 0; j < 500; j++)
+          {
+            sink.write(PrintStreamLogger.LEVEL_INFO, "I " + threadName + " line " + j + "\n");
+          }
+        }
+      };
+      threads[i].start();
+    }
+    for (Thread thread : threads)
+    {
+      thread.join();
+    }
+    for (File file : sink.getSegmentFiles())
+    {
+      for (String record : MappedLogSegment.open(file, 4096).readRecords())
+      {
+        assertTrue(record, record.matches("I thread\\d line \\d+\n"));
+        count++;
+      }
+    }
+    assertEquals(2000, count);
+  }
+
+  @Test
+  public void test_factory() throws Exception
+  {
+    MappedLogSegmentLoggerFactory factory = new MappedLogSegmentLoggerFactory(this.tempFolder.getRoot(), "factory", 1024);
+    Logger logger;
+    MappedLogSegmentSink sink;
+
+    assertEquals(MappedLogSegmentLoggerFactory.LOGGER_TYPE, factory.getName());
+    logger = factory.getLogger("mmap.test");
+    logger.logInfo("Hello {0}", "world");
+    sink = (MappedLogSegmentSink)((PrintStreamLogger)logger).getLogSink();
+    assertSame(sink, ((PrintStreamLogger)factory.getLogger(MappedLogSegmentTest.class)).getLogSink());
+    assertEquals("[I mmap.test Hello world\n]", sink.getCurrentSegment().readRecords().toString());
+  }
+}
@@ -0,0 +1,204 @@
+// ===========================================================================
+// CONTENT  : TEST CLASS TemplateRateLimiterTest
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.0 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging.ratelimit;
+
+// ===========================================================================
+// IMPORTS
+// ===========================================================================
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.pfsw.logging.Logger2;
+import org.pfsw.logging.Logger2Logger;
+import org.pfsw.logging.stdout.PrintStreamLogger;
+import org.pfsw.logging.stdout.PrintStreamSink;
+import org.pfsw.logging.testhelper.InMemoryPrintStream;
+
+public class TemplateRateLimiterTest
+{
+  private static final long MILLIS = 1000000L;
+
+  private Locale defaultLocale;
+  private InMemoryPrintStream memoryPrintStream;
+  private PrintStreamLogger printStreamLogger;
+
+  @Before
+  public void setUp()
+  {
+    this.defaultLocale = Locale.getDefault();
+    Locale.setDefault(Locale.US);
+    this.memoryPrintStream = new InMemoryPrintStream();
+    this.printStreamLogger = new PrintStreamLogger("limited");
+    this.printStreamLogger.setLogSink(new PrintStreamSink(this.memoryPrintStream.getPrintStream()));
+  }
+
+  @After
+  public void tearDown()
+  {
+    Locale.setDefault(this.defaultLocale);
+  }
+
+  // =========================================================================
+  // TEST METHODS
+  // =========================================================================
+  @Test
+  public void test_burst_and_rate()
+  {
+    ManualClockRateLimiter limiter = new ManualClockRateLimiter(10.0, 3, 0L, 100);
+
+    assertTrue(limiter.tryAcquire("a", null));
+    assertTrue(limiter.tryAcquire("a", null));
+    assertTrue(limiter.tryAcquire("a", null));
+    assertFalse(limiter.tryAcquire("a", null));
+    assertTrue(limiter.tryAcquire("b", null));
+    limiter.now += 100 * MILLIS;
+    assertTrue(limiter.tryAcquire("a", null));
+    assertFalse(limiter.tryAcquire("a", null));
+    limiter.now += 60000 * MILLIS;
+    assertTrue(limiter.tryAcquire("a", null));
+    assertTrue(limiter.tryAcquire("a", null));
+    assertTrue(limiter.tryAcquire("a", null));
+    assertFalse(limiter.tryAcquire("a", null));
+  }
+
+  @Test
+  public void test_suppressed_records_get_reported()
+  {
+    ManualClockRateLimiter limiter = new ManualClockRateLimiter(1.0, 2, 0L, 100);
+    RateLimitingLogger logger = new RateLimitingLogger(this.printStreamLogger, limiter);
+
+    for (int i = 0; i < 5; i++)
+    {
+      logger.logInfo("Value {0}", Integer.valueOf(i));
+    }
+    for (int i = 0; i < 12347; i++)
+    {
+      logger.logWarning("Flood");
+    }
+    logger.logError("Other");
+    limiter.now += 10000 * MILLIS;
+    limiter.reportSuppressed();
+    assertEquals("I limited Value 0\nI limited Value 1\nW limited Flood\nW limited Flood\nE limited Other\n"
+        + "W limited Suppressed 12,345 messages like 'Flood' in the last 10s\n"
+        + "W limited Suppressed 3 messages like 'Value {0}' in the last 10s\n",
+        sortReports(this.memoryPrintStream.getContent()));
+    assertEquals(2, limiter.size());
+    limiter.reportSuppressed();
+    assertEquals(0, limiter.size());
+  }
+
+  @Test
+  public void test_disabled_records_are_not_counted()
+  {
+    ManualClockRateLimiter limiter = new ManualClockRateLimiter(1.0, 1, 0L, 100);
+    RateLimitingLogger logger = new RateLimitingLogger(this.printStreamLogger, limiter);
+
+    logger.logDebug("Debug {0}", "one");
+    logger.logDebug("Debug {0}", "two");
+    assertEquals(0, limiter.size());
+    logger.logInfo("Info");
+    logger.logInfo("Info");
+    assertEquals(1, limiter.size());
+  }
+
+  @Test
+  public void test_printf_templates()
+  {
+    ManualClockRateLimiter limiter = new ManualClockRateLimiter(1.0, 1, 0L, 100);
+    Logger2 logger = new Logger2Logger(new RateLimitingLogger(this.printStreamLogger, limiter));
+
+    for (int i = 0; i < 3; i++)
+    {
+      logger.infof("Count %d", i);
+    }
+    logger.warnf(new IllegalStateException("test"), "Failed %s", "once");
+    assertTrue(this.memoryPrintStream.getContent().startsWith("I limited Count 0\nW limited Failed once\nlimited java.lang.IllegalStateException: test\n"));
+  }
+
+  @Test
+  public void test_max_templates()
+  {
+    ManualClockRateLimiter limiter = new ManualClockRateLimiter(1.0, 1, 0L, 2);
+
+    assertTrue(limiter.tryAcquire("a", null));
+    assertTrue(limiter.tryAcquire("b", null));
+    assertTrue(limiter.tryAcquire("c", null));
+    assertTrue(limiter.tryAcquire("c", null));
+    assertFalse(limiter.tryAcquire("a", null));
+    assertEquals(2, limiter.size());
+    limiter.now += 2000 * MILLIS;
+    limiter.reportSuppressed();
+    assertEquals(0, limiter.size());
+    assertTrue(limiter.tryAcquire("c", null));
+    assertFalse(limiter.tryAcquire("c", null));
+  }
+
+  // =========================================================================
+  // PRIVATE INSTANCE METHODS
+  // =========================================================================
+  /**
+   * Moves the report lines sorted to the end, because the reports come 
+   * in the arbitrary order of the templates in the map.
+   */
+  private String sortReports(String content)
+  {
+    StringBuilder result = new StringBuilder();
+    List<String> reports = new ArrayList<String>();
+
+    for (String line : content.split("\n"))
+    {
+      if (isReport(line))
+      {
+        reports.add(line);
+      }
+      else
+      {
+        result.append(line).append('\n');
+      }
+    }
+    Collections.sort(reports);
+    for (String line : reports)
+    {
+      result.append(line).append('\n');
+    }
+    return result.toString();
+  }
+
+  private boolean isReport(String line)
+  {
+    return line.contains("Suppressed");
+  }
+
+  // =========================================================================
+  // INNER CLASSES
+  // =========================================================================
+  private static class ManualClockRateLimiter extends TemplateRateLimiter
+  {
+    private long now = 0L;
+
+    private ManualClockRateLimiter(double permitsPerSecond, int burst, long reportIntervalMillis, int maxTemplates)
+    {
+      super(permitsPerSecond, burst, reportIntervalMillis, maxTemplates);
+    }
+
+    @Override
+    protected long nanoTime()
+    {
+      return this.now;
+    }
+  }
+}
@@ -0,0 +1,338 @@
+// ===========================================================================
+// CONTENT  : TEST CLASS AsyncLogSinkTest
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.2 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//  18/10/2026  mdu  added   --> test_close_while_writing
+//  18/10/2026  mdu  added   --> test_file_output_of_async_logger
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging.stdout;
+
+// ===========================================================================
+// IMPORTS
+// ===========================================================================
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class AsyncLogSinkTest
+{
+  @Rule
+  public TemporaryFolder tempFolder = new TemporaryFolder();
+
+  // =========================================================================
+  // TEST METHODS
+  // =========================================================================
+  @Test
+  public void test_records_written_in_order()
+  {
+    CollectingSink target = new CollectingSink(null);
+    AsyncLogSink sink = new AsyncLogSink(target, 10, AsyncOverflowPolicy.BLOCK);
+    
+    for (int i = 0; i < 100; i++)
+    {
+      sink.write(PrintStreamLogger.LEVEL_INFO, "line" + i);
+    }
+    sink.flush();
+    assertEquals(100, target.getRecords().size());
+    assertEquals("line0", target.getRecords().get(0));
+    assertEquals("line99", target.getRecords().get(99));
+    assertTrue(target.flushCount > 0);
+    sink.close();
+  }
+
+  @Test
+  public void test_DROP_NEWEST()
+  {
+    CountDownLatch gate = new CountDownLatch(1);
+    CollectingSink target = new CollectingSink(gate);
+    AsyncLogSink sink = new AsyncLogSink(target, 2, AsyncOverflowPolicy.DROP_NEWEST);
+    
+    blockWriter(sink, target);
+    sink.write(PrintStreamLogger.LEVEL_INFO, "1");
+    sink.write(PrintStreamLogger.LEVEL_INFO, "2");
+    sink.write(PrintStreamLogger.LEVEL_WARN, "3");
+    gate.countDown();
+    sink.close();
+    assertEquals(1L, sink.getDroppedCount());
+    assertEquals(1L, sink.getDroppedCount(PrintStreamLogger.LEVEL_WARN));
+    assertEquals("[blocker, 1, 2]", target.getRecords().toString());
+  }
+
+  @Test
+  public void test_DROP_OLDEST()
+  {
+    CountDownLatch gate = new CountDownLatch(1);
+    CollectingSink target = new CollectingSink(gate);
+    AsyncLogSink sink = new AsyncLogSink(target, 2, AsyncOverflowPolicy.DROP_OLDEST);
+    
+    blockWriter(sink, target);
+    sink.write(PrintStreamLogger.LEVEL_INFO, "1");
+    sink.write(PrintStreamLogger.LEVEL_INFO, "2");
+    sink.write(PrintStreamLogger.LEVEL_INFO, "3");
+    gate.countDown();
+    sink.close();
+    assertEquals(1L, sink.getDroppedCount(PrintStreamLogger.LEVEL_INFO));
+    assertEquals("[blocker, 2, 3]", target.getRecords().toString());
+  }
+
+  @Test
+  public void test_DROP_LOW_LEVELS()
+  {
+    CountDownLatch gate = new CountDownLatch(1);
+    CollectingSink target = new CollectingSink(gate);
+    AsyncLogSink sink = new AsyncLogSink(target, 10, AsyncOverflowPolicy.DROP_LOW_LEVELS);
+    
+    blockWriter(sink, target);
+    for (int i = 0; i < 9; i++)
+    {
+      sink.write(PrintStreamLogger.LEVEL_DEBUG, "debug" + i);
+    }
+    sink.write(PrintStreamLogger.LEVEL_INFO, "info");
+    sink.write(PrintStreamLogger.LEVEL_ERROR, "error");
+    gate.countDown();
+    sink.close();
+    assertEquals(0L, sink.getDroppedCount(PrintStreamLogger.LEVEL_DEBUG));
+    assertEquals(1L, sink.getDroppedCount(PrintStreamLogger.LEVEL_INFO));
+    assertEquals(0L, sink.getDroppedCount(PrintStreamLogger.LEVEL_ERROR));
+    assertEquals(11, target.getRecords().size());
+    assertEquals("error", target.getRecords().get(10));
+  }
+
+  @Test
+  public void test_close_writes_all_and_switches_to_direct_output()
+  {
+    CollectingSink target = new CollectingSink(null);
+    AsyncLogSink sink = new AsyncLogSink(target, 100, null);
+    
+    assertEquals(AsyncOverflowPolicy.BLOCK, sink.getOverflowPolicy());
+    for (int i = 0; i < 50; i++)
+    {
+      sink.write(PrintStreamLogger.LEVEL_INFO, "line" + i);
+    }
+    sink.close();
+    assertTrue(sink.isClosed());
+    assertTrue(target.closed);
+    assertEquals(50, target.getRecords().size());
+    sink.write(PrintStreamLogger.LEVEL_INFO, "after close");
+    assertEquals(51, target.getRecords().size());
+  }
+
+  @Test
+  public void test_close_while_writing() throws InterruptedException
+  {
+    final CollectingSink target = new CollectingSink(null);
+    final AsyncLogSink sink = new AsyncLogSink(target, 16, AsyncOverflowPolicy.BLOCK);
+    final CountDownLatch started = new CountDownLatch(4);
+    Thread[] producers = new Thread[4];
+    int[] lastIndex = { -1, -1, -1, -1 };
+    String[] parts;
+    int producer;
+    int index;
+
+    for (int i = 0; i < producers.length; i++)
+    {
+      final int id = i;
+      producers[i] = new Thread()
+      {
+        @Override
+        public void run()
+        {
+          started.countDown();
+          for (int j = 0; j < 2000; j++)
+          {
+            sink.write(PrintStreamLogger.LEVEL_INFO, id + ":" + j);
+          }
+        }
+      };
+      producers[i].start();
+    }
+    started.await(5, TimeUnit.SECONDS);
+    sink.close();
+    for (Thread thread : producers)
+    {
+      thread.join();
+    }
+    assertEquals(0L, sink.getDroppedCount());
+    assertEquals(8000, target.getRecords().size());
+    for (String record : target.getRecords())
+    {
+      parts = record.split(":");
+      producer = Integer.parseInt(parts[0]);
+      index = Integer.parseInt(parts[1]);
+      assertEquals(lastIndex[producer] + 1, index);
+      lastIndex[producer] = index;
+    }
+  }
+
+  @Test
+  public void test_factory_initialize()
+  {
+    PrintStreamLoggerFactory factory = new PrintStreamLoggerFactory("TEST");
+    Properties properties = new Properties();
+    PrintStreamLogger logger;
+    
+    assertNull(((PrintStreamLogger)factory.getLogger("test")).getLogSink());
+    properties.setProperty(PrintStreamLoggerFactory.PROP_ASYNC, "true");
+    properties.setProperty(PrintStreamLoggerFactory.PROP_ASYNC_QUEUE_SIZE, "100");
+    properties.setProperty(PrintStreamLoggerFactory.PROP_ASYNC_OVERFLOW, "drop_newest");
+    factory.initialize(properties);
+    logger = (PrintStreamLogger)factory.getLogger("test");
+    assertTrue(logger.getLogSink() instanceof AsyncLogSink);
+    assertEquals(100, ((AsyncLogSink)logger.getLogSink()).getQueueSize());
+    assertEquals(AsyncOverflowPolicy.DROP_NEWEST, ((AsyncLogSink)logger.getLogSink()).getOverflowPolicy());
+    properties.setProperty(PrintStreamLoggerFactory.PROP_ASYNC, "false");
+    factory.initialize(properties);
+    assertTrue(((AsyncLogSink)logger.getLogSink()).isClosed());
+    assertNull(((PrintStreamLogger)factory.getLogger("test")).getLogSink());
+  }
+
+  @Test
+  public void test_file_output_of_async_logger() throws Exception
+  {
+    PrintStreamLoggerFactory factory = new PrintStreamLoggerFactory("TEST");
+    Properties properties = new Properties();
+    File file1 = this.tempFolder.newFile();
+    File file2 = this.tempFolder.newFile();
+    PrintStreamLogger logger;
+    AsyncLogSink sink1;
+    AsyncLogSink sink2;
+
+    properties.setProperty(PrintStreamLoggerFactory.PROP_ASYNC, "true");
+    properties.setProperty(PrintStreamLoggerFactory.PROP_ASYNC_QUEUE_SIZE, "50");
+    properties.setProperty(PrintStreamLoggerFactory.PROP_ASYNC_OVERFLOW, "drop_oldest");
+    factory.initialize(properties);
+    logger = (PrintStreamLogger)factory.getLogger("async.file");
+    properties.setProperty(PrintStreamLogger.PROP_OUTPUT_FILE, file1.getPath());
+    logger.initialize(properties);
+    sink1 = (AsyncLogSink)logger.getLogSink();
+    assertTrue(sink1.getTarget() instanceof BufferedFileSink);
+    assertEquals(50, sink1.getQueueSize());
+    assertEquals(AsyncOverflowPolicy.DROP_OLDEST, sink1.getOverflowPolicy());
+    logger.logInfo("Hello");
+    sink1.flush();
+    assertEquals("I async.file Hello\n", readFile(file1));
+
+    properties.setProperty(PrintStreamLogger.PROP_OUTPUT_FILE, file2.getPath());
+    logger.initialize(properties);
+    sink2 = (AsyncLogSink)logger.getLogSink();
+    assertTrue(sink1.isClosed());
+    assertFalse(((AsyncLogSink)factory.getLogSink()).isClosed());
+    logger.logInfo("World");
+    sink2.close();
+    assertEquals("I async.file World\n", readFile(file2));
+    properties.setProperty(PrintStreamLoggerFactory.PROP_ASYNC, "false");
+    factory.initialize(properties);
+  }
+
+  // =========================================================================
+  // PRIVATE INSTANCE METHODS
+  // =========================================================================
+  private String readFile(File file) throws IOException
+  {
+    ByteArrayOutputStream content = new ByteArrayOutputStream();
+    InputStream input;
+    int ch;
+
+    input = new FileInputStream(file);
+    try
+    {
+      while ((ch = input.read()) >= 0)
+      {
+        content.write(ch);
+      }
+    }
+    finally
+    {
+      input.close();
+    }
+    return content.toString("UTF-8");
+  }
+
+  /**
+   * Writes a record that blocks the writer thread until the target's gate gets opened.
+   */
+  private void blockWriter(AsyncLogSink sink, CollectingSink target)
+  {
+    sink.write(PrintStreamLogger.LEVEL_INFO, "blocker");
+    try
+    {
+      assertTrue(target.blocked.await(5, TimeUnit.SECONDS));
+    }
+    catch (InterruptedException ex)
+    {
+      fail(ex.toString());
+    }
+  }
+
+  // =========================================================================
+  // INNER CLASSES
+  // =========================================================================
+  private static class CollectingSink implements LogSink
+  {
+    private final List<String> records = new ArrayList<String>();
+    private final CountDownLatch gate;
+    private final CountDownLatch blocked = new CountDownLatch(1);
+    private volatile int flushCount = 0;
+    private volatile boolean closed = false;
+
+    CollectingSink(CountDownLatch gate)
+    {
+      this.gate = gate;
+    }
+
+    @Override
+    public void write(int level, CharSequence record)
+    {
+      synchronized (this)
+      {
+        this.records.add(record.toString());
+      }
+      if (this.gate != null)
+      {
+        this.blocked.countDown();
+        try
+        {
+          this.gate.await(5, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException ex)
+        {
+          Thread.currentThread().interrupt();
+        }
+      }
+    }
+
+    @Override
+    public void flush()
+    {
+      this.flushCount++;
+    }
+
+    @Override
+    public void close()
+    {
+      this.closed = true;
+    }
+
+    synchronized List<String> getRecords()
+    {
+      return new ArrayList<String>(this.records);
+    }
+  }
+}
@@ -0,0 +1,216 @@
+// ===========================================================================
+// CONTENT  : TEST CLASS BufferedFileSinkTest
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.0 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging.stdout;
+
+// ===========================================================================
+// IMPORTS
+// ===========================================================================
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class BufferedFileSinkTest
+{
+  @Rule
+  public TemporaryFolder tempFolder = new TemporaryFolder();
+
+  // =========================================================================
+  // TEST METHODS
+  // =========================================================================
+  @Test
+  public void test_records_are_written_in_few_writes()
+  {
+    CountingOutputStream output = new CountingOutputStream();
+    BufferedFileSink sink = new BufferedFileSink(output, 8192, 0L, true);
+
+    for (int i = 0; i < 1000; i++)
+    {
+      sink.write(PrintStreamLogger.LEVEL_INFO, "I some informational record number " + i + "\n");
+    }
+    assertTrue("Writes: " + output.writeCount, output.writeCount <= 6);
+    sink.close();
+    assertTrue(output.toString().startsWith("I some informational record number 0\n"));
+    assertTrue(output.toString().endsWith("I some informational record number 999\n"));
+    assertTrue(output.closed);
+  }
+
+  @Test
+  public void test_flush_on_error()
+  {
+    CountingOutputStream output = new CountingOutputStream();
+    BufferedFileSink sink = new BufferedFileSink(output, 8192, 0L, true);
+
+    sink.write(PrintStreamLogger.LEVEL_WARN, "W first\n");
+    assertEquals("", output.toString());
+    sink.write(PrintStreamLogger.LEVEL_ERROR, "E second\n");
+    assertEquals("W first\nE second\n", output.toString());
+    assertEquals(1, output.writeCount);
+    sink.close();
+  }
+
+  @Test
+  public void test_records_are_encoded_in_UTF8() throws Exception
+  {
+    CountingOutputStream output = new CountingOutputStream();
+    BufferedFileSink sink = new BufferedFileSink(output, 8192, 0L, false);
+
+    sink.write(PrintStreamLogger.LEVEL_INFO, new StringBuilder("I Gr\u00f6\u00dfe \u20ac\n"));
+    sink.write(PrintStreamLogger.LEVEL_INFO, "I plain\n");
+    sink.close();
+    assertEquals("I Gr\u00f6\u00dfe \u20ac\nI plain\n", output.toString("UTF-8"));
+  }
+
+  @Test
+  public void test_no_flush_on_error()
+  {
+    CountingOutputStream output = new CountingOutputStream();
+    BufferedFileSink sink = new BufferedFileSink(output, 8192, 0L, false);
+
+    sink.write(PrintStreamLogger.LEVEL_ERROR, "E error\n");
+    assertEquals("", output.toString());
+    sink.flush();
+    assertEquals("E error\n", output.toString());
+    sink.close();
+  }
+
+  @Test
+  public void test_flush_interval() throws Exception
+  {
+    CountingOutputStream output = new CountingOutputStream();
+    BufferedFileSink sink = new BufferedFileSink(output, 8192, 20L, false);
+    long end = System.currentTimeMillis() + 5000L;
+
+    sink.write(PrintStreamLogger.LEVEL_INFO, "I info\n");
+    while ((output.size() == 0) && (System.currentTimeMillis() < end))
+    {
+      Thread.sleep(10L);
+    }
+    assertEquals("I info\n", output.toString());
+    sink.close();
+  }
+
+  @Test
+  public void test_unbuffered_and_large_records()
+  {
+    CountingOutputStream output = new CountingOutputStream();
+    BufferedFileSink sink = new BufferedFileSink(output, 0, 0L, false);
+
+    sink.write(PrintStreamLogger.LEVEL_INFO, "I one\n");
+    sink.write(PrintStreamLogger.LEVEL_INFO, "I two\n");
+    assertEquals("I one\nI two\n", output.toString());
+    sink.close();
+
+    output = new CountingOutputStream();
+    sink = new BufferedFileSink(output, 8, 0L, false);
+    sink.write(PrintStreamLogger.LEVEL_INFO, "I a\n");
+    sink.write(PrintStreamLogger.LEVEL_INFO, "I a record larger than the buffer\n");
+    assertEquals("I a\nI a record larger than the buffer\n", output.toString());
+    sink.close();
+  }
+
+  @Test
+  public void test_closed_sink_ignores_records()
+  {
+    CountingOutputStream output = new CountingOutputStream();
+    BufferedFileSink sink = new BufferedFileSink(output, 100, 0L, false);
+
+    sink.close();
+    assertTrue(sink.isClosed());
+    sink.write(PrintStreamLogger.LEVEL_ERROR, "E late\n");
+    sink.flush();
+    assertEquals("", output.toString());
+  }
+
+  @Test
+  public void test_logger_initialize_with_file() throws Exception
+  {
+    PrintStreamLogger logger = new PrintStreamLogger("file.test");
+    Properties properties = new Properties();
+    File file = this.tempFolder.newFile();
+    BufferedFileSink sink;
+
+    properties.setProperty(PrintStreamLogger.PROP_OUTPUT_FILE, file.getPath());
+    properties.setProperty(PrintStreamLogger.PROP_OUTPUT_BUFFER_SIZE, "1024");
+    properties.setProperty(PrintStreamLogger.PROP_OUTPUT_FLUSH_INTERVAL, "0");
+    properties.setProperty(PrintStreamLogger.PROP_OUTPUT_FLUSH_ON_ERROR, "false");
+    logger.initialize(properties);
+    sink = (BufferedFileSink)logger.getLogSink();
+    assertEquals(1024, sink.getBufferSize());
+    assertFalse(sink.isFlushOnError());
+    logger.logInfo("Hello");
+    logger.logError("Failure");
+    assertEquals("", readFile(file));
+    sink.close();
+    assertEquals("I file.test Hello\nE file.test Failure\n", readFile(file));
+  }
+
+  // =========================================================================
+  // PRIVATE INSTANCE METHODS
+  // =========================================================================
+  private String readFile(File file) throws IOException
+  {
+    ByteArrayOutputStream content = new ByteArrayOutputStream();
+    InputStream input;
+    int ch;
+
+    input = new FileInputStream(file);
+    try
+    {
+      while ((ch = input.read()) >= 0)
+      {
+        content.write(ch);
+      }
+    }
+    finally
+    {
+      input.close();
+    }
+    return content.toString();
+  }
+
+  // =========================================================================
+  // INNER CLASSES
+  // =========================================================================
+  private static class CountingOutputStream extends ByteArrayOutputStream
+  {
+    private int writeCount = 0;
+    private boolean closed = false;
+
+    @Override
+    public synchronized void write(int b)
+    {
+      this.writeCount++;
+      super.write(b);
+    }
+
+    @Override
+    public synchronized void write(byte[] b, int off, int len)
+    {
+      this.writeCount++;
+      super.write(b, off, len);
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+      this.closed = true;
+      super.close();
+    }
+  }
+}
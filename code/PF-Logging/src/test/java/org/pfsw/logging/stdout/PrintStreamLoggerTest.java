@@ -14,9 +14,12 @@ package org.pfsw.logging.stdout;
 // ===========================================================================
 import static org.junit.Assert.*;
 
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
 import java.util.Properties;
 
 import org.junit.Test;
+import org.pfsw.logging.LogSupplier;
 import org.pfsw.logging.Logger;
 import org.pfsw.logging.stdout.PrintStreamLogger;
 import org.pfsw.logging.testhelper.InMemoryPrintStream;
@@ -198,4 +201,86 @@ public class PrintStreamLoggerTest
     logger.logError("The value of {0} is {1}, which is greater than {2}!", "maxSize", 6, 5L);
     assertEquals("E The value of maxSize is 6, which is greater than 5!\n", memoryPrintStream.getContent());
   }  
-} 
+
+  @Test
+  public void test_logError_with_lazy_parameter() throws Exception
+  {
+    PrintStreamLogger logger;
+    InMemoryPrintStream memoryPrintStream;
+    
+    memoryPrintStream = new InMemoryPrintStream();
+    logger = new PrintStreamLogger();
+    logger.setPrintStream(memoryPrintStream.getPrintStream());
+    logger.logError("Computed {0}", new LogSupplier<String>()
+    {
+      @Override
+      public String get()
+      {
+        return "lazily";
+      }
+    });
+    assertEquals("E Computed lazily\n", memoryPrintStream.getContent());
+  }  
+
+  @Test
+  public void test_logError_with_exception_in_one_write() throws Exception
+  {
+    PrintStreamLogger logger;
+    final StringBuilder writes = new StringBuilder();
+    final int[] count = { 0 };
+    
+    logger = new PrintStreamLogger("special.logger");
+    logger.setPrintStream(new PrintStream(new ByteArrayOutputStream())
+    {
+      @Override
+      public void print(String text)
+      {
+        count[0]++;
+        writes.append(text);
+      }
+    });
+    logger.logError("Failed", new IllegalStateException("test"));
+    assertEquals(1, count[0]);
+    assertTrue(writes.toString().startsWith("E special.logger Failed\nspecial.logger java.lang.IllegalStateException: test"));
+    assertTrue(writes.toString().contains("\tat org.pfsw.logging.stdout.PrintStreamLoggerTest"));
+  }  
+
+  @Test
+  public void test_concurrent_lines_do_not_interleave() throws Exception
+  {
+    final PrintStreamLogger logger;
+    InMemoryPrintStream memoryPrintStream;
+    Thread[] threads = new Thread[4];
+    String[] lines;
+    
+    memoryPrintStream = new InMemoryPrintStream();
+    logger = new PrintStreamLogger("concurrent");
+    logger.setPrintStream(memoryPrintStream.getPrintStream());
+    for (int i = 0; i < threads.length; i++)
+    {
+      final String threadName = "thread" + i;
+      threads[i] = new Thread()
+      {
+        @Override
+        public void run()
+        {
+          for (int j = 0; j < 500; j++)
+          {
+            logger.logInfo("{0} line {1} end", threadName, Integer.valueOf(j));
+          }
+        }
+      };
+      threads[i].start();
+    }
+    for (Thread thread : threads)
+    {
+      thread.join();
+    }
+    lines = memoryPrintStream.getContent().split("\n");
+    assertEquals(2000, lines.length);
+    for (String line : lines)
+    {
+      assertTrue(line, line.matches("I concurrent thread\\d line \\d+ end"));
+    }
+  }  
+}
@@ -0,0 +1,324 @@
+// ===========================================================================
+// CONTENT  : TEST CLASS RollingFileSinkTest
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.2 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//  18/10/2026  mdu  added   --> test_retention_ignores_other_files
+//  18/10/2026  mdu  added   --> test_interrupted_compression_gets_recovered
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging.stdout;
+
+// ===========================================================================
+// IMPORTS
+// ===========================================================================
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
+import java.util.Properties;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class RollingFileSinkTest
+{
+  @Rule
+  public TemporaryFolder tempFolder = new TemporaryFolder();
+
+  // =========================================================================
+  // TEST METHODS
+  // =========================================================================
+  @Test
+  public void test_rolling_by_size() throws Exception
+  {
+    File file = new File(this.tempFolder.getRoot(), "test.log");
+    RollingFileSink sink = new RollingFileSink(file, false, 0, 0L, false);
+    StringBuilder content = new StringBuilder();
+    List<File> rolledFiles;
+
+    sink.setMaxFileSize(100L);
+    sink.setCompress(false);
+    for (int i = 0; i < 10; i++)
+    {
+      sink.write(PrintStreamLogger.LEVEL_INFO, "I record number " + i + " is 30 bytes\n");
+    }
+    sink.close();
+    rolledFiles = sink.getRolledFiles();
+    assertEquals(3, rolledFiles.size());
+    for (int i = rolledFiles.size() - 1; i >= 0; i--)
+    {
+      assertTrue(rolledFiles.get(i).length() <= 100L);
+      content.append(readFile(rolledFiles.get(i)));
+    }
+    content.append(readFile(file));
+    assertTrue(content.toString().startsWith("I record number 0 is 30 bytes\nI record number 1"));
+    assertTrue(content.toString().endsWith("I record number 9 is 30 bytes\n"));
+    assertEquals(300, content.length());
+  }
+
+  @Test
+  public void test_rolled_files_get_compressed() throws Exception
+  {
+    File file = new File(this.tempFolder.getRoot(), "compressed.log");
+    RollingFileSink sink = new RollingFileSink(file, false, 0, 0L, false);
+    String date = new SimpleDateFormat("yyyy-MM-dd").format(new Date());
+    File compressed = new File(this.tempFolder.getRoot(), "compressed.log." + date + ".1.gz");
+
+    sink.setMaxFileSize(10L);
+    sink.write(PrintStreamLogger.LEVEL_INFO, "I first record\n");
+    sink.write(PrintStreamLogger.LEVEL_INFO, "I second record\n");
+    waitFor(compressed);
+    assertEquals("I first record\n", readCompressedFile(compressed));
+    assertFalse(new File(this.tempFolder.getRoot(), "compressed.log." + date + ".1").exists());
+    sink.close();
+    assertEquals("I second record\n", readFile(file));
+  }
+
+  @Test
+  public void test_retention_by_number_of_files() throws Exception
+  {
+    File file = new File(this.tempFolder.getRoot(), "retention.log");
+    RollingFileSink sink = new RollingFileSink(file, false, 0, 0L, false);
+    long end = System.currentTimeMillis() + 5000L;
+
+    sink.setMaxFileSize(10L);
+    sink.setCompress(false);
+    sink.setMaxFiles(2);
+    for (int i = 0; i < 6; i++)
+    {
+      sink.write(PrintStreamLogger.LEVEL_INFO, "I record " + i + "\n");
+    }
+    while ((sink.getRolledFiles().size() > 2) && (System.currentTimeMillis() < end))
+    {
+      Thread.sleep(10L);
+    }
+    sink.close();
+    assertEquals(2, sink.getRolledFiles().size());
+    assertEquals("I record 5\n", readFile(file));
+  }
+
+  @Test
+  public void test_retention_by_total_size() throws Exception
+  {
+    File file = new File(this.tempFolder.getRoot(), "total.log");
+    RollingFileSink sink = new RollingFileSink(file, false, 0, 0L, false);
+    long end = System.currentTimeMillis() + 5000L;
+
+    sink.setMaxFileSize(10L);
+    sink.setCompress(false);
+    sink.setMaxTotalSize(35L);
+    for (int i = 0; i < 6; i++)
+    {
+      sink.write(PrintStreamLogger.LEVEL_INFO, "I record " + i + "\n");
+    }
+    while ((sink.getRolledFiles().size() > 3) && (System.currentTimeMillis() < end))
+    {
+      Thread.sleep(10L);
+    }
+    sink.close();
+    assertEquals(3, sink.getRolledFiles().size());
+  }
+
+  @Test
+  public void test_retention_ignores_other_files() throws Exception
+  {
+    File file = new File(this.tempFolder.getRoot(), "app.log");
+    String[] otherNames = { "app.log.bak", "app.log.lck", "app.log.old.1", "app.log.2026-10-18.gz.tmp", "app.log2.2026-10-18.1" };
+    RollingFileSink sink;
+    long end = System.currentTimeMillis() + 5000L;
+
+    for (String name : otherNames)
+    {
+      assertTrue(new File(this.tempFolder.getRoot(), name).createNewFile());
+    }
+    assertTrue(new File(this.tempFolder.getRoot(), "app.log.2026-10-17-23.4.gz").createNewFile());
+    sink = new RollingFileSink(file, false, 0, 0L, false);
+    assertEquals(1, sink.getRolledFiles().size());
+    sink.setMaxFileSize(10L);
+    sink.setCompress(false);
+    sink.setMaxFiles(1);
+    for (int i = 0; i < 4; i++)
+    {
+      sink.write(PrintStreamLogger.LEVEL_INFO, "I record " + i + "\n");
+    }
+    while ((sink.getRolledFiles().size() > 1) && (System.currentTimeMillis() < end))
+    {
+      Thread.sleep(10L);
+    }
+    sink.close();
+    assertEquals(1, sink.getRolledFiles().size());
+    for (String name : otherNames)
+    {
+      assertTrue(name, new File(this.tempFolder.getRoot(), name).exists());
+    }
+  }
+
+  @Test
+  public void test_interrupted_compression_gets_recovered() throws Exception
+  {
+    File file = new File(this.tempFolder.getRoot(), "crashed.log");
+    File segment = new File(this.tempFolder.getRoot(), "crashed.log.2026-10-18.3");
+    File tempFile = new File(this.tempFolder.getRoot(), "crashed.log.2026-10-18.3.gz.tmp");
+    File compressed = new File(this.tempFolder.getRoot(), "crashed.log.2026-10-18.3.gz");
+    FileOutputStream output;
+    RollingFileSink sink;
+    long end = System.currentTimeMillis() + 5000L;
+
+    output = new FileOutputStream(segment);
+    output.write("I before crash\n".getBytes("UTF-8"));
+    output.close();
+    output = new FileOutputStream(tempFile);
+    output.write(new byte[] { 31, -117, 8 });
+    output.close();
+    sink = new RollingFileSink(file, true, 0, 0L, false);
+    while ((tempFile.exists() || segment.exists()) && (System.currentTimeMillis() < end))
+    {
+      Thread.sleep(10L);
+    }
+    sink.close();
+    assertFalse(tempFile.exists());
+    assertFalse(segment.exists());
+    assertEquals("I before crash\n", readCompressedFile(compressed));
+    assertEquals(0, sink.getInterruptedCompressions().size());
+    assertEquals(1, sink.getRolledFiles().size());
+  }
+
+  @Test
+  public void test_rolling_by_time() throws Exception
+  {
+    File file = new File(this.tempFolder.getRoot(), "hourly.log");
+    ManualTimeRollingFileSink sink = new ManualTimeRollingFileSink(file);
+    long start = RollingPeriod.HOURLY.getStartOf(System.currentTimeMillis()) + 1000L;
+    String hour = new SimpleDateFormat("yyyy-MM-dd-HH").format(new Date(start));
+    File rolled = new File(this.tempFolder.getRoot(), "hourly.log." + hour + ".1");
+
+    sink.time = start;
+    sink.setCompress(false);
+    sink.setRollingPeriod(RollingPeriod.HOURLY);
+    sink.write(PrintStreamLogger.LEVEL_INFO, "I first hour\n");
+    sink.time = start + 1800000L;
+    sink.write(PrintStreamLogger.LEVEL_INFO, "I still first hour\n");
+    assertFalse(rolled.exists());
+    sink.time = start + 3600000L;
+    sink.write(PrintStreamLogger.LEVEL_INFO, "I second hour\n");
+    sink.close();
+    assertEquals("I first hour\nI still first hour\n", readFile(rolled));
+    assertEquals("I second hour\n", readFile(file));
+  }
+
+  @Test
+  public void test_append() throws Exception
+  {
+    File file = new File(this.tempFolder.getRoot(), "append.log");
+    FileOutputStream output = new FileOutputStream(file);
+    RollingFileSink sink;
+
+    output.write("I old\n".getBytes());
+    output.close();
+    sink = new RollingFileSink(file, true, 100, 0L, false);
+    sink.write(PrintStreamLogger.LEVEL_INFO, "I new\n");
+    sink.close();
+    assertEquals("I old\nI new\n", readFile(file));
+  }
+
+  @Test
+  public void test_logger_initialize_with_rolling() throws Exception
+  {
+    PrintStreamLogger logger = new PrintStreamLogger();
+    Properties properties = new Properties();
+    File file = new File(this.tempFolder.getRoot(), "logger.log");
+    RollingFileSink sink;
+
+    properties.setProperty(PrintStreamLogger.PROP_OUTPUT_FILE, file.getPath());
+    properties.setProperty(PrintStreamLogger.PROP_OUTPUT_APPEND, "true");
+    properties.setProperty(PrintStreamLogger.PROP_ROLLING_MAX_SIZE, "1000000");
+    properties.setProperty(PrintStreamLogger.PROP_ROLLING_PERIOD, "daily");
+    properties.setProperty(PrintStreamLogger.PROP_ROLLING_MAX_FILES, "7");
+    properties.setProperty(PrintStreamLogger.PROP_ROLLING_MAX_TOTAL_SIZE, "5000000");
+    properties.setProperty(PrintStreamLogger.PROP_ROLLING_COMPRESS, "false");
+    logger.initialize(properties);
+    sink = (RollingFileSink)logger.getLogSink();
+    assertEquals(1000000L, sink.getMaxFileSize());
+    assertEquals(RollingPeriod.DAILY, sink.getRollingPeriod());
+    assertEquals(7, sink.getMaxFiles());
+    assertEquals(5000000L, sink.getMaxTotalSize());
+    assertFalse(sink.isCompress());
+    logger.logInfo("Hello");
+    sink.close();
+    assertEquals("I Hello\n", readFile(file));
+  }
+
+  // =========================================================================
+  // PRIVATE INSTANCE METHODS
+  // =========================================================================
+  private void waitFor(File file) throws InterruptedException
+  {
+    long end = System.currentTimeMillis() + 5000L;
+
+    while (!file.exists() && (System.currentTimeMillis() < end))
+    {
+      Thread.sleep(10L);
+    }
+    assertTrue(file.getName(), file.exists());
+  }
+
+  private String readFile(File file) throws IOException
+  {
+    return readStream(new FileInputStream(file));
+  }
+
+  private String readCompressedFile(File file) throws IOException
+  {
+    return readStream(new GZIPInputStream(new FileInputStream(file)));
+  }
+
+  private String readStream(InputStream input) throws IOException
+  {
+    ByteArrayOutputStream content = new ByteArrayOutputStream();
+    int ch;
+
+    try
+    {
+      while ((ch = input.read()) >= 0)
+      {
+        content.write(ch);
+      }
+    }
+    finally
+    {
+      input.close();
+    }
+    return content.toString();
+  }
+
+  // =========================================================================
+  // INNER CLASSES
+  // =========================================================================
+  private static class ManualTimeRollingFileSink extends RollingFileSink
+  {
+    private volatile long time;
+
+    ManualTimeRollingFileSink(File file) throws IOException
+    {
+      super(file, false, 100, 0L, false);
+    }
+
+    @Override
+    protected long currentTimeMillis()
+    {
+      return this.time;
+    }
+  }
+}
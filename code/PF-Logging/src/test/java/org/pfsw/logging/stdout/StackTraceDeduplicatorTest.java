@@ -0,0 +1,113 @@
+// ===========================================================================
+// CONTENT  : TEST CLASS StackTraceDeduplicatorTest
+// AUTHOR   : Manfred Duchrow
+// VERSION  : 1.0 - 18/10/2026
+// HISTORY  :
+//  18/10/2026  mdu  CREATED
+//
+// Copyright (c) 2026, by MDCS. All rights reserved.
+// ===========================================================================
+package org.pfsw.logging.stdout;
+
+// ===========================================================================
+// IMPORTS
+// ===========================================================================
+import static org.junit.Assert.*;
+
+import java.util.Properties;
+
+import org.junit.Test;
+import org.pfsw.logging.testhelper.InMemoryPrintStream;
+
+public class StackTraceDeduplicatorTest
+{
+  // =========================================================================
+  // TEST METHODS
+  // =========================================================================
+  @Test
+  public void test_repeated_stack_trace_is_written_once()
+  {
+    PrintStreamLogger logger;
+    InMemoryPrintStream memoryPrintStream;
+    String[] lines;
+    String content;
+
+    memoryPrintStream = new InMemoryPrintStream();
+    logger = new PrintStreamLogger("dedup");
+    logger.setPrintStream(memoryPrintStream.getPrintStream());
+    logger.setStackTraceDeduplicator(new StackTraceDeduplicator());
+    for (int i = 1; i <= 3; i++)
+    {
+      logger.logError("Failed", createException("Connection " + i + " refused"));
+    }
+    content = memoryPrintStream.getContent();
+    assertTrue(content, content.startsWith("E dedup Failed\ndedup #1 java.lang.IllegalStateException: Connection 1 refused\n\tat "));
+    lines = content.split("\n");
+    assertEquals("E dedup Failed", lines[lines.length - 4]);
+    assertEquals("dedup java.lang.IllegalStateException: Connection 2 refused (same as #1, seen 2 times)", lines[lines.length - 3]);
+    assertEquals("E dedup Failed", lines[lines.length - 2]);
+    assertEquals("dedup java.lang.IllegalStateException: Connection 3 refused (same as #1, seen 3 times)", lines[lines.length - 1]);
+  }
+
+  @Test
+  public void test_fingerprint()
+  {
+    StackTraceDeduplicator deduplicator = new StackTraceDeduplicator();
+    String[] messages = { "Timeout after 0 ms", "Timeout after 1000 ms", "Timeout after ms", null };
+    long[] fingerprints = new long[messages.length];
+
+    for (int i = 0; i < messages.length; i++)
+    {
+      fingerprints[i] = deduplicator.fingerprint(createException(messages[i]));
+    }
+    assertEquals(fingerprints[0], fingerprints[1]);
+    assertFalse(fingerprints[0] == fingerprints[2]);
+    assertFalse(fingerprints[0] == fingerprints[3]);
+    // Other line
+    assertFalse(fingerprints[0] == deduplicator.fingerprint(createException(messages[0])));
+    assertFalse(fingerprints[0] == deduplicator.fingerprint(new IllegalArgumentException(messages[0])));
+    assertFalse(fingerprints[0] == deduplicator.fingerprint(new RuntimeException(new IllegalStateException())));
+  }
+
+  @Test
+  public void test_cache_is_bounded()
+  {
+    StackTraceDeduplicator deduplicator = new StackTraceDeduplicator(2);
+    StringBuilder buffer = new StringBuilder();
+
+    deduplicator.appendStackTrace(buffer, new IllegalStateException("one"));
+    deduplicator.appendStackTrace(buffer, new IllegalStateException("two"));
+    deduplicator.appendStackTrace(buffer, new IllegalStateException("three"));
+    assertEquals(2, deduplicator.size());
+    assertTrue(buffer.toString().contains("#3 java.lang.IllegalStateException: three"));
+  }
+
+  @Test
+  public void test_factory_property()
+  {
+    PrintStreamLoggerFactory factory = new PrintStreamLoggerFactory("test");
+    Properties properties = new Properties();
+    PrintStreamLogger logger1;
+    PrintStreamLogger logger2;
+
+    assertNull(((PrintStreamLogger)factory.getLogger("a")).getStackTraceDeduplicator());
+    properties.setProperty(PrintStreamLoggerFactory.PROP_STACK_TRACE_DEDUP, "true");
+    properties.setProperty(PrintStreamLoggerFactory.PROP_STACK_TRACE_DEDUP_CACHE_SIZE, "10");
+    factory.initialize(properties);
+    logger1 = (PrintStreamLogger)factory.getLogger("a");
+    logger2 = (PrintStreamLogger)factory.getLogger("b");
+    assertNotNull(logger1.getStackTraceDeduplicator());
+    assertSame(logger1.getStackTraceDeduplicator(), logger2.getStackTraceDeduplicator());
+    properties.setProperty(PrintStreamLoggerFactory.PROP_STACK_TRACE_DEDUP, "false");
+    factory.initialize(properties);
+    assertNull(((PrintStreamLogger)factory.getLogger("c")).getStackTraceDeduplicator());
+  }
+
+  // =========================================================================
+  // PRIVATE INSTANCE METHODS
+  // =========================================================================
+  private Exception createException(String message)
+  {
+    return new IllegalStateException(message);
+  }
+}
@@ -89,6 +89,102 @@ public class UnitTestLogger implements Logger
     }
   }
 
+  @Override
+  public void logDebug(String message)
+  {
+    this.logDebug(message, new Object[0]);
+  }
+
+  @Override
+  public void logDebug(String message, Object param1)
+  {
+    this.logDebug(message, new Object[] { param1 });
+  }
+
+  @Override
+  public void logDebug(String message, Object param1, Object param2)
+  {
+    this.logDebug(message, new Object[] { param1, param2 });
+  }
+
+  @Override
+  public void logDebug(String message, Object param1, Object param2, Object param3)
+  {
+    this.logDebug(message, new Object[] { param1, param2, param3 });
+  }
+
+  @Override
+  public void logInfo(String message)
+  {
+    this.logInfo(message, new Object[0]);
+  }
+
+  @Override
+  public void logInfo(String message, Object param1)
+  {
+    this.logInfo(message, new Object[] { param1 });
+  }
+
+  @Override
+  public void logInfo(String message, Object param1, Object param2)
+  {
+    this.logInfo(message, new Object[] { param1, param2 });
+  }
+
+  @Override
+  public void logInfo(String message, Object param1, Object param2, Object param3)
+  {
+    this.logInfo(message, new Object[] { param1, param2, param3 });
+  }
+
+  @Override
+  public void logWarning(String message)
+  {
+    this.logWarning(message, new Object[0]);
+  }
+
+  @Override
+  public void logWarning(String message, Object param1)
+  {
+    this.logWarning(message, new Object[] { param1 });
+  }
+
+  @Override
+  public void logWarning(String message, Object param1, Object param2)
+  {
+    this.logWarning(message, new Object[] { param1, param2 });
+  }
+
+  @Override
+  public void logWarning(String message, Object param1, Object param2, Object param3)
+  {
+    this.logWarning(message, new Object[] { param1, param2, param3 });
+  }
+
+  @Override
+  public void logError(String message)
+  {
+    this.logError(message, new Object[0]);
+  }
+
+  @Override
+  public void logError(String message, Object param1)
+  {
+    this.logError(message, new Object[] { param1 });
+  }
+
+  @Override
+  public void logError(String message, Object param1, Object param2)
+  {
+    this.logError(message, new Object[] { param1, param2 });
+  }
+
+  @Override
+  public void logError(String message, Object param1, Object param2, Object param3)
+  {
+    this.logError(message, new Object[] { param1, param2, param3 });
+  }
+
   @Override
   public void logWarning(String message, Throwable exception)
   {